@@ -0,0 +1,236 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.command.flow;
+
+import org.openkilda.floodlight.command.Command;
+import org.openkilda.floodlight.command.CommandContext;
+import org.openkilda.floodlight.error.FlowCommandException;
+import org.openkilda.floodlight.error.SwitchOperationException;
+import org.openkilda.floodlight.error.SwitchWriteException;
+import org.openkilda.floodlight.service.kafka.IKafkaProducerService;
+import org.openkilda.floodlight.service.session.Session;
+import org.openkilda.floodlight.service.session.SessionService;
+import org.openkilda.floodlight.switchmanager.ISwitchManager;
+import org.openkilda.messaging.Destination;
+import org.openkilda.messaging.command.flow.BaseInstallFlow;
+import org.openkilda.messaging.command.flow.InstallEgressFlow;
+import org.openkilda.messaging.command.flow.InstallIngressFlow;
+import org.openkilda.messaging.command.flow.InstallOneSwitchFlow;
+import org.openkilda.messaging.command.flow.InstallTransitFlow;
+import org.openkilda.messaging.error.ErrorData;
+import org.openkilda.messaging.error.ErrorMessage;
+import org.openkilda.messaging.error.ErrorType;
+import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.switches.SwitchRulesResponse;
+import org.openkilda.model.SwitchId;
+
+import net.floodlightcontroller.core.IOFSwitch;
+import net.floodlightcontroller.core.module.FloodlightModuleContext;
+import org.projectfloodlight.openflow.protocol.OFFlowMod;
+import org.projectfloodlight.openflow.protocol.OFMessage;
+import org.projectfloodlight.openflow.types.DatapathId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Installs a batch of flow rules on the switch.
+ *
+ * <p>All flow mods of the batch are written to the switch at once and followed by a single barrier, so the switch
+ * connection is not waited for rule by rule. The error responses are matched to the flow mods by xid within the
+ * {@link Session}. Once all the rules are processed, one result for the whole batch is sent to the requester: the
+ * cookies of the installed rules, same way as for the switch rules install request.
+ */
+public class InstallFlowBatchCommand extends Command {
+    private static final Logger log = LoggerFactory.getLogger(InstallFlowBatchCommand.class);
+
+    private final SwitchId switchId;
+    private final List<BaseInstallFlow> flowCommands;
+    private final String replyToTopic;
+    private final Destination replyDestination;
+
+    private final ISwitchManager switchManager;
+    private final SessionService sessionService;
+    private final IKafkaProducerService kafkaProducer;
+
+    public InstallFlowBatchCommand(CommandContext context, SwitchId switchId, List<BaseInstallFlow> flowCommands,
+                                   String replyToTopic, Destination replyDestination) {
+        super(context);
+
+        this.switchId = switchId;
+        this.flowCommands = flowCommands;
+        this.replyToTopic = replyToTopic;
+        this.replyDestination = replyDestination;
+
+        FloodlightModuleContext moduleContext = context.getModuleContext();
+        switchManager = moduleContext.getServiceImpl(ISwitchManager.class);
+        sessionService = moduleContext.getServiceImpl(SessionService.class);
+        kafkaProducer = moduleContext.getServiceImpl(IKafkaProducerService.class);
+    }
+
+    @Override
+    public Command call() {
+        log.info("Do batch install of {} flow rules on switch '{}'", flowCommands.size(), switchId);
+
+        DatapathId dpId = DatapathId.of(switchId.toLong());
+        IOFSwitch sw;
+        try {
+            sw = switchManager.lookupSwitch(dpId);
+        } catch (SwitchOperationException e) {
+            log.error("Unable to do batch install on switch {}: {}", switchId, e.getMessage());
+            ErrorData errorData = new ErrorData(ErrorType.CREATION_FAILURE, e.getMessage(), switchId.toString());
+            kafkaProducer.sendMessageAndTrack(replyToTopic, new ErrorMessage(errorData, System.currentTimeMillis(),
+                    getContext().getCorrelationId(), replyDestination));
+            return null;
+        }
+
+        List<BaseInstallFlow> accepted = new ArrayList<>(flowCommands.size());
+        List<OFFlowMod> flowMods = new ArrayList<>(flowCommands.size());
+        for (BaseInstallFlow command : flowCommands) {
+            log.debug("Processing command for switch {} {}", switchId, command);
+            try {
+                flowMods.add(makeFlowMod(dpId, command));
+                accepted.add(command);
+            } catch (FlowCommandException e) {
+                logError(e);
+            }
+        }
+
+        List<CompletableFuture<Optional<OFMessage>>> results = new ArrayList<>(flowMods.size());
+        if (!flowMods.isEmpty()) {
+            try (Session session = sessionService.open(sw)) {
+                results.addAll(session.write(flowMods));
+            } catch (SwitchWriteException e) {
+                // The pending results are already completed with the error by the session.
+                log.error("Unable to complete the batch install on switch {}: {}", switchId, e.getMessage());
+            }
+        }
+
+        List<CompletableFuture<Long>> installed = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            BaseInstallFlow command = accepted.get(i);
+            installed.add(results.get(i).handle((response, error) -> handleResult(command, error)));
+        }
+        CompletableFuture.allOf(installed.toArray(new CompletableFuture[0]))
+                .thenRun(() -> sendResponse(installed));
+
+        return null;
+    }
+
+    private OFFlowMod makeFlowMod(DatapathId dpId, BaseInstallFlow command) throws FlowCommandException {
+        try {
+            if (command instanceof InstallIngressFlow) {
+                InstallIngressFlow ingress = (InstallIngressFlow) command;
+                long meterId = installMeter(dpId, ingress.getMeterId(), ingress.getBandwidth(), command);
+                return switchManager.buildIngressFlow(dpId, ingress.getId(), ingress.getCookie(),
+                        ingress.getInputPort(), ingress.getOutputPort(), ingress.getInputVlanId(),
+                        ingress.getTransitVlanId(), ingress.getOutputVlanType(), meterId);
+            } else if (command instanceof InstallEgressFlow) {
+                InstallEgressFlow egress = (InstallEgressFlow) command;
+                return switchManager.buildEgressFlow(dpId, egress.getId(), egress.getCookie(),
+                        egress.getInputPort(), egress.getOutputPort(), egress.getTransitVlanId(),
+                        egress.getOutputVlanId(), egress.getOutputVlanType());
+            } else if (command instanceof InstallTransitFlow) {
+                InstallTransitFlow transit = (InstallTransitFlow) command;
+                return switchManager.buildTransitFlow(dpId, transit.getId(), transit.getCookie(),
+                        transit.getInputPort(), transit.getOutputPort(), transit.getTransitVlanId());
+            } else if (command instanceof InstallOneSwitchFlow) {
+                InstallOneSwitchFlow oneSwitch = (InstallOneSwitchFlow) command;
+                long meterId = installMeter(dpId, oneSwitch.getMeterId(), oneSwitch.getBandwidth(), command);
+                return switchManager.buildOneSwitchFlow(dpId, oneSwitch.getId(), oneSwitch.getCookie(),
+                        oneSwitch.getInputPort(), oneSwitch.getOutputPort(), oneSwitch.getInputVlanId(),
+                        oneSwitch.getOutputVlanId(), oneSwitch.getOutputVlanType(), meterId);
+            }
+        } catch (SwitchOperationException e) {
+            throw new FlowCommandException(command.getId(), command.getCookie(), command.getTransactionId(),
+                    ErrorType.CREATION_FAILURE, e);
+        }
+
+        throw new FlowCommandException(command.getId(), command.getCookie(), command.getTransactionId(),
+                ErrorType.REQUEST_INVALID, "Unsupported command for batch install.");
+    }
+
+    /**
+     * Installs the meter of the flow, the meter mod is sent ahead of the batch. A meter failure doesn't prevent the
+     * flow from being installed.
+     *
+     * @return the meter id to use for the flow or 0 for the unmetered flow.
+     */
+    private long installMeter(DatapathId dpId, Long meterId, Long bandwidth, BaseInstallFlow command) {
+        if (meterId == null || meterId <= 0) {
+            log.debug("Installing unmetered flow. Switch: {}, cookie: {}", switchId, command.getCookie());
+            return 0;
+        }
+
+        try {
+            switchManager.installMeterForFlow(dpId, bandwidth, meterId);
+        } catch (UnsupportedOperationException e) {
+            log.info("Skip meter {} installation for flow {} on switch {}: {}",
+                    meterId, command.getId(), switchId, e.getMessage());
+        } catch (SwitchOperationException e) {
+            log.error("Failed to install meter {} for flow {} on switch {}: {}", meterId, command.getId(), switchId,
+                    e.getMessage());
+        }
+        return meterId;
+    }
+
+    /**
+     * Reports the result of the flow mod.
+     *
+     * @return the cookie of the installed rule or null if the rule is not installed.
+     */
+    private Long handleResult(BaseInstallFlow command, Throwable error) {
+        if (error == null) {
+            log.debug("Flow {} with cookie {} is installed on switch {}", command.getId(), command.getCookie(),
+                    switchId);
+            return command.getCookie();
+        }
+
+        if (error instanceof SwitchOperationException) {
+            logError(new FlowCommandException(command.getId(), command.getCookie(), command.getTransactionId(),
+                    ErrorType.CREATION_FAILURE, (SwitchOperationException) error));
+        } else {
+            logError(new FlowCommandException(command.getId(), command.getCookie(), command.getTransactionId(),
+                    ErrorType.CREATION_FAILURE, error.getMessage()));
+        }
+        return null;
+    }
+
+    private void sendResponse(List<CompletableFuture<Long>> installed) {
+        List<Long> installedRules = installed.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        log.info("Installed {} of {} flow rules on switch '{}'", installedRules.size(), flowCommands.size(),
+                switchId);
+
+        InfoMessage response = new InfoMessage(new SwitchRulesResponse(installedRules), System.currentTimeMillis(),
+                getContext().getCorrelationId(), replyDestination);
+        kafkaProducer.sendMessageAndTrack(replyToTopic, response);
+    }
+
+    private void logError(FlowCommandException e) {
+        String errorMessage = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+        log.error("Failed to install flow {} with cookie {} on switch {}: {}",
+                e.getFlowId(), e.getCookie(), switchId, errorMessage);
+    }
+}
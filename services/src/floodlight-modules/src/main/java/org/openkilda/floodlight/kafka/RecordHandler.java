@@ -34,6 +34,7 @@ import org.openkilda.floodlight.error.FlowCommandException;
 import org.openkilda.floodlight.error.SwitchNotFoundException;
 import org.openkilda.floodlight.error.SwitchOperationException;
 import org.openkilda.floodlight.error.UnsupportedSwitchOperationException;
+import org.openkilda.floodlight.kafka.dispatcher.BatchInstallDispatcher;
 import org.openkilda.floodlight.kafka.dispatcher.CommandDispatcher;
 import org.openkilda.floodlight.kafka.dispatcher.PingRequestDispatcher;
 import org.openkilda.floodlight.kafka.dispatcher.RemoveBfdSessionDispatcher;
@@ -51,8 +52,6 @@ import org.openkilda.messaging.command.discovery.DiscoverIslCommandData;
 import org.openkilda.messaging.command.discovery.DiscoverPathCommandData;
 import org.openkilda.messaging.command.discovery.NetworkCommandData;
 import org.openkilda.messaging.command.discovery.PortsCommandData;
-import org.openkilda.messaging.command.flow.BaseInstallFlow;
-import org.openkilda.messaging.command.flow.BatchInstallRequest;
 import org.openkilda.messaging.command.flow.DeleteMeterRequest;
 import org.openkilda.messaging.command.flow.InstallEgressFlow;
 import org.openkilda.messaging.command.flow.InstallIngressFlow;
@@ -99,8 +98,6 @@ import org.openkilda.model.SwitchId;
 import com.google.common.collect.ImmutableList;
 import net.floodlightcontroller.core.IOFSwitch;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
-import org.projectfloodlight.openflow.protocol.OFFlowStatsEntry;
-import org.projectfloodlight.openflow.protocol.OFMeterConfig;
 import org.projectfloodlight.openflow.protocol.OFPortDesc;
 import org.projectfloodlight.openflow.types.DatapathId;
 import org.projectfloodlight.openflow.types.OFPort;
@@ -113,6 +110,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 class RecordHandler implements Runnable {
@@ -185,8 +185,6 @@ class RecordHandler implements Runnable {
             doValidateRulesRequest(message);
         } else if (data instanceof DumpRulesRequest) {
             doDumpRulesRequest(message);
-        } else if (data instanceof BatchInstallRequest) {
-            doBatchInstall(message);
         } else if (data instanceof PortsCommandData) {
             doPortsCommandDataRequest(message);
         } else if (data instanceof DeleteMeterRequest) {
@@ -637,61 +635,33 @@ class RecordHandler implements Runnable {
                                          String correlationId, long timestamp) {
         final IKafkaProducerService producerService = getKafkaProducer();
 
-        try {
-            logger.debug("Loading installed rules for switch {}", switchId);
-
-            List<OFFlowStatsEntry> flowEntries =
-                    context.getSwitchManager().dumpFlowTable(DatapathId.of(switchId.toLong()));
-            List<FlowEntry> flows = flowEntries.stream()
-                    .map(OfFlowStatsMapper.INSTANCE::toFlowEntry)
-                    .collect(Collectors.toList());
-
-            SwitchFlowEntries response = SwitchFlowEntries.builder()
-                    .switchId(switchId)
-                    .flowEntries(flows)
-                    .build();
-            InfoMessage infoMessage = new InfoMessage(response, timestamp, correlationId);
-            producerService.sendMessageAndTrack(replyToTopic, infoMessage);
-        } catch (SwitchOperationException e) {
-            logger.error("Dumping of rules on switch '{}' was unsuccessful: {}", switchId, e.getMessage());
-            anError(ErrorType.NOT_FOUND)
-                    .withMessage(e.getMessage())
-                    .withDescription("The switch was not found when requesting a rules dump.")
-                    .withCorrelationId(correlationId)
-                    .withTopic(replyToTopic)
-                    .sendVia(producerService);
-        }
-    }
-
-    /**
-     * Batch install of flows on the switch.
-     *
-     * @param message with list of flows.
-     */
-    private void doBatchInstall(final CommandMessage message) throws FlowCommandException {
-        BatchInstallRequest request = (BatchInstallRequest) message.getData();
-        final SwitchId switchId = request.getSwitchId();
-        logger.info("Do batch install flow rules on switch '{}'", switchId);
-
-        for (BaseInstallFlow command : request.getFlowCommands()) {
-            logger.debug("Processing command for switch {} {}", switchId, command);
-            try {
-                if (command instanceof InstallIngressFlow) {
-                    installIngressFlow((InstallIngressFlow) command);
-                } else if (command instanceof InstallEgressFlow) {
-                    installEgressFlow((InstallEgressFlow) command);
-                } else if (command instanceof InstallTransitFlow) {
-                    installTransitFlow((InstallTransitFlow) command);
-                } else if (command instanceof InstallOneSwitchFlow) {
-                    installOneSwitchFlow((InstallOneSwitchFlow) command);
-                } else {
-                    throw new FlowCommandException(command.getId(), command.getCookie(), command.getTransactionId(),
-                            ErrorType.REQUEST_INVALID, "Unsupported command for batch install.");
-                }
-            } catch (SwitchOperationException e) {
-                logger.error("Error during flow installation", e);
-            }
-        }
+        logger.debug("Loading installed rules for switch {}", switchId);
+        context.getSwitchManager().dumpFlowTableAsync(DatapathId.of(switchId.toLong()))
+                .whenComplete(inCorrelationContext(correlationId, (flowEntries, error) -> {
+                    try {
+                        checkAsyncError(error);
+
+                        List<FlowEntry> flows = flowEntries.stream()
+                                .map(OfFlowStatsMapper.INSTANCE::toFlowEntry)
+                                .collect(Collectors.toList());
+
+                        SwitchFlowEntries response = SwitchFlowEntries.builder()
+                                .switchId(switchId)
+                                .flowEntries(flows)
+                                .build();
+                        InfoMessage infoMessage = new InfoMessage(response, timestamp, correlationId);
+                        producerService.sendMessageAndTrack(replyToTopic, infoMessage);
+                    } catch (SwitchOperationException e) {
+                        logger.error("Dumping of rules on switch '{}' was unsuccessful: {}",
+                                switchId, e.getMessage());
+                        anError(ErrorType.NOT_FOUND)
+                                .withMessage(e.getMessage())
+                                .withDescription("The switch was not found when requesting a rules dump.")
+                                .withCorrelationId(correlationId)
+                                .withTopic(replyToTopic)
+                                .sendVia(producerService);
+                    }
+                }));
     }
 
     private void doPortsCommandDataRequest(CommandMessage message) {
@@ -869,47 +839,53 @@ class RecordHandler implements Runnable {
         String replyToTopic = context.getKafkaNorthboundTopic();
         final IKafkaProducerService producerService = getKafkaProducer();
 
-        try {
-            SwitchId switchId = request.getSwitchId();
-            logger.debug("Get all meters for switch {}", switchId);
-            ISwitchManager switchManager = context.getSwitchManager();
-            List<OFMeterConfig> meterEntries = switchManager.dumpMeters(DatapathId.of(switchId.toLong()));
-            List<MeterEntry> meters = meterEntries.stream()
-                    .map(OfMeterConverter::toMeterEntry)
-                    .collect(Collectors.toList());
-
-            SwitchMeterEntries response = SwitchMeterEntries.builder()
-                    .switchId(switchId)
-                    .meterEntries(meters)
-                    .build();
-            InfoMessage infoMessage = new InfoMessage(response, message.getTimestamp(), message.getCorrelationId());
-            producerService.sendMessageAndTrack(replyToTopic, infoMessage);
-        } catch (UnsupportedSwitchOperationException e) {
-            String messageString = "Not supported: " + request.getSwitchId();
-            logger.error(messageString, e);
-            anError(ErrorType.PARAMETERS_INVALID)
-                    .withMessage(e.getMessage())
-                    .withDescription(messageString)
-                    .withCorrelationId(message.getCorrelationId())
-                    .withTopic(replyToTopic)
-                    .sendVia(producerService);
-        } catch (SwitchNotFoundException e) {
-            logger.info("Dumping switch meters is unsuccessful. Switch {} not found", request.getSwitchId());
-            anError(ErrorType.NOT_FOUND)
-                    .withMessage(e.getMessage())
-                    .withDescription(request.getSwitchId().toString())
-                    .withCorrelationId(message.getCorrelationId())
-                    .withTopic(replyToTopic)
-                    .sendVia(producerService);
-        } catch (SwitchOperationException e) {
-            logger.error("Unable to dump meters", e);
-            anError(ErrorType.NOT_FOUND)
-                    .withMessage(e.getMessage())
-                    .withDescription("Unable to dump meters")
-                    .withCorrelationId(message.getCorrelationId())
-                    .withTopic(replyToTopic)
-                    .sendVia(producerService);
-        }
+        SwitchId switchId = request.getSwitchId();
+        logger.debug("Get all meters for switch {}", switchId);
+        ISwitchManager switchManager = context.getSwitchManager();
+        switchManager.dumpMetersAsync(DatapathId.of(switchId.toLong()))
+                .whenComplete(inCorrelationContext(message.getCorrelationId(), (meterEntries, error) -> {
+                    try {
+                        checkAsyncError(error);
+
+                        List<MeterEntry> meters = meterEntries.stream()
+                                .map(OfMeterConverter::toMeterEntry)
+                                .collect(Collectors.toList());
+
+                        SwitchMeterEntries response = SwitchMeterEntries.builder()
+                                .switchId(switchId)
+                                .meterEntries(meters)
+                                .build();
+                        InfoMessage infoMessage = new InfoMessage(response, message.getTimestamp(),
+                                message.getCorrelationId());
+                        producerService.sendMessageAndTrack(replyToTopic, infoMessage);
+                    } catch (UnsupportedSwitchOperationException e) {
+                        String messageString = "Not supported: " + request.getSwitchId();
+                        logger.error(messageString, e);
+                        anError(ErrorType.PARAMETERS_INVALID)
+                                .withMessage(e.getMessage())
+                                .withDescription(messageString)
+                                .withCorrelationId(message.getCorrelationId())
+                                .withTopic(replyToTopic)
+                                .sendVia(producerService);
+                    } catch (SwitchNotFoundException e) {
+                        logger.info("Dumping switch meters is unsuccessful. Switch {} not found",
+                                request.getSwitchId());
+                        anError(ErrorType.NOT_FOUND)
+                                .withMessage(e.getMessage())
+                                .withDescription(request.getSwitchId().toString())
+                                .withCorrelationId(message.getCorrelationId())
+                                .withTopic(replyToTopic)
+                                .sendVia(producerService);
+                    } catch (SwitchOperationException e) {
+                        logger.error("Unable to dump meters", e);
+                        anError(ErrorType.NOT_FOUND)
+                                .withMessage(e.getMessage())
+                                .withDescription("Unable to dump meters")
+                                .withCorrelationId(message.getCorrelationId())
+                                .withTopic(replyToTopic)
+                                .sendVia(producerService);
+                    }
+                }));
     }
 
     private void doModifyMeterRequest(CommandMessage message) {
@@ -928,58 +904,98 @@ class RecordHandler implements Runnable {
 
         ISwitchManager switchManager = context.getSwitchManager();
 
+        CompletableFuture<FlowMeterEntries> meterEntries;
         try {
             switchManager.modifyMeterForFlow(fwdDpId, fwdMeterId, request.getBandwidth());
             switchManager.modifyMeterForFlow(rvsDpId, rvsMeterId, request.getBandwidth());
 
-            MeterEntry fwdMeterEntry = OfMeterConverter.toMeterEntry(switchManager.dumpMeterById(fwdDpId, fwdMeterId));
-            MeterEntry rvsMeterEntry = OfMeterConverter.toMeterEntry(switchManager.dumpMeterById(rvsDpId, rvsMeterId));
+            meterEntries = switchManager.dumpMeterByIdAsync(fwdDpId, fwdMeterId)
+                    .thenCombine(switchManager.dumpMeterByIdAsync(rvsDpId, rvsMeterId), (fwdMeter, rvsMeter) -> {
+                        SwitchMeterEntries srcMeter = SwitchMeterEntries.builder()
+                                .switchId(fwdSwitchId)
+                                .meterEntries(ImmutableList.of(OfMeterConverter.toMeterEntry(fwdMeter)))
+                                .build();
+
+                        SwitchMeterEntries dstMeter = SwitchMeterEntries.builder()
+                                .switchId(rvsSwitchId)
+                                .meterEntries(ImmutableList.of(OfMeterConverter.toMeterEntry(rvsMeter)))
+                                .build();
+
+                        return FlowMeterEntries.builder()
+                                .srcMeter(srcMeter)
+                                .dstMeter(dstMeter)
+                                .build();
+                    });
+        } catch (SwitchOperationException e) {
+            meterEntries = new CompletableFuture<>();
+            meterEntries.completeExceptionally(e);
+        }
 
-            SwitchMeterEntries srcMeter = SwitchMeterEntries.builder()
-                    .switchId(fwdSwitchId)
-                    .meterEntries(ImmutableList.of(fwdMeterEntry))
-                    .build();
+        meterEntries.whenComplete(inCorrelationContext(message.getCorrelationId(), (response, error) -> {
+            try {
+                checkAsyncError(error);
+
+                InfoMessage infoMessage = new InfoMessage(response, message.getTimestamp(),
+                        message.getCorrelationId());
+                producerService.sendMessageAndTrack(context.getKafkaNorthboundTopic(), infoMessage);
+            } catch (UnsupportedSwitchOperationException e) {
+                String messageString = String.format("Not supported: %s", new SwitchId(e.getDpId().getLong()));
+                logger.error(messageString, e);
+                anError(ErrorType.PARAMETERS_INVALID)
+                        .withMessage(e.getMessage())
+                        .withDescription(messageString)
+                        .withCorrelationId(message.getCorrelationId())
+                        .withTopic(replyToTopic)
+                        .sendVia(producerService);
+            } catch (SwitchNotFoundException e) {
+                logger.error("Update switch meters is unsuccessful. Switch {} not found",
+                        new SwitchId(e.getDpId().getLong()));
+                anError(ErrorType.NOT_FOUND)
+                        .withMessage(e.getMessage())
+                        .withDescription(new SwitchId(e.getDpId().getLong()).toString())
+                        .withCorrelationId(message.getCorrelationId())
+                        .withTopic(replyToTopic)
+                        .sendVia(producerService);
+            } catch (SwitchOperationException e) {
+                String messageString = "Unable to update meter";
+                logger.error(messageString, e);
+                anError(ErrorType.NOT_FOUND)
+                        .withMessage(e.getMessage())
+                        .withDescription(messageString)
+                        .withCorrelationId(message.getCorrelationId())
+                        .withTopic(replyToTopic)
+                        .sendVia(producerService);
+            }
+        }));
+    }
 
-            SwitchMeterEntries dstMeter = SwitchMeterEntries.builder()
-                    .switchId(rvsSwitchId)
-                    .meterEntries(ImmutableList.of(rvsMeterEntry))
-                    .build();
+    /**
+     * Wraps the handler of the switch reply, which comes in on another thread, to run it within the correlation
+     * context of the request.
+     */
+    private <T> BiConsumer<T, Throwable> inCorrelationContext(String correlationId, BiConsumer<T, Throwable> handler) {
+        return (result, error) -> {
+            try (CorrelationContextClosable closable = CorrelationContext.create(correlationId)) {
+                handler.accept(result, error);
+            } catch (Exception e) {
+                logger.error("error processing switch reply for message with correlation id '{}'", correlationId, e);
+            }
+        };
+    }
 
-            FlowMeterEntries response = FlowMeterEntries.builder()
-                    .srcMeter(srcMeter)
-                    .dstMeter(dstMeter)
-                    .build();
+    /**
+     * Rethrows the error of the asynchronous switch operation, if any.
+     */
+    private static void checkAsyncError(Throwable error) throws SwitchOperationException {
+        if (error == null) {
+            return;
+        }
 
-            InfoMessage infoMessage = new InfoMessage(response, message.getTimestamp(), message.getCorrelationId());
-            producerService.sendMessageAndTrack(context.getKafkaNorthboundTopic(), infoMessage);
-        } catch (UnsupportedSwitchOperationException e) {
-            String messageString = String.format("Not supported: %s", new SwitchId(e.getDpId().getLong()));
-            logger.error(messageString, e);
-            anError(ErrorType.PARAMETERS_INVALID)
-                    .withMessage(e.getMessage())
-                    .withDescription(messageString)
-                    .withCorrelationId(message.getCorrelationId())
-                    .withTopic(replyToTopic)
-                    .sendVia(producerService);
-        } catch (SwitchNotFoundException e) {
-            logger.error("Update switch meters is unsuccessful. Switch {} not found",
-                    new SwitchId(e.getDpId().getLong()));
-            anError(ErrorType.NOT_FOUND)
-                    .withMessage(e.getMessage())
-                    .withDescription(new SwitchId(e.getDpId().getLong()).toString())
-                    .withCorrelationId(message.getCorrelationId())
-                    .withTopic(replyToTopic)
-                    .sendVia(producerService);
-        } catch (SwitchOperationException e) {
-            String messageString = "Unable to update meter";
-            logger.error(messageString, e);
-            anError(ErrorType.NOT_FOUND)
-                    .withMessage(e.getMessage())
-                    .withDescription(messageString)
-                    .withCorrelationId(message.getCorrelationId())
-                    .withTopic(replyToTopic)
-                    .sendVia(producerService);
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof SwitchOperationException) {
+            throw (SwitchOperationException) cause;
         }
+        throw new CompletionException(cause);
     }
 
     private void installMeter(DatapathId dpid, long meterId, long bandwidth, String flowId) {
@@ -1048,6 +1064,7 @@ class RecordHandler implements Runnable {
     public static class Factory {
         private final ConsumerContext context;
         private final List<CommandDispatcher<?>> dispatchers = ImmutableList.of(
+                new BatchInstallDispatcher(),
                 new PingRequestDispatcher(),
                 new SetupBfdSessionDispatcher(),
                 new RemoveBfdSessionDispatcher());
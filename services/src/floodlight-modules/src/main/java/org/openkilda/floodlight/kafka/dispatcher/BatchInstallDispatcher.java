@@ -0,0 +1,45 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.kafka.dispatcher;
+
+import org.openkilda.config.KafkaTopicsConfig;
+import org.openkilda.floodlight.command.Command;
+import org.openkilda.floodlight.command.CommandContext;
+import org.openkilda.floodlight.command.flow.InstallFlowBatchCommand;
+import org.openkilda.floodlight.service.kafka.KafkaUtilityService;
+import org.openkilda.messaging.Destination;
+import org.openkilda.messaging.command.CommandData;
+import org.openkilda.messaging.command.flow.BatchInstallRequest;
+
+public class BatchInstallDispatcher extends CommandDispatcher<BatchInstallRequest> {
+    @Override
+    protected boolean checkAcceptability(CommandData payload) {
+        return payload instanceof BatchInstallRequest;
+    }
+
+    @Override
+    protected BatchInstallRequest unpack(CommandData payload) {
+        return (BatchInstallRequest) payload;
+    }
+
+    @Override
+    protected Command makeCommand(CommandContext context, BatchInstallRequest data) {
+        // The batch install is requested by the topology engine to sync the switch rules.
+        KafkaTopicsConfig topics = context.getModuleContext().getServiceImpl(KafkaUtilityService.class).getTopics();
+        return new InstallFlowBatchCommand(context, data.getSwitchId(), data.getFlowCommands(),
+                topics.getTopoEngTopic(), Destination.TOPOLOGY_ENGINE);
+    }
+}
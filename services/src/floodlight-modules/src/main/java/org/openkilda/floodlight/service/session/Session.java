@@ -31,11 +31,14 @@ import org.projectfloodlight.openflow.protocol.OFType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -88,6 +91,39 @@ public class Session implements AutoCloseable {
         return future;
     }
 
+    /**
+     * Send a batch of OF messages to the switch in one write and register them in session to trace possible responses.
+     *
+     * <p>The messages the switch has refused to accept are completed with {@link SwitchWriteException}, and the
+     * session is marked as failed same way as for a single message write, so the rest of them will be completed with
+     * {@link SessionRevertException} on close.
+     */
+    public List<CompletableFuture<Optional<OFMessage>>> write(List<? extends OFMessage> messages) {
+        ensureOpen();
+
+        List<CompletableFuture<Optional<OFMessage>>> futures = messages.stream()
+                .map(this::prepareRequest)
+                .collect(Collectors.toList());
+
+        log.debug("push {} OF messages to {}", messages.size(), sw.getId());
+        try {
+            Collection<OFMessage> rejected = sw.write(ImmutableList.<OFMessage>copyOf(messages));
+            for (OFMessage message : rejected) {
+                error = true;
+                requestsByXid.get(message.getXid())
+                        .completeExceptionally(new SwitchWriteException(sw.getId(), message));
+            }
+        } catch (Exception e) {
+            error = true;
+            for (OFMessage message : messages) {
+                requestsByXid.get(message.getXid())
+                        .completeExceptionally(new SwitchWriteException(sw.getId(), message, e));
+            }
+        }
+
+        return futures;
+    }
+
     public void resetError() {
         error = false;
     }
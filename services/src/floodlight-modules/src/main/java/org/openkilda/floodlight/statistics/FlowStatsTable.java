@@ -0,0 +1,158 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.statistics;
+
+import org.projectfloodlight.openflow.protocol.OFFlowStatsEntry;
+import org.projectfloodlight.openflow.protocol.OFFlowStatsReply;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The counters of the flows of a switch, reported by the last flow stats reply, by cookie. Used to export only the
+ * flows whose counters have changed since the previous reply, with a periodic full refresh.
+ * <p/>
+ * The counters are kept in primitive arrays with open addressing, so neither the cookies nor the counters are boxed.
+ * Two tables are used in turns: the entries of the reply are looked up in the previous one and stored in the other,
+ * so the flows removed from the switch drop out of the table with no deletion.
+ */
+class FlowStatsTable {
+    private static final int MIN_CAPACITY = 16;
+
+    private Counters previous = new Counters();
+    private Counters current = new Counters();
+    private long lastFullRefresh;
+
+    /**
+     * Stores the counters of the reply and returns the entries whose counters have changed since the previous reply,
+     * or all the entries if the full refresh is due.
+     */
+    synchronized List<OFFlowStatsEntry> update(List<OFFlowStatsReply> replies, long now, long fullRefreshMillis) {
+        boolean fullRefresh = now - lastFullRefresh >= fullRefreshMillis;
+        if (fullRefresh) {
+            lastFullRefresh = now;
+        }
+
+        current.reset(replies.stream()
+                .mapToInt(reply -> reply.getEntries().size())
+                .sum());
+        List<OFFlowStatsEntry> changed = new ArrayList<>();
+        for (OFFlowStatsReply reply : replies) {
+            for (OFFlowStatsEntry entry : reply.getEntries()) {
+                if (!store(entry) || fullRefresh) {
+                    changed.add(entry);
+                }
+            }
+        }
+
+        Counters swap = previous;
+        previous = current;
+        current = swap;
+        return changed;
+    }
+
+    /**
+     * Stores the counters of the entry.
+     *
+     * @return true if the counters are the same as in the previous reply.
+     */
+    private boolean store(OFFlowStatsEntry entry) {
+        long cookie;
+        short tableId;
+        long packetCount;
+        long byteCount;
+        try {
+            cookie = entry.getCookie().getValue();
+            tableId = entry.getTableId().getValue();
+            packetCount = entry.getPacketCount().getValue();
+            byteCount = entry.getByteCount().getValue();
+        } catch (NullPointerException | UnsupportedOperationException e) {
+            // Let the mapper report the malformed entry.
+            return false;
+        }
+
+        current.put(cookie, tableId, packetCount, byteCount);
+        return previous.matches(cookie, tableId, packetCount, byteCount);
+    }
+
+    private static class Counters {
+        private long[] cookies;
+        private short[] tableIds;
+        private long[] packetCounts;
+        private long[] byteCounts;
+        private boolean[] used;
+        private int mask;
+
+        Counters() {
+            allocate(MIN_CAPACITY);
+        }
+
+        /**
+         * Removes all the entries and makes sure the expected number of entries fits.
+         */
+        void reset(int expectedSize) {
+            int capacity = MIN_CAPACITY;
+            while (capacity * 3 < expectedSize * 4) {
+                capacity <<= 1;
+            }
+            if (capacity > used.length) {
+                allocate(capacity);
+            } else {
+                Arrays.fill(used, false);
+            }
+        }
+
+        void put(long cookie, short tableId, long packetCount, long byteCount) {
+            int index = slot(cookie);
+            while (used[index] && cookies[index] != cookie) {
+                index = (index + 1) & mask;
+            }
+            used[index] = true;
+            cookies[index] = cookie;
+            tableIds[index] = tableId;
+            packetCounts[index] = packetCount;
+            byteCounts[index] = byteCount;
+        }
+
+        boolean matches(long cookie, short tableId, long packetCount, long byteCount) {
+            int index = slot(cookie);
+            while (used[index]) {
+                if (cookies[index] == cookie) {
+                    return tableIds[index] == tableId
+                            && packetCounts[index] == packetCount
+                            && byteCounts[index] == byteCount;
+                }
+                index = (index + 1) & mask;
+            }
+            return false;
+        }
+
+        private int slot(long cookie) {
+            long hash = cookie * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+
+        private void allocate(int capacity) {
+            cookies = new long[capacity];
+            tableIds = new short[capacity];
+            packetCounts = new long[capacity];
+            byteCounts = new long[capacity];
+            used = new boolean[capacity];
+            mask = capacity - 1;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.statistics;
+
+import com.google.common.hash.Hashing;
+import org.projectfloodlight.openflow.types.DatapathId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decides when the switches are polled for statistics.
+ *
+ * <p>Each switch is polled at its own offset within the interval, derived from its datapath id, so the polls are
+ * spread evenly over the interval and a switch keeps its time slot across reconnects and restarts. The interval of
+ * a switch is stretched to a multiple of the base interval if the switch replies slowly or reports a lot of flows.
+ * The number of outstanding stats requests is capped, a poll which can't be sent within the interval is dropped.
+ */
+class StatisticsPollScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(StatisticsPollScheduler.class);
+
+    /**
+     * The share of the interval a switch may take to reply before its interval is stretched.
+     */
+    private static final double MAX_REPLY_LATENCY_SHARE = 0.1;
+
+    /**
+     * The number of flows a switch may report per base interval before its interval is stretched.
+     */
+    private static final int MAX_FLOWS_PER_INTERVAL = 10000;
+
+    private final long intervalMillis;
+    private final int maxIntervalFactor;
+    private final int maxOutstandingRequests;
+    private final Poller poller;
+    private final StatisticsServiceCounters counters;
+
+    private final Map<DatapathId, SwitchSchedule> schedules = new HashMap<>();
+
+    StatisticsPollScheduler(long intervalMillis, long maxIntervalMillis, int maxOutstandingRequests,
+                            Poller poller, StatisticsServiceCounters counters) {
+        this.intervalMillis = intervalMillis;
+        this.maxIntervalFactor = (int) Math.max(1, maxIntervalMillis / intervalMillis);
+        this.maxOutstandingRequests = maxOutstandingRequests;
+        this.poller = poller;
+        this.counters = counters;
+    }
+
+    /**
+     * Polls the switches which are due at the given time. Must not be called concurrently.
+     */
+    void tick(Set<DatapathId> switches, long now) {
+        schedules.keySet().retainAll(switches);
+
+        int outstandingRequests = 0;
+        List<SwitchSchedule> due = new ArrayList<>();
+        for (DatapathId dpId : switches) {
+            SwitchSchedule schedule = schedules.computeIfAbsent(dpId,
+                    id -> new SwitchSchedule(id, getFirstSlot(id, now)));
+            outstandingRequests += schedule.getPendingRequests();
+            if (schedule.getDueTime() <= now) {
+                due.add(schedule);
+            }
+        }
+        // The most delayed polls go first, so deferred switches are not starved by the others.
+        due.sort(Comparator.comparingLong(SwitchSchedule::getDueTime));
+
+        for (SwitchSchedule schedule : due) {
+            long lag = now - schedule.getDueTime();
+            if (schedule.getPendingRequests() > 0 || outstandingRequests >= maxOutstandingRequests) {
+                if (lag >= intervalMillis) {
+                    logger.warn("Drop stats poll of switch {} delayed for {} ms", schedule.dpId, lag);
+                    counters.droppedPolls.increment();
+                    outstandingRequests -= schedule.getPendingRequests();
+                    schedule.skip(now);
+                }
+                continue;
+            }
+
+            counters.polls.increment();
+            counters.pollLag.add(lag);
+            outstandingRequests += schedule.poll(now);
+        }
+    }
+
+    private long getFirstSlot(DatapathId dpId, long now) {
+        long offset = Math.floorMod(Hashing.murmur3_32().hashLong(dpId.getLong()).asInt(), intervalMillis);
+        return now - Math.floorMod(now - offset, intervalMillis);
+    }
+
+    private class SwitchSchedule {
+        private final DatapathId dpId;
+        private long slot;
+        private volatile int intervalFactor = 1;
+        private Poll poll;
+
+        SwitchSchedule(DatapathId dpId, long slot) {
+            this.dpId = dpId;
+            this.slot = slot;
+        }
+
+        long getDueTime() {
+            return slot + intervalMillis * intervalFactor;
+        }
+
+        int getPendingRequests() {
+            return poll == null ? 0 : poll.pendingRequests.get();
+        }
+
+        int poll(long now) {
+            skip(now);
+            poll = new Poll(this, now);
+            try {
+                poller.poll(dpId, poll);
+            } finally {
+                poll.requestCompleted(now);
+            }
+            return getPendingRequests();
+        }
+
+        /**
+         * Moves to the last time slot of the switch, not later than the given time. The current poll, if any, is
+         * not awaited anymore.
+         */
+        void skip(long now) {
+            slot = now - Math.floorMod(now - getDueTime(), intervalMillis);
+            poll = null;
+        }
+
+        void adapt(long latency, int flowsCount) {
+            int factor = Math.max((int) Math.ceil(latency / (intervalMillis * MAX_REPLY_LATENCY_SHARE)),
+                    (flowsCount + MAX_FLOWS_PER_INTERVAL - 1) / MAX_FLOWS_PER_INTERVAL);
+            factor = Math.min(maxIntervalFactor, Math.max(1, factor));
+            if (factor != intervalFactor) {
+                logger.info("Stats poll interval of switch {} is {} ms now (reply latency {} ms, {} flows)",
+                        dpId, intervalMillis * factor, latency, flowsCount);
+                intervalFactor = factor;
+            }
+        }
+    }
+
+    /**
+     * A single poll of the switch. The poller registers each stats request sent and reports its completion.
+     */
+    static class Poll {
+        private final SwitchSchedule schedule;
+        private final long startTime;
+        // Held by the scheduler until all the requests are sent, so the poll can't complete prematurely.
+        private final AtomicInteger pendingRequests = new AtomicInteger(1);
+        private volatile int flowsCount;
+
+        private Poll(SwitchSchedule schedule, long startTime) {
+            this.schedule = schedule;
+            this.startTime = startTime;
+        }
+
+        void requestSent() {
+            pendingRequests.incrementAndGet();
+        }
+
+        void flowsReceived(int count) {
+            flowsCount = count;
+        }
+
+        /**
+         * Reports the reply to or the failure of the request. The reply latency of the whole poll and the number of
+         * flows on the switch define the poll interval of the switch.
+         */
+        void requestCompleted(long now) {
+            if (pendingRequests.decrementAndGet() == 0) {
+                schedule.adapt(now - startTime, flowsCount);
+            }
+        }
+    }
+
+    interface Poller {
+        void poll(DatapathId dpId, Poll poll);
+    }
+}
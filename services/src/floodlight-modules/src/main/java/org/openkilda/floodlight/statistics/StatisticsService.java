@@ -21,30 +21,39 @@ import org.openkilda.floodlight.converter.OfMeterStatsMapper;
 import org.openkilda.floodlight.converter.OfPortStatsMapper;
 import org.openkilda.floodlight.service.kafka.IKafkaProducerService;
 import org.openkilda.floodlight.service.kafka.KafkaUtilityService;
+import org.openkilda.floodlight.statistics.StatisticsPollScheduler.Poll;
 import org.openkilda.floodlight.utils.CorrelationContext;
 import org.openkilda.floodlight.utils.CorrelationContext.CorrelationContextClosable;
 import org.openkilda.floodlight.utils.NewCorrelationContextRequired;
 import org.openkilda.messaging.Destination;
 import org.openkilda.messaging.info.InfoData;
 import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.stats.FlowStatsData;
+import org.openkilda.messaging.info.stats.FlowStatsEntry;
 import org.openkilda.model.SwitchId;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import net.floodlightcontroller.core.IFloodlightProviderService;
 import net.floodlightcontroller.core.IOFSwitch;
 import net.floodlightcontroller.core.internal.IOFSwitchService;
 import net.floodlightcontroller.core.module.FloodlightModuleContext;
 import net.floodlightcontroller.core.module.IFloodlightModule;
 import net.floodlightcontroller.core.module.IFloodlightService;
+import net.floodlightcontroller.debugcounter.IDebugCounterService;
 import net.floodlightcontroller.threadpool.IThreadPoolService;
 import org.projectfloodlight.openflow.protocol.OFFactory;
+import org.projectfloodlight.openflow.protocol.OFFlowStatsEntry;
+import org.projectfloodlight.openflow.protocol.OFFlowStatsReply;
 import org.projectfloodlight.openflow.protocol.OFFlowStatsRequest;
 import org.projectfloodlight.openflow.protocol.OFMeterStatsRequest;
 import org.projectfloodlight.openflow.protocol.OFPortStatsRequest;
 import org.projectfloodlight.openflow.protocol.OFStatsReply;
+import org.projectfloodlight.openflow.protocol.OFStatsRequest;
 import org.projectfloodlight.openflow.protocol.OFVersion;
+import org.projectfloodlight.openflow.types.DatapathId;
 import org.projectfloodlight.openflow.types.OFGroup;
 import org.projectfloodlight.openflow.types.OFPort;
 import org.slf4j.Logger;
@@ -54,20 +63,31 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * This service performs periodic port/flow/meter config statistics collection and pushes it to Kafka.
+ * The switches are polled at their own time slots within the interval, see {@link StatisticsPollScheduler}.
  */
 public class StatisticsService implements IStatisticsService, IFloodlightModule {
     private static final Logger logger = LoggerFactory.getLogger(StatisticsService.class);
     private static final long OFPM_ALL = 0xffffffffL;
+    private static final long POLL_TICK_MILLIS = 1000;
 
     private IOFSwitchService switchService;
     private IKafkaProducerService producerService;
     private IThreadPoolService threadPoolService;
+    private StatisticsServiceCounters counters;
     private int interval;
+    private int maxInterval;
+    private int maxOutstandingRequests;
+    private long flowStatsFullRefreshMillis;
+    private final Map<DatapathId, FlowStatsTable> flowStatsTables = new ConcurrentHashMap<>();
     private String statisticsTopic;
 
     @Override
@@ -86,6 +106,7 @@ public class StatisticsService implements IStatisticsService, IFloodlightModule
                 IFloodlightProviderService.class,
                 IOFSwitchService.class,
                 IThreadPoolService.class,
+                IDebugCounterService.class,
                 KafkaUtilityService.class,
                 IKafkaProducerService.class);
     }
@@ -95,10 +116,14 @@ public class StatisticsService implements IStatisticsService, IFloodlightModule
         switchService = context.getServiceImpl(IOFSwitchService.class);
         threadPoolService = context.getServiceImpl(IThreadPoolService.class);
         producerService = context.getServiceImpl(IKafkaProducerService.class);
+        counters = new StatisticsServiceCounters(context.getServiceImpl(IDebugCounterService.class));
 
         FloodlightModuleConfigurationProvider provider = FloodlightModuleConfigurationProvider.of(context, this);
         StatisticsServiceConfig serviceConfig = provider.getConfiguration(StatisticsServiceConfig.class);
         interval = serviceConfig.getInterval();
+        maxInterval = serviceConfig.getMaxInterval();
+        maxOutstandingRequests = serviceConfig.getMaxOutstandingRequests();
+        flowStatsFullRefreshMillis = TimeUnit.SECONDS.toMillis(serviceConfig.getFlowStatsFullRefreshInterval());
     }
 
     @Override
@@ -106,34 +131,47 @@ public class StatisticsService implements IStatisticsService, IFloodlightModule
         statisticsTopic = context.getServiceImpl(KafkaUtilityService.class).getTopics().getStatsTopic();
 
         if (interval > 0) {
-            threadPoolService.getScheduledExecutor().scheduleAtFixedRate(
-                    () -> switchService.getAllSwitchMap().values().forEach(iofSwitch -> {
-                        try {
-                            gatherPortStats(iofSwitch);
-                        } catch (Exception e) {
-                            logger.error(String.format("Failed to gather stats for ports on switch %s.",
-                                    iofSwitch.getId()), e);
-                        }
-
-                        try {
-                            gatherFlowStats(iofSwitch);
-                        } catch (Exception e) {
-                            logger.error(String.format("Failed to gather stats for flows on switch %s.",
-                                    iofSwitch.getId()), e);
-                        }
-
-                        try {
-                            gatherMeterStats(iofSwitch);
-                        } catch (Exception e) {
-                            logger.error(String.format("Failed to gather stats for meters on switch %s.",
-                                    iofSwitch.getId()), e);
-                        }
-                    }), interval, interval, TimeUnit.SECONDS);
+            StatisticsPollScheduler scheduler = new StatisticsPollScheduler(TimeUnit.SECONDS.toMillis(interval),
+                    TimeUnit.SECONDS.toMillis(maxInterval), maxOutstandingRequests, this::gatherStats, counters);
+            threadPoolService.getScheduledExecutor().scheduleAtFixedRate(() -> {
+                try {
+                    Set<DatapathId> switches = switchService.getAllSwitchMap().keySet();
+                    flowStatsTables.keySet().retainAll(switches);
+                    scheduler.tick(switches, System.currentTimeMillis());
+                } catch (Exception e) {
+                    logger.error("Failed to poll switches for stats.", e);
+                }
+            }, POLL_TICK_MILLIS, POLL_TICK_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void gatherStats(DatapathId dpId, Poll poll) {
+        IOFSwitch iofSwitch = switchService.getSwitch(dpId);
+        if (iofSwitch == null) {
+            return;
+        }
+
+        try {
+            gatherPortStats(iofSwitch, poll);
+        } catch (Exception e) {
+            logger.error(String.format("Failed to gather stats for ports on switch %s.", iofSwitch.getId()), e);
+        }
+
+        try {
+            gatherFlowStats(iofSwitch, poll);
+        } catch (Exception e) {
+            logger.error(String.format("Failed to gather stats for flows on switch %s.", iofSwitch.getId()), e);
+        }
+
+        try {
+            gatherMeterStats(iofSwitch, poll);
+        } catch (Exception e) {
+            logger.error(String.format("Failed to gather stats for meters on switch %s.", iofSwitch.getId()), e);
         }
     }
 
     @NewCorrelationContextRequired
-    private void gatherPortStats(IOFSwitch iofSwitch) {
+    private void gatherPortStats(IOFSwitch iofSwitch, Poll poll) {
         OFFactory factory = iofSwitch.getOFFactory();
         SwitchId switchId = new SwitchId(iofSwitch.getId().toString());
 
@@ -144,13 +182,13 @@ public class StatisticsService implements IStatisticsService, IFloodlightModule
 
         logger.trace("Getting port stats for switch={}", iofSwitch.getId());
 
-        Futures.addCallback(iofSwitch.writeStatsRequest(portStatsRequest),
+        sendStatsRequest(iofSwitch, portStatsRequest, poll,
                 new RequestCallback<>(data -> OfPortStatsMapper.INSTANCE.toPostStatsData(data, switchId),
-                        "port", CorrelationContext.getId()));
+                        "port", CorrelationContext.getId(), poll));
     }
 
     @NewCorrelationContextRequired
-    private void gatherFlowStats(IOFSwitch iofSwitch) {
+    private void gatherFlowStats(IOFSwitch iofSwitch, Poll poll) {
         OFFactory factory = iofSwitch.getOFFactory();
         final SwitchId switchId = new SwitchId(iofSwitch.getId().toString());
 
@@ -163,14 +201,16 @@ public class StatisticsService implements IStatisticsService, IFloodlightModule
             // skip flow stats for OF 1.5 protocol version
             logger.trace("Getting flow stats for switch={}", iofSwitch.getId());
 
-            Futures.addCallback(iofSwitch.writeStatsRequest(flowStatsRequest),
-                    new RequestCallback<>(data -> OfFlowStatsMapper.INSTANCE.toFlowStatsData(data, switchId),
-                            "flow", CorrelationContext.getId()));
+            sendStatsRequest(iofSwitch, flowStatsRequest, poll,
+                    new RequestCallback<>(data -> {
+                        poll.flowsReceived(countFlows(data));
+                        return toChangedFlowStatsData(iofSwitch.getId(), data, switchId);
+                    }, "flow", CorrelationContext.getId(), poll));
         }
     }
 
     @NewCorrelationContextRequired
-    private void gatherMeterStats(IOFSwitch iofSwitch) {
+    private void gatherMeterStats(IOFSwitch iofSwitch, Poll poll) {
         OFFactory factory = iofSwitch.getOFFactory();
         SwitchId switchId = new SwitchId(iofSwitch.getId().toString());
 
@@ -183,21 +223,57 @@ public class StatisticsService implements IStatisticsService, IFloodlightModule
 
             logger.trace("Getting meter stats for switch={}", iofSwitch.getId());
 
-            Futures.addCallback(iofSwitch.writeStatsRequest(meterStatsRequest),
+            sendStatsRequest(iofSwitch, meterStatsRequest, poll,
                     new RequestCallback<>(data -> OfMeterStatsMapper.INSTANCE.toMeterStatsData(data, switchId),
-                            "meter", CorrelationContext.getId()));
+                            "meter", CorrelationContext.getId(), poll));
         }
     }
 
+    private <T extends OFStatsReply> void sendStatsRequest(IOFSwitch iofSwitch, OFStatsRequest<T> request, Poll poll,
+                                                           RequestCallback<T> callback) {
+        ListenableFuture<List<T>> future = iofSwitch.writeStatsRequest(request);
+        poll.requestSent();
+        Futures.addCallback(future, callback);
+    }
+
+    /**
+     * Converts the entries of the reply whose counters have changed since the previous reply, or all of them if the
+     * full refresh is due.
+     *
+     * @return the flow stats to be exported or null if there are no changes.
+     */
+    private FlowStatsData toChangedFlowStatsData(DatapathId dpId, List<OFFlowStatsReply> data, SwitchId switchId) {
+        List<OFFlowStatsEntry> changed = flowStatsTables.computeIfAbsent(dpId, ignore -> new FlowStatsTable())
+                .update(data, System.currentTimeMillis(), flowStatsFullRefreshMillis);
+        if (changed.isEmpty()) {
+            logger.trace("No changes in flow stats of switch={}", dpId);
+            return null;
+        }
+
+        List<FlowStatsEntry> stats = changed.stream()
+                .map(OfFlowStatsMapper.INSTANCE::toFlowStatsEntry)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new FlowStatsData(switchId, stats);
+    }
+
+    private static int countFlows(List<OFFlowStatsReply> replies) {
+        return replies.stream()
+                .mapToInt(reply -> reply.getEntries().size())
+                .sum();
+    }
+
     private class RequestCallback<T extends OFStatsReply> implements FutureCallback<List<T>> {
         private Function<List<T>, InfoData> transform;
         private String type;
         private final String correlationId;
+        private final Poll poll;
 
-        RequestCallback(Function<List<T>, InfoData> transform, String type, String correlationId) {
+        RequestCallback(Function<List<T>, InfoData> transform, String type, String correlationId, Poll poll) {
             this.transform = transform;
             this.type = type;
             this.correlationId = correlationId;
+            this.poll = poll;
         }
 
         @Override
@@ -205,9 +281,14 @@ public class StatisticsService implements IStatisticsService, IFloodlightModule
             // Restore the correlation context used for the request.
             try (CorrelationContextClosable closable = CorrelationContext.create(correlationId)) {
 
-                InfoMessage infoMessage = new InfoMessage(transform.apply(data),
-                        System.currentTimeMillis(), correlationId, Destination.WFM_STATS);
-                producerService.sendMessageAndTrack(statisticsTopic, infoMessage);
+                InfoData infoData = transform.apply(data);
+                if (infoData != null) {
+                    InfoMessage infoMessage = new InfoMessage(infoData,
+                            System.currentTimeMillis(), correlationId, Destination.WFM_STATS);
+                    producerService.sendMessageAndTrack(statisticsTopic, infoMessage);
+                }
+            } finally {
+                poll.requestCompleted(System.currentTimeMillis());
             }
         }
 
@@ -217,6 +298,8 @@ public class StatisticsService implements IStatisticsService, IFloodlightModule
             try (CorrelationContextClosable closable = CorrelationContext.create(correlationId)) {
 
                 logger.error("Exception reading {} stats", type, throwable);
+            } finally {
+                poll.requestCompleted(System.currentTimeMillis());
             }
         }
     }
@@ -16,6 +16,8 @@
 package org.openkilda.floodlight.statistics;
 
 import com.sabre.oss.conf4j.annotation.Configuration;
+import com.sabre.oss.conf4j.annotation.Default;
+import com.sabre.oss.conf4j.annotation.Description;
 import com.sabre.oss.conf4j.annotation.Key;
 
 import javax.validation.constraints.Min;
@@ -25,4 +27,27 @@ public interface StatisticsServiceConfig {
     @Key("interval")
     @Min(0)
     int getInterval();
+
+    @Key("max-interval")
+    @Default("300")
+    @Min(0)
+    @Description("Upper bound in seconds of the poll interval of a switch. The interval is stretched "
+               + "for switches which reply slowly or have a lot of rules. "
+               + "Values not greater than 'interval' disable stretching.")
+    int getMaxInterval();
+
+    @Key("max-outstanding-requests")
+    @Default("256")
+    @Min(1)
+    @Description("Maximum number of stats requests awaiting replies. "
+               + "Polls over it are deferred and dropped if they can't be sent within the interval.")
+    int getMaxOutstandingRequests();
+
+    @Key("flow-stats-full-refresh-interval")
+    @Default("300")
+    @Min(0)
+    @Description("Flow stats are exported only for the flows whose counters have changed since the previous poll. "
+               + "Once in this number of seconds the stats of all the flows are exported. "
+               + "Value '0' means that the stats of all the flows are exported on each poll.")
+    int getFlowStatsFullRefreshInterval();
 }
@@ -0,0 +1,40 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.statistics;
+
+import net.floodlightcontroller.debugcounter.IDebugCounter;
+import net.floodlightcontroller.debugcounter.IDebugCounterService;
+
+/**
+ * Debug counters of the statistics polling.
+ */
+class StatisticsServiceCounters {
+    private static final String MODULE = StatisticsService.class.getPackage().getName();
+
+    final IDebugCounter polls;
+    final IDebugCounter pollLag;
+    final IDebugCounter droppedPolls;
+
+    StatisticsServiceCounters(IDebugCounterService debugCounterService) {
+        debugCounterService.registerModule(MODULE);
+        polls = debugCounterService.registerCounter(MODULE, "polls",
+                "Number of switch statistics polls");
+        pollLag = debugCounterService.registerCounter(MODULE, "poll-lag-ms",
+                "Total delay in milliseconds of the polls relative to their scheduled time");
+        droppedPolls = debugCounterService.registerCounter(MODULE, "dropped-polls",
+                "Number of polls dropped because they could not be sent within the interval");
+    }
+}
@@ -23,6 +23,7 @@ import org.openkilda.model.OutputVlanType;
 
 import net.floodlightcontroller.core.IOFSwitch;
 import net.floodlightcontroller.core.module.IFloodlightService;
+import org.projectfloodlight.openflow.protocol.OFFlowMod;
 import org.projectfloodlight.openflow.protocol.OFFlowStatsEntry;
 import org.projectfloodlight.openflow.protocol.OFMeterConfig;
 import org.projectfloodlight.openflow.protocol.OFPortDesc;
@@ -33,6 +34,7 @@ import org.projectfloodlight.openflow.types.OFPort;
 import java.net.InetAddress;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 
 public interface ISwitchManager extends IFloodlightService {
@@ -169,6 +171,45 @@ public interface ISwitchManager extends IFloodlightService {
                                                       int outputVlanId, final OutputVlanType outputVlanType,
                                                       final long meterId) throws SwitchOperationException;
 
+    /**
+     * Builds the flow mod of {@link #installIngressFlow} without sending it to the switch.
+     *
+     * @return the flow mod to install the flow
+     * @throws SwitchOperationException Switch not found
+     */
+    OFFlowMod buildIngressFlow(DatapathId dpid, String flowId, Long cookie, int inputPort, int outputPort,
+                               int inputVlanId, int transitVlanId, OutputVlanType outputVlanType, long meterId)
+            throws SwitchOperationException;
+
+    /**
+     * Builds the flow mod of {@link #installEgressFlow} without sending it to the switch.
+     *
+     * @return the flow mod to install the flow
+     * @throws SwitchOperationException Switch not found
+     */
+    OFFlowMod buildEgressFlow(DatapathId dpid, String flowId, Long cookie, int inputPort, int outputPort,
+                              int transitVlanId, int outputVlanId, OutputVlanType outputVlanType)
+            throws SwitchOperationException;
+
+    /**
+     * Builds the flow mod of {@link #installTransitFlow} without sending it to the switch.
+     *
+     * @return the flow mod to install the flow
+     * @throws SwitchOperationException Switch not found
+     */
+    OFFlowMod buildTransitFlow(DatapathId dpid, String flowId, Long cookie, int inputPort, int outputPort,
+                               int transitVlanId) throws SwitchOperationException;
+
+    /**
+     * Builds the flow mod of {@link #installOneSwitchFlow} without sending it to the switch.
+     *
+     * @return the flow mod to install the flow
+     * @throws SwitchOperationException Switch not found
+     */
+    OFFlowMod buildOneSwitchFlow(DatapathId dpid, String flowId, Long cookie, int inputPort, int outputPort,
+                                 int inputVlanId, int outputVlanId, OutputVlanType outputVlanType, long meterId)
+            throws SwitchOperationException;
+
     /**
      * Returns list of installed flows.
      *
@@ -196,6 +237,36 @@ public interface ISwitchManager extends IFloodlightService {
      */
     OFMeterConfig dumpMeterById(final DatapathId dpid, final long meterId) throws SwitchOperationException;
 
+    /**
+     * Requests the list of installed flows without waiting for the switch to reply.
+     *
+     * @param dpid switch id
+     * @return the future which completes with OF flow stats entries, or with {@link SwitchOperationException} if
+     *     the switch was not found or hasn't replied in time
+     */
+    CompletableFuture<List<OFFlowStatsEntry>> dumpFlowTableAsync(final DatapathId dpid);
+
+    /**
+     * Requests the list of installed meters without waiting for the switch to reply.
+     *
+     * @param dpid switch id
+     * @return the future which completes with OF meter config stats entries, or with
+     *     {@link SwitchOperationException} if the switch was not found, doesn't support meters or hasn't replied in
+     *     time
+     */
+    CompletableFuture<List<OFMeterConfig>> dumpMetersAsync(final DatapathId dpid);
+
+    /**
+     * Requests an installed meter by id without waiting for the switch to reply.
+     *
+     * @param dpid switch id
+     * @param meterId a meter id
+     * @return the future which completes with OF meter config stats entry or null if there is no such meter, or
+     *     with {@link SwitchOperationException} if the switch was not found, doesn't support meters or hasn't
+     *     replied in time
+     */
+    CompletableFuture<OFMeterConfig> dumpMeterByIdAsync(final DatapathId dpid, final long meterId);
+
     /**
      * Installs a meter on ingress switch OF_13.
      * TODO: describe params meaning in accordance with OF
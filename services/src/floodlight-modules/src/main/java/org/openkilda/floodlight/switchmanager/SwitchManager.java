@@ -58,6 +58,8 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import net.floodlightcontroller.core.FloodlightContext;
 import net.floodlightcontroller.core.IFloodlightProviderService;
@@ -69,6 +71,7 @@ import net.floodlightcontroller.core.module.FloodlightModuleException;
 import net.floodlightcontroller.core.module.IFloodlightModule;
 import net.floodlightcontroller.core.module.IFloodlightService;
 import net.floodlightcontroller.restserver.IRestApiService;
+import net.floodlightcontroller.threadpool.IThreadPoolService;
 import net.floodlightcontroller.util.FlowModUtils;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -92,6 +95,8 @@ import org.projectfloodlight.openflow.protocol.OFMeterModCommand;
 import org.projectfloodlight.openflow.protocol.OFPortConfig;
 import org.projectfloodlight.openflow.protocol.OFPortDesc;
 import org.projectfloodlight.openflow.protocol.OFPortMod;
+import org.projectfloodlight.openflow.protocol.OFStatsReply;
+import org.projectfloodlight.openflow.protocol.OFStatsRequest;
 import org.projectfloodlight.openflow.protocol.OFType;
 import org.projectfloodlight.openflow.protocol.action.OFAction;
 import org.projectfloodlight.openflow.protocol.action.OFActions;
@@ -120,14 +125,18 @@ import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
@@ -152,6 +161,16 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
     public static final long MAX_CENTEC_SWITCH_BURST_SIZE = 32000L;
     public static final int BDF_DEFAULT_PORT = 3784;
 
+    /**
+     * How long to wait for the switch to reply to a stats request.
+     */
+    private static final long STATS_REQUEST_TIMEOUT_SECONDS = 10;
+
+    /**
+     * How long to wait for the switch to reply to a barrier request.
+     */
+    private static final long BARRIER_REQUEST_TIMEOUT_SECONDS = 10;
+
     // This is invalid VID mask - it cut of highest bit that indicate presence of VLAN tag on package. But valid mask
     // 0x1FFF lead to rule reject during install attempt on accton based switches.
     private static short OF10_VLAN_MASK = 0x0FFF;
@@ -160,6 +179,7 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
     private IKafkaProducerService producerService;
     private SwitchTrackingService switchTracking;
     private FeatureDetectorService featureDetectorService;
+    private IThreadPoolService threadPoolService;
 
     private ConnectModeRequest.Mode connectMode;
     private SwitchManagerConfig config;
@@ -208,7 +228,8 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
                 IRestApiService.class,
                 KafkaUtilityService.class,
                 IKafkaProducerService.class,
-                FeatureDetectorService.class);
+                FeatureDetectorService.class,
+                IThreadPoolService.class);
     }
 
     /**
@@ -220,6 +241,7 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
         producerService = context.getServiceImpl(IKafkaProducerService.class);
         switchTracking = context.getServiceImpl(SwitchTrackingService.class);
         featureDetectorService = context.getServiceImpl(FeatureDetectorService.class);
+        threadPoolService = context.getServiceImpl(IThreadPoolService.class);
         FloodlightModuleConfigurationProvider provider = FloodlightModuleConfigurationProvider.of(context, this);
         config = provider.getConfiguration(SwitchManagerConfig.class);
         String connectModeProperty = config.getConnectMode();
@@ -344,6 +366,19 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
             final Long cookie, final int inputPort, final int outputPort,
             final int inputVlanId, final int transitVlanId,
             final OutputVlanType outputVlanType, final long meterId) throws SwitchOperationException {
+        return pushFlow(lookupSwitch(dpid), "--InstallIngressFlow--", buildIngressFlow(dpid, flowId, cookie,
+                inputPort, outputPort, inputVlanId, transitVlanId, outputVlanType, meterId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OFFlowMod buildIngressFlow(
+            final DatapathId dpid, final String flowId,
+            final Long cookie, final int inputPort, final int outputPort,
+            final int inputVlanId, final int transitVlanId,
+            final OutputVlanType outputVlanType, final long meterId) throws SwitchOperationException {
         List<OFAction> actionList = new ArrayList<>();
         IOFSwitch sw = lookupSwitch(dpid);
         OFFactory ofFactory = sw.getOFFactory();
@@ -372,7 +407,7 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
         if (!isCentecSwitch(sw)) {
             builder.setFlags(ImmutableSet.of(OFFlowModFlags.RESET_COUNTS));
         }
-        return pushFlow(sw, "--InstallIngressFlow--", builder.build());
+        return builder.build();
     }
 
     /**
@@ -384,6 +419,19 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
             final int inputPort, final int outputPort,
             final int transitVlanId, final int outputVlanId,
             final OutputVlanType outputVlanType) throws SwitchOperationException {
+        return pushFlow(lookupSwitch(dpid), "--InstallEgressFlow--", buildEgressFlow(dpid, flowId, cookie,
+                inputPort, outputPort, transitVlanId, outputVlanId, outputVlanType));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OFFlowMod buildEgressFlow(
+            final DatapathId dpid, String flowId, final Long cookie,
+            final int inputPort, final int outputPort,
+            final int transitVlanId, final int outputVlanId,
+            final OutputVlanType outputVlanType) throws SwitchOperationException {
         List<OFAction> actionList = new ArrayList<>();
         IOFSwitch sw = lookupSwitch(dpid);
         OFFactory ofFactory = sw.getOFFactory();
@@ -398,12 +446,10 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
         OFInstructionApplyActions actions = buildInstructionApplyActions(ofFactory, actionList);
 
         // build FLOW_MOD command, no meter
-        OFFlowMod flowMod = prepareFlowModBuilder(ofFactory, cookie & FLOW_COOKIE_MASK, FLOW_PRIORITY)
+        return prepareFlowModBuilder(ofFactory, cookie & FLOW_COOKIE_MASK, FLOW_PRIORITY)
                 .setMatch(matchFlow(ofFactory, inputPort, transitVlanId))
                 .setInstructions(ImmutableList.of(actions))
                 .build();
-
-        return pushFlow(sw, "--InstallEgressFlow--", flowMod);
     }
 
     /**
@@ -414,6 +460,18 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
             final DatapathId dpid, final String flowId,
             final Long cookie, final int inputPort, final int outputPort,
             final int transitVlanId) throws SwitchOperationException {
+        return pushFlow(lookupSwitch(dpid), flowId, buildTransitFlow(dpid, flowId, cookie,
+                inputPort, outputPort, transitVlanId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OFFlowMod buildTransitFlow(
+            final DatapathId dpid, final String flowId,
+            final Long cookie, final int inputPort, final int outputPort,
+            final int transitVlanId) throws SwitchOperationException {
         List<OFAction> actionList = new ArrayList<>();
         IOFSwitch sw = lookupSwitch(dpid);
         OFFactory ofFactory = sw.getOFFactory();
@@ -428,12 +486,10 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
         OFInstructionApplyActions actions = buildInstructionApplyActions(ofFactory, actionList);
 
         // build FLOW_MOD command, no meter
-        OFFlowMod flowMod = prepareFlowModBuilder(ofFactory, cookie & FLOW_COOKIE_MASK, FLOW_PRIORITY)
+        return prepareFlowModBuilder(ofFactory, cookie & FLOW_COOKIE_MASK, FLOW_PRIORITY)
                 .setInstructions(ImmutableList.of(actions))
                 .setMatch(match)
                 .build();
-
-        return pushFlow(sw, flowId, flowMod);
     }
 
     /**
@@ -446,6 +502,20 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
             final int outputPort, final int inputVlanId,
             final int outputVlanId,
             final OutputVlanType outputVlanType, final long meterId) throws SwitchOperationException {
+        return pushFlow(lookupSwitch(dpid), flowId, buildOneSwitchFlow(dpid, flowId, cookie,
+                inputPort, outputPort, inputVlanId, outputVlanId, outputVlanType, meterId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OFFlowMod buildOneSwitchFlow(
+            final DatapathId dpid, final String flowId,
+            final Long cookie, final int inputPort,
+            final int outputPort, final int inputVlanId,
+            final int outputVlanId,
+            final OutputVlanType outputVlanType, final long meterId) throws SwitchOperationException {
         // TODO: As per other locations, how different is this to IngressFlow? Why separate code path?
         //          As with any set of tests, the more we test the same code path, the better.
         //          Based on brief glance, this looks 90% the same as IngressFlow.
@@ -480,7 +550,7 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
             builder.setFlags(ImmutableSet.of(OFFlowModFlags.RESET_COUNTS));
         }
 
-        return pushFlow(sw, flowId, builder.build());
+        return builder.build();
     }
 
     /**
@@ -499,7 +569,7 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
 
         try {
             Future<List<OFFlowStatsReply>> future = sw.writeStatsRequest(flowRequest);
-            List<OFFlowStatsReply> values = future.get(10, TimeUnit.SECONDS);
+            List<OFFlowStatsReply> values = future.get(STATS_REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS);
             if (values != null) {
                 entries = values.stream()
                         .map(OFFlowStatsReply::getEntries)
@@ -534,7 +604,7 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
 
         try {
             ListenableFuture<List<OFMeterConfigStatsReply>> future = sw.writeStatsRequest(meterRequest);
-            List<OFMeterConfigStatsReply> values = future.get(10, TimeUnit.SECONDS);
+            List<OFMeterConfigStatsReply> values = future.get(STATS_REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS);
             if (values != null) {
                 result = values.stream()
                         .map(OFMeterConfigStatsReply::getEntries)
@@ -567,7 +637,7 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
 
         try {
             ListenableFuture<List<OFMeterConfigStatsReply>> future = sw.writeStatsRequest(meterRequest);
-            List<OFMeterConfigStatsReply> values = future.get(10, TimeUnit.SECONDS);
+            List<OFMeterConfigStatsReply> values = future.get(STATS_REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS);
             if (values != null) {
                 List<OFMeterConfig> result = values.stream()
                         .map(OFMeterConfigStatsReply::getEntries)
@@ -582,6 +652,121 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
         return meterConfig;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<List<OFFlowStatsEntry>> dumpFlowTableAsync(final DatapathId dpid) {
+        try {
+            IOFSwitch sw = lookupSwitch(dpid);
+
+            OFFlowStatsRequest flowRequest = sw.getOFFactory().buildFlowStatsRequest()
+                    .setOutGroup(OFGroup.ANY)
+                    .setCookieMask(U64.ZERO)
+                    .build();
+
+            return writeStatsRequestAsync(sw, flowRequest)
+                    .thenApply(values -> values.stream()
+                            .map(OFFlowStatsReply::getEntries)
+                            .flatMap(List::stream)
+                            .collect(Collectors.toList()));
+        } catch (SwitchOperationException e) {
+            return failedFuture(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<List<OFMeterConfig>> dumpMetersAsync(final DatapathId dpid) {
+        return dumpMeterConfigsAsync(dpid, 0xffffffff);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<OFMeterConfig> dumpMeterByIdAsync(final DatapathId dpid, final long meterId) {
+        return dumpMeterConfigsAsync(dpid, meterId)
+                .thenApply(result -> result.isEmpty() ? null : result.get(0));
+    }
+
+    private CompletableFuture<List<OFMeterConfig>> dumpMeterConfigsAsync(DatapathId dpid, long meterId) {
+        try {
+            IOFSwitch sw = lookupSwitch(dpid);
+            verifySwitchSupportsMeters(sw);
+
+            OFMeterConfigStatsRequest meterRequest = sw.getOFFactory().buildMeterConfigStatsRequest()
+                    .setMeterId(meterId)
+                    .build();
+
+            return writeStatsRequestAsync(sw, meterRequest)
+                    .thenApply(values -> values.stream()
+                            .map(OFMeterConfigStatsReply::getEntries)
+                            .flatMap(List::stream)
+                            .collect(Collectors.toList()));
+        } catch (SwitchOperationException e) {
+            return failedFuture(e);
+        }
+    }
+
+    /**
+     * Sends the stats request and adapts the reply to {@link CompletableFuture}, so the caller is notified when
+     * the switch replies instead of waiting for it. If the switch doesn't reply within
+     * {@link #STATS_REQUEST_TIMEOUT_SECONDS}, the future completes with {@link SwitchOperationException}.
+     */
+    private <T extends OFStatsReply> CompletableFuture<List<T>> writeStatsRequestAsync(
+            IOFSwitch sw, OFStatsRequest<T> request) {
+        return toCompletableFuture(sw, sw.writeStatsRequest(request), request.getStatsType().toString(),
+                STATS_REQUEST_TIMEOUT_SECONDS)
+                .thenApply(values -> values != null ? values : emptyList());
+    }
+
+    /**
+     * Sends the barrier request without waiting for the reply, see {@link #writeStatsRequestAsync}.
+     */
+    private CompletableFuture<OFBarrierReply> sendBarrierRequestAsync(IOFSwitch sw) {
+        OFBarrierRequest barrierRequest = sw.getOFFactory().buildBarrierRequest().build();
+        return toCompletableFuture(sw, sw.writeRequest(barrierRequest), "BARRIER", BARRIER_REQUEST_TIMEOUT_SECONDS);
+    }
+
+    private <T> CompletableFuture<T> toCompletableFuture(IOFSwitch sw, ListenableFuture<T> future,
+                                                         String requestType, long timeoutSeconds) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Futures.addCallback(future, new FutureCallback<T>() {
+            @Override
+            public void onSuccess(T value) {
+                result.complete(value);
+            }
+
+            @Override
+            public void onFailure(Throwable error) {
+                result.completeExceptionally(new SwitchOperationException(sw.getId(),
+                        format("Unable to get %s from switch %s", requestType, sw.getId()), error));
+            }
+        });
+
+        if (!result.isDone()) {
+            ScheduledFuture<?> timeout = threadPoolService.getScheduledExecutor().schedule(() -> {
+                if (result.completeExceptionally(new SwitchOperationException(sw.getId(),
+                        format("Switch %s hasn't replied to %s request in %d seconds",
+                                sw.getId(), requestType, timeoutSeconds)))) {
+                    future.cancel(false);
+                }
+            }, timeoutSeconds, TimeUnit.SECONDS);
+            result.whenComplete((value, error) -> timeout.cancel(false));
+        }
+
+        return result;
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(Throwable error) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(error);
+        return future;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -716,20 +901,54 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
         List<OFFlowStatsEntry> flowStatsBefore = dumpFlowTable(dpid);
 
         IOFSwitch sw = lookupSwitch(dpid);
+        pushFlowDeletes(sw, criteria);
+
+        // Wait for OFFlowDelete to be processed.
+        sendBarrierRequest(sw);
+
+        return getRemovedRules(dpid, flowStatsBefore, dumpFlowTable(dpid));
+    }
+
+    /**
+     * The same as {@link #deleteRulesByCriteria}, but neither the flow table dumps nor the barrier block the caller.
+     */
+    private CompletableFuture<List<Long>> deleteRulesByCriteriaAsync(final DatapathId dpid,
+                                                                    DeleteRulesCriteria... criteria) {
+        IOFSwitch sw;
+        try {
+            sw = lookupSwitch(dpid);
+        } catch (SwitchOperationException e) {
+            return failedFuture(e);
+        }
+
+        return dumpFlowTableAsync(dpid).thenCompose(flowStatsBefore -> {
+            try {
+                pushFlowDeletes(sw, criteria);
+            } catch (SwitchOperationException e) {
+                throw new CompletionException(e);
+            }
+
+            // Wait for OFFlowDelete to be processed.
+            return sendBarrierRequestAsync(sw)
+                    .thenCompose(barrierReply -> dumpFlowTableAsync(dpid))
+                    .thenApply(flowStatsAfter -> getRemovedRules(dpid, flowStatsBefore, flowStatsAfter));
+        });
+    }
+
+    private void pushFlowDeletes(IOFSwitch sw, DeleteRulesCriteria... criteria) throws SwitchOperationException {
         OFFactory ofFactory = sw.getOFFactory();
 
         for (DeleteRulesCriteria criteriaEntry : criteria) {
             OFFlowDelete dropFlowDelete = buildFlowDeleteByCriteria(ofFactory, criteriaEntry);
 
-            logger.info("Rules by criteria {} are to be removed from switch {}.", criteria, dpid);
+            logger.info("Rules by criteria {} are to be removed from switch {}.", criteria, sw.getId());
 
             pushFlow(sw, "--DeleteFlow--", dropFlowDelete);
         }
+    }
 
-        // Wait for OFFlowDelete to be processed.
-        sendBarrierRequest(sw);
-
-        List<OFFlowStatsEntry> flowStatsAfter = dumpFlowTable(dpid);
+    private List<Long> getRemovedRules(DatapathId dpid, List<OFFlowStatsEntry> flowStatsBefore,
+                                       List<OFFlowStatsEntry> flowStatsAfter) {
         Set<Long> cookiesAfter = flowStatsAfter.stream()
                 .map(entry -> entry.getCookie().getValue())
                 .collect(Collectors.toSet());
@@ -1025,7 +1244,7 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
         OFBarrierReply result = null;
         try {
             ListenableFuture<OFBarrierReply> future = sw.writeRequest(barrierRequest);
-            result = future.get(10, TimeUnit.SECONDS);
+            result = future.get(BARRIER_REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS);
         } catch (ExecutionException | InterruptedException | TimeoutException e) {
             logger.error("Could not get a barrier reply for {}.", sw.getId(), e);
         }
@@ -1035,11 +1254,17 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
 
     private List<Long> deleteRulesWithCookie(final DatapathId dpid, Long... cookiesToRemove)
             throws SwitchOperationException {
-        DeleteRulesCriteria[] criteria = Stream.of(cookiesToRemove)
+        return deleteRulesByCriteria(dpid, buildDeleteCriteria(cookiesToRemove));
+    }
+
+    private CompletableFuture<List<Long>> deleteRulesWithCookieAsync(final DatapathId dpid, Long... cookiesToRemove) {
+        return deleteRulesByCriteriaAsync(dpid, buildDeleteCriteria(cookiesToRemove));
+    }
+
+    private DeleteRulesCriteria[] buildDeleteCriteria(Long... cookies) {
+        return Stream.of(cookies)
                 .map(cookie -> DeleteRulesCriteria.builder().cookie(cookie).build())
                 .toArray(DeleteRulesCriteria[]::new);
-
-        return deleteRulesByCriteria(dpid, criteria);
     }
 
     /**
@@ -1479,6 +1704,12 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
         int broadcastRuleStage;
         int unicastRuleStage;
 
+        // The pending request of rule stats and the time it was sent at.
+        CompletableFuture<List<OFFlowStatsEntry>> flowTableDump;
+        long flowTableDumpTime;
+        // The removal of a bad rule, the next rule stats are requested once it's completed.
+        CompletableFuture<List<Long>> ruleRemoval;
+
         SafeData(DatapathId dpid) {
             this.dpid = dpid;
         }
@@ -1543,7 +1774,7 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
         }
     }
 
-    private Map<DatapathId, SafeData> safeSwitches = new HashMap<>();
+    private Map<DatapathId, SafeData> safeSwitches = new ConcurrentHashMap<>();
     private long lastRun = 0L;
 
     private void startSafeMode(final DatapathId dpid) {
@@ -1579,95 +1810,122 @@ public class SwitchManager implements IFloodlightModule, IFloodlightService, ISw
 
         lastRun = time;
 
-        Collection<SafeData> values = safeSwitches.values();
-        for (SafeData safeData : values) {
+        Iterator<SafeData> iterator = safeSwitches.values().iterator();
+        while (iterator.hasNext()) {
+            SafeData safeData = iterator.next();
+            CompletableFuture<List<OFFlowStatsEntry>> flowTableDump = safeData.flowTableDump;
+            if (flowTableDump != null && !flowTableDump.isDone()) {
+                // Don't wait for a slow switch here, its stats will be consumed on one of the next ticks.
+                logger.debug("SAFE MODE: Still waiting for rule stats of '{}' ", safeData.dpid);
+                continue;
+            }
+
             // Grab switch rule stats .. X pre and post .. X for 0, X for 1 .. make a decision.
             try {
-                safeData.consumeData(time, dumpFlowTable(safeData.dpid));
-                int datapoints = safeData.timestamps.size();
-
-                if (safeData.dropRuleStage < RULE_TESTED) {
-
-                    logger.debug("SAFE MODE: Collected Data during Drop Rule Stage for '{}' ", safeData.dpid);
-                    if (safeData.shouldApplyRule(DROP_STAGE)) {
-                        logger.info("SAFE MODE: APPLY Drop Rule for '{}' ", safeData.dpid);
-                        safeData.dropRuleStage = RULE_APPLIED;
-                        installDropFlow(safeData.dpid);
-                    } else if (safeData.shouldTestRule(DROP_STAGE)) {
-                        List<Integer> ruleEffect = safeData.getRuleEffect(DROP_STAGE);
-                        if (safeData.isRuleOkay(ruleEffect)) {
-                            logger.info("SAFE MODE: Drop Rule is GOOD for '{}' ", safeData.dpid);
-                            safeData.dropRuleStage = RULE_IS_GOOD;
-                        } else {
-                            logger.warn("SAFE MODE: Drop Rule is BAD for '{}'. "
-                                            + "Good Packet Count: {}. Bad Packet Count: {} ",
-                                    safeData.dpid, ruleEffect.get(0), ruleEffect.get(1));
-                            safeData.dropRuleStage = RULE_NO_GOOD;
-                            deleteRulesWithCookie(safeData.dpid, DROP_RULE_COOKIE);
-                        }
-                    }
-
-                } else if (safeData.broadcastRuleStage < RULE_TESTED) {
-
-                    logger.debug("SAFE MODE: Collected Data during Broadcast Verification Rule "
-                            + "Stage for '{}' ", safeData.dpid);
-                    if (safeData.shouldApplyRule(BROADCAST_STAGE)) {
-                        logger.info("SAFE MODE: APPLY Broadcast Verification Rule for '{}' ", safeData.dpid);
-                        safeData.broadcastRuleStage = RULE_APPLIED;
-                        installVerificationRule(safeData.dpid, BROADCAST);
-                    } else if (safeData.shouldTestRule(BROADCAST_STAGE)) {
-                        List<Integer> ruleEffect = safeData.getRuleEffect(BROADCAST_STAGE);
-                        if (safeData.isRuleOkay(ruleEffect)) {
-                            logger.info("SAFE MODE: Broadcast Verification Rule is GOOD for '{}' ", safeData.dpid);
-                            safeData.broadcastRuleStage = RULE_IS_GOOD;
-                        } else {
-                            logger.warn("SAFE MODE: Broadcast Verification Rule is BAD for '{}'. "
-                                            + "Good Packet Count: {}. Bad Packet Count: {} ",
-                                    safeData.dpid, ruleEffect.get(0), ruleEffect.get(1));
-                            safeData.broadcastRuleStage = RULE_NO_GOOD;
-                            deleteRulesWithCookie(safeData.dpid, VERIFICATION_BROADCAST_RULE_COOKIE);
-                        }
-                    }
-                } else if (safeData.unicastRuleStage < RULE_TESTED) {
-
-                    // TODO: make this smarter and advance the unicast if unicast not applied.
-                    logger.debug("SAFE MODE: Collected Data during Unicast Verification Rule Stage "
-                            + "for '{}' ", safeData.dpid);
-                    if (safeData.shouldApplyRule(UNICAST_STAGE)) {
-                        logger.info("SAFE MODE: APPLY Unicast Verification Rule for '{}' ", safeData.dpid);
-                        safeData.unicastRuleStage = RULE_APPLIED;
-                        installVerificationRule(safeData.dpid, !BROADCAST);
-                    } else if (safeData.shouldTestRule(UNICAST_STAGE)) {
-                        List<Integer> ruleEffect = safeData.getRuleEffect(UNICAST_STAGE);
-                        if (safeData.isRuleOkay(ruleEffect)) {
-                            logger.info("SAFE MODE: Unicast Verification Rule is GOOD for '{}' ", safeData.dpid);
-                            safeData.unicastRuleStage = RULE_IS_GOOD;
-                        } else {
-                            logger.warn("SAFE MODE: Unicast Verification Rule is BAD for '{}'. "
-                                            + "Good Packet Count: {}. Bad Packet Count: {} ",
-                                    safeData.dpid, ruleEffect.get(0), ruleEffect.get(1));
-                            safeData.unicastRuleStage = RULE_NO_GOOD;
-                            deleteRulesWithCookie(safeData.dpid, VERIFICATION_UNICAST_RULE_COOKIE);
-                        }
-                    }
-
-                } else {
-                    // once done with installing rules, we need to notify kilda that the switch is up
-                    // and that ports up.
-                    logger.info("SAFE MODE: COMPLETED base rules for '{}' ", safeData.dpid);
-                    IOFSwitch sw = lookupSwitch(safeData.dpid);
-                    switchTracking.completeSwitchActivation(sw.getId());
-                    // WE ARE DONE!! Remove ourselves from the list.
-                    values.remove(safeData);  // will be reflected in safeSwitches
+                if (flowTableDump != null && !safeModeStep(safeData, flowTableDump.join())) {
+                    iterator.remove();  // will be reflected in safeSwitches
+                    continue;
                 }
-            } catch (SwitchOperationException e) {
+
+                CompletableFuture<List<Long>> ruleRemoval = safeData.ruleRemoval;
+                safeData.ruleRemoval = null;
+                safeData.flowTableDumpTime = time;
+                safeData.flowTableDump = ruleRemoval == null ? dumpFlowTableAsync(safeData.dpid)
+                        : ruleRemoval.thenCompose(removedRules -> dumpFlowTableAsync(safeData.dpid));
+            } catch (CompletionException | SwitchOperationException e) {
                 logger.error("Error while switch {} was in safe mode. Removing switch from safe "
                         + "mode and NOT SENDING ACTIVATION. \nERROR: {}", safeData.dpid, e);
-                values.remove(safeData);
+                iterator.remove();
             }
         }
     }
 
+    /**
+     * Consumes the collected rule stats and moves the switch through the stages of the safe mode.
+     *
+     * @return false if the switch has completed the safe mode.
+     */
+    private boolean safeModeStep(SafeData safeData, List<OFFlowStatsEntry> flowEntries)
+            throws SwitchOperationException {
+        safeData.consumeData(safeData.flowTableDumpTime, flowEntries);
+
+        if (safeData.dropRuleStage < RULE_TESTED) {
+
+            logger.debug("SAFE MODE: Collected Data during Drop Rule Stage for '{}' ", safeData.dpid);
+            if (safeData.shouldApplyRule(DROP_STAGE)) {
+                logger.info("SAFE MODE: APPLY Drop Rule for '{}' ", safeData.dpid);
+                safeData.dropRuleStage = RULE_APPLIED;
+                installDropFlow(safeData.dpid);
+            } else if (safeData.shouldTestRule(DROP_STAGE)) {
+                List<Integer> ruleEffect = safeData.getRuleEffect(DROP_STAGE);
+                if (safeData.isRuleOkay(ruleEffect)) {
+                    logger.info("SAFE MODE: Drop Rule is GOOD for '{}' ", safeData.dpid);
+                    safeData.dropRuleStage = RULE_IS_GOOD;
+                } else {
+                    logger.warn("SAFE MODE: Drop Rule is BAD for '{}'. "
+                                    + "Good Packet Count: {}. Bad Packet Count: {} ",
+                            safeData.dpid, ruleEffect.get(0), ruleEffect.get(1));
+                    safeData.dropRuleStage = RULE_NO_GOOD;
+                    safeData.ruleRemoval = deleteRulesWithCookieAsync(safeData.dpid, DROP_RULE_COOKIE);
+                }
+            }
+
+        } else if (safeData.broadcastRuleStage < RULE_TESTED) {
+
+            logger.debug("SAFE MODE: Collected Data during Broadcast Verification Rule "
+                    + "Stage for '{}' ", safeData.dpid);
+            if (safeData.shouldApplyRule(BROADCAST_STAGE)) {
+                logger.info("SAFE MODE: APPLY Broadcast Verification Rule for '{}' ", safeData.dpid);
+                safeData.broadcastRuleStage = RULE_APPLIED;
+                installVerificationRule(safeData.dpid, BROADCAST);
+            } else if (safeData.shouldTestRule(BROADCAST_STAGE)) {
+                List<Integer> ruleEffect = safeData.getRuleEffect(BROADCAST_STAGE);
+                if (safeData.isRuleOkay(ruleEffect)) {
+                    logger.info("SAFE MODE: Broadcast Verification Rule is GOOD for '{}' ", safeData.dpid);
+                    safeData.broadcastRuleStage = RULE_IS_GOOD;
+                } else {
+                    logger.warn("SAFE MODE: Broadcast Verification Rule is BAD for '{}'. "
+                                    + "Good Packet Count: {}. Bad Packet Count: {} ",
+                            safeData.dpid, ruleEffect.get(0), ruleEffect.get(1));
+                    safeData.broadcastRuleStage = RULE_NO_GOOD;
+                    safeData.ruleRemoval = deleteRulesWithCookieAsync(safeData.dpid, VERIFICATION_BROADCAST_RULE_COOKIE);
+                }
+            }
+        } else if (safeData.unicastRuleStage < RULE_TESTED) {
+
+            // TODO: make this smarter and advance the unicast if unicast not applied.
+            logger.debug("SAFE MODE: Collected Data during Unicast Verification Rule Stage "
+                    + "for '{}' ", safeData.dpid);
+            if (safeData.shouldApplyRule(UNICAST_STAGE)) {
+                logger.info("SAFE MODE: APPLY Unicast Verification Rule for '{}' ", safeData.dpid);
+                safeData.unicastRuleStage = RULE_APPLIED;
+                installVerificationRule(safeData.dpid, !BROADCAST);
+            } else if (safeData.shouldTestRule(UNICAST_STAGE)) {
+                List<Integer> ruleEffect = safeData.getRuleEffect(UNICAST_STAGE);
+                if (safeData.isRuleOkay(ruleEffect)) {
+                    logger.info("SAFE MODE: Unicast Verification Rule is GOOD for '{}' ", safeData.dpid);
+                    safeData.unicastRuleStage = RULE_IS_GOOD;
+                } else {
+                    logger.warn("SAFE MODE: Unicast Verification Rule is BAD for '{}'. "
+                                    + "Good Packet Count: {}. Bad Packet Count: {} ",
+                            safeData.dpid, ruleEffect.get(0), ruleEffect.get(1));
+                    safeData.unicastRuleStage = RULE_NO_GOOD;
+                    safeData.ruleRemoval = deleteRulesWithCookieAsync(safeData.dpid, VERIFICATION_UNICAST_RULE_COOKIE);
+                }
+            }
+
+        } else {
+            // once done with installing rules, we need to notify kilda that the switch is up
+            // and that ports up.
+            logger.info("SAFE MODE: COMPLETED base rules for '{}' ", safeData.dpid);
+            IOFSwitch sw = lookupSwitch(safeData.dpid);
+            switchTracking.completeSwitchActivation(sw.getId());
+            // WE ARE DONE!! Remove ourselves from the list.
+            return false;
+        }
+        return true;
+    }
+
     // TODO(surabujin): this method can/should be moved to the RecordHandler level
     @Override
     public void configurePort(DatapathId dpId, int portNumber, Boolean portAdminDown) throws SwitchOperationException {
@@ -0,0 +1,227 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.command.flow;
+
+import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.eq;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.expectLastCall;
+import static org.easymock.EasyMock.newCapture;
+
+import org.openkilda.floodlight.command.AbstractCommandTest;
+import org.openkilda.floodlight.error.SessionErrorResponseException;
+import org.openkilda.floodlight.error.SwitchNotFoundException;
+import org.openkilda.floodlight.error.SwitchWriteException;
+import org.openkilda.floodlight.service.kafka.IKafkaProducerService;
+import org.openkilda.floodlight.service.session.Session;
+import org.openkilda.floodlight.service.session.SessionService;
+import org.openkilda.floodlight.switchmanager.ISwitchManager;
+import org.openkilda.messaging.Destination;
+import org.openkilda.messaging.Message;
+import org.openkilda.messaging.command.flow.BaseInstallFlow;
+import org.openkilda.messaging.command.flow.InstallTransitFlow;
+import org.openkilda.messaging.error.ErrorMessage;
+import org.openkilda.messaging.error.ErrorType;
+import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.switches.SwitchRulesResponse;
+import org.openkilda.model.SwitchId;
+
+import com.google.common.collect.ImmutableList;
+import net.floodlightcontroller.core.IOFSwitch;
+import org.easymock.Capture;
+import org.easymock.CaptureType;
+import org.easymock.Mock;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.projectfloodlight.openflow.protocol.OFFactory;
+import org.projectfloodlight.openflow.protocol.OFFlowMod;
+import org.projectfloodlight.openflow.protocol.OFMessage;
+import org.projectfloodlight.openflow.protocol.ver13.OFFactoryVer13;
+import org.projectfloodlight.openflow.types.DatapathId;
+import org.projectfloodlight.openflow.types.U64;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+public class InstallFlowBatchCommandTest extends AbstractCommandTest {
+    private static final String REPLY_TOPIC = "reply.topic";
+    private static final SwitchId SWITCH_ID = new SwitchId(1L);
+    private static final DatapathId DPID = DatapathId.of(SWITCH_ID.toLong());
+
+    private final OFFactory ofFactory = new OFFactoryVer13();
+
+    private final Capture<Message> kafkaMessageCatcher = newCapture(CaptureType.ALL);
+    private final Capture<List<? extends OFMessage>> writeCatcher = newCapture();
+
+    @Mock
+    private IKafkaProducerService producerService;
+
+    @Mock
+    private ISwitchManager switchManager;
+
+    @Mock
+    private SessionService sessionService;
+
+    @Mock
+    private IOFSwitch sw;
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+
+        moduleContext.addService(IKafkaProducerService.class, producerService);
+        moduleContext.addService(ISwitchManager.class, switchManager);
+        moduleContext.addService(SessionService.class, sessionService);
+
+        producerService.sendMessageAndTrack(eq(REPLY_TOPIC), capture(kafkaMessageCatcher));
+        expectLastCall().andVoid().anyTimes();
+    }
+
+    @Test
+    public void shouldReportAllInstalledRules() throws Exception {
+        InstallTransitFlow first = makeTransitFlow(1L);
+        InstallTransitFlow second = makeTransitFlow(2L);
+        expectSwitch();
+        expectFlowMod(first);
+        expectFlowMod(second);
+        expectWrite(CompletableFuture.completedFuture(Optional.empty()),
+                CompletableFuture.completedFuture(Optional.empty()));
+        replayAll();
+
+        makeCommand(first, second).call();
+
+        Assert.assertEquals(2, writeCatcher.getValue().size());
+        Assert.assertEquals(Arrays.asList(1L, 2L), getInstalledRules());
+    }
+
+    @Test
+    public void shouldSkipRuleRejectedBySwitch() throws Exception {
+        InstallTransitFlow first = makeTransitFlow(1L);
+        InstallTransitFlow second = makeTransitFlow(2L);
+        expectSwitch();
+        expectFlowMod(first);
+        expectFlowMod(second);
+
+        CompletableFuture<Optional<OFMessage>> errorResponse = new CompletableFuture<>();
+        errorResponse.completeExceptionally(new SessionErrorResponseException(
+                DPID, ofFactory.errorMsgs().buildBadActionErrorMsg().build()));
+        expectWrite(CompletableFuture.completedFuture(Optional.empty()), errorResponse);
+        replayAll();
+
+        makeCommand(first, second).call();
+
+        Assert.assertEquals(Collections.singletonList(1L), getInstalledRules());
+    }
+
+    @Test
+    public void shouldReportNothingIfWriteIsRejected() throws Exception {
+        InstallTransitFlow first = makeTransitFlow(1L);
+        InstallTransitFlow second = makeTransitFlow(2L);
+        expectSwitch();
+        OFFlowMod firstMod = expectFlowMod(first);
+        OFFlowMod secondMod = expectFlowMod(second);
+
+        CompletableFuture<Optional<OFMessage>> firstResult = new CompletableFuture<>();
+        firstResult.completeExceptionally(new SwitchWriteException(DPID, firstMod));
+        CompletableFuture<Optional<OFMessage>> secondResult = new CompletableFuture<>();
+        secondResult.completeExceptionally(new SwitchWriteException(DPID, secondMod));
+        expectWrite(firstResult, secondResult);
+        replayAll();
+
+        makeCommand(first, second).call();
+
+        Assert.assertEquals(Collections.emptyList(), getInstalledRules());
+    }
+
+    @Test
+    public void shouldSkipUnsupportedCommand() throws Exception {
+        BaseInstallFlow unsupported = new BaseInstallFlow(UUID.randomUUID(), "flow", 1L, SWITCH_ID, 1, 2);
+        InstallTransitFlow transit = makeTransitFlow(2L);
+        expectSwitch();
+        expectFlowMod(transit);
+        expectWrite(CompletableFuture.completedFuture(Optional.empty()));
+        replayAll();
+
+        makeCommand(unsupported, transit).call();
+
+        Assert.assertEquals(1, writeCatcher.getValue().size());
+        Assert.assertEquals(Collections.singletonList(2L), getInstalledRules());
+    }
+
+    @Test
+    public void shouldReportMissingSwitch() throws Exception {
+        expect(switchManager.lookupSwitch(DPID)).andThrow(new SwitchNotFoundException(DPID));
+        replayAll();
+
+        makeCommand(makeTransitFlow(1L)).call();
+
+        Message message = getResponse();
+        Assert.assertTrue(message instanceof ErrorMessage);
+        Assert.assertEquals(ErrorType.CREATION_FAILURE, ((ErrorMessage) message).getData().getErrorType());
+    }
+
+    private InstallFlowBatchCommand makeCommand(BaseInstallFlow... flowCommands) {
+        return new InstallFlowBatchCommand(commandContextFactory.produce(), SWITCH_ID, Arrays.asList(flowCommands),
+                REPLY_TOPIC, Destination.TOPOLOGY_ENGINE);
+    }
+
+    private InstallTransitFlow makeTransitFlow(long cookie) {
+        return new InstallTransitFlow(UUID.randomUUID(), "flow", cookie, SWITCH_ID, 1, 2, 100);
+    }
+
+    private void expectSwitch() throws Exception {
+        expect(switchManager.lookupSwitch(DPID)).andReturn(sw);
+    }
+
+    private OFFlowMod expectFlowMod(InstallTransitFlow command) throws Exception {
+        OFFlowMod flowMod = ofFactory.buildFlowAdd()
+                .setCookie(U64.of(command.getCookie()))
+                .build();
+        expect(switchManager.buildTransitFlow(DPID, command.getId(), command.getCookie(), command.getInputPort(),
+                command.getOutputPort(), command.getTransitVlanId())).andReturn(flowMod);
+        return flowMod;
+    }
+
+    @SafeVarargs
+    private final void expectWrite(CompletableFuture<Optional<OFMessage>>... results) throws Exception {
+        Session session = createMock(Session.class);
+        expect(session.write(capture(writeCatcher))).andReturn(ImmutableList.copyOf(results));
+        session.close();
+        expectLastCall().andVoid();
+
+        expect(sessionService.open(sw)).andReturn(session);
+    }
+
+    private List<Long> getInstalledRules() {
+        Message message = getResponse();
+        Assert.assertTrue(message instanceof InfoMessage);
+        Assert.assertTrue(((InfoMessage) message).getData() instanceof SwitchRulesResponse);
+        return ((SwitchRulesResponse) ((InfoMessage) message).getData()).getRuleIds();
+    }
+
+    private Message getResponse() {
+        Assert.assertEquals(1, kafkaMessageCatcher.getValues().size());
+        Message message = kafkaMessageCatcher.getValue();
+        Assert.assertEquals(Destination.TOPOLOGY_ENGINE, message.getDestination());
+        return message;
+    }
+}
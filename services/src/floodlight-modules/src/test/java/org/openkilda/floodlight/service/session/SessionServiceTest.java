@@ -26,6 +26,7 @@ import org.openkilda.floodlight.error.SwitchOperationException;
 import org.openkilda.floodlight.error.SwitchWriteException;
 import org.openkilda.floodlight.service.of.InputService;
 
+import com.google.common.collect.ImmutableList;
 import net.floodlightcontroller.core.IOFSwitch;
 import net.floodlightcontroller.core.internal.IOFSwitchService;
 import net.floodlightcontroller.core.module.FloodlightModuleContext;
@@ -49,6 +50,7 @@ import org.projectfloodlight.openflow.types.DatapathId;
 import org.projectfloodlight.openflow.types.OFPort;
 import org.projectfloodlight.openflow.types.U64;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -61,6 +63,7 @@ public class SessionServiceTest extends EasyMockSupport {
     private final DatapathId dpId = DatapathId.of(0xfffe000000000001L);
 
     private final Capture<OFMessage> swWriteMessages = EasyMock.newCapture(CaptureType.ALL);
+    private final Capture<Iterable<OFMessage>> swBatchWriteMessages = EasyMock.newCapture();
 
     @Mock
     private InputService inputService;
@@ -223,6 +226,59 @@ public class SessionServiceTest extends EasyMockSupport {
         }
     }
 
+    @Test
+    public void batchWrite() throws Exception {
+        IOFSwitch sw = createMock(IOFSwitch.class);
+        setupSwitchMock(sw, dpId);
+        swWriteAlwaysSuccess(sw);
+        expect(sw.write(capture(swBatchWriteMessages))).andReturn(Collections.emptyList());
+        doneWithSetUp(sw);
+
+        OFFactory ofFactory = sw.getOFFactory();
+        OFPacketOut pktOutAlpha = makePacketOut(ofFactory, 1);
+        OFPacketOut pktOutBeta = makePacketOut(ofFactory, 2);
+        List<CompletableFuture<Optional<OFMessage>>> futures;
+        try (Session session = subject.open(sw)) {
+            futures = session.write(ImmutableList.of(pktOutAlpha, pktOutBeta));
+        }
+
+        Assert.assertEquals(ImmutableList.of(pktOutAlpha, pktOutBeta),
+                ImmutableList.copyOf(swBatchWriteMessages.getValue()));
+        Assert.assertEquals(2, futures.size());
+        Assert.assertFalse(futures.get(0).isDone());
+        Assert.assertFalse(futures.get(1).isDone());
+
+        subject.handleResponse(sw.getId(), ofFactory.errorMsgs().buildBadActionErrorMsg()
+                .setXid(pktOutBeta.getXid())
+                .setCode(OFBadActionCode.BAD_LEN)
+                .build());
+        completeSessions(sw);
+
+        Assert.assertTrue(futures.get(0).isDone());
+        Assert.assertFalse(futures.get(0).get().isPresent());
+        expectExceptionResponse(futures.get(1), SessionErrorResponseException.class);
+    }
+
+    @Test
+    public void batchWritePartiallyRejected() throws Exception {
+        IOFSwitch sw = createMock(IOFSwitch.class);
+        setupSwitchMock(sw, dpId);
+
+        OFFactory ofFactory = sw.getOFFactory();
+        OFPacketOut pktOutAlpha = makePacketOut(ofFactory, 1);
+        OFPacketOut pktOutBeta = makePacketOut(ofFactory, 2);
+        expect(sw.write(anyObject(Iterable.class))).andReturn(Collections.singletonList(pktOutBeta));
+        doneWithSetUp(sw);
+
+        List<CompletableFuture<Optional<OFMessage>>> futures;
+        try (Session session = subject.open(sw)) {
+            futures = session.write(ImmutableList.of(pktOutAlpha, pktOutBeta));
+        }
+
+        expectExceptionResponse(futures.get(0), SessionRevertException.class);
+        expectExceptionResponse(futures.get(1), SwitchWriteException.class);
+    }
+
     private OFPacketOut makePacketOut(OFFactory ofFactory, int inPort) {
         return ofFactory.buildPacketOut()
                 .setInPort(OFPort.of(inPort))
@@ -0,0 +1,121 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.projectfloodlight.openflow.protocol.OFFactory;
+import org.projectfloodlight.openflow.protocol.OFFlowStatsEntry;
+import org.projectfloodlight.openflow.protocol.OFFlowStatsReply;
+import org.projectfloodlight.openflow.protocol.ver13.OFFactoryVer13;
+import org.projectfloodlight.openflow.types.TableId;
+import org.projectfloodlight.openflow.types.U64;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class FlowStatsTableTest {
+    private static final OFFactory factory = new OFFactoryVer13();
+    private static final long FULL_REFRESH = 300000;
+    private static final long START_TIME = 1546300800000L;
+
+    private final FlowStatsTable table = new FlowStatsTable();
+
+    @Test
+    public void exportAllFlowsOfFirstReply() {
+        List<OFFlowStatsEntry> entries = Arrays.asList(makeEntry(1, 10, 100), makeEntry(2, 20, 200));
+
+        assertEquals(entries, table.update(makeReplies(entries), START_TIME, FULL_REFRESH));
+    }
+
+    @Test
+    public void exportOnlyChangedFlows() {
+        table.update(makeReplies(Arrays.asList(
+                makeEntry(1, 10, 100), makeEntry(2, 20, 200), makeEntry(3, 30, 300))), START_TIME, FULL_REFRESH);
+
+        OFFlowStatsEntry changed = makeEntry(2, 21, 210);
+        List<OFFlowStatsEntry> result = table.update(makeReplies(Arrays.asList(
+                makeEntry(1, 10, 100), changed, makeEntry(3, 30, 300))), START_TIME + 1000, FULL_REFRESH);
+
+        assertEquals(Collections.singletonList(changed), result);
+    }
+
+    @Test
+    public void exportNothingForIdleFlows() {
+        List<OFFlowStatsEntry> entries = Arrays.asList(makeEntry(1, 10, 100), makeEntry(2, 20, 200));
+        table.update(makeReplies(entries), START_TIME, FULL_REFRESH);
+
+        assertTrue(table.update(makeReplies(entries), START_TIME + 1000, FULL_REFRESH).isEmpty());
+    }
+
+    @Test
+    public void exportReinstalledFlow() {
+        OFFlowStatsEntry entry = makeEntry(1, 10, 100);
+        table.update(makeReplies(Collections.singletonList(entry)), START_TIME, FULL_REFRESH);
+        table.update(Collections.emptyList(), START_TIME + 1000, FULL_REFRESH);
+
+        List<OFFlowStatsEntry> result = table.update(makeReplies(Collections.singletonList(entry)),
+                START_TIME + 2000, FULL_REFRESH);
+
+        assertEquals(Collections.singletonList(entry), result);
+    }
+
+    @Test
+    public void exportAllFlowsOnFullRefresh() {
+        List<OFFlowStatsEntry> entries = Arrays.asList(makeEntry(1, 10, 100), makeEntry(2, 20, 200));
+        table.update(makeReplies(entries), START_TIME, FULL_REFRESH);
+        table.update(makeReplies(entries), START_TIME + FULL_REFRESH - 1, FULL_REFRESH);
+
+        assertEquals(entries, table.update(makeReplies(entries), START_TIME + FULL_REFRESH, FULL_REFRESH));
+    }
+
+    @Test
+    public void keepCountersOfManyFlows() {
+        List<OFFlowStatsEntry> entries = new ArrayList<>();
+        for (int cookie = 1; cookie <= 1000; cookie++) {
+            entries.add(makeEntry(cookie, cookie, cookie * 100));
+        }
+        assertEquals(entries, table.update(makeReplies(entries), START_TIME, FULL_REFRESH));
+
+        OFFlowStatsEntry changed = makeEntry(500, 501, 50100);
+        entries.set(499, changed);
+        assertEquals(Collections.singletonList(changed),
+                table.update(makeReplies(entries), START_TIME + 1000, FULL_REFRESH));
+    }
+
+    private static List<OFFlowStatsReply> makeReplies(List<OFFlowStatsEntry> entries) {
+        // Split the entries into the parts of a multipart reply.
+        int half = entries.size() / 2;
+        return Arrays.asList(
+                factory.buildFlowStatsReply().setEntries(entries.subList(0, half)).build(),
+                factory.buildFlowStatsReply().setEntries(entries.subList(half, entries.size())).build());
+    }
+
+    private static OFFlowStatsEntry makeEntry(long cookie, long packetCount, long byteCount) {
+        return factory.buildFlowStatsEntry()
+                .setTableId(TableId.of(0))
+                .setCookie(U64.of(cookie))
+                .setPacketCount(U64.of(packetCount))
+                .setByteCount(U64.of(byteCount))
+                .setMatch(factory.buildMatch().build())
+                .setInstructions(Collections.emptyList())
+                .build();
+    }
+}
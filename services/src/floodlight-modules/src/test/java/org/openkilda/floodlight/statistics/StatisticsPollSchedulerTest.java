@@ -0,0 +1,183 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.floodlight.statistics;
+
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import org.openkilda.floodlight.statistics.StatisticsPollScheduler.Poll;
+
+import net.floodlightcontroller.debugcounter.DebugCounterServiceImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.projectfloodlight.openflow.types.DatapathId;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+public class StatisticsPollSchedulerTest {
+    private static final long INTERVAL = 60000;
+    private static final long TICK = 1000;
+    private static final long START_TIME = 1546300800000L;
+
+    private StatisticsServiceCounters counters;
+    private final Map<DatapathId, List<Long>> pollTimes = new HashMap<>();
+    private final List<Poll> pendingPolls = new ArrayList<>();
+    private boolean completeImmediately;
+    private long now;
+
+    @Before
+    public void setUp() {
+        counters = new StatisticsServiceCounters(new DebugCounterServiceImpl());
+    }
+
+    @Test
+    public void spreadPollsOverInterval() {
+        Set<DatapathId> switches = makeSwitches(600);
+        completeImmediately = true;
+        StatisticsPollScheduler scheduler = makeScheduler(INTERVAL, 1000);
+
+        Map<Long, Integer> pollsPerTick = new HashMap<>();
+        for (now = START_TIME; now <= START_TIME + 3 * INTERVAL; now += TICK) {
+            int before = countPolls();
+            scheduler.tick(switches, now);
+            pollsPerTick.put(now, countPolls() - before);
+        }
+
+        assertEquals(switches, pollTimes.keySet());
+        for (List<Long> times : pollTimes.values()) {
+            assertEquals(3, times.size());
+            assertEquals(INTERVAL, times.get(1) - times.get(0));
+            assertEquals(INTERVAL, times.get(2) - times.get(1));
+        }
+        // 10 polls per tick on average.
+        assertThat(Collections.max(pollsPerTick.values()), lessThanOrEqualTo(30));
+        assertEquals(0, counters.droppedPolls.getCounterValue());
+        assertEquals(3 * 600, counters.polls.getCounterValue());
+    }
+
+    @Test
+    public void keepTimeSlotOfSwitch() {
+        Set<DatapathId> switches = makeSwitches(1);
+        completeImmediately = true;
+        tick(makeScheduler(INTERVAL, 1000), switches, START_TIME, START_TIME + INTERVAL);
+        long firstPoll = pollTimes.values().iterator().next().get(0);
+
+        pollTimes.clear();
+        long restartTime = START_TIME + 7 * INTERVAL + INTERVAL / 3;
+        tick(makeScheduler(INTERVAL, 1000), switches, restartTime, restartTime + INTERVAL);
+
+        assertEquals(0, (pollTimes.values().iterator().next().get(0) - firstPoll) % INTERVAL);
+    }
+
+    @Test
+    public void capOutstandingRequests() {
+        Set<DatapathId> switches = makeSwitches(20);
+        StatisticsPollScheduler scheduler = makeScheduler(INTERVAL, 5);
+
+        tick(scheduler, switches, START_TIME, START_TIME + INTERVAL);
+        assertEquals(5, countPolls());
+        assertEquals(0, counters.droppedPolls.getCounterValue());
+
+        // The deferred polls could not be sent within the interval.
+        tick(scheduler, switches, START_TIME + INTERVAL + TICK, START_TIME + 2 * INTERVAL);
+        assertEquals(5, countPolls());
+        assertEquals(15, counters.droppedPolls.getCounterValue());
+
+        completeImmediately = true;
+        pendingPolls.forEach(poll -> poll.requestCompleted(now));
+        pollTimes.clear();
+        tick(scheduler, switches, START_TIME + 2 * INTERVAL + TICK, START_TIME + 3 * INTERVAL);
+        assertEquals(switches, pollTimes.keySet());
+    }
+
+    @Test
+    public void stretchIntervalOfSlowSwitch() {
+        Set<DatapathId> switches = makeSwitches(1);
+        StatisticsPollScheduler scheduler = makeScheduler(10 * INTERVAL, 1000);
+
+        tick(scheduler, switches, START_TIME, START_TIME + INTERVAL);
+        long firstPoll = pollTimes.values().iterator().next().get(0);
+        // The reply takes half of the interval, 5 times more than allowed.
+        pendingPolls.get(0).requestCompleted(firstPoll + INTERVAL / 2);
+
+        completeImmediately = true;
+        tick(scheduler, switches, START_TIME + INTERVAL + TICK, firstPoll + 6 * INTERVAL);
+        List<Long> times = pollTimes.values().iterator().next();
+        assertEquals(3, times.size());
+        assertEquals(5 * INTERVAL, times.get(1) - times.get(0));
+        // The switch replies fast now.
+        assertEquals(INTERVAL, times.get(2) - times.get(1));
+    }
+
+    @Test
+    public void stretchIntervalOfSwitchWithManyFlows() {
+        Set<DatapathId> switches = makeSwitches(1);
+        StatisticsPollScheduler scheduler = makeScheduler(2 * INTERVAL, 1000);
+
+        tick(scheduler, switches, START_TIME, START_TIME + INTERVAL);
+        long firstPoll = pollTimes.values().iterator().next().get(0);
+        Poll poll = pendingPolls.get(0);
+        poll.flowsReceived(25000);
+        poll.requestCompleted(firstPoll);
+
+        tick(scheduler, switches, START_TIME + INTERVAL + TICK, firstPoll + 3 * INTERVAL);
+        List<Long> times = pollTimes.values().iterator().next();
+        assertEquals(2, times.size());
+        // Limited by the max interval.
+        assertEquals(2 * INTERVAL, times.get(1) - times.get(0));
+    }
+
+    private StatisticsPollScheduler makeScheduler(long maxInterval, int maxOutstandingRequests) {
+        return new StatisticsPollScheduler(INTERVAL, maxInterval, maxOutstandingRequests, this::poll, counters);
+    }
+
+    private void poll(DatapathId dpId, Poll poll) {
+        pollTimes.computeIfAbsent(dpId, id -> new ArrayList<>()).add(now);
+        poll.requestSent();
+        if (completeImmediately) {
+            poll.requestCompleted(now);
+        } else {
+            pendingPolls.add(poll);
+        }
+    }
+
+    private void tick(StatisticsPollScheduler scheduler, Set<DatapathId> switches, long from, long to) {
+        for (now = from; now <= to; now += TICK) {
+            scheduler.tick(switches, now);
+        }
+    }
+
+    private int countPolls() {
+        return pollTimes.values().stream()
+                .mapToInt(List::size)
+                .sum();
+    }
+
+    private static Set<DatapathId> makeSwitches(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(DatapathId::of)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+}
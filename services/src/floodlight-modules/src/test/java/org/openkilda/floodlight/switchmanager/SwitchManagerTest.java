@@ -28,6 +28,7 @@ import static org.easymock.EasyMock.mock;
 import static org.easymock.EasyMock.replay;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
@@ -55,7 +56,9 @@ import static org.openkilda.model.MeterId.MIN_SYSTEM_RULE_METER_ID;
 import static org.openkilda.model.MeterId.createMeterIdForDefaultRule;
 
 import org.openkilda.floodlight.error.InvalidMeterIdException;
+import org.openkilda.floodlight.error.SwitchNotFoundException;
 import org.openkilda.floodlight.error.SwitchOperationException;
+import org.openkilda.floodlight.error.UnsupportedSwitchOperationException;
 import org.openkilda.floodlight.service.FeatureDetectorService;
 import org.openkilda.floodlight.test.standard.OutputCommands;
 import org.openkilda.floodlight.test.standard.ReplaceSchemeOutputCommands;
@@ -109,6 +112,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
@@ -408,6 +412,82 @@ public class SwitchManagerTest {
         // TODO
     }
 
+    @Test
+    public void dumpFlowTableAsync() throws Exception {
+        OFFlowStatsEntry ofFlowStatsEntry = mock(OFFlowStatsEntry.class);
+        OFFlowStatsReply ofFlowStatsReply = mock(OFFlowStatsReply.class);
+        expect(ofFlowStatsReply.getEntries()).andStubReturn(singletonList(ofFlowStatsEntry));
+        replay(ofFlowStatsEntry, ofFlowStatsReply);
+
+        expect(ofSwitchService.getActiveSwitch(dpid)).andStubReturn(iofSwitch);
+        expect(iofSwitch.getOFFactory()).andStubReturn(ofFactory);
+        expect(iofSwitch.writeStatsRequest(anyObject(OFFlowStatsRequest.class)))
+                .andReturn(Futures.immediateFuture(singletonList(ofFlowStatsReply)));
+        replay(ofSwitchService, iofSwitch);
+
+        CompletableFuture<List<OFFlowStatsEntry>> result = switchManager.dumpFlowTableAsync(dpid);
+
+        assertThat(result.get(), contains(ofFlowStatsEntry));
+    }
+
+    @Test
+    public void dumpFlowTableAsyncFailsWhenSwitchHasNotReplied() throws Exception {
+        expect(ofSwitchService.getActiveSwitch(dpid)).andStubReturn(iofSwitch);
+        expect(iofSwitch.getOFFactory()).andStubReturn(ofFactory);
+        expect(iofSwitch.getId()).andStubReturn(dpid);
+        expect(iofSwitch.writeStatsRequest(anyObject(OFFlowStatsRequest.class)))
+                .andReturn(Futures.immediateFailedFuture(new IllegalStateException("Connection is closed")));
+        replay(ofSwitchService, iofSwitch);
+
+        CompletableFuture<List<OFFlowStatsEntry>> result = switchManager.dumpFlowTableAsync(dpid);
+
+        assertThat(getAsyncError(result), instanceOf(SwitchOperationException.class));
+    }
+
+    @Test
+    public void dumpFlowTableAsyncFailsWhenSwitchNotFound() throws Exception {
+        expect(ofSwitchService.getActiveSwitch(dpid)).andStubReturn(null);
+        replay(ofSwitchService);
+
+        CompletableFuture<List<OFFlowStatsEntry>> result = switchManager.dumpFlowTableAsync(dpid);
+
+        assertThat(getAsyncError(result), instanceOf(SwitchNotFoundException.class));
+    }
+
+    @Test
+    public void dumpMeterByIdAsync() throws Exception {
+        OFMeterConfig meterConfig = mock(OFMeterConfig.class);
+        OFMeterConfigStatsReply statsReply = mock(OFMeterConfigStatsReply.class);
+        expect(statsReply.getEntries()).andStubReturn(singletonList(meterConfig));
+        replay(meterConfig, statsReply);
+
+        expect(ofSwitchService.getActiveSwitch(dpid)).andStubReturn(iofSwitch);
+        expect(iofSwitch.getOFFactory()).andStubReturn(ofFactory);
+        expect(iofSwitch.getSwitchDescription()).andStubReturn(switchDescription);
+        expect(switchDescription.getManufacturerDescription()).andStubReturn("");
+        expect(iofSwitch.writeStatsRequest(anyObject(OFMeterConfigStatsRequest.class)))
+                .andReturn(Futures.immediateFuture(singletonList(statsReply)));
+        replay(ofSwitchService, iofSwitch, switchDescription);
+
+        CompletableFuture<OFMeterConfig> result = switchManager.dumpMeterByIdAsync(dpid, meterId);
+
+        assertThat(result.get(), is(meterConfig));
+    }
+
+    @Test
+    public void dumpMetersAsyncFailsWhenMetersAreNotSupported() throws Exception {
+        expect(ofSwitchService.getActiveSwitch(dpid)).andStubReturn(iofSwitch);
+        expect(iofSwitch.getOFFactory()).andStubReturn(ofFactory);
+        expect(iofSwitch.getId()).andStubReturn(dpid);
+        expect(iofSwitch.getSwitchDescription()).andStubReturn(switchDescription);
+        expect(switchDescription.getManufacturerDescription()).andStubReturn(OVS_MANUFACTURER);
+        replay(ofSwitchService, iofSwitch, switchDescription);
+
+        CompletableFuture<List<OFMeterConfig>> result = switchManager.dumpMetersAsync(dpid);
+
+        assertThat(getAsyncError(result), instanceOf(UnsupportedSwitchOperationException.class));
+    }
+
     @Test
     public void installBandwidthMeterForCentecSwitch() throws Exception {
         runInstallMeterTest(bandwidth, (long) (bandwidth * config.getFlowMeterBurstCoefficient()), true);
@@ -1131,4 +1211,13 @@ public class SwitchManagerTest {
         expect(iofSwitch.writeStatsRequest(anyObject(OFMeterConfigStatsRequest.class)))
                 .andStubReturn(ofStatsFuture);
     }
+
+    private Throwable getAsyncError(CompletableFuture<?> future) throws InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+        throw new AssertionError("The future has completed successfully");
+    }
 }
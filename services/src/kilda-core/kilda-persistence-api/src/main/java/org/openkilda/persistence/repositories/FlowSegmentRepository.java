@@ -16,9 +16,11 @@
 package org.openkilda.persistence.repositories;
 
 import org.openkilda.model.FlowSegment;
+import org.openkilda.model.Isl;
 import org.openkilda.model.SwitchId;
 
 import java.util.Collection;
+import java.util.List;
 
 public interface FlowSegmentRepository extends Repository<FlowSegment> {
     Collection<FlowSegment> findByFlowIdAndCookie(String flowId, long flowCookie);
@@ -26,4 +28,23 @@ public interface FlowSegmentRepository extends Repository<FlowSegment> {
     Collection<FlowSegment> findByDestSwitchId(SwitchId switchId);
 
     long getUsedBandwidthBetweenEndpoints(SwitchId srcSwitchId, int srcPort, SwitchId dstSwitchId, int dstPort);
+
+    /**
+     * Calculates the bandwidth used by flow segments (except ones ignoring bandwidth) between the endpoints of each
+     * ISL, with a single query.
+     *
+     * @param isls the ISLs defining the endpoints.
+     * @return the used bandwidth in the order of the ISLs.
+     */
+    long[] getUsedBandwidthBetweenEndpoints(List<Isl> isls);
+
+    /**
+     * Creates or updates all the segments in a single request. The switches of the segments must be managed entities.
+     */
+    void createOrUpdateAll(Collection<FlowSegment> segments);
+
+    /**
+     * Deletes all the segments in a single query.
+     */
+    void deleteAll(Collection<FlowSegment> segments);
 }
@@ -15,6 +15,7 @@
 
 package org.openkilda.persistence.repositories;
 
+import org.openkilda.model.FlowSegment;
 import org.openkilda.model.Isl;
 import org.openkilda.model.SwitchId;
 
@@ -28,6 +29,13 @@ public interface IslRepository extends Repository<Isl> {
 
     Optional<Isl> findByEndpoints(SwitchId srcSwitchId, int srcPort, SwitchId dstSwitchId, int dstPort);
 
+    /**
+     * Finds all ISLs which start or end at any of the switches, with a single query.
+     *
+     * @param switchIds the switches to look up ISLs for.
+     */
+    Collection<Isl> findBySwitchIds(Collection<SwitchId> switchIds);
+
     /**
      * Finds ISLs by incomplete ISL information. If all parameters are null, will be returned a list of all ISLs.
      *
@@ -69,4 +77,19 @@ public interface IslRepository extends Repository<Isl> {
      * @return list of ISLs.
      */
     Collection<Isl> findSymmetricActiveWithAvailableBandwidth(long requiredBandwidth);
+
+    /**
+     * Recalculates available bandwidth of the ISLs which the flow segments go over: the bandwidth of all flow segments
+     * (except ones ignoring bandwidth) between the ISL endpoints is subtracted from the max bandwidth. The ISLs are
+     * updated in a constant number of queries regardless of the number of segments.
+     *
+     * @param flowSegments the segments defining the ISLs to be updated.
+     * @return the updated ISLs.
+     */
+    Collection<Isl> updateAvailableBandwidth(Collection<FlowSegment> flowSegments);
+
+    /**
+     * Creates or updates all the ISLs in a single request. The switches of the ISLs must be managed entities.
+     */
+    void createOrUpdateAll(Collection<Isl> isls);
 }
@@ -22,4 +22,9 @@ import java.util.Collection;
 
 public interface LinkPropsRepository extends Repository<LinkProps> {
     Collection<LinkProps> findByEndpoints(SwitchId srcSwitch, Integer srcPort, SwitchId dstSwitch, Integer dstPort);
+
+    /**
+     * Finds all link props which source is any of the switches, with a single query.
+     */
+    Collection<LinkProps> findBySrcSwitchIds(Collection<SwitchId> switchIds);
 }
@@ -18,7 +18,9 @@ package org.openkilda.persistence.repositories;
 import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchId;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 public interface SwitchRepository extends Repository<Switch> {
     boolean exists(SwitchId switchId);
@@ -27,5 +29,10 @@ public interface SwitchRepository extends Repository<Switch> {
 
     Switch reload(Switch entity);
 
+    /**
+     * Finds the switches by ids in a single query.
+     */
+    Collection<Switch> findByIds(Set<SwitchId> switchIds);
+
     void lockSwitches(Switch... switches);
 }
@@ -17,6 +17,7 @@ package org.openkilda.persistence;
 
 import org.openkilda.persistence.repositories.RepositoryFactory;
 import org.openkilda.persistence.repositories.impl.Neo4jRepositoryFactory;
+import org.openkilda.persistence.repositories.impl.SwitchCache;
 
 import org.neo4j.ogm.config.Configuration.Builder;
 import org.neo4j.ogm.session.SessionFactory;
@@ -28,6 +29,7 @@ public class Neo4jPersistenceManager implements PersistenceManager {
     private final Neo4jConfig config;
 
     private transient volatile Neo4jTransactionManager neo4jTransactionManager;
+    private transient volatile SwitchCache switchCache;
 
     public Neo4jPersistenceManager(Neo4jConfig config) {
         this.config = config;
@@ -40,7 +42,22 @@ public class Neo4jPersistenceManager implements PersistenceManager {
 
     @Override
     public RepositoryFactory getRepositoryFactory() {
-        return new Neo4jRepositoryFactory(getNeo4jTransactionManager(), getTransactionManager());
+        return new Neo4jRepositoryFactory(getNeo4jTransactionManager(), getTransactionManager(), getSwitchCache());
+    }
+
+    /**
+     * Returns the switch cache shared by all repositories of the persistence manager.
+     */
+    public SwitchCache getSwitchCache() {
+        if (switchCache == null) {
+            synchronized (this) {
+                if (switchCache == null) {
+                    switchCache = new SwitchCache();
+                }
+            }
+        }
+
+        return switchCache;
     }
 
     private Neo4jTransactionManager getNeo4jTransactionManager() {
@@ -16,17 +16,25 @@
 package org.openkilda.persistence.repositories.impl;
 
 import org.openkilda.model.FlowSegment;
+import org.openkilda.model.Isl;
+import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchId;
+import org.openkilda.persistence.PersistenceException;
 import org.openkilda.persistence.TransactionManager;
 import org.openkilda.persistence.repositories.FlowSegmentRepository;
 
 import com.google.common.collect.ImmutableMap;
 import org.neo4j.ogm.cypher.ComparisonOperator;
 import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.session.Session;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Neo4J OGM implementation of {@link FlowSegmentRepository}.
@@ -82,6 +90,81 @@ public class Neo4jFlowSegmentRepository extends Neo4jGenericRepository<FlowSegme
                 .orElse(0L);
     }
 
+    @Override
+    public long[] getUsedBandwidthBetweenEndpoints(List<Isl> isls) {
+        long[] result = new long[isls.size()];
+        if (isls.isEmpty()) {
+            return result;
+        }
+
+        List<Map<String, Object>> endpoints = new ArrayList<>(isls.size());
+        isls.forEach(isl -> endpoints.add(ImmutableMap.of(
+                "src_switch", isl.getSrcSwitch().getSwitchId().toString(),
+                "src_port", isl.getSrcPort(),
+                "dst_switch", isl.getDestSwitch().getSwitchId().toString(),
+                "dst_port", isl.getDestPort())));
+        Map<String, Object> parameters = ImmutableMap.of("endpoints", endpoints);
+
+        String query = "UNWIND range(0, size($endpoints) - 1) AS idx "
+                + "WITH idx, $endpoints[idx] AS ep "
+                + "MATCH (src:switch {name: ep.src_switch}), (dst:switch {name: ep.dst_switch}) "
+                + "OPTIONAL MATCH (src) - [fs:flow_segment { "
+                + " src_port: ep.src_port, "
+                + " dst_port: ep.dst_port, "
+                + " ignore_bandwidth: false "
+                + "}] -> (dst) "
+                + "RETURN idx, sum(fs.bandwidth) AS used_bandwidth";
+
+        getSession().query(query, parameters).forEach(row -> result[((Number) row.get("idx")).intValue()] =
+                ((Number) row.get("used_bandwidth")).longValue());
+        return result;
+    }
+
+    @Override
+    public void createOrUpdateAll(Collection<FlowSegment> segments) {
+        if (segments.isEmpty()) {
+            return;
+        }
+
+        transactionManager.doInTransaction(() -> {
+            Set<Switch> switches = new HashSet<>();
+            segments.forEach(segment -> {
+                switches.add(requireManagedEntity(segment.getSrcSwitch()));
+                switches.add(requireManagedEntity(segment.getDestSwitch()));
+            });
+            lockSwitches(switches.toArray(new Switch[0]));
+
+            // OGM stores a collection of entities in one request.
+            getSession().save(segments, DEPTH_CREATE_UPDATE_ENTITY);
+        });
+    }
+
+    @Override
+    public void deleteAll(Collection<FlowSegment> segments) {
+        if (segments.isEmpty()) {
+            return;
+        }
+
+        Session session = getSession();
+        List<Long> segmentIds = new ArrayList<>(segments.size());
+        for (FlowSegment segment : segments) {
+            Long segmentId = session.resolveGraphIdFor(segment);
+            if (segmentId == null) {
+                throw new PersistenceException("Required GraphId wasn't set: " + segment.toString());
+            }
+            segmentIds.add(segmentId);
+        }
+
+        transactionManager.doInTransaction(() -> {
+            Map<String, Object> parameters = ImmutableMap.of("segment_ids", segmentIds);
+            session.query("UNWIND $segment_ids AS segment_id "
+                    + "MATCH ()-[fs:flow_segment]->() WHERE id(fs) = segment_id "
+                    + "DELETE fs", parameters);
+
+            segmentIds.forEach(session::detachRelationshipEntity);
+        });
+    }
+
     @Override
     Class<FlowSegment> getEntityType() {
         return FlowSegment.class;
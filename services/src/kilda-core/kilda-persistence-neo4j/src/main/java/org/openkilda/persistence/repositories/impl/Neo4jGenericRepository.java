@@ -31,8 +31,9 @@ import org.neo4j.ogm.session.Session;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Base Neo4J OGM implementation of {@link Repository}.
@@ -86,22 +87,30 @@ abstract class Neo4jGenericRepository<T> implements Repository<T> {
         return entity;
     }
 
-    protected void lockSwitch(Switch sw) {
-        Map<String, Object> parameters = ImmutableMap.of("name", sw.getSwitchId().toString());
-        Long updatedEntityId = getSession().queryForObject(Long.class,
-                "MATCH (sw:switch {name: $name}) "
-                        + "SET sw.tx_override_workaround='dummy' "
-                        + "RETURN id(sw)", parameters);
-        if (updatedEntityId == null) {
-            throw new PersistenceException(format("Switch not found to be locked: %s", sw.getSwitchId()));
-        }
-    }
-
+    /**
+     * Locks the switches with a single query.
+     */
     public void lockSwitches(Switch... switches) {
         // Lock switches in ascending order of switchId.
-        Arrays.stream(switches)
-                .sorted(Comparator.comparing(Switch::getSwitchId))
-                .forEach(this::lockSwitch);
+        List<String> names = Arrays.stream(switches)
+                .map(Switch::getSwitchId)
+                .distinct()
+                .sorted()
+                .map(SwitchId::toString)
+                .collect(Collectors.toList());
+        if (names.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> parameters = ImmutableMap.of("names", names);
+        Long lockedCount = getSession().queryForObject(Long.class,
+                "UNWIND $names AS name "
+                        + "MATCH (sw:switch {name: name}) "
+                        + "SET sw.tx_override_workaround='dummy' "
+                        + "RETURN count(sw)", parameters);
+        if (lockedCount == null || lockedCount != names.size()) {
+            throw new PersistenceException(format("Switches not found to be locked: %s", names));
+        }
     }
 
     Filter createSrcSwitchFilter(SwitchId switchId) {
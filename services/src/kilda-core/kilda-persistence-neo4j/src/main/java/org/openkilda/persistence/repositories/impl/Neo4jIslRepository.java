@@ -17,8 +17,10 @@ package org.openkilda.persistence.repositories.impl;
 
 import static java.lang.String.format;
 
+import org.openkilda.model.FlowSegment;
 import org.openkilda.model.Isl;
 import org.openkilda.model.IslStatus;
+import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchId;
 import org.openkilda.model.SwitchStatus;
 import org.openkilda.persistence.PersistenceException;
@@ -32,10 +34,17 @@ import com.google.common.collect.Lists;
 import org.neo4j.ogm.cypher.ComparisonOperator;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.session.Session;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Neo4J OGM implementation of {@link IslRepository}.
@@ -83,6 +92,22 @@ public class Neo4jIslRepository extends Neo4jGenericRepository<Isl> implements I
         return isls.isEmpty() ? Optional.empty() : Optional.of(isls.iterator().next());
     }
 
+    @Override
+    public Collection<Isl> findBySwitchIds(Collection<SwitchId> switchIds) {
+        if (switchIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<String, Object> parameters = ImmutableMap.of("switches",
+                switchIds.stream().map(SwitchId::toString).distinct().collect(Collectors.toList()));
+
+        String query = "MATCH (src:switch)-[link:isl]->(dst:switch) "
+                + "WHERE src.name IN $switches OR dst.name IN $switches "
+                + "RETURN src, link, dst";
+
+        return Lists.newArrayList(getSession().query(getEntityType(), query, parameters));
+    }
+
     @Override
     public Collection<Isl> findByPartialEndpoints(SwitchId srcSwitchId, Integer srcPort,
                                                   SwitchId dstSwitchId, Integer dstPort) {
@@ -168,6 +193,78 @@ public class Neo4jIslRepository extends Neo4jGenericRepository<Isl> implements I
         });
     }
 
+    @Override
+    public Collection<Isl> updateAvailableBandwidth(Collection<FlowSegment> flowSegments) {
+        Set<Map<String, Object>> endpoints = new LinkedHashSet<>();
+        flowSegments.forEach(segment -> endpoints.add(ImmutableMap.of(
+                "src_switch", segment.getSrcSwitch().getSwitchId().toString(),
+                "src_port", segment.getSrcPort(),
+                "dst_switch", segment.getDestSwitch().getSwitchId().toString(),
+                "dst_port", segment.getDestPort())));
+        if (endpoints.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Session session = getSession();
+        Map<String, Object> parameters = ImmutableMap.of("endpoints", endpoints);
+
+        String usedBandwidthQuery = "UNWIND $endpoints AS ep "
+                + "MATCH (src:switch {name: ep.src_switch}) - [link:isl { "
+                + " src_port: ep.src_port, "
+                + " dst_port: ep.dst_port "
+                + "}] -> (dst:switch {name: ep.dst_switch}) "
+                + "OPTIONAL MATCH (src) - [fs:flow_segment { "
+                + " src_port: ep.src_port, "
+                + " dst_port: ep.dst_port, "
+                + " ignore_bandwidth: false "
+                + "}] -> (dst) "
+                + "RETURN id(link) AS link_id, sum(fs.bandwidth) AS used_bandwidth";
+        Map<Long, Long> usedBandwidthByLink = new HashMap<>();
+        session.query(usedBandwidthQuery, parameters).forEach(row -> usedBandwidthByLink.put(
+                ((Number) row.get("link_id")).longValue(), ((Number) row.get("used_bandwidth")).longValue()));
+        if (usedBandwidthByLink.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Collection<Isl> isls = Lists.newArrayList(session.query(getEntityType(),
+                "MATCH (src:switch)-[link:isl]->(dst:switch) WHERE id(link) IN $link_ids RETURN src, link, dst",
+                ImmutableMap.of("link_ids", usedBandwidthByLink.keySet())));
+
+        transactionManager.doInTransaction(() -> {
+            Set<Switch> switches = new HashSet<>();
+            isls.forEach(isl -> {
+                long usedBandwidth = usedBandwidthByLink.get(session.resolveGraphIdFor(isl));
+                isl.setAvailableBandwidth(isl.getMaxBandwidth() - usedBandwidth);
+                switches.add(isl.getSrcSwitch());
+                switches.add(isl.getDestSwitch());
+            });
+            lockSwitches(switches.toArray(new Switch[0]));
+
+            // OGM stores a collection of entities in one request.
+            session.save(isls, DEPTH_CREATE_UPDATE_ENTITY);
+        });
+        return isls;
+    }
+
+    @Override
+    public void createOrUpdateAll(Collection<Isl> isls) {
+        if (isls.isEmpty()) {
+            return;
+        }
+
+        transactionManager.doInTransaction(() -> {
+            Set<Switch> switches = new HashSet<>();
+            isls.forEach(isl -> {
+                switches.add(requireManagedEntity(isl.getSrcSwitch()));
+                switches.add(requireManagedEntity(isl.getDestSwitch()));
+            });
+            lockSwitches(switches.toArray(new Switch[0]));
+
+            // OGM stores a collection of entities in one request.
+            getSession().save(isls, DEPTH_CREATE_UPDATE_ENTITY);
+        });
+    }
+
     @Override
     Class<Isl> getEntityType() {
         return Isl.class;
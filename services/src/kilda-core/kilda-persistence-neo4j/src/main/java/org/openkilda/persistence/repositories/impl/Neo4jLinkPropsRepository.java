@@ -20,11 +20,16 @@ import org.openkilda.model.SwitchId;
 import org.openkilda.persistence.TransactionManager;
 import org.openkilda.persistence.repositories.LinkPropsRepository;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 import org.neo4j.ogm.cypher.ComparisonOperator;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 public class Neo4jLinkPropsRepository extends Neo4jGenericRepository<LinkProps> implements LinkPropsRepository {
     private static final String SRC_SWITCH_PROPERTY_NAME = "src_switch";
@@ -60,4 +65,17 @@ public class Neo4jLinkPropsRepository extends Neo4jGenericRepository<LinkProps>
 
         return getSession().loadAll(getEntityType(), filters, DEPTH_LOAD_ENTITY);
     }
+
+    @Override
+    public Collection<LinkProps> findBySrcSwitchIds(Collection<SwitchId> switchIds) {
+        if (switchIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<String, Object> parameters = ImmutableMap.of("switches",
+                switchIds.stream().map(SwitchId::toString).distinct().collect(Collectors.toList()));
+
+        return Lists.newArrayList(getSession().query(getEntityType(),
+                "MATCH (lp:link_props) WHERE lp.src_switch IN $switches RETURN lp", parameters));
+    }
 }
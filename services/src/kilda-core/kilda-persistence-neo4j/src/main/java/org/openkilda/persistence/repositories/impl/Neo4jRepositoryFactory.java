@@ -31,10 +31,17 @@ public class Neo4jRepositoryFactory implements RepositoryFactory {
 
     private final Neo4jSessionFactory sessionFactory;
     private final TransactionManager transactionManager;
+    private final SwitchCache switchCache;
 
     public Neo4jRepositoryFactory(Neo4jSessionFactory sessionFactory, TransactionManager transactionManager) {
+        this(sessionFactory, transactionManager, new SwitchCache());
+    }
+
+    public Neo4jRepositoryFactory(Neo4jSessionFactory sessionFactory, TransactionManager transactionManager,
+                                  SwitchCache switchCache) {
         this.sessionFactory = sessionFactory;
         this.transactionManager = transactionManager;
+        this.switchCache = switchCache;
     }
 
     @Override
@@ -54,7 +61,7 @@ public class Neo4jRepositoryFactory implements RepositoryFactory {
 
     @Override
     public SwitchRepository createSwitchRepository() {
-        return new Neo4jSwitchRepository(sessionFactory, transactionManager);
+        return new Neo4jSwitchRepository(sessionFactory, transactionManager, switchCache);
     }
 
     @Override
@@ -24,26 +24,40 @@ import org.openkilda.persistence.PersistenceException;
 import org.openkilda.persistence.TransactionManager;
 import org.openkilda.persistence.repositories.SwitchRepository;
 
+import com.google.common.collect.ImmutableMap;
 import org.neo4j.ogm.cypher.ComparisonOperator;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.Session;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
- * Neo4J OGM implementation of {@link SwitchRepository}.
+ * Neo4J OGM implementation of {@link SwitchRepository}. Loaded switches are kept in the {@link SwitchCache}.
  */
 public class Neo4jSwitchRepository extends Neo4jGenericRepository<Switch> implements SwitchRepository {
     static final String SWITCH_NAME_PROPERTY_NAME = "name";
 
+    private final SwitchCache switchCache;
+
     public Neo4jSwitchRepository(Neo4jSessionFactory sessionFactory, TransactionManager transactionManager) {
+        this(sessionFactory, transactionManager, new SwitchCache());
+    }
+
+    public Neo4jSwitchRepository(Neo4jSessionFactory sessionFactory, TransactionManager transactionManager,
+                                 SwitchCache switchCache) {
         super(sessionFactory, transactionManager);
+        this.switchCache = switchCache;
     }
 
     @Override
     public boolean exists(SwitchId switchId) {
+        // The cache is not consulted: a cached switch may have been deleted bypassing this repository.
         Filter switchNameFilter = new Filter(SWITCH_NAME_PROPERTY_NAME, ComparisonOperator.EQUALS, switchId);
 
         return getSession().count(getEntityType(), singleton(switchNameFilter)) > 0;
@@ -51,7 +65,10 @@ public class Neo4jSwitchRepository extends Neo4jGenericRepository<Switch> implem
 
     @Override
     public Optional<Switch> findById(SwitchId switchId) {
-        return findById(getSession(), switchId, DEPTH_LOAD_ENTITY);
+        Session session = getSession();
+        Optional<Switch> result = findById(session, switchId, DEPTH_LOAD_ENTITY);
+        result.ifPresent(sw -> switchCache.put(session, sw));
+        return result;
     }
 
     private Optional<Switch> findById(Session session, SwitchId switchId, int entityLoadDepth) {
@@ -77,8 +94,57 @@ public class Neo4jSwitchRepository extends Neo4jGenericRepository<Switch> implem
             }
         }
 
-        return findById(session, entity.getSwitchId(), 0)
-                .orElseThrow(() -> new PersistenceException(format("Switch not found: %s", entity.getSwitchId())));
+        SwitchId switchId = entity.getSwitchId();
+        Optional<Switch> cached = switchCache.getFromSession(session, switchId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        Switch sw = findById(session, switchId, 0)
+                .orElseThrow(() -> new PersistenceException(format("Switch not found: %s", switchId)));
+        switchCache.put(session, sw);
+        return sw;
+    }
+
+    @Override
+    public Collection<Switch> findByIds(Set<SwitchId> switchIds) {
+        Session session = getSession();
+
+        List<Switch> result = new ArrayList<>(switchIds.size());
+        List<String> missedNames = new ArrayList<>();
+        for (SwitchId switchId : switchIds) {
+            Optional<Switch> cached = switchCache.getFromSession(session, switchId);
+            if (cached.isPresent()) {
+                result.add(cached.get());
+            } else {
+                missedNames.add(switchId.toString());
+            }
+        }
+        if (missedNames.isEmpty()) {
+            return result;
+        }
+
+        Map<String, Object> parameters = ImmutableMap.of("names", missedNames);
+        session.query(getEntityType(), "MATCH (sw:switch) WHERE sw.name IN $names RETURN sw", parameters)
+                .forEach(sw -> {
+                    switchCache.put(session, sw);
+                    result.add(sw);
+                });
+        return result;
+    }
+
+    @Override
+    public void createOrUpdate(Switch entity) {
+        super.createOrUpdate(entity);
+
+        switchCache.put(getSession(), entity);
+    }
+
+    @Override
+    public void delete(Switch entity) {
+        super.delete(entity);
+
+        switchCache.invalidate(getSession(), entity.getSwitchId());
     }
 
     @Override
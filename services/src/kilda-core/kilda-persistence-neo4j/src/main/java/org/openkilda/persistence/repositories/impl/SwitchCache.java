@@ -0,0 +1,74 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.persistence.repositories.impl;
+
+import org.openkilda.model.Switch;
+import org.openkilda.model.SwitchId;
+
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.Session;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * Cache of {@link Switch} entities which allows to avoid redundant lookups of switches by name.
+ * <p/>
+ * It's an identity map bound to the session (and so to the transaction): a switch loaded once is reused until
+ * the session is gone. Switches are not cached across sessions, as OGM entities are bound to a session.
+ */
+public class SwitchCache {
+    private final Map<Session, Map<SwitchId, Switch>> identityMaps = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Gets the switch from the identity map of the session. The switch is returned only if it's still managed by the
+     * session.
+     */
+    Optional<Switch> getFromSession(Session session, SwitchId switchId) {
+        Map<SwitchId, Switch> identityMap = identityMaps.get(session);
+        Switch sw = identityMap != null ? identityMap.get(switchId) : null;
+        if (sw == null) {
+            return Optional.empty();
+        }
+
+        Long graphId = session.resolveGraphIdFor(sw);
+        if (graphId == null || ((Neo4jSession) session).context().getNodeEntity(graphId) != sw) {
+            identityMap.remove(switchId);
+            return Optional.empty();
+        }
+        return Optional.of(sw);
+    }
+
+    /**
+     * Puts the switch loaded by the session into the identity map of the session.
+     */
+    void put(Session session, Switch sw) {
+        identityMaps.computeIfAbsent(session, ignore -> new HashMap<>()).put(sw.getSwitchId(), sw);
+    }
+
+    /**
+     * Drops the switch from the identity map of the session.
+     */
+    void invalidate(Session session, SwitchId switchId) {
+        Map<SwitchId, Switch> identityMap = identityMaps.get(session);
+        if (identityMap != null) {
+            identityMap.remove(switchId);
+        }
+    }
+}
@@ -19,6 +19,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 
 import org.openkilda.model.FlowSegment;
+import org.openkilda.model.Isl;
 import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchId;
 import org.openkilda.persistence.Neo4jBasedTest;
@@ -31,6 +32,7 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
@@ -147,4 +149,51 @@ public class Neo4jFlowSegmentRepositoryTest extends Neo4jBasedTest {
                 flowSegmentRepository.findByFlowIdAndCookie(TEST_FLOW_ID, 1));
         assertThat(foundSegment, Matchers.hasSize(1));
     }
+
+    @Test
+    public void shouldCreateAndDeleteFlowSegmentsInBulk() {
+        FlowSegment forwardSegment = FlowSegment.builder()
+                .srcSwitch(switchA)
+                .destSwitch(switchB)
+                .flowId(TEST_FLOW_ID)
+                .build();
+        FlowSegment reverseSegment = FlowSegment.builder()
+                .srcSwitch(switchB)
+                .destSwitch(switchA)
+                .flowId(TEST_FLOW_ID)
+                .build();
+        flowSegmentRepository.createOrUpdateAll(Arrays.asList(forwardSegment, reverseSegment));
+
+        assertEquals(2, flowSegmentRepository.findAll().size());
+
+        flowSegmentRepository.deleteAll(Arrays.asList(forwardSegment, reverseSegment));
+
+        assertEquals(0, flowSegmentRepository.findAll().size());
+        assertEquals(2, switchRepository.findAll().size());
+    }
+
+    @Test
+    public void shouldGetUsedBandwidthForIslsInBulk() {
+        FlowSegment segment = FlowSegment.builder()
+                .srcSwitch(switchA)
+                .srcPort(1)
+                .destSwitch(switchB)
+                .destPort(2)
+                .flowId(TEST_FLOW_ID)
+                .bandwidth(59)
+                .ignoreBandwidth(false)
+                .build();
+        flowSegmentRepository.createOrUpdateAll(Arrays.asList(segment, segment.toBuilder()
+                .flowId(TEST_FLOW_ID + "_2")
+                .bandwidth(41)
+                .build()));
+
+        Isl isl = Isl.builder().srcSwitch(switchA).srcPort(1).destSwitch(switchB).destPort(2).build();
+        Isl reverseIsl = Isl.builder().srcSwitch(switchB).srcPort(2).destSwitch(switchA).destPort(1).build();
+
+        long[] usedBandwidth = flowSegmentRepository.getUsedBandwidthBetweenEndpoints(
+                Arrays.asList(reverseIsl, isl));
+        assertEquals(0, usedBandwidth[0]);
+        assertEquals(100, usedBandwidth[1]);
+    }
 }
@@ -35,6 +35,8 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 public class Neo4jIslRepositoryTest extends Neo4jBasedTest {
@@ -267,6 +269,22 @@ public class Neo4jIslRepositoryTest extends Neo4jBasedTest {
                 TEST_SWITCH_B_ID, 2, TEST_SWITCH_A_ID, 1));
     }
 
+    @Test
+    public void shouldCreateAndFindIslsBySwitchIds() {
+        Switch switchC = Switch.builder().switchId(new SwitchId(3)).status(SwitchStatus.ACTIVE).build();
+        switchRepository.createOrUpdate(switchC);
+
+        Isl isl = Isl.builder().srcSwitch(switchA).srcPort(1).destSwitch(switchB).destPort(2).build();
+        Isl reverseIsl = Isl.builder().srcSwitch(switchB).srcPort(2).destSwitch(switchA).destPort(1).build();
+        Isl otherIsl = Isl.builder().srcSwitch(switchB).srcPort(3).destSwitch(switchC).destPort(1).build();
+        islRepository.createOrUpdateAll(Arrays.asList(isl, reverseIsl, otherIsl));
+
+        assertThat(islRepository.findAll(), Matchers.hasSize(3));
+        assertThat(islRepository.findBySwitchIds(Collections.singleton(TEST_SWITCH_A_ID)), Matchers.hasSize(2));
+        assertThat(islRepository.findBySwitchIds(Collections.singleton(switchC.getSwitchId())), Matchers.hasSize(1));
+        assertThat(islRepository.findBySwitchIds(Collections.emptyList()), Matchers.empty());
+    }
+
     @Test
     public void shouldDeleteIsl() {
         Isl isl = new Isl();
@@ -389,4 +407,43 @@ public class Neo4jIslRepositoryTest extends Neo4jBasedTest {
 
         assertEquals(0, islRepository.findSymmetricActiveWithAvailableBandwidth(availableBandwidth).size());
     }
+
+    @Test
+    public void shouldUpdateAvailableBandwidthBySegments() {
+        Isl isl = new Isl();
+        isl.setSrcSwitch(switchA);
+        isl.setSrcPort(1);
+        isl.setDestSwitch(switchB);
+        isl.setDestPort(2);
+        isl.setMaxBandwidth(1000);
+        isl.setAvailableBandwidth(1000);
+
+        islRepository.createOrUpdate(isl);
+
+        FlowSegment firstSegment = FlowSegment.builder()
+                .srcSwitch(switchA)
+                .srcPort(1)
+                .destSwitch(switchB)
+                .destPort(2)
+                .flowId(TEST_FLOW_ID)
+                .bandwidth(100)
+                .build();
+        FlowSegment secondSegment = firstSegment.toBuilder()
+                .flowId(TEST_FLOW_ID + "_2")
+                .bandwidth(200)
+                .build();
+        FlowSegment ignoredSegment = firstSegment.toBuilder()
+                .flowId(TEST_FLOW_ID + "_3")
+                .bandwidth(400)
+                .ignoreBandwidth(true)
+                .build();
+        List<FlowSegment> segments = Arrays.asList(firstSegment, secondSegment, ignoredSegment);
+        flowSegmentRepository.createOrUpdateAll(segments);
+
+        List<Isl> updatedIsls = Lists.newArrayList(islRepository.updateAvailableBandwidth(segments));
+        assertThat(updatedIsls, Matchers.hasSize(1));
+        assertEquals(700, updatedIsls.get(0).getAvailableBandwidth());
+        assertEquals(700, islRepository.findByEndpoints(TEST_SWITCH_A_ID, 1, TEST_SWITCH_B_ID, 2)
+                .get().getAvailableBandwidth());
+    }
 }
@@ -16,15 +16,21 @@
 package org.openkilda.persistence.repositories.impl;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchId;
 import org.openkilda.persistence.Neo4jBasedTest;
 import org.openkilda.persistence.repositories.SwitchRepository;
 
+import com.google.common.collect.Sets;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.Collection;
+
 public class Neo4jSwitchRepositoryTest extends Neo4jBasedTest {
     static final SwitchId TEST_SWITCH_ID = new SwitchId(1);
 
@@ -58,6 +64,17 @@ public class Neo4jSwitchRepositoryTest extends Neo4jBasedTest {
         assertEquals(origSwitch.getDescription(), foundSwitch.getDescription());
     }
 
+    @Test
+    public void shouldFindSwitchesByIds() {
+        repository.createOrUpdate(Switch.builder().switchId(TEST_SWITCH_ID).build());
+        repository.createOrUpdate(Switch.builder().switchId(new SwitchId(2)).build());
+        repository.createOrUpdate(Switch.builder().switchId(new SwitchId(3)).build());
+
+        Collection<Switch> foundSwitches = repository.findByIds(
+                Sets.newHashSet(TEST_SWITCH_ID, new SwitchId(3), new SwitchId(4)));
+        assertEquals(2, foundSwitches.size());
+    }
+
     @Test
     public void shouldDeleteSwitch() {
         Switch origSwitch = new Switch();
@@ -69,4 +86,60 @@ public class Neo4jSwitchRepositoryTest extends Neo4jBasedTest {
 
         assertEquals(0, repository.findAll().size());
     }
+
+    @Test
+    public void shouldReuseReloadedSwitchWithinTransaction() {
+        SwitchCache switchCache = new SwitchCache();
+        SwitchRepository cachedRepository = new Neo4jSwitchRepository(neo4jSessionFactory, txManager, switchCache);
+        repository.createOrUpdate(Switch.builder().switchId(TEST_SWITCH_ID).build());
+
+        txManager.doInTransaction(() -> {
+            Switch first = cachedRepository.reload(Switch.builder().switchId(TEST_SWITCH_ID).build());
+            Switch second = cachedRepository.reload(Switch.builder().switchId(TEST_SWITCH_ID).build());
+
+            assertSame(first, second);
+        });
+    }
+
+    @Test
+    public void shouldReloadSwitchUpdatedInAnotherTransaction() {
+        SwitchRepository cachedRepository = new Neo4jSwitchRepository(neo4jSessionFactory, txManager,
+                new SwitchCache());
+        repository.createOrUpdate(Switch.builder().switchId(TEST_SWITCH_ID).description("Some description").build());
+
+        txManager.doInTransaction(() -> cachedRepository.reload(Switch.builder().switchId(TEST_SWITCH_ID).build()));
+        Switch updated = repository.findById(TEST_SWITCH_ID).get();
+        updated.setDescription("Another description");
+        repository.createOrUpdate(updated);
+        Switch reloaded = txManager.doInTransaction(
+                () -> cachedRepository.reload(Switch.builder().switchId(TEST_SWITCH_ID).build()));
+
+        assertEquals("Another description", reloaded.getDescription());
+    }
+
+    @Test
+    public void shouldNotFindSwitchDeletedViaCache() {
+        SwitchCache switchCache = new SwitchCache();
+        SwitchRepository cachedRepository = new Neo4jSwitchRepository(neo4jSessionFactory, txManager, switchCache);
+        Switch origSwitch = Switch.builder().switchId(TEST_SWITCH_ID).build();
+        cachedRepository.createOrUpdate(origSwitch);
+        assertTrue(cachedRepository.exists(TEST_SWITCH_ID));
+
+        cachedRepository.delete(origSwitch);
+
+        assertFalse(cachedRepository.exists(TEST_SWITCH_ID));
+    }
+
+    @Test
+    public void shouldNotFindSwitchDeletedBypassingCache() {
+        SwitchCache switchCache = new SwitchCache();
+        SwitchRepository cachedRepository = new Neo4jSwitchRepository(neo4jSessionFactory, txManager, switchCache);
+        Switch origSwitch = Switch.builder().switchId(TEST_SWITCH_ID).build();
+        cachedRepository.createOrUpdate(origSwitch);
+        assertTrue(cachedRepository.exists(TEST_SWITCH_ID));
+
+        repository.delete(origSwitch);
+
+        assertFalse(cachedRepository.exists(TEST_SWITCH_ID));
+    }
 }
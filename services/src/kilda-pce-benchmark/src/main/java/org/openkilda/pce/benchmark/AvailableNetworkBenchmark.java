@@ -0,0 +1,67 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.benchmark;
+
+import org.openkilda.pce.impl.AvailableNetwork;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building of {@link AvailableNetwork} from ISLs and its reduction by weight.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AvailableNetworkBenchmark extends NetworkState {
+    @Benchmark
+    public AvailableNetwork addLink() {
+        return buildNetwork();
+    }
+
+    @Benchmark
+    public AvailableNetwork reduceByWeight(FreshNetwork fresh) {
+        fresh.network.reduceByWeight(WEIGHT_FUNCTION);
+        return fresh.network;
+    }
+
+    /**
+     * reduceByWeight modifies the network, so each invocation gets a fresh copy. Building takes comparable time,
+     * but it's excluded from the measurement.
+     */
+    @State(Scope.Thread)
+    public static class FreshNetwork {
+        private AvailableNetwork network;
+
+        @Setup(Level.Invocation)
+        public void build(AvailableNetworkBenchmark benchmark) {
+            network = benchmark.buildNetwork();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.benchmark;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+import org.openkilda.model.Isl;
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.AvailableNetworkFactory.BuildStrategy;
+import org.openkilda.pce.benchmark.TopologyGenerator.TopologyType;
+import org.openkilda.pce.impl.AvailableNetwork;
+import org.openkilda.pce.model.WeightFunction;
+
+import lombok.Value;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Base benchmark state: a generated topology filtered the same way as the ISL repository does it for the build
+ * strategy and the required bandwidth.
+ */
+@State(Scope.Thread)
+public abstract class NetworkState {
+    static final long SEED = 42L;
+    static final long REQUIRED_BANDWIDTH = 1_000_000L;
+    static final WeightFunction WEIGHT_FUNCTION = edge -> (long) edge.getCost();
+
+    @Param({"FAT_TREE", "RING", "MESH"})
+    public TopologyType topology;
+
+    @Param({"100", "1000", "10000"})
+    public int switchCount;
+
+    @Param({"COST", "SYMMETRIC_COST"})
+    public BuildStrategy buildStrategy;
+
+    protected List<Isl> isls;
+
+    @Setup(Level.Trial)
+    public void generateTopology() {
+        List<Isl> generated = TopologyGenerator.generate(topology, switchCount, SEED);
+        isls = filterAvailable(generated);
+    }
+
+    protected AvailableNetwork buildNetwork() {
+        AvailableNetwork network = new AvailableNetwork();
+        isls.forEach(network::addLink);
+        return network;
+    }
+
+    private List<Isl> filterAvailable(List<Isl> generated) {
+        Map<IslKey, Isl> byKey = generated.stream().collect(
+                toMap(IslKey::of, Function.identity(), (first, second) -> first));
+
+        return generated.stream()
+                .filter(isl -> isl.getAvailableBandwidth() >= REQUIRED_BANDWIDTH)
+                .filter(isl -> {
+                    if (buildStrategy != BuildStrategy.SYMMETRIC_COST) {
+                        return true;
+                    }
+                    Isl reverse = byKey.get(IslKey.of(isl).reverse());
+                    return reverse != null && reverse.getAvailableBandwidth() >= REQUIRED_BANDWIDTH;
+                })
+                .collect(toList());
+    }
+
+    @Value
+    private static class IslKey {
+        SwitchId srcSwitch;
+        int srcPort;
+        SwitchId destSwitch;
+        int destPort;
+
+        static IslKey of(Isl isl) {
+            return new IslKey(isl.getSrcSwitch().getSwitchId(), isl.getSrcPort(),
+                    isl.getDestSwitch().getSwitchId(), isl.getDestPort());
+        }
+
+        IslKey reverse() {
+            return new IslKey(destSwitch, destPort, srcSwitch, srcPort);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.benchmark;
+
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.PathComputerFactory.PathFinderType;
+import org.openkilda.pce.exception.UnroutableFlowException;
+import org.openkilda.pce.finder.BestCostAndShortestPathFinder;
+import org.openkilda.pce.finder.DijkstraPathFinder;
+import org.openkilda.pce.finder.PathFinder;
+import org.openkilda.pce.impl.AvailableNetwork;
+import org.openkilda.pce.model.Edge;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures path search between random pairs of switches over a network reduced by weight.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathFinderBenchmark extends NetworkState {
+    private static final int ALLOWED_DEPTH = 35;
+    private static final int PAIR_COUNT = 1024;
+
+    @Param({"BEST_COST_AND_SHORTEST", "DIJKSTRA"})
+    public PathFinderType finderType;
+
+    private PathFinder pathFinder;
+    private AvailableNetwork network;
+    private SwitchId[] sources;
+    private SwitchId[] destinations;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void prepareSearch() {
+        pathFinder = finderType == PathFinderType.DIJKSTRA
+                ? new DijkstraPathFinder(ALLOWED_DEPTH, WEIGHT_FUNCTION)
+                : new BestCostAndShortestPathFinder(ALLOWED_DEPTH, WEIGHT_FUNCTION);
+
+        network = buildNetwork();
+        network.reduceByWeight(WEIGHT_FUNCTION);
+
+        // Switches left without ISLs after the bandwidth filtering aren't in the network, skip them.
+        Random random = new Random(SEED);
+        sources = new SwitchId[PAIR_COUNT];
+        destinations = new SwitchId[PAIR_COUNT];
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            sources[i] = pickSwitch(random);
+            do {
+                destinations[i] = pickSwitch(random);
+            } while (destinations[i].equals(sources[i]));
+        }
+    }
+
+    @Benchmark
+    public void findPathInNetwork(Blackhole blackhole) {
+        int pair = next++ & (PAIR_COUNT - 1);
+        try {
+            Pair<List<Edge>, List<Edge>> path = pathFinder.findPathInNetwork(network, sources[pair],
+                    destinations[pair]);
+            blackhole.consume(path);
+        } catch (UnroutableFlowException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    private SwitchId pickSwitch(Random random) {
+        SwitchId switchId;
+        do {
+            switchId = new SwitchId(1 + random.nextInt(switchCount));
+        } while (network.getSwitch(switchId) == null);
+        return switchId;
+    }
+}
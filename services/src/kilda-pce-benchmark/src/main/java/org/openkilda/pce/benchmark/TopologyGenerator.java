@@ -0,0 +1,170 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.benchmark;
+
+import org.openkilda.model.Isl;
+import org.openkilda.model.IslStatus;
+import org.openkilda.model.Switch;
+import org.openkilda.model.SwitchId;
+import org.openkilda.model.SwitchStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates synthetic topologies as in-memory {@link Isl} fixtures. Every link is represented by a pair of ISLs
+ * (one per direction), the cost and the available bandwidth are random but reproducible for the same seed.
+ */
+public final class TopologyGenerator {
+    private static final long MAX_BANDWIDTH = 10_000_000L;
+
+    private final Random random;
+    private final List<Switch> switches = new ArrayList<>();
+    private final List<Integer> nextPorts = new ArrayList<>();
+    private final List<Isl> isls = new ArrayList<>();
+
+    private TopologyGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Generates the topology of the type with approximately the specified number of switches.
+     */
+    public static List<Isl> generate(TopologyType type, int switchCount, long seed) {
+        TopologyGenerator generator = new TopologyGenerator(seed);
+        switch (type) {
+            case FAT_TREE:
+                generator.buildFatTree(switchCount);
+                break;
+            case RING:
+                generator.buildRing(switchCount);
+                break;
+            case MESH:
+                generator.buildMesh(switchCount);
+                break;
+            default:
+                throw new UnsupportedOperationException(String.format("Unsupported topology type %s", type));
+        }
+        return generator.isls;
+    }
+
+    /**
+     * Builds k-ary fat tree (core, aggregation and edge layers) with 5 * k^2 / 4 switches, k is chosen to fit the
+     * requested number of switches.
+     */
+    private void buildFatTree(int switchCount) {
+        int k = Math.max(2, (int) Math.sqrt(switchCount * 4 / 5.0));
+        k -= k % 2;
+        int half = k / 2;
+
+        List<Switch> core = addSwitches(half * half);
+        for (int pod = 0; pod < k; pod++) {
+            List<Switch> aggregation = addSwitches(half);
+            List<Switch> edge = addSwitches(half);
+            for (int i = 0; i < half; i++) {
+                for (int j = 0; j < half; j++) {
+                    addLink(aggregation.get(i), core.get(i * half + j));
+                    addLink(aggregation.get(i), edge.get(j));
+                }
+            }
+        }
+    }
+
+    private void buildRing(int switchCount) {
+        List<Switch> ring = addSwitches(switchCount);
+        for (int i = 0; i < switchCount; i++) {
+            addLink(ring.get(i), ring.get((i + 1) % switchCount));
+        }
+    }
+
+    /**
+     * Builds a ring backbone (to keep the network connected) with random chords. Some neighbours are connected by
+     * parallel ISLs.
+     */
+    private void buildMesh(int switchCount) {
+        List<Switch> mesh = addSwitches(switchCount);
+        for (int i = 0; i < switchCount; i++) {
+            addLink(mesh.get(i), mesh.get((i + 1) % switchCount));
+            if (random.nextInt(4) == 0) {
+                addLink(mesh.get(i), mesh.get((i + 1) % switchCount));
+            }
+        }
+        for (int i = 0; i < switchCount; i++) {
+            for (int chord = 0; chord < 2; chord++) {
+                int other = random.nextInt(switchCount);
+                if (other != i) {
+                    addLink(mesh.get(i), mesh.get(other));
+                }
+            }
+        }
+    }
+
+    private List<Switch> addSwitches(int count) {
+        List<Switch> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Switch sw = Switch.builder()
+                    .switchId(new SwitchId(switches.size() + 1))
+                    .status(SwitchStatus.ACTIVE)
+                    .build();
+            switches.add(sw);
+            nextPorts.add(1);
+            result.add(sw);
+        }
+        return result;
+    }
+
+    private void addLink(Switch first, Switch second) {
+        int firstPort = allocatePort(first);
+        int secondPort = allocatePort(second);
+        int cost = 1 + random.nextInt(1000);
+        int latency = 1 + random.nextInt(100);
+        long bandwidth = (long) (random.nextDouble() * MAX_BANDWIDTH);
+
+        isls.add(buildIsl(first, firstPort, second, secondPort, cost, latency, bandwidth));
+        // The reverse direction may have less bandwidth left.
+        isls.add(buildIsl(second, secondPort, first, firstPort, cost, latency,
+                random.nextBoolean() ? bandwidth : bandwidth / 2));
+    }
+
+    private int allocatePort(Switch sw) {
+        int index = (int) sw.getSwitchId().toLong() - 1;
+        int port = nextPorts.get(index);
+        nextPorts.set(index, port + 1);
+        return port;
+    }
+
+    private Isl buildIsl(Switch src, int srcPort, Switch dst, int dstPort, int cost, int latency, long bandwidth) {
+        return Isl.builder()
+                .srcSwitch(src)
+                .srcPort(srcPort)
+                .destSwitch(dst)
+                .destPort(dstPort)
+                .cost(cost)
+                .latency(latency)
+                .maxBandwidth(MAX_BANDWIDTH)
+                .availableBandwidth(bandwidth)
+                .status(IslStatus.ACTIVE)
+                .actualStatus(IslStatus.ACTIVE)
+                .build();
+    }
+
+    public enum TopologyType {
+        FAT_TREE,
+        RING,
+        MESH
+    }
+}
@@ -19,6 +19,7 @@ import org.openkilda.model.Flow;
 import org.openkilda.model.Isl;
 import org.openkilda.pce.exception.RecoverableException;
 import org.openkilda.pce.impl.AvailableNetwork;
+import org.openkilda.pce.impl.NetworkSnapshot;
 import org.openkilda.persistence.PersistenceException;
 import org.openkilda.persistence.repositories.IslRepository;
 import org.openkilda.persistence.repositories.RepositoryFactory;
@@ -74,6 +75,42 @@ public class AvailableNetworkFactory {
         return network;
     }
 
+    /**
+     * Gets a {@link NetworkSnapshot} of all active ISLs, built with the configured strategy.
+     *
+     * @param reusingFlows the flows which may reuse the bandwidth occupied by their current paths.
+     * @return {@link NetworkSnapshot} instance
+     */
+    public NetworkSnapshot getNetworkSnapshot(Collection<Flow> reusingFlows) throws RecoverableException {
+        return getNetworkSnapshot(reusingFlows, BuildStrategy.from(config.getNetworkStrategy()));
+    }
+
+    /**
+     * Gets a {@link NetworkSnapshot} of all active ISLs, built with specified buildStrategy.
+     *
+     * @param reusingFlows the flows which may reuse the bandwidth occupied by their current paths.
+     * @param buildStrategy the {@link AvailableNetwork} building buildStrategy.
+     * @return {@link NetworkSnapshot} instance
+     */
+    public NetworkSnapshot getNetworkSnapshot(Collection<Flow> reusingFlows, BuildStrategy buildStrategy)
+            throws RecoverableException {
+        try {
+            Collection<Isl> links = islRepository.findAllActive();
+            NetworkSnapshot snapshot = new NetworkSnapshot(links, buildStrategy);
+
+            for (Flow flow : reusingFlows) {
+                if (!flow.isIgnoreBandwidth()) {
+                    // ISLs occupied by the flow segments of both directions, 0 bandwidth means ignore it.
+                    snapshot.addOccupiedIsls(flow.getFlowId(),
+                            islRepository.findActiveAndOccupiedByFlowWithAvailableBandwidth(flow.getFlowId(), 0L));
+                }
+            }
+            return snapshot;
+        } catch (PersistenceException e) {
+            throw new RecoverableException("An error from neo4j", e);
+        }
+    }
+
     private Collection<Isl> getAvailableIsls(BuildStrategy buildStrategy, Flow flow) {
         if (buildStrategy == BuildStrategy.COST) {
             return flow.isIgnoreBandwidth() ? islRepository.findAllActive() :
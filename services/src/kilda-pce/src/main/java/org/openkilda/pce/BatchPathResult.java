@@ -0,0 +1,38 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce;
+
+import org.openkilda.pce.exception.UnroutableFlowException;
+
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * The result of path computation for a batch of flows.
+ */
+@Value
+public class BatchPathResult {
+    /**
+     * Computed paths by flow id, in the order the flows have been placed.
+     */
+    private final Map<String, PathPair> paths;
+
+    /**
+     * Flows which can't be routed, by flow id.
+     */
+    private final Map<String, UnroutableFlowException> unroutableFlows;
+}
@@ -20,6 +20,9 @@ import org.openkilda.pce.AvailableNetworkFactory.BuildStrategy;
 import org.openkilda.pce.exception.RecoverableException;
 import org.openkilda.pce.exception.UnroutableFlowException;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Represents computation operations on flow path.
  */
@@ -58,4 +61,40 @@ public interface PathComputer {
      */
     PathPair getPath(Flow flow, boolean reuseAllocatedFlowBandwidth, BuildStrategy buildStrategy)
             throws UnroutableFlowException, RecoverableException;
+
+    /**
+     * Gets the primary path and up to (maxPaths - 1) backup paths for specified flow. The backup paths don't share
+     * ISLs (or switches, depending on the diversity) with each other and with the primary path, so a flow can be
+     * switched to a backup path when the primary one fails without computing a new path.
+     *
+     * @param flow the {@link Flow} instance.
+     * @param reuseAllocatedFlowBandwidth whether to reuse allocated bandwidth and existing path of the flow
+     *                                    to be a potential new path.
+     * @param maxPaths the maximum number of paths to return, including the primary one.
+     * @param diversity what the paths must not share.
+     * @return {@link PathPair} instances ranked by cost, the first one is the primary path. There may be fewer paths
+     *         than requested if the network doesn't have enough diverse paths.
+     */
+    List<PathPair> getDiversePaths(Flow flow, boolean reuseAllocatedFlowBandwidth, int maxPaths,
+                                   PathDiversity diversity) throws UnroutableFlowException, RecoverableException;
+
+    /**
+     * Gets paths for a batch of flows over a single snapshot of the network. The flows are placed one by one, from
+     * the largest bandwidth to the smallest (and by flow id for equal bandwidth), and the bandwidth of each placed
+     * flow is reserved in the snapshot, so the flows placed later see the reservations.
+     *
+     * @param flows the flows to compute paths for.
+     * @param reuseAllocatedFlowBandwidth whether to reuse allocated bandwidth and existing paths of the flows
+     *                                    to be potential new paths.
+     * @return {@link BatchPathResult} with the paths and the flows that can't be routed.
+     */
+    BatchPathResult getPaths(Collection<Flow> flows, boolean reuseAllocatedFlowBandwidth) throws RecoverableException;
+
+    /**
+     * Gets paths for a batch of flows over a single snapshot of the network, built with the specified strategy.
+     *
+     * @see #getPaths(Collection, boolean)
+     */
+    BatchPathResult getPaths(Collection<Flow> flows, boolean reuseAllocatedFlowBandwidth, BuildStrategy buildStrategy)
+            throws RecoverableException;
 }
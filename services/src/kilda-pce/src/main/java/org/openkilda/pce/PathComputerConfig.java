@@ -36,6 +36,14 @@ public interface PathComputerConfig extends Serializable {
     @Default("COST")
     String getStrategy();
 
+    @Key("finder")
+    @Default("BEST_COST_AND_SHORTEST")
+    String getPathFinder();
+
+    @Key("parallelism")
+    @Default("1")
+    int getParallelism();
+
     @Key("network.strategy")
     @Default("COST")
     String getNetworkStrategy();
@@ -16,11 +16,15 @@
 package org.openkilda.pce;
 
 import org.openkilda.pce.finder.BestCostAndShortestPathFinder;
+import org.openkilda.pce.finder.DijkstraPathFinder;
+import org.openkilda.pce.finder.PathFinder;
 import org.openkilda.pce.impl.InMemoryPathComputer;
 import org.openkilda.pce.model.WeightFunction;
 
 import com.google.common.annotations.VisibleForTesting;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * A factory for {@link PathComputer} instances. It provides a specific {@link PathComputer} depending on configuration
  * ({@link PathComputerConfig}) and requested strategy ({@link WeightStrategy}).
@@ -29,6 +33,7 @@ public class PathComputerFactory {
 
     private PathComputerConfig config;
     private AvailableNetworkFactory availableNetworkFactory;
+    private ForkJoinPool forkJoinPool;
 
     public PathComputerFactory(PathComputerConfig config, AvailableNetworkFactory availableNetworkFactory) {
         this.config = config;
@@ -43,9 +48,39 @@ public class PathComputerFactory {
      */
     public PathComputer getPathComputer(WeightStrategy weightStrategy) {
         return new InMemoryPathComputer(availableNetworkFactory,
-                new BestCostAndShortestPathFinder(
-                        config.getMaxAllowedDepth(),
-                        getWeightFunctionByStrategy(weightStrategy)));
+                getPathFinder(PathFinderType.from(config.getPathFinder()),
+                        getWeightFunctionByStrategy(weightStrategy)),
+                getForkJoinPool());
+    }
+
+    private synchronized ForkJoinPool getForkJoinPool() {
+        if (config.getParallelism() <= 1) {
+            return null;
+        }
+        if (forkJoinPool == null) {
+            forkJoinPool = new ForkJoinPool(config.getParallelism());
+        }
+        return forkJoinPool;
+    }
+
+    /**
+     * Shuts down the thread pool used for parallel path computation.
+     */
+    public synchronized void close() {
+        if (forkJoinPool != null) {
+            forkJoinPool.shutdown();
+            forkJoinPool = null;
+        }
+    }
+
+    private PathFinder getPathFinder(PathFinderType finderType, WeightFunction weightFunction) {
+        switch (finderType) {
+            case DIJKSTRA:
+                return new DijkstraPathFinder(config.getMaxAllowedDepth(), weightFunction);
+            case BEST_COST_AND_SHORTEST:
+            default:
+                return new BestCostAndShortestPathFinder(config.getMaxAllowedDepth(), weightFunction);
+        }
     }
 
     /**
@@ -96,4 +131,27 @@ public class PathComputerFactory {
             }
         }
     }
+
+    /**
+     * The algorithm used to find paths in the available network.
+     */
+    public enum PathFinderType {
+        /**
+         * Breadth first search, see {@link BestCostAndShortestPathFinder}.
+         */
+        BEST_COST_AND_SHORTEST,
+
+        /**
+         * Heap-based search, see {@link DijkstraPathFinder}.
+         */
+        DIJKSTRA;
+
+        private static PathFinderType from(String finderType) {
+            try {
+                return valueOf(finderType.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(String.format("Path finder %s is not supported", finderType));
+            }
+        }
+    }
 }
@@ -0,0 +1,31 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce;
+
+/**
+ * Defines what the alternative paths of a flow must not share with each other.
+ */
+public enum PathDiversity {
+    /**
+     * The paths don't go through the same ISLs (in any direction).
+     */
+    LINK,
+
+    /**
+     * The paths don't go through the same ISLs and the same intermediate switches.
+     */
+    SWITCH
+}
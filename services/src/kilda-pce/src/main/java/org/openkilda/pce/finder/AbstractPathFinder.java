@@ -0,0 +1,238 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.finder;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toSet;
+
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.PathDiversity;
+import org.openkilda.pce.exception.UnroutableFlowException;
+import org.openkilda.pce.impl.AvailableNetwork;
+import org.openkilda.pce.model.Edge;
+import org.openkilda.pce.model.Node;
+import org.openkilda.pce.model.WeightFunction;
+
+import com.google.common.collect.Lists;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Base implementation of {@link PathFinder} which finds the forward path by the algorithm of a subclass, and then
+ * tries to use the same path in the reverse direction. An alternative reverse path is searched only if the symmetric
+ * one doesn't exist.
+ */
+@Slf4j
+abstract class AbstractPathFinder implements PathFinder {
+    protected final WeightFunction weightFunction;
+
+    AbstractPathFinder(WeightFunction weightFunction) {
+        this.weightFunction = weightFunction;
+    }
+
+    @Override
+    public WeightFunction getWeightFunction() {
+        return weightFunction;
+    }
+
+    @Override
+    public Pair<List<Edge>, List<Edge>> findPathInNetwork(AvailableNetwork network,
+                                                        SwitchId startSwitchId, SwitchId endSwitchId)
+            throws UnroutableFlowException {
+        Node start = getEndpoint(network, startSwitchId);
+        Node end = getEndpoint(network, endSwitchId);
+
+        Pair<List<Edge>, List<Edge>> biPath = findPath(network, start, end, edge -> true);
+        if (biPath.getLeft().isEmpty()) {
+            throw new UnroutableFlowException(format("Can't find a path from %s to %s", start, end));
+        }
+        if (biPath.getRight().isEmpty()) {
+            throw new UnroutableFlowException(format("Can't find a reverse path from %s to %s. Forward path : %s",
+                    end, start, StringUtils.join(biPath.getLeft(), ", ")));
+        }
+        return biPath;
+    }
+
+    @Override
+    public List<Pair<List<Edge>, List<Edge>>> findDiversePathsInNetwork(AvailableNetwork network,
+                                                                        SwitchId startSwitchId, SwitchId endSwitchId,
+                                                                        int maxPaths, PathDiversity diversity)
+            throws UnroutableFlowException {
+        List<Pair<List<Edge>, List<Edge>>> result = new ArrayList<>(maxPaths);
+        result.add(findPathInNetwork(network, startSwitchId, endSwitchId));
+
+        Node start = network.getSwitch(startSwitchId);
+        Node end = network.getSwitch(endSwitchId);
+        Set<Edge> usedEdges = new HashSet<>();
+        Set<Node> usedSwitches = new HashSet<>();
+        Predicate<Edge> edgeFilter = edge -> !usedEdges.contains(edge) && !usedSwitches.contains(edge.getDestSwitch());
+
+        while (result.size() < maxPaths) {
+            Pair<List<Edge>, List<Edge>> previous = result.get(result.size() - 1);
+            exclude(previous.getLeft(), diversity, end, usedEdges, usedSwitches);
+            exclude(previous.getRight(), diversity, start, usedEdges, usedSwitches);
+
+            Pair<List<Edge>, List<Edge>> biPath = findPath(network, start, end, edgeFilter);
+            if (biPath.getLeft().isEmpty() || biPath.getRight().isEmpty()) {
+                log.debug("Found {} diverse paths from {} to {}", result.size(), startSwitchId, endSwitchId);
+                break;
+            }
+            result.add(biPath);
+        }
+        return result;
+    }
+
+    private Node getEndpoint(AvailableNetwork network, SwitchId switchId) throws UnroutableFlowException {
+        Node node = network.getSwitch(switchId);
+        if (node == null) {
+            throw new UnroutableFlowException(format("Switch %s doesn't have links with enough bandwidth", switchId));
+        }
+        return node;
+    }
+
+    /**
+     * Finds the forward path and then the reverse one, the reverse path is empty if the forward one isn't found.
+     */
+    private Pair<List<Edge>, List<Edge>> findPath(AvailableNetwork network, Node start, Node end,
+                                                  Predicate<Edge> edgeFilter) {
+        List<Edge> forwardPath = getPath(network, start, end, edgeFilter);
+        if (forwardPath.isEmpty()) {
+            return Pair.of(forwardPath, forwardPath);
+        }
+        return Pair.of(forwardPath, getReversePath(network, end, start, forwardPath, edgeFilter));
+    }
+
+    /**
+     * Marks the links of the path in both directions as used, and for switch diversity also the switches it goes
+     * through.
+     */
+    private void exclude(List<Edge> path, PathDiversity diversity, Node pathEnd, Set<Edge> usedEdges,
+                         Set<Node> usedSwitches) {
+        for (Edge edge : path) {
+            usedEdges.add(edge);
+            usedEdges.add(edge.swap());
+            if (diversity == PathDiversity.SWITCH && !edge.getDestSwitch().equals(pathEnd)) {
+                usedSwitches.add(edge.getDestSwitch());
+            }
+        }
+    }
+
+    /**
+     * Finds a path from start to end over the edges accepted by the filter.
+     *
+     * @return An ordered list that represents the path from start to end, or an empty list
+     */
+    abstract List<Edge> getPath(AvailableNetwork network, Node start, Node end, Predicate<Edge> edgeFilter);
+
+    /**
+     * This is generally called after getPath() to find the path back.  The path back could be asymmetric, but this will
+     * increase the odds that we return the symmetric path if it exists. The hint will be used to determine if it
+     * exists.  If it does, then use it as the start bestCost and bestPath.  That should help speed things along.
+     * <p/>
+     * Whereas it's possible that could build up the SearchNodes for this path (if found) and put them into the visited
+     * bucket, we'll start without that optimization and decide later whether adding it provides any efficiencies
+     *
+     * @param src a source switch to start searching reverse path.
+     * @param dst a switch to which reverse path will be found.
+     * @param forwardPath The path to use as a starting point. It can be in reverse order (we'll reverse it)
+     * @param edgeFilter the filter of edges which can be used by the path.
+     * @return An ordered list that represents the path from start to end.
+     */
+    private List<Edge> getReversePath(AvailableNetwork network, Node src, Node dst, List<Edge> forwardPath,
+                                      Predicate<Edge> edgeFilter) {
+        // First, see if the first and last nodes match our start and end, or whether the list
+        // needs to be reversed
+
+        List<Edge> reversePath = Lists.reverse(forwardPath);
+        reversePath = swapSrcDst(reversePath);
+
+        if (isPathEndpointsCorrect(src, dst, reversePath)) {
+            if (isPathValid(reversePath, edgeFilter)) {
+                log.debug("Reverse path is available from {} to {}", src.getSwitchId(), dst.getSwitchId());
+                return reversePath;
+            } else {
+                log.warn(format("Failed to find symmetric reverse path from %s to %s. Forward path: %s",
+                        src.getSwitchId(), dst.getSwitchId(), StringUtils.join(forwardPath, ", ")));
+            }
+        }
+
+        // find an alternative path
+        return getPath(network, src, dst, edgeFilter);
+    }
+
+    private boolean isPathEndpointsCorrect(Node src, Node dst, List<Edge> path) {
+        return Objects.equals(src, path.get(0).getSrcSwitch())
+                && Objects.equals(dst, path.get(path.size() - 1).getDestSwitch());
+    }
+
+    /**
+     * This helper function is used with getPath(hint) and will swap the src and dst of each Edge in the list.
+     */
+    private List<Edge> swapSrcDst(List<Edge> originalIsls) {
+        return originalIsls.stream()
+                .map(Edge::swap)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * This helper function is used with getReversePath(hint) to confirm the hint path exists.
+     */
+    private boolean isPathValid(List<Edge> path, Predicate<Edge> edgeFilter) {
+        boolean validPath = true;
+
+        for (Edge i : path) {
+            Node srcSwitch = i.getSrcSwitch();
+            if (srcSwitch == null) {
+                throw new IllegalStateException(
+                        format("confirmIsls: Found a null switch during getPath(hint): %s", i.getSrcSwitch()));
+            }
+
+            Set<Edge> pathsToDst = srcSwitch.getOutgoingLinks().stream()
+                    .filter(link -> link.getDestSwitch().equals(i.getDestSwitch()))
+                    .filter(edgeFilter)
+                    .collect(toSet());
+            if (pathsToDst.isEmpty()) {
+                log.debug("No ISLS from {} to {}", i.getSrcSwitch(), i.getDestSwitch());
+            }
+
+            boolean foundThisOne = false;
+            for (Edge orig : pathsToDst) {
+                if (i.getSrcSwitch().getSwitchId().equals(orig.getSrcSwitch().getSwitchId())
+                        && i.getSrcPort() == orig.getSrcPort()
+                        && i.getDestSwitch().getSwitchId().equals(orig.getDestSwitch().getSwitchId())
+                        && i.getDestPort() == orig.getDestPort()) {
+                    foundThisOne = true;
+                    break; // stop looking, we found the Edge
+                }
+            }
+            if (!foundThisOne) {
+                validPath = false;
+                break; // found an Edge that doesn't exist, stop looking for others
+            }
+        }
+
+        return validPath;
+    }
+}
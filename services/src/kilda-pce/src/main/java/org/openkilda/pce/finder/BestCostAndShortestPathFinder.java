@@ -15,22 +15,14 @@
 
 package org.openkilda.pce.finder;
 
-import static java.lang.String.format;
 import static java.util.Collections.emptyList;
-import static java.util.stream.Collectors.toSet;
 
-import org.openkilda.model.SwitchId;
-import org.openkilda.pce.exception.UnroutableFlowException;
 import org.openkilda.pce.impl.AvailableNetwork;
 import org.openkilda.pce.model.Edge;
 import org.openkilda.pce.model.Node;
 import org.openkilda.pce.model.WeightFunction;
 
-import com.google.common.collect.Lists;
 import lombok.Value;
-import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -39,9 +31,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
 /**
  * This algorithm is optimized for finding a bidirectional path between the start and end nodes. It uses elements of
@@ -58,10 +48,8 @@ import java.util.stream.Collectors;
  * cause a loop.. if there are negative costs - So, should probably track path to this point... . if node = target,
  * update bestCost, return . add each neighbor to the investigation list, where neighbor.outbound.dst != current node.
  */
-@Slf4j
-public class BestCostAndShortestPathFinder implements PathFinder {
+public class BestCostAndShortestPathFinder extends AbstractPathFinder {
     private final int allowedDepth;
-    private final WeightFunction weightFunction;
 
     /**
      * Constructs the finder with the specified limit on path depth.
@@ -70,38 +58,8 @@ public class BestCostAndShortestPathFinder implements PathFinder {
      * @param weightFunction  the edge weight computing function.
      */
     public BestCostAndShortestPathFinder(int allowedDepth, WeightFunction weightFunction) {
+        super(weightFunction);
         this.allowedDepth = allowedDepth;
-        this.weightFunction = weightFunction;
-    }
-
-    @Override
-    public WeightFunction getWeightFunction() {
-        return weightFunction;
-    }
-
-    @Override
-    public Pair<List<Edge>, List<Edge>> findPathInNetwork(AvailableNetwork network,
-                                                        SwitchId startSwitchId, SwitchId endSwitchId)
-            throws UnroutableFlowException {
-        Node start = network.getSwitch(startSwitchId);
-        Node end = network.getSwitch(endSwitchId);
-        if (start == null || end == null) {
-            throw new UnroutableFlowException(format("Switch %s doesn't have links with enough bandwidth",
-                    start == null ? startSwitchId : endSwitchId));
-        }
-
-        List<Edge> forwardPath = getPath(start, end);
-        if (forwardPath.isEmpty()) {
-            throw new UnroutableFlowException(format("Can't find a path from %s to %s", start, end));
-        }
-
-        List<Edge> reversePath = getReversePath(end, start, forwardPath);
-        if (reversePath.isEmpty()) {
-            throw new UnroutableFlowException(format("Can't find a reverse path from %s to %s. Forward path : %s",
-                    end, start, StringUtils.join(forwardPath, ", ")));
-        }
-
-        return Pair.of(forwardPath, reversePath);
     }
 
     /**
@@ -110,7 +68,8 @@ public class BestCostAndShortestPathFinder implements PathFinder {
      *
      * @return An ordered list that represents the path from start to end, or an empty list
      */
-    private List<Edge> getPath(Node start, Node end) {
+    @Override
+    List<Edge> getPath(AvailableNetwork network, Node start, Node end, Predicate<Edge> edgeFilter) {
         long bestCost = Integer.MAX_VALUE; // Need to be long because it stores sum of ints.
         SearchNode bestPath = null;
 
@@ -154,6 +113,7 @@ public class BestCostAndShortestPathFinder implements PathFinder {
             // At this stage .. haven't found END, haven't gone too deep, and we are not over cost.
             // So, add the outbound isls.
             current.dstSw.getOutgoingLinks().stream()
+                    .filter(edgeFilter)
                     .sorted(Comparator.comparing(edge -> edge.getDestSwitch().getSwitchId()))
                     .forEach(edge -> toVisit.add(current.addNode(edge)));
         }
@@ -161,93 +121,6 @@ public class BestCostAndShortestPathFinder implements PathFinder {
         return (bestPath != null) ? bestPath.parentPath : new LinkedList<>();
     }
 
-    /**
-     * This is generally called after getPath() to find the path back.  The path back could be asymmetric, but this will
-     * increase the odds that we return the symmetric path if it exists. The hint will be used to determine if it
-     * exists.  If it does, then use it as the start bestCost and bestPath.  That should help speed things along.
-     * <p/>
-     * Whereas it's possible that could build up the SearchNodes for this path (if found) and put them into the visited
-     * bucket, we'll start without that optimization and decide later whether adding it provides any efficiencies
-     *
-     * @param src a source switch to start searching reverse path.
-     * @param dst a switch to which reverse path will be found.
-     * @param forwardPath The path to use as a starting point. It can be in reverse order (we'll reverse it)
-     * @return An ordered list that represents the path from start to end.
-     */
-    private List<Edge> getReversePath(Node src, Node dst, List<Edge> forwardPath) {
-        // First, see if the first and last nodes match our start and end, or whether the list
-        // needs to be reversed
-
-        List<Edge> reversePath = Lists.reverse(forwardPath);
-        reversePath = swapSrcDst(reversePath);
-
-        if (isPathEndpointsCorrect(src, dst, reversePath)) {
-            if (isPathValid(reversePath)) {
-                log.debug("Reverse path is available from {} to {}", src.getSwitchId(), dst.getSwitchId());
-                return reversePath;
-            } else {
-                log.warn(format("Failed to find symmetric reverse path from %s to %s. Forward path: %s",
-                        src.getSwitchId(), dst.getSwitchId(), StringUtils.join(forwardPath, ", ")));
-            }
-        }
-
-        // find an alternative path
-        return getPath(src, dst);
-    }
-
-    private boolean isPathEndpointsCorrect(Node src, Node dst, List<Edge> path) {
-        return Objects.equals(src, path.get(0).getSrcSwitch())
-                && Objects.equals(dst, path.get(path.size() - 1).getDestSwitch());
-    }
-
-    /**
-     * This helper function is used with getPath(hint) and will swap the src and dst of each Edge in the list.
-     */
-    private List<Edge> swapSrcDst(List<Edge> originalIsls) {
-        return originalIsls.stream()
-                .map(Edge::swap)
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * This helper function is used with getReversePath(hint) to confirm the hint path exists.
-     */
-    private boolean isPathValid(List<Edge> path) {
-        boolean validPath = true;
-
-        for (Edge i : path) {
-            Node srcSwitch = i.getSrcSwitch();
-            if (srcSwitch == null) {
-                throw new IllegalStateException(
-                        format("confirmIsls: Found a null switch during getPath(hint): %s", i.getSrcSwitch()));
-            }
-
-            Set<Edge> pathsToDst = srcSwitch.getOutgoingLinks().stream()
-                    .filter(link -> link.getDestSwitch().equals(i.getDestSwitch()))
-                    .collect(toSet());
-            if (pathsToDst.isEmpty()) {
-                log.debug("No ISLS from {} to {}", i.getSrcSwitch(), i.getDestSwitch());
-            }
-
-            boolean foundThisOne = false;
-            for (Edge orig : pathsToDst) {
-                if (i.getSrcSwitch().getSwitchId().equals(orig.getSrcSwitch().getSwitchId())
-                        && i.getSrcPort() == orig.getSrcPort()
-                        && i.getDestSwitch().getSwitchId().equals(orig.getDestSwitch().getSwitchId())
-                        && i.getDestPort() == orig.getDestPort()) {
-                    foundThisOne = true;
-                    break; // stop looking, we found the Edge
-                }
-            }
-            if (!foundThisOne) {
-                validPath = false;
-                break; // found an Edge that doesn't exist, stop looking for others
-            }
-        }
-
-        return validPath;
-    }
-
     /**
      * This class facilitates the algorithm by collecting salient pieces of information that are necessary for tracking
      * search data per search node.
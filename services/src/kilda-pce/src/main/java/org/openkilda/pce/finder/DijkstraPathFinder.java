@@ -0,0 +1,322 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.finder;
+
+import org.openkilda.pce.impl.AvailableNetwork;
+import org.openkilda.pce.model.Edge;
+import org.openkilda.pce.model.Node;
+import org.openkilda.pce.model.WeightFunction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Finds the cheapest path with a limited number of hops by the Dijkstra algorithm over (switch, hops) labels.
+ * <p/>
+ * The cost of a path is computed the same way as {@link BestCostAndShortestPathFinder} does: a sum of the edge weights
+ * plus the cost of every switch on the path. Among paths of equal cost, the one with fewer hops wins, and then the one
+ * with the lexicographically smaller sequence of switch ids, which matches the order the breadth first search visits
+ * the paths in.
+ * <p/>
+ * The search state is kept in primitive arrays indexed by {@link Node#getIndex()}, and labels are stored in a binary
+ * heap with lazy deletion, so no per-step objects are allocated. The arrays are reused by the subsequent searches in
+ * the same thread, so the finder can be used concurrently over a shared network.
+ */
+public class DijkstraPathFinder extends AbstractPathFinder {
+    private static final ThreadLocal<SearchState> SEARCH_STATE = ThreadLocal.withInitial(SearchState::new);
+
+    private final int allowedDepth;
+
+    /**
+     * Constructs the finder with the specified limit on path depth.
+     *
+     * @param allowedDepth    the allowed depth for a potential path.
+     * @param weightFunction  the edge weight computing function.
+     */
+    public DijkstraPathFinder(int allowedDepth, WeightFunction weightFunction) {
+        super(weightFunction);
+        this.allowedDepth = allowedDepth;
+    }
+
+    @Override
+    List<Edge> getPath(AvailableNetwork network, Node start, Node end, Predicate<Edge> edgeFilter) {
+        SearchState state = SEARCH_STATE.get();
+        state.reset(network.getSwitchCount(), allowedDepth);
+        try {
+            return getPath(state, start, end, edgeFilter);
+        } finally {
+            state.release();
+        }
+    }
+
+    private List<Edge> getPath(SearchState state, Node start, Node end, Predicate<Edge> edgeFilter) {
+        state.reach(0, start, 0, null);
+
+        while (!state.heap.isEmpty()) {
+            long cost = state.heap.peekCost();
+            int hops = state.heap.peekHops();
+            int index = state.heap.poll();
+
+            if (cost > state.getCost(hops, index) || state.getMinSettledHops(index) <= hops) {
+                // Either a stale heap entry, or the switch has already been reached cheaper with fewer hops.
+                continue;
+            }
+            state.settle(hops, index);
+
+            Node current = state.nodes[index];
+            if (current.equals(end)) {
+                return state.buildPath(hops, index);
+            }
+            if (hops >= allowedDepth) {
+                continue;
+            }
+
+            for (Edge edge : current.getOutgoingLinks()) {
+                Node next = edge.getDestSwitch();
+                if (state.getMinSettledHops(next.getIndex()) <= hops + 1 || !edgeFilter.test(edge)) {
+                    continue;
+                }
+
+                long nextCost = cost + weightFunction.apply(edge) + next.getCost();
+                if (hops == 0) {
+                    nextCost += current.getCost();
+                }
+                state.relax(hops + 1, next, nextCost, edge);
+            }
+        }
+
+        return Collections.emptyList();
+    }
+
+    /**
+     * Per-thread search state: the best known cost and the last edge of the path for each (hops, switch) label.
+     * <p/>
+     * The arrays are reused between searches, an entry is valid only if its stamp matches the current search
+     * generation, so nothing has to be cleared on start.
+     */
+    private static final class SearchState {
+        private Node[] nodes = new Node[0];
+        private int[] minSettledHops = new int[0];
+        private int[] settledStamps = new int[0];
+        private long[][] costs = new long[0][];
+        private Edge[][] parents = new Edge[0][];
+        private int[][] stamps = new int[0][];
+        private int generation;
+
+        private final LabelHeap heap = new LabelHeap();
+        private int[] touched = new int[16];
+        private int touchedCount;
+
+        void reset(int nodeCount, int maxHops) {
+            if (nodes.length < nodeCount || costs.length < maxHops + 1) {
+                int capacity = Math.max(nodeCount, nodes.length);
+                nodes = new Node[capacity];
+                minSettledHops = new int[capacity];
+                settledStamps = new int[capacity];
+                costs = new long[Math.max(maxHops + 1, costs.length)][];
+                parents = new Edge[costs.length][];
+                stamps = new int[costs.length][];
+                generation = 0;
+            }
+
+            generation++;
+            if (generation == Integer.MAX_VALUE) {
+                Arrays.fill(settledStamps, 0);
+                for (int[] row : stamps) {
+                    if (row != null) {
+                        Arrays.fill(row, 0);
+                    }
+                }
+                generation = 1;
+            }
+            heap.clear();
+        }
+
+        /**
+         * Drops the references to the network, so it can be garbage collected while the state is kept by the thread.
+         */
+        void release() {
+            for (int i = 0; i < touchedCount; i++) {
+                int hops = touched[i] / nodes.length;
+                int index = touched[i] % nodes.length;
+                nodes[index] = null;
+                parents[hops][index] = null;
+            }
+            touchedCount = 0;
+        }
+
+        long getCost(int hops, int index) {
+            int[] row = stamps[hops];
+            return row == null || row[index] != generation ? Long.MAX_VALUE : costs[hops][index];
+        }
+
+        int getMinSettledHops(int index) {
+            return settledStamps[index] == generation ? minSettledHops[index] : Integer.MAX_VALUE;
+        }
+
+        void settle(int hops, int index) {
+            settledStamps[index] = generation;
+            minSettledHops[index] = hops;
+        }
+
+        void relax(int hops, Node node, long cost, Edge parent) {
+            int index = node.getIndex();
+            long known = getCost(hops, index);
+            if (cost < known) {
+                reach(hops, node, cost, parent);
+            } else if (cost == known && isPreferred(hops - 1, parent, parents[hops][index])) {
+                // Same cost and the same heap key, so it's enough to replace the path.
+                parents[hops][index] = parent;
+            }
+        }
+
+        void reach(int hops, Node node, long cost, Edge parent) {
+            if (costs[hops] == null) {
+                costs[hops] = new long[nodes.length];
+                parents[hops] = new Edge[nodes.length];
+                stamps[hops] = new int[nodes.length];
+            }
+
+            int index = node.getIndex();
+            if (stamps[hops][index] != generation) {
+                stamps[hops][index] = generation;
+                if (touchedCount == touched.length) {
+                    touched = Arrays.copyOf(touched, touchedCount * 2);
+                }
+                touched[touchedCount++] = hops * nodes.length + index;
+            }
+            nodes[index] = node;
+            costs[hops][index] = cost;
+            parents[hops][index] = parent;
+            heap.add(cost, hops, index);
+        }
+
+        /**
+         * Checks whether the path ending with the candidate edge goes through switches with lexicographically smaller
+         * ids than the path ending with the current edge. Both paths have the same number of hops.
+         */
+        boolean isPreferred(int hops, Edge candidate, Edge current) {
+            Node left = candidate.getSrcSwitch();
+            Node right = current.getSrcSwitch();
+            int result = 0;
+            while (!left.equals(right)) {
+                // Walking backwards, so the last difference found is the first one in the path.
+                result = left.getSwitchId().compareTo(right.getSwitchId());
+                left = parents[hops][left.getIndex()].getSrcSwitch();
+                right = parents[hops][right.getIndex()].getSrcSwitch();
+                hops--;
+            }
+            return result < 0;
+        }
+
+        List<Edge> buildPath(int hops, int index) {
+            List<Edge> path = new ArrayList<>(hops);
+            for (int level = hops; level > 0; level--) {
+                Edge edge = parents[level][index];
+                path.add(edge);
+                index = edge.getSrcSwitch().getIndex();
+            }
+            Collections.reverse(path);
+            return path;
+        }
+    }
+
+    /**
+     * Binary min-heap of labels ordered by cost and then by hops.
+     */
+    private static final class LabelHeap {
+        private long[] costs = new long[16];
+        private int[] hops = new int[16];
+        private int[] indexes = new int[16];
+        private int size;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        long peekCost() {
+            return costs[0];
+        }
+
+        int peekHops() {
+            return hops[0];
+        }
+
+        void add(long cost, int hopCount, int index) {
+            if (size == costs.length) {
+                costs = Arrays.copyOf(costs, size * 2);
+                hops = Arrays.copyOf(hops, size * 2);
+                indexes = Arrays.copyOf(indexes, size * 2);
+            }
+
+            int position = size++;
+            while (position > 0) {
+                int parent = (position - 1) >>> 1;
+                if (!less(cost, hopCount, costs[parent], hops[parent])) {
+                    break;
+                }
+                set(position, costs[parent], hops[parent], indexes[parent]);
+                position = parent;
+            }
+            set(position, cost, hopCount, index);
+        }
+
+        int poll() {
+            int result = indexes[0];
+            size--;
+
+            long cost = costs[size];
+            int hopCount = hops[size];
+            int index = indexes[size];
+            int position = 0;
+            while (true) {
+                int child = 2 * position + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && less(costs[child + 1], hops[child + 1], costs[child], hops[child])) {
+                    child++;
+                }
+                if (!less(costs[child], hops[child], cost, hopCount)) {
+                    break;
+                }
+                set(position, costs[child], hops[child], indexes[child]);
+                position = child;
+            }
+            if (size > 0) {
+                set(position, cost, hopCount, index);
+            }
+            return result;
+        }
+
+        private void set(int position, long cost, int hopCount, int index) {
+            costs[position] = cost;
+            hops[position] = hopCount;
+            indexes[position] = index;
+        }
+
+        private static boolean less(long cost, int hopCount, long otherCost, int otherHopCount) {
+            return cost < otherCost || (cost == otherCost && hopCount < otherHopCount);
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package org.openkilda.pce.finder;
 
 import org.openkilda.model.SwitchId;
+import org.openkilda.pce.PathDiversity;
 import org.openkilda.pce.exception.UnroutableFlowException;
 import org.openkilda.pce.impl.AvailableNetwork;
 import org.openkilda.pce.model.Edge;
@@ -38,6 +39,19 @@ public interface PathFinder {
                                                   SwitchId startSwitchId, SwitchId endSwitchId)
             throws UnroutableFlowException;
 
+    /**
+     * Find a path from the start to the end switch and up to (maxPaths - 1) alternative paths which don't share
+     * links or switches (depending on the diversity) with the paths found before. Each path is the best one over the
+     * network without the links or switches of the previous paths, so the paths are ranked by cost.
+     *
+     * @return the list of forward and reverse paths, the first one is the same as
+     *         {@link #findPathInNetwork(AvailableNetwork, SwitchId, SwitchId)} returns.
+     */
+    List<Pair<List<Edge>, List<Edge>>> findDiversePathsInNetwork(AvailableNetwork network, SwitchId startSwitchId,
+                                                                 SwitchId endSwitchId, int maxPaths,
+                                                                 PathDiversity diversity)
+            throws UnroutableFlowException;
+
     /**
      * Returns weight function for current finder.
      *
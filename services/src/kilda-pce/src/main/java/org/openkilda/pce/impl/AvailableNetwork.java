@@ -39,14 +39,25 @@ public class AvailableNetwork {
     @VisibleForTesting
     final Map<SwitchId, Node> switches = new HashMap<>();
 
+    private boolean frozen;
+
     public Node getSwitch(SwitchId dpid) {
         return switches.get(dpid);
     }
 
+    /**
+     * Returns the number of switches in the network. Indexes of the network nodes are in the range [0, count).
+     */
+    public int getSwitchCount() {
+        return switches.size();
+    }
+
     /**
      * Creates switches (if they are not created yet) and ISL between them.
      */
     public void addLink(Isl isl) {
+        checkNotFrozen();
+
         Node srcSwitch = getOrInitSwitch(isl.getSrcSwitch());
         Node dstSwitch = getOrInitSwitch(isl.getDestSwitch());
 
@@ -62,15 +73,38 @@ public class AvailableNetwork {
     }
 
     private Node getOrInitSwitch(Switch sw) {
-        return switches.computeIfAbsent(sw.getSwitchId(), Node::fromSwitchId);
+        return switches.computeIfAbsent(sw.getSwitchId(), switchId -> Node.fromSwitchId(switchId, switches.size()));
     }
 
     /**
      * Call this function to reduce the network to single (directed) links between src and dst switches.
      */
     public void reduceByWeight(WeightFunction weightFunction) {
+        checkNotFrozen();
+
         for (Node node : switches.values()) {
             node.reduceByWeight(weightFunction);
         }
     }
+
+    /**
+     * Makes the network unmodifiable. A frozen network is an immutable view which can be shared by concurrent path
+     * searches.
+     */
+    public void freeze() {
+        if (!frozen) {
+            switches.values().forEach(Node::freeze);
+            frozen = true;
+        }
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new IllegalStateException("The network is frozen and can't be modified");
+        }
+    }
 }
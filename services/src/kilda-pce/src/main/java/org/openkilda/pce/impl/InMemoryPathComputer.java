@@ -21,33 +21,62 @@ import org.openkilda.model.Flow;
 import org.openkilda.model.FlowPath;
 import org.openkilda.pce.AvailableNetworkFactory;
 import org.openkilda.pce.AvailableNetworkFactory.BuildStrategy;
+import org.openkilda.pce.BatchPathResult;
 import org.openkilda.pce.PathComputer;
+import org.openkilda.pce.PathDiversity;
 import org.openkilda.pce.PathPair;
 import org.openkilda.pce.exception.RecoverableException;
 import org.openkilda.pce.exception.UnroutableFlowException;
 import org.openkilda.pce.finder.PathFinder;
 import org.openkilda.pce.model.Edge;
 
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of {@link PathComputer} that operates over in-memory {@link AvailableNetwork}.
  * <p/>
  * The path finding algorithm is defined by provided {@link PathFinder}.
+ * <p/>
+ * If a {@link ForkJoinPool} is provided, paths for a batch of flows are searched concurrently over shared frozen
+ * networks, and then validated against the bandwidth reserved by the flows placed before. A flow is searched again
+ * only if its path doesn't fit anymore.
  */
 @Slf4j
 public class InMemoryPathComputer implements PathComputer {
     private final AvailableNetworkFactory availableNetworkFactory;
     private final PathFinder pathFinder;
+    private final ForkJoinPool forkJoinPool;
 
     public InMemoryPathComputer(AvailableNetworkFactory availableNetworkFactory, PathFinder pathFinder) {
+        this(availableNetworkFactory, pathFinder, null);
+    }
+
+    /**
+     * Constructs the computer which searches paths for a batch of flows concurrently.
+     *
+     * @param forkJoinPool the pool to run the searches in, or null if the searches must be sequential.
+     */
+    public InMemoryPathComputer(AvailableNetworkFactory availableNetworkFactory, PathFinder pathFinder,
+                                ForkJoinPool forkJoinPool) {
         this.availableNetworkFactory = availableNetworkFactory;
         this.pathFinder = pathFinder;
+        this.forkJoinPool = forkJoinPool;
     }
 
     @Override
@@ -63,32 +92,180 @@ public class InMemoryPathComputer implements PathComputer {
                 availableNetworkFactory.getAvailableNetwork(flow, reuseAllocatedFlowBandwidth, buildStrategy), flow);
     }
 
+    @Override
+    public List<PathPair> getDiversePaths(Flow flow, boolean reuseAllocatedFlowBandwidth, int maxPaths,
+                                          PathDiversity diversity)
+            throws UnroutableFlowException, RecoverableException {
+        if (isOneSwitchFlow(flow)) {
+            log.info("No path computation for one-switch flow");
+            return Collections.singletonList(buildOneSwitchPathPair());
+        }
+
+        AvailableNetwork network = availableNetworkFactory.getAvailableNetwork(flow, reuseAllocatedFlowBandwidth);
+        network.reduceByWeight(pathFinder.getWeightFunction());
+
+        List<Pair<List<Edge>, List<Edge>>> biPaths;
+        try {
+            biPaths = pathFinder.findDiversePathsInNetwork(network, flow.getSrcSwitch().getSwitchId(),
+                    flow.getDestSwitch().getSwitchId(), maxPaths, diversity);
+        } catch (UnroutableFlowException e) {
+            throw wrapUnroutable(flow, e);
+        }
+
+        log.debug("Found {} of {} diverse paths for flow {}", biPaths.size(), maxPaths, flow.getFlowId());
+        return biPaths.stream()
+                .map(this::convertToPathPair)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public BatchPathResult getPaths(Collection<Flow> flows, boolean reuseAllocatedFlowBandwidth)
+            throws RecoverableException {
+        return getPaths(flows, reuseAllocatedFlowBandwidth, availableNetworkFactory.getNetworkSnapshot(
+                reuseAllocatedFlowBandwidth ? flows : Collections.emptyList()));
+    }
+
+    @Override
+    public BatchPathResult getPaths(Collection<Flow> flows, boolean reuseAllocatedFlowBandwidth,
+                                    BuildStrategy buildStrategy) throws RecoverableException {
+        return getPaths(flows, reuseAllocatedFlowBandwidth, availableNetworkFactory.getNetworkSnapshot(
+                reuseAllocatedFlowBandwidth ? flows : Collections.emptyList(), buildStrategy));
+    }
+
+    private BatchPathResult getPaths(Collection<Flow> flows, boolean reuseAllocatedFlowBandwidth,
+                                     NetworkSnapshot snapshot) {
+        Map<String, PathPair> paths = new LinkedHashMap<>();
+        Map<String, UnroutableFlowException> unroutableFlows = new HashMap<>();
+
+        List<Flow> orderedFlows = new ArrayList<>(flows);
+        orderedFlows.sort(Comparator.comparingLong(Flow::getBandwidth).reversed()
+                .thenComparing(Flow::getFlowId));
+
+        List<PathAttempt> attempts = forkJoinPool != null && orderedFlows.size() > 1
+                ? findPathsInParallel(orderedFlows, reuseAllocatedFlowBandwidth, snapshot) : Collections.emptyList();
+
+        boolean bandwidthReleased = false;
+        for (int i = 0; i < orderedFlows.size(); i++) {
+            Flow flow = orderedFlows.get(i);
+            PathAttempt attempt = attempts.isEmpty() ? null : attempts.get(i);
+            try {
+                PathPair pathPair = null;
+                if (attempt != null && attempt.getPath() != null) {
+                    if (snapshot.isAvailable(flow, reuseAllocatedFlowBandwidth, attempt.getPath())) {
+                        pathPair = attempt.getPath();
+                    }
+                } else if (attempt != null && !bandwidthReleased) {
+                    // Nothing has been released since the attempt, so the network can only be poorer now.
+                    throw attempt.getError();
+                }
+
+                if (pathPair == null) {
+                    pathPair = getPath(snapshot.getAvailableNetwork(flow, reuseAllocatedFlowBandwidth), flow);
+                }
+
+                if (reuseAllocatedFlowBandwidth) {
+                    // The flow is going to be moved, so the bandwidth of its current path becomes available.
+                    bandwidthReleased |= snapshot.deallocate(flow);
+                }
+                snapshot.allocate(flow, pathPair.getForward());
+                snapshot.allocate(flow, pathPair.getReverse());
+                paths.put(flow.getFlowId(), pathPair);
+            } catch (UnroutableFlowException e) {
+                log.warn("Failed to find path for flow {} in the batch: {}", flow.getFlowId(), e.getMessage());
+                unroutableFlows.put(flow.getFlowId(), e);
+            }
+        }
+
+        log.debug("Computed paths for {} of {} flows in the batch", paths.size(), orderedFlows.size());
+        return new BatchPathResult(paths, unroutableFlows);
+    }
+
+    /**
+     * Searches paths for the flows concurrently, ignoring the bandwidth the flows reserve for each other. Flows
+     * which don't reuse their current paths and require the same bandwidth share the same frozen network.
+     *
+     * @return the attempts in the order of the flows, or an empty list if the search has failed.
+     */
+    private List<PathAttempt> findPathsInParallel(List<Flow> flows, boolean reuseAllocatedFlowBandwidth,
+                                                  NetworkSnapshot snapshot) {
+        Map<Long, AvailableNetwork> sharedNetworks = new ConcurrentHashMap<>();
+        try {
+            return forkJoinPool.submit(() -> flows.parallelStream()
+                    .map(flow -> findPath(flow, reuseAllocatedFlowBandwidth, snapshot, sharedNetworks))
+                    .collect(Collectors.toList()))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Parallel path computation has been interrupted, falling back to sequential computation");
+        } catch (ExecutionException e) {
+            log.error("Parallel path computation has failed, falling back to sequential computation", e.getCause());
+        }
+        return Collections.emptyList();
+    }
+
+    private PathAttempt findPath(Flow flow, boolean reuseAllocatedFlowBandwidth, NetworkSnapshot snapshot,
+                                 Map<Long, AvailableNetwork> sharedNetworks) {
+        AvailableNetwork network;
+        if (flow.isIgnoreBandwidth() || !reuseAllocatedFlowBandwidth) {
+            long requiredBandwidth = flow.isIgnoreBandwidth() ? -1L : flow.getBandwidth();
+            network = sharedNetworks.computeIfAbsent(requiredBandwidth, bandwidth -> {
+                AvailableNetwork shared = snapshot.getAvailableNetwork(flow, false);
+                shared.reduceByWeight(pathFinder.getWeightFunction());
+                shared.freeze();
+                return shared;
+            });
+        } else {
+            network = snapshot.getAvailableNetwork(flow, true);
+        }
+
+        try {
+            return new PathAttempt(getPath(network, flow), null);
+        } catch (UnroutableFlowException e) {
+            return new PathAttempt(null, e);
+        }
+    }
+
     private PathPair getPath(AvailableNetwork network, Flow flow)
             throws UnroutableFlowException {
 
-        if (flow.getSrcSwitch().getSwitchId().equals(flow.getDestSwitch().getSwitchId())) {
+        if (isOneSwitchFlow(flow)) {
             log.info("No path computation for one-switch flow");
-            return PathPair.builder()
-                    .forward(new FlowPath(0, Collections.emptyList(), null))
-                    .reverse(new FlowPath(0, Collections.emptyList(), null))
-                    .build();
+            return buildOneSwitchPathPair();
         }
 
         Pair<List<Edge>, List<Edge>> biPath;
         try {
-            network.reduceByWeight(pathFinder.getWeightFunction());
+            if (!network.isFrozen()) {
+                // A frozen network is shared and has been reduced on creation.
+                network.reduceByWeight(pathFinder.getWeightFunction());
+            }
 
             biPath = pathFinder.findPathInNetwork(network, flow.getSrcSwitch().getSwitchId(),
                     flow.getDestSwitch().getSwitchId());
         } catch (UnroutableFlowException e) {
-            String message = format("Failed to find path with requested bandwidth=%s: %s",
-                    flow.isIgnoreBandwidth() ? " ignored" : flow.getBandwidth(), e.getMessage());
-            throw new UnroutableFlowException(message, flow.getFlowId());
+            throw wrapUnroutable(flow, e);
         }
 
         return convertToPathPair(biPath);
     }
 
+    private boolean isOneSwitchFlow(Flow flow) {
+        return flow.getSrcSwitch().getSwitchId().equals(flow.getDestSwitch().getSwitchId());
+    }
+
+    private PathPair buildOneSwitchPathPair() {
+        return PathPair.builder()
+                .forward(new FlowPath(0, Collections.emptyList(), null))
+                .reverse(new FlowPath(0, Collections.emptyList(), null))
+                .build();
+    }
+
+    private UnroutableFlowException wrapUnroutable(Flow flow, UnroutableFlowException e) {
+        String message = format("Failed to find path with requested bandwidth=%s: %s",
+                flow.isIgnoreBandwidth() ? " ignored" : flow.getBandwidth(), e.getMessage());
+        return new UnroutableFlowException(message, flow.getFlowId());
+    }
+
     private PathPair convertToPathPair(Pair<List<Edge>, List<Edge>> biPath) {
         long latency = 0L;
         List<FlowPath.Node> forwardNodes = new LinkedList<>();
@@ -132,4 +309,10 @@ public class InMemoryPathComputer implements PathComputer {
                 .reverse(new FlowPath(latency, reverseNodes, null))
                 .build();
     }
+
+    @Value
+    private static class PathAttempt {
+        PathPair path;
+        UnroutableFlowException error;
+    }
 }
@@ -0,0 +1,177 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.impl;
+
+import org.openkilda.model.Flow;
+import org.openkilda.model.FlowPath;
+import org.openkilda.model.Isl;
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.AvailableNetworkFactory.BuildStrategy;
+import org.openkilda.pce.PathPair;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A snapshot of active ISLs with the available bandwidth tracked in memory. It's used to place a batch of flows
+ * without reading the network from the database for every flow: the bandwidth of each placed flow is reserved
+ * in the snapshot, so the flows placed later see the reservations.
+ */
+public class NetworkSnapshot {
+    private final BuildStrategy buildStrategy;
+    private final Map<IslKey, Isl> isls = new LinkedHashMap<>();
+    private final Map<IslKey, Long> availableBandwidth = new LinkedHashMap<>();
+    private final Map<String, Set<IslKey>> occupiedIsls = new HashMap<>();
+
+    public NetworkSnapshot(Collection<Isl> activeIsls, BuildStrategy buildStrategy) {
+        this.buildStrategy = buildStrategy;
+
+        for (Isl isl : activeIsls) {
+            IslKey key = IslKey.of(isl);
+            isls.put(key, isl);
+            availableBandwidth.put(key, isl.getAvailableBandwidth());
+        }
+    }
+
+    /**
+     * Registers ISLs occupied by the current paths of the flow. The forward and reverse paths may go over different
+     * ISLs, so the ISLs of both paths must be passed.
+     */
+    public void addOccupiedIsls(String flowId, Collection<Isl> flowIsls) {
+        Set<IslKey> keys = occupiedIsls.computeIfAbsent(flowId, k -> new HashSet<>());
+        flowIsls.forEach(isl -> keys.add(IslKey.of(isl)));
+    }
+
+    /**
+     * Builds {@link AvailableNetwork} of the ISLs which have enough bandwidth for the flow.
+     *
+     * @param flow the flow to build the network for.
+     * @param reuseAllocatedFlowBandwidth whether to take the bandwidth occupied by the current path of the flow into
+     *                                    account.
+     */
+    public AvailableNetwork getAvailableNetwork(Flow flow, boolean reuseAllocatedFlowBandwidth) {
+        Set<IslKey> occupiedByFlow = reuseAllocatedFlowBandwidth ? getOccupiedIsls(flow) : Collections.emptySet();
+
+        AvailableNetwork network = new AvailableNetwork();
+        for (Map.Entry<IslKey, Isl> entry : isls.entrySet()) {
+            IslKey key = entry.getKey();
+            if (flow.isIgnoreBandwidth() || hasEnoughBandwidth(key, flow, occupiedByFlow)) {
+                network.addLink(entry.getValue());
+            }
+        }
+        return network;
+    }
+
+    /**
+     * Reserves the bandwidth of the flow along the path.
+     */
+    public void allocate(Flow flow, FlowPath path) {
+        if (!flow.isIgnoreBandwidth()) {
+            getIsls(path).forEach(
+                    key -> availableBandwidth.computeIfPresent(key, (k, bw) -> bw - flow.getBandwidth()));
+        }
+    }
+
+    /**
+     * Releases the bandwidth occupied by the current path of the flow.
+     *
+     * @return true if any bandwidth has been released.
+     */
+    public boolean deallocate(Flow flow) {
+        Set<IslKey> occupied = getOccupiedIsls(flow);
+        occupied.forEach(key -> availableBandwidth.computeIfPresent(key, (k, bw) -> bw + flow.getBandwidth()));
+        return !occupied.isEmpty() && flow.getBandwidth() > 0;
+    }
+
+    /**
+     * Checks that all ISLs of the path still have enough bandwidth for the flow.
+     */
+    public boolean isAvailable(Flow flow, boolean reuseAllocatedFlowBandwidth, PathPair pathPair) {
+        if (flow.isIgnoreBandwidth()) {
+            return true;
+        }
+
+        Set<IslKey> occupiedByFlow = reuseAllocatedFlowBandwidth ? getOccupiedIsls(flow) : Collections.emptySet();
+        List<IslKey> pathIsls = new ArrayList<>(getIsls(pathPair.getForward()));
+        pathIsls.addAll(getIsls(pathPair.getReverse()));
+        return pathIsls.stream()
+                .allMatch(key -> availableBandwidth.containsKey(key) && hasEnoughBandwidth(key, flow, occupiedByFlow));
+    }
+
+    private boolean hasEnoughBandwidth(IslKey key, Flow flow, Set<IslKey> occupiedByFlow) {
+        if (getAvailableBandwidth(key, flow, occupiedByFlow) < flow.getBandwidth()) {
+            return false;
+        }
+        if (buildStrategy == BuildStrategy.SYMMETRIC_COST) {
+            IslKey reverse = key.reverse();
+            return availableBandwidth.containsKey(reverse)
+                    && getAvailableBandwidth(reverse, flow, occupiedByFlow) >= flow.getBandwidth();
+        }
+        return true;
+    }
+
+    private long getAvailableBandwidth(IslKey key, Flow flow, Set<IslKey> occupiedByFlow) {
+        long bandwidth = availableBandwidth.get(key);
+        return occupiedByFlow.contains(key) ? bandwidth + flow.getBandwidth() : bandwidth;
+    }
+
+    /**
+     * Gets ISLs of the current flow paths, as registered by {@link #addOccupiedIsls(String, Collection)}.
+     */
+    private Set<IslKey> getOccupiedIsls(Flow flow) {
+        if (flow.isIgnoreBandwidth()) {
+            return Collections.emptySet();
+        }
+        return occupiedIsls.getOrDefault(flow.getFlowId(), Collections.emptySet());
+    }
+
+    private List<IslKey> getIsls(FlowPath path) {
+        List<FlowPath.Node> nodes = path.getNodes();
+        List<IslKey> result = new ArrayList<>(nodes.size() / 2);
+        for (int i = 0; i + 1 < nodes.size(); i += 2) {
+            FlowPath.Node src = nodes.get(i);
+            FlowPath.Node dst = nodes.get(i + 1);
+            result.add(new IslKey(src.getSwitchId(), src.getPortNo(), dst.getSwitchId(), dst.getPortNo()));
+        }
+        return result;
+    }
+
+    @Value
+    private static class IslKey {
+        SwitchId srcSwitch;
+        int srcPort;
+        SwitchId destSwitch;
+        int destPort;
+
+        static IslKey of(Isl isl) {
+            return new IslKey(isl.getSrcSwitch().getSwitchId(), isl.getSrcPort(),
+                    isl.getDestSwitch().getSwitchId(), isl.getDestPort());
+        }
+
+        IslKey reverse() {
+            return new IslKey(destSwitch, destPort, srcSwitch, srcPort);
+        }
+    }
+}
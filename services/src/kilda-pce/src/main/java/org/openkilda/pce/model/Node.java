@@ -22,12 +22,12 @@ import static java.util.stream.Collectors.toSet;
 
 import org.openkilda.model.SwitchId;
 
+import com.google.common.collect.ImmutableSet;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.Setter;
 import lombok.ToString;
 
 import java.util.HashSet;
@@ -39,12 +39,17 @@ import java.util.function.Function;
 @AllArgsConstructor
 @Builder
 @EqualsAndHashCode(of = "switchId")
-@ToString(exclude = {"incomingLinks", "outgoingLinks"})
+@ToString(exclude = {"incomingLinks", "outgoingLinks", "frozen"})
 public class Node {
     @NonNull
     private final SwitchId switchId;
 
-    @Setter
+    /**
+     * Dense sequential number of the node within its network, used by path finders to keep per-node search state in
+     * arrays instead of maps.
+     */
+    private final int index;
+
     private int cost;
 
     @NonNull
@@ -52,6 +57,8 @@ public class Node {
     @NonNull
     private Set<Edge> outgoingLinks;
 
+    private boolean frozen;
+
     /**
      * Constructs {@link Node} instance with passed {@link SwitchId}.
      *
@@ -59,23 +66,58 @@ public class Node {
      * @return new {@link Node} instance.
      */
     public static Node fromSwitchId(SwitchId swId) {
+        return fromSwitchId(swId, 0);
+    }
+
+    /**
+     * Constructs {@link Node} instance with passed {@link SwitchId} and index within the network.
+     *
+     * @param swId the {@link SwitchId} instance.
+     * @param index the sequential number of the node within the network.
+     * @return new {@link Node} instance.
+     */
+    public static Node fromSwitchId(SwitchId swId, int index) {
         return Node.builder()
                 .switchId(swId)
+                .index(index)
                 .incomingLinks(new HashSet<>())
                 .outgoingLinks(new HashSet<>())
                 .build();
     }
 
+    public void setCost(int cost) {
+        checkNotFrozen();
+        this.cost = cost;
+    }
+
+    /**
+     * Makes the node and its links unmodifiable, so it can be shared between threads.
+     */
+    public void freeze() {
+        if (!frozen) {
+            incomingLinks = ImmutableSet.copyOf(incomingLinks);
+            outgoingLinks = ImmutableSet.copyOf(outgoingLinks);
+            frozen = true;
+        }
+    }
+
     /**
      * Performs links reducing for current node by passed {@link WeightFunction}.
      *
      * @param weightFunction the function for weigh calculation.
      */
     public void reduceByWeight(WeightFunction weightFunction) {
+        checkNotFrozen();
         outgoingLinks = reduceByWeight(outgoingLinks, Edge::getDestSwitch, weightFunction);
         incomingLinks = reduceByWeight(incomingLinks, Edge::getSrcSwitch, weightFunction);
     }
 
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new IllegalStateException(String.format("Node %s is frozen and can't be modified", switchId));
+        }
+    }
+
     private Set<Edge> reduceByWeight(
             Set<Edge> edges, Function<Edge, Node> groupingFunction, WeightFunction weightFunction) {
         if (edges.isEmpty()) {
@@ -17,7 +17,9 @@ package org.openkilda.pce;
 
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import org.openkilda.pce.PathComputerFactory.PathFinderType;
 import org.openkilda.pce.PathComputerFactory.WeightStrategy;
 import org.openkilda.pce.impl.InMemoryPathComputer;
 
@@ -27,7 +29,15 @@ public class PathComputerFactoryTest {
     @Test
     public void shouldCreateAnInstance() {
         PathComputerFactory factory = new PathComputerFactory(
-                mock(PathComputerConfig.class), mock(AvailableNetworkFactory.class));
+                buildConfig(PathFinderType.BEST_COST_AND_SHORTEST), mock(AvailableNetworkFactory.class));
+        PathComputer pathComputer = factory.getPathComputer(WeightStrategy.COST);
+        assertTrue(pathComputer instanceof InMemoryPathComputer);
+    }
+
+    @Test
+    public void shouldCreateAnInstanceWithDijkstraFinder() {
+        PathComputerFactory factory = new PathComputerFactory(
+                buildConfig(PathFinderType.DIJKSTRA), mock(AvailableNetworkFactory.class));
         PathComputer pathComputer = factory.getPathComputer(WeightStrategy.COST);
         assertTrue(pathComputer instanceof InMemoryPathComputer);
     }
@@ -35,7 +45,13 @@ public class PathComputerFactoryTest {
     @Test(expected = UnsupportedOperationException.class)
     public void shouldNotCreateNonCostPathComputer() {
         PathComputerFactory factory = new PathComputerFactory(
-                mock(PathComputerConfig.class), mock(AvailableNetworkFactory.class));
+                buildConfig(PathFinderType.BEST_COST_AND_SHORTEST), mock(AvailableNetworkFactory.class));
         factory.getPathComputer(WeightStrategy.LATENCY);
     }
+
+    private PathComputerConfig buildConfig(PathFinderType finderType) {
+        PathComputerConfig config = mock(PathComputerConfig.class);
+        when(config.getPathFinder()).thenReturn(finderType.name());
+        return config;
+    }
 }
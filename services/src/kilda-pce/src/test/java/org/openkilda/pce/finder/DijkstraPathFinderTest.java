@@ -0,0 +1,412 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.pce.finder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import org.openkilda.model.Isl;
+import org.openkilda.model.Switch;
+import org.openkilda.model.SwitchId;
+import org.openkilda.pce.PathDiversity;
+import org.openkilda.pce.exception.UnroutableFlowException;
+import org.openkilda.pce.impl.AvailableNetwork;
+import org.openkilda.pce.model.Edge;
+import org.openkilda.pce.model.WeightFunction;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class DijkstraPathFinderTest {
+
+    private static final int ALLOWED_DEPTH = 35;
+    private static final WeightFunction WEIGHT_FUNCTION = edge -> (long) edge.getCost();
+
+    private static final SwitchId SWITCH_ID_A = new SwitchId("00:00:00:22:3d:5a:04:87");
+    private static final SwitchId SWITCH_ID_B = new SwitchId("00:00:70:72:cf:d2:48:6c");
+    private static final SwitchId SWITCH_ID_C = new SwitchId("00:00:00:22:3d:6c:00:b8");
+    private static final SwitchId SWITCH_ID_D = new SwitchId("00:00:00:22:3d:6b:00:04");
+    private static final SwitchId SWITCH_ID_E = new SwitchId("00:00:70:72:cf:d2:47:a6");
+    private static final SwitchId SWITCH_ID_F = new SwitchId("00:00:b0:d2:f5:00:5a:b8");
+
+    private static final SwitchId SWITCH_ID_1 = new SwitchId("00:00:00:00:00:00:00:01");
+    private static final SwitchId SWITCH_ID_2 = new SwitchId("00:00:00:00:00:00:00:02");
+    private static final SwitchId SWITCH_ID_3 = new SwitchId("00:00:00:00:00:00:00:03");
+    private static final SwitchId SWITCH_ID_4 = new SwitchId("00:00:00:00:00:00:00:04");
+    private static final SwitchId SWITCH_ID_5 = new SwitchId("00:00:00:00:00:00:00:05");
+
+    private static final List<SwitchId> TEST_NETWORK_SWITCHES = Arrays.asList(
+            SWITCH_ID_A, SWITCH_ID_B, SWITCH_ID_C, SWITCH_ID_D, SWITCH_ID_E, SWITCH_ID_F);
+    private static final List<SwitchId> NUMBERED_SWITCHES = Arrays.asList(
+            SWITCH_ID_1, SWITCH_ID_2, SWITCH_ID_3, SWITCH_ID_4, SWITCH_ID_5);
+
+    @Test
+    public void shouldChooseExpensiveOverTooDeep() throws UnroutableFlowException {
+        AvailableNetwork network = buildLongAndExpensivePathsNetwork();
+
+        DijkstraPathFinder finder = new DijkstraPathFinder(2, WEIGHT_FUNCTION);
+        Pair<List<Edge>, List<Edge>> pairPath = finder.findPathInNetwork(network, SWITCH_ID_1, SWITCH_ID_4);
+        assertEquals(Arrays.asList(SWITCH_ID_1, SWITCH_ID_2, SWITCH_ID_4), getSwitchIdsFlowPath(pairPath.getLeft()));
+        assertEquals(Arrays.asList(SWITCH_ID_4, SWITCH_ID_2, SWITCH_ID_1), getSwitchIdsFlowPath(pairPath.getRight()));
+    }
+
+    @Test
+    public void shouldChooseDeeperOverExpensive() throws UnroutableFlowException {
+        AvailableNetwork network = buildLongAndExpensivePathsNetwork();
+
+        DijkstraPathFinder finder = new DijkstraPathFinder(4, WEIGHT_FUNCTION);
+        Pair<List<Edge>, List<Edge>> pairPath = finder.findPathInNetwork(network, SWITCH_ID_1, SWITCH_ID_4);
+        assertEquals(Arrays.asList(SWITCH_ID_1, SWITCH_ID_2, SWITCH_ID_3, SWITCH_ID_5, SWITCH_ID_4),
+                getSwitchIdsFlowPath(pairPath.getLeft()));
+    }
+
+    @Test
+    public void shouldAddIntermediateSwitchWeightOnce() throws UnroutableFlowException {
+        AvailableNetwork network = buildTestNetwork();
+        network.getSwitch(SWITCH_ID_A).setCost(100);
+
+        DijkstraPathFinder finder = new DijkstraPathFinder(ALLOWED_DEPTH, WEIGHT_FUNCTION);
+        Pair<List<Edge>, List<Edge>> paths = finder.findPathInNetwork(network, SWITCH_ID_D, SWITCH_ID_F);
+
+        assertEquals(Arrays.asList(SWITCH_ID_D, SWITCH_ID_A, SWITCH_ID_F), getSwitchIdsFlowPath(paths.getLeft()));
+    }
+
+    @Test
+    public void shouldHandleVeryExpensiveLinks() throws UnroutableFlowException {
+        AvailableNetwork network = buildExpensiveNetwork();
+
+        DijkstraPathFinder finder = new DijkstraPathFinder(ALLOWED_DEPTH, WEIGHT_FUNCTION);
+        Pair<List<Edge>, List<Edge>> paths = finder.findPathInNetwork(network, SWITCH_ID_1, SWITCH_ID_3);
+
+        assertEquals(Arrays.asList(SWITCH_ID_1, SWITCH_ID_3), getSwitchIdsFlowPath(paths.getLeft()));
+    }
+
+    @Test(expected = UnroutableFlowException.class)
+    public void failToFindASwitch() throws UnroutableFlowException {
+        AvailableNetwork network = buildTestNetwork();
+
+        DijkstraPathFinder finder = new DijkstraPathFinder(ALLOWED_DEPTH, WEIGHT_FUNCTION);
+        finder.findPathInNetwork(network, new SwitchId("00:00:00:00:00:00:00:ff"), SWITCH_ID_F);
+    }
+
+    @Test(expected = UnroutableFlowException.class)
+    public void failToFindReversePath() throws UnroutableFlowException {
+        AvailableNetwork network = buildNetworkWithoutReversePathAvailable();
+
+        DijkstraPathFinder finder = new DijkstraPathFinder(ALLOWED_DEPTH, WEIGHT_FUNCTION);
+        finder.findPathInNetwork(network, SWITCH_ID_1, SWITCH_ID_3);
+    }
+
+    @Test
+    public void shouldFindLinkDisjointPaths() throws UnroutableFlowException {
+        AvailableNetwork network = buildDiverseNetwork();
+
+        DijkstraPathFinder finder = new DijkstraPathFinder(ALLOWED_DEPTH, WEIGHT_FUNCTION);
+        List<Pair<List<Edge>, List<Edge>>> paths = finder.findDiversePathsInNetwork(network, SWITCH_ID_1, SWITCH_ID_4,
+                3, PathDiversity.LINK);
+
+        assertThat(paths, Matchers.hasSize(2));
+        assertEquals(Arrays.asList(SWITCH_ID_1, SWITCH_ID_2, SWITCH_ID_4),
+                getSwitchIdsFlowPath(paths.get(0).getLeft()));
+        assertEquals(Arrays.asList(SWITCH_ID_1, SWITCH_ID_3, SWITCH_ID_2, SWITCH_ID_5, SWITCH_ID_4),
+                getSwitchIdsFlowPath(paths.get(1).getLeft()));
+        assertEquals(Arrays.asList(SWITCH_ID_4, SWITCH_ID_5, SWITCH_ID_2, SWITCH_ID_3, SWITCH_ID_1),
+                getSwitchIdsFlowPath(paths.get(1).getRight()));
+    }
+
+    @Test
+    public void shouldFindSwitchDisjointPaths() throws UnroutableFlowException {
+        AvailableNetwork network = buildDiverseNetwork();
+
+        DijkstraPathFinder finder = new DijkstraPathFinder(ALLOWED_DEPTH, WEIGHT_FUNCTION);
+        List<Pair<List<Edge>, List<Edge>>> paths = finder.findDiversePathsInNetwork(network, SWITCH_ID_1, SWITCH_ID_4,
+                3, PathDiversity.SWITCH);
+
+        assertThat(paths, Matchers.hasSize(2));
+        assertEquals(Arrays.asList(SWITCH_ID_1, SWITCH_ID_2, SWITCH_ID_4),
+                getSwitchIdsFlowPath(paths.get(0).getLeft()));
+        assertEquals(Arrays.asList(SWITCH_ID_1, SWITCH_ID_3, SWITCH_ID_4),
+                getSwitchIdsFlowPath(paths.get(1).getLeft()));
+    }
+
+    @Test
+    public void shouldFindSamePathsAsBestCostAndShortestPathFinderInTestNetwork() {
+        assertSamePaths(buildTestNetwork(), TEST_NETWORK_SWITCHES, ALLOWED_DEPTH);
+
+        AvailableNetwork network = buildTestNetwork();
+        network.getSwitch(SWITCH_ID_A).setCost(100);
+        assertSamePaths(network, TEST_NETWORK_SWITCHES, ALLOWED_DEPTH);
+    }
+
+    @Test
+    public void shouldFindSamePathsAsBestCostAndShortestPathFinderWithLimitedDepth() {
+        for (int depth = 1; depth <= 4; depth++) {
+            assertSamePaths(buildLongAndExpensivePathsNetwork(), NUMBERED_SWITCHES, depth);
+        }
+    }
+
+    @Test
+    public void shouldFindSamePathsAsBestCostAndShortestPathFinderInOtherNetworks() {
+        assertSamePaths(buildEqualCostsNetwork(), NUMBERED_SWITCHES, ALLOWED_DEPTH);
+        assertSamePaths(buildNetworkWithBandwidthInReversePathBiggerThanForward(), NUMBERED_SWITCHES, ALLOWED_DEPTH);
+        assertSamePaths(buildExpensiveNetwork(), NUMBERED_SWITCHES, ALLOWED_DEPTH);
+        assertSamePaths(buildNetworkWithoutReversePathAvailable(), NUMBERED_SWITCHES, ALLOWED_DEPTH);
+    }
+
+    @Test
+    public void shouldFindPathsConcurrentlyOverFrozenNetwork() throws Exception {
+        AvailableNetwork network = buildTestNetwork();
+        network.freeze();
+
+        DijkstraPathFinder finder = new DijkstraPathFinder(ALLOWED_DEPTH, WEIGHT_FUNCTION);
+        List<Pair<List<SwitchId>, List<SwitchId>>> expected = new ArrayList<>();
+        List<Callable<Pair<List<SwitchId>, List<SwitchId>>>> tasks = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            for (SwitchId src : TEST_NETWORK_SWITCHES) {
+                for (SwitchId dst : TEST_NETWORK_SWITCHES) {
+                    expected.add(findPath(finder, network, src, dst));
+                    tasks.add(() -> findPath(finder, network, src, dst));
+                }
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Pair<List<SwitchId>, List<SwitchId>>>> results = executor.invokeAll(tasks);
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(expected.get(i), results.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertSamePaths(AvailableNetwork network, List<SwitchId> switches, int depth) {
+        PathFinder expectedFinder = new BestCostAndShortestPathFinder(depth, WEIGHT_FUNCTION);
+        PathFinder actualFinder = new DijkstraPathFinder(depth, WEIGHT_FUNCTION);
+
+        for (SwitchId src : switches) {
+            for (SwitchId dst : switches) {
+                Pair<List<SwitchId>, List<SwitchId>> expected = findPath(expectedFinder, network, src, dst);
+                Pair<List<SwitchId>, List<SwitchId>> actual = findPath(actualFinder, network, src, dst);
+                assertEquals(String.format("Path from %s to %s with depth %d", src, dst, depth), expected, actual);
+            }
+        }
+    }
+
+    private Pair<List<SwitchId>, List<SwitchId>> findPath(PathFinder finder, AvailableNetwork network,
+                                                         SwitchId src, SwitchId dst) {
+        try {
+            Pair<List<Edge>, List<Edge>> paths = finder.findPathInNetwork(network, src, dst);
+            assertThat(paths.getLeft(), Matchers.not(Matchers.empty()));
+            return Pair.of(getSwitchIdsFlowPath(paths.getLeft()), getSwitchIdsFlowPath(paths.getRight()));
+        } catch (UnroutableFlowException e) {
+            return null;
+        }
+    }
+
+    private AvailableNetwork buildLongAndExpensivePathsNetwork() {
+        /*
+         *   Topology:
+         *
+         *   SW1---SW2~~~SW4
+         *          |     |
+         *         SW3---SW5
+         *
+         *   SW2 - SW4 is expensive by cost.
+         */
+        AvailableNetwork network = new AvailableNetwork();
+        addBidirectionalLink(network, SWITCH_ID_1, SWITCH_ID_2, 1, 2, 100);
+        addBidirectionalLink(network, SWITCH_ID_2, SWITCH_ID_4, 3, 4, 10000);
+        addBidirectionalLink(network, SWITCH_ID_2, SWITCH_ID_3, 5, 6, 100);
+        addBidirectionalLink(network, SWITCH_ID_3, SWITCH_ID_5, 7, 8, 100);
+        addBidirectionalLink(network, SWITCH_ID_4, SWITCH_ID_5, 9, 10, 100);
+
+        network.reduceByWeight(WEIGHT_FUNCTION);
+        return network;
+    }
+
+    private AvailableNetwork buildEqualCostsNetwork() {
+        /*
+         *   Topology:
+         *
+         *   SW1---SW2---SW4
+         *          |     |
+         *         SW3---SW5
+         *
+         *   All ISLs have equal cost.
+         */
+        AvailableNetwork network = new AvailableNetwork();
+        addBidirectionalLink(network, SWITCH_ID_1, SWITCH_ID_2, 1, 2, 100);
+        addBidirectionalLink(network, SWITCH_ID_2, SWITCH_ID_4, 3, 4, 100);
+        addBidirectionalLink(network, SWITCH_ID_2, SWITCH_ID_3, 5, 6, 100);
+        addBidirectionalLink(network, SWITCH_ID_3, SWITCH_ID_5, 7, 8, 100);
+        addBidirectionalLink(network, SWITCH_ID_4, SWITCH_ID_5, 9, 10, 100);
+
+        network.reduceByWeight(WEIGHT_FUNCTION);
+        return network;
+    }
+
+    private AvailableNetwork buildNetworkWithBandwidthInReversePathBiggerThanForward() {
+        /*
+         *   Topology:
+         *
+         *   SW1---SW2---SW4
+         *          |     |
+         *         SW3---SW5
+         *
+         *   SW5 - SW3 is expensive by cost.
+         */
+        AvailableNetwork network = new AvailableNetwork();
+        addBidirectionalLink(network, SWITCH_ID_1, SWITCH_ID_2, 1, 2, 100);
+        addBidirectionalLink(network, SWITCH_ID_2, SWITCH_ID_4, 3, 4, 100);
+        addBidirectionalLink(network, SWITCH_ID_2, SWITCH_ID_3, 5, 68, 100);
+        addLink(network, SWITCH_ID_3, SWITCH_ID_5, 7, 8, 10, 100);
+        addLink(network, SWITCH_ID_5, SWITCH_ID_3, 8, 7, 10000, 100);
+        addLink(network, SWITCH_ID_4, SWITCH_ID_5, 9, 10, 100, 100);
+        addLink(network, SWITCH_ID_5, SWITCH_ID_4, 10, 9, 100, 100);
+
+        network.reduceByWeight(WEIGHT_FUNCTION);
+        return network;
+    }
+
+    private AvailableNetwork buildExpensiveNetwork() {
+        /*
+         *   Triangle topology:
+         *
+         *   SW1---2 000 000 000---SW2---2 000 000 000---SW3
+         *   |                                           |
+         *   +---------------------1---------------------+
+         */
+        AvailableNetwork network = new AvailableNetwork();
+        addBidirectionalLink(network, SWITCH_ID_1, SWITCH_ID_2, 1, 2, 2000000000);
+        addBidirectionalLink(network, SWITCH_ID_2, SWITCH_ID_3, 3, 4, 2000000000);
+        addBidirectionalLink(network, SWITCH_ID_1, SWITCH_ID_3, 5, 6, 1);
+
+        network.reduceByWeight(WEIGHT_FUNCTION);
+        return network;
+    }
+
+    private AvailableNetwork buildTestNetwork() {
+        /*
+         *   Topology:
+         *
+         *   D---C---F---B---E
+         *   |   |   |   |   |
+         *   |   +---A---+   |
+         *   |      / \      |
+         *   +-----+   +-----+
+         */
+        AvailableNetwork network = new AvailableNetwork();
+        addLink(network, SWITCH_ID_A, SWITCH_ID_F, 7, 60, 0, 3);
+        addLink(network, SWITCH_ID_A, SWITCH_ID_B, 5, 32, 10, 18);
+        addLink(network, SWITCH_ID_A, SWITCH_ID_D, 2, 2, 10, 2);
+        addLink(network, SWITCH_ID_A, SWITCH_ID_E, 6, 16, 10, 15);
+        addLink(network, SWITCH_ID_A, SWITCH_ID_C, 1, 3, 40, 4);
+        addLink(network, SWITCH_ID_D, SWITCH_ID_C, 1, 1, 100, 7);
+        addLink(network, SWITCH_ID_D, SWITCH_ID_A, 2, 2, 10, 1);
+        addLink(network, SWITCH_ID_C, SWITCH_ID_F, 6, 19, 10, 3);
+        addLink(network, SWITCH_ID_C, SWITCH_ID_D, 1, 1, 100, 2);
+        addLink(network, SWITCH_ID_C, SWITCH_ID_A, 3, 1, 100, 2);
+        addLink(network, SWITCH_ID_E, SWITCH_ID_B, 52, 52, 10, 381);
+        addLink(network, SWITCH_ID_E, SWITCH_ID_A, 16, 6, 10, 18);
+        addLink(network, SWITCH_ID_B, SWITCH_ID_F, 48, 49, 10, 97);
+        addLink(network, SWITCH_ID_B, SWITCH_ID_E, 52, 52, 10, 1021);
+        addLink(network, SWITCH_ID_B, SWITCH_ID_A, 32, 5, 10, 16);
+        addLink(network, SWITCH_ID_F, SWITCH_ID_B, 49, 48, 10, 0);
+        addLink(network, SWITCH_ID_F, SWITCH_ID_C, 19, 6, 10, 3);
+        addLink(network, SWITCH_ID_F, SWITCH_ID_A, 50, 7, 0, 3);
+
+        network.reduceByWeight(WEIGHT_FUNCTION);
+        return network;
+    }
+
+    private AvailableNetwork buildDiverseNetwork() {
+        /*
+         *   Topology:
+         *
+         *   SW1---SW2---SW4
+         *    |   / |     |
+         *    |  /  SW5---+
+         *    | /         |
+         *   SW3----------+
+         */
+        AvailableNetwork network = new AvailableNetwork();
+        addBidirectionalLink(network, SWITCH_ID_1, SWITCH_ID_2, 1, 1, 1);
+        addBidirectionalLink(network, SWITCH_ID_2, SWITCH_ID_4, 2, 1, 1);
+        addBidirectionalLink(network, SWITCH_ID_1, SWITCH_ID_3, 2, 1, 2);
+        addBidirectionalLink(network, SWITCH_ID_3, SWITCH_ID_2, 2, 3, 2);
+        addBidirectionalLink(network, SWITCH_ID_2, SWITCH_ID_5, 4, 1, 2);
+        addBidirectionalLink(network, SWITCH_ID_5, SWITCH_ID_4, 2, 2, 2);
+        addBidirectionalLink(network, SWITCH_ID_3, SWITCH_ID_4, 3, 3, 10);
+        network.reduceByWeight(WEIGHT_FUNCTION);
+        return network;
+    }
+
+    private AvailableNetwork buildNetworkWithoutReversePathAvailable() {
+        /*
+         *   Topology:
+         *
+         *   SW1---SW2---SW3
+         */
+        AvailableNetwork network = new AvailableNetwork();
+        addLink(network, SWITCH_ID_1, SWITCH_ID_2, 1, 2, 100, 100);
+        addLink(network, SWITCH_ID_2, SWITCH_ID_3, 5, 6, 100, 100);
+        return network;
+    }
+
+    private List<SwitchId> getSwitchIdsFlowPath(List<Edge> path) {
+        List<SwitchId> switchIds = new ArrayList<>();
+        if (!path.isEmpty()) {
+            switchIds.add(path.get(0).getSrcSwitch().getSwitchId());
+            for (Edge edge : path) {
+                switchIds.add(edge.getDestSwitch().getSwitchId());
+            }
+        }
+        return switchIds;
+    }
+
+    private void addBidirectionalLink(AvailableNetwork network, SwitchId firstSwitch, SwitchId secondSwitch,
+                                      int srcPort, int dstPort, int cost) {
+        addLink(network, firstSwitch, secondSwitch, srcPort, dstPort, cost, 1);
+        addLink(network, secondSwitch, firstSwitch, dstPort, srcPort, cost, 1);
+    }
+
+    private void addLink(AvailableNetwork network, SwitchId srcDpid, SwitchId dstDpid, int srcPort, int dstPort,
+                         int cost, int latency) {
+        Switch srcSwitch = Switch.builder().switchId(srcDpid).build();
+        Switch dstSwitch = Switch.builder().switchId(dstDpid).build();
+
+        Isl isl = Isl.builder()
+                .srcSwitch(srcSwitch)
+                .destSwitch(dstSwitch)
+                .srcPort(srcPort)
+                .destPort(dstPort)
+                .cost(cost)
+                .latency(latency)
+                .build();
+        network.addLink(isl);
+    }
+}
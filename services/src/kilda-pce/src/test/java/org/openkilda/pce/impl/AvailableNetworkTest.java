@@ -17,6 +17,8 @@ package org.openkilda.pce.impl;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import org.openkilda.model.Isl;
 import org.openkilda.model.Switch;
@@ -126,6 +128,31 @@ public class AvailableNetworkTest {
         assertEquals(srcSwitch, incomingIsl.getSrcSwitch());
     }
 
+    @Test
+    public void shouldFreezeNetwork() {
+        AvailableNetwork network = new AvailableNetwork();
+        addLink(network, SRC_SWITCH, DST_SWITCH, 1, 1, 20, 5);
+        addLink(network, DST_SWITCH, SRC_SWITCH, 1, 1, 20, 5);
+
+        network.freeze();
+
+        assertTrue(network.isFrozen());
+        assertThat(network.getSwitch(SRC_SWITCH).getOutgoingLinks(), Matchers.hasSize(1));
+        assertFails(() -> addLink(network, SRC_SWITCH, DST_SWITCH, 2, 2, 10, 3));
+        assertFails(() -> network.reduceByWeight(edge -> (long) edge.getCost()));
+        assertFails(() -> network.getSwitch(SRC_SWITCH).setCost(100));
+        assertFails(() -> network.getSwitch(SRC_SWITCH).getOutgoingLinks().clear());
+    }
+
+    private void assertFails(Runnable action) {
+        try {
+            action.run();
+            fail("The frozen network has been modified");
+        } catch (IllegalStateException | UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
     private void addLink(AvailableNetwork network, SwitchId srcDpid, SwitchId dstDpid, int srcPort, int dstPort,
                         int cost, int latency) {
         Switch srcSwitch = Switch.builder().switchId(srcDpid).build();
@@ -30,10 +30,12 @@ import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchId;
 import org.openkilda.model.SwitchStatus;
 import org.openkilda.pce.AvailableNetworkFactory;
+import org.openkilda.pce.BatchPathResult;
 import org.openkilda.pce.PathComputer;
 import org.openkilda.pce.PathComputerConfig;
 import org.openkilda.pce.PathComputerFactory;
 import org.openkilda.pce.PathComputerFactory.WeightStrategy;
+import org.openkilda.pce.PathDiversity;
 import org.openkilda.pce.PathPair;
 import org.openkilda.pce.exception.RecoverableException;
 import org.openkilda.pce.exception.UnroutableFlowException;
@@ -60,7 +62,10 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.neo4j.ogm.testutil.TestServer;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 public class InMemoryPathComputerTest {
 
@@ -236,6 +241,120 @@ public class InMemoryPathComputerTest {
     }
 
 
+    @Test
+    public void shouldReserveBandwidthForFlowsInBatch() throws RecoverableException {
+        createDiamond(IslStatus.ACTIVE, IslStatus.ACTIVE, 10, 20, "05:", 1);
+
+        Switch srcSwitch = switchRepository.findById(new SwitchId("05:01")).get();
+        Switch destSwitch = switchRepository.findById(new SwitchId("05:04")).get();
+
+        Flow small = buildFlow("small", srcSwitch, destSwitch, 350);
+        Flow large = buildFlow("large", srcSwitch, destSwitch, 800);
+        Flow second = buildFlow("second", srcSwitch, destSwitch, 700);
+
+        PathComputer pathComputer = pathComputerFactory.getPathComputer();
+        BatchPathResult result = pathComputer.getPaths(Arrays.asList(small, second, large), false);
+
+        // The largest flow is placed first over the cheapest path B, the rest don't fit there.
+        assertEquals(Arrays.asList("large", "second"), new ArrayList<>(result.getPaths().keySet()));
+        assertEquals(new SwitchId("05:02"),
+                result.getPaths().get("large").getForward().getNodes().get(1).getSwitchId());
+        assertEquals(new SwitchId("05:03"),
+                result.getPaths().get("second").getForward().getNodes().get(1).getSwitchId());
+        assertThat(result.getUnroutableFlows().keySet(), Matchers.contains("small"));
+    }
+
+    @Test
+    public void shouldComputeSamePathsInParallel() throws RecoverableException {
+        createDiamond(IslStatus.ACTIVE, IslStatus.ACTIVE, 10, 20, "06:", 1);
+
+        Switch srcSwitch = switchRepository.findById(new SwitchId("06:01")).get();
+        Switch destSwitch = switchRepository.findById(new SwitchId("06:04")).get();
+
+        List<Flow> flows = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Flow flow = buildFlow("flow-" + i, srcSwitch, destSwitch, 100 + i * 10);
+            flow.setIgnoreBandwidth(i % 5 == 0);
+            flows.add(flow);
+        }
+
+        PathComputer sequential = pathComputerFactory.getPathComputer();
+        PathComputer parallel = new InMemoryPathComputer(availableNetworkFactory,
+                new BestCostAndShortestPathFinder(config.getMaxAllowedDepth(),
+                        pathComputerFactory.getWeightFunctionByStrategy(WeightStrategy.COST)),
+                new ForkJoinPool(4));
+
+        BatchPathResult expected = sequential.getPaths(flows, false);
+        BatchPathResult actual = parallel.getPaths(flows, false);
+
+        assertEquals(expected.getPaths(), actual.getPaths());
+        assertEquals(new ArrayList<>(expected.getPaths().keySet()), new ArrayList<>(actual.getPaths().keySet()));
+        assertEquals(expected.getUnroutableFlows().keySet(), actual.getUnroutableFlows().keySet());
+        assertThat(actual.getUnroutableFlows().keySet(), Matchers.not(Matchers.empty()));
+    }
+
+    @Test
+    public void shouldReuseBandwidthOfAsymmetricPathsInBatch() throws RecoverableException {
+        // A - B - D
+        //   + C +
+        Switch nodeA = createSwitch("15:01");
+        Switch nodeB = createSwitch("15:02");
+        Switch nodeC = createSwitch("15:03");
+        Switch nodeD = createSwitch("15:04");
+
+        // The flow goes over B forward and over C backward. A - B is down, so the flow must be moved to C, where
+        // only the ISLs occupied by the reverse path of the flow are left.
+        createIsl(nodeA, nodeB, IslStatus.INACTIVE, IslStatus.INACTIVE, 10, 1000, 5);
+        createIsl(nodeB, nodeA, IslStatus.INACTIVE, IslStatus.INACTIVE, 10, 1000, 5);
+        createIsl(nodeB, nodeD, IslStatus.ACTIVE, IslStatus.ACTIVE, 10, 0, 6);
+        createIsl(nodeD, nodeB, IslStatus.ACTIVE, IslStatus.ACTIVE, 10, 1000, 6);
+        createIsl(nodeA, nodeC, IslStatus.ACTIVE, IslStatus.ACTIVE, 20, 1000, 6);
+        createIsl(nodeC, nodeD, IslStatus.ACTIVE, IslStatus.ACTIVE, 20, 1000, 5);
+        createIsl(nodeD, nodeC, IslStatus.ACTIVE, IslStatus.ACTIVE, 20, 0, 5);
+        createIsl(nodeC, nodeA, IslStatus.ACTIVE, IslStatus.ACTIVE, 20, 0, 6);
+
+        Flow flow = buildFlow("asymmetric", nodeA, nodeD, 1000);
+        createFlowSegment(flow.getFlowId(), flow.getBandwidth(), nodeA, nodeB, 5, 5);
+        createFlowSegment(flow.getFlowId(), flow.getBandwidth(), nodeB, nodeD, 6, 6);
+        createFlowSegment(flow.getFlowId(), flow.getBandwidth(), nodeD, nodeC, 5, 5);
+        createFlowSegment(flow.getFlowId(), flow.getBandwidth(), nodeC, nodeA, 6, 6);
+
+        PathComputer pathComputer = pathComputerFactory.getPathComputer();
+        BatchPathResult result = pathComputer.getPaths(Arrays.asList(flow), true);
+
+        assertThat(result.getUnroutableFlows().keySet(), Matchers.empty());
+        PathPair path = result.getPaths().get(flow.getFlowId());
+        assertEquals(new SwitchId("15:03"), path.getForward().getNodes().get(1).getSwitchId());
+        assertEquals(new SwitchId("15:03"), path.getReverse().getNodes().get(1).getSwitchId());
+    }
+
+    @Test
+    public void shouldFindPrimaryAndBackupPaths() throws UnroutableFlowException, RecoverableException {
+        createDiamond(IslStatus.ACTIVE, IslStatus.ACTIVE, 10, 20, "14:", 1);
+
+        Switch srcSwitch = switchRepository.findById(new SwitchId("14:01")).get();
+        Switch destSwitch = switchRepository.findById(new SwitchId("14:04")).get();
+        Flow flow = buildFlow("protected", srcSwitch, destSwitch, 100);
+
+        PathComputer pathComputer = pathComputerFactory.getPathComputer();
+        List<PathPair> paths = pathComputer.getDiversePaths(flow, false, 3, PathDiversity.SWITCH);
+
+        // Only two switch disjoint paths exist, the cheapest one goes first.
+        assertThat(paths, Matchers.hasSize(2));
+        assertEquals(new SwitchId("14:02"), paths.get(0).getForward().getNodes().get(1).getSwitchId());
+        assertEquals(new SwitchId("14:03"), paths.get(1).getForward().getNodes().get(1).getSwitchId());
+        assertEquals(new SwitchId("14:03"), paths.get(1).getReverse().getNodes().get(1).getSwitchId());
+    }
+
+    private Flow buildFlow(String flowId, Switch srcSwitch, Switch destSwitch, long bandwidth) {
+        Flow flow = new Flow();
+        flow.setFlowId(flowId);
+        flow.setSrcSwitch(srcSwitch);
+        flow.setDestSwitch(destSwitch);
+        flow.setBandwidth(bandwidth);
+        return flow;
+    }
+
     @Test
     public void shouldFailToFindOverDiamondWithNoActiveRoutes() throws UnroutableFlowException, RecoverableException {
         /*
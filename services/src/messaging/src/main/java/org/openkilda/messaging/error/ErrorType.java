@@ -81,6 +81,11 @@ public enum ErrorType {
      */
     OPERATION_TIMED_OUT("Operation has timed out"),
 
+    /**
+     * The error message for too many requests in progress.
+     */
+    SERVICE_UNAVAILABLE("Service is unavailable"),
+
     /**
      * The error message for invalid request credentials.
      */
@@ -0,0 +1,45 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.messaging.info;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * A batch of datapoints sent as a single message. Producers of large amounts of datapoints (e.g. flow statistics)
+ * use it to reduce the number of messages in the OpenTSDB topic.
+ */
+@Value
+@EqualsAndHashCode(callSuper = false)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DatapointEntries extends InfoData {
+    public static final String DATAPOINTS_FIELD = "datapoints";
+
+    private static final long serialVersionUID = 1L;
+
+    @JsonProperty(DATAPOINTS_FIELD)
+    private List<Datapoint> datapoints;
+
+    @JsonCreator
+    public DatapointEntries(@JsonProperty(DATAPOINTS_FIELD) List<Datapoint> datapoints) {
+        this.datapoints = datapoints;
+    }
+}
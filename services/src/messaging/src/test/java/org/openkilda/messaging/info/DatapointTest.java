@@ -21,6 +21,9 @@ import com.google.common.collect.ImmutableMap;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Map;
+
 public class DatapointTest implements StringSerializer {
     @Test
     public void serializeLoop() throws Exception {
@@ -38,4 +41,19 @@ public class DatapointTest implements StringSerializer {
 
         Assert.assertEquals(origin, reconstruct);
     }
+
+    @Test
+    public void serializeEntriesLoop() throws Exception {
+        Map<String, String> tags = ImmutableMap.of("keyAlpha", "valueAlpha");
+        long timestamp = System.currentTimeMillis();
+        DatapointEntries origin = new DatapointEntries(Arrays.asList(
+                new Datapoint("test.metric.alpha", timestamp, tags, 1L),
+                new Datapoint("test.metric.beta", timestamp, tags, 4294967296L)));
+        InfoMessage wrapper = new InfoMessage(origin, timestamp, "serilization-loop");
+        serialize(wrapper);
+
+        DatapointEntries reconstruct = (DatapointEntries) ((InfoMessage) deserialize()).getData();
+
+        Assert.assertEquals(origin, reconstruct);
+    }
 }
@@ -22,12 +22,14 @@ import org.openkilda.messaging.payload.flow.FlowIdStatusPayload;
 import org.openkilda.messaging.payload.flow.FlowPathPayload;
 import org.openkilda.messaging.payload.flow.FlowPayload;
 import org.openkilda.messaging.payload.flow.FlowReroutePayload;
+import org.openkilda.model.SwitchId;
 import org.openkilda.northbound.dto.BatchResults;
 import org.openkilda.northbound.dto.flows.FlowValidationDto;
 import org.openkilda.northbound.dto.flows.PingInput;
 import org.openkilda.northbound.dto.flows.PingOutput;
 import org.openkilda.northbound.service.FlowService;
 import org.openkilda.northbound.utils.ExtraAuthRequired;
+import org.openkilda.northbound.utils.async.StreamingResponses;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -40,16 +42,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Optional;
@@ -145,8 +150,8 @@ public class FlowController {
     @ApiOperation(value = "Dumps all flows", response = FlowPayload.class, responseContainer = "List")
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
-    public CompletableFuture<List<FlowPayload>> getFlows() {
-        return flowService.getAllFlows();
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> getFlows() {
+        return StreamingResponses.jsonArray(flowService.streamAllFlows());
     }
 
     /**
@@ -284,6 +289,37 @@ public class FlowController {
         return flowService.validateFlow(flowId);
     }
 
+    /**
+     * Compares the Flows from the DB to what is on the switches. Each switch is dumped once for all the flows.
+     *
+     * @param flowIds ids of flows to be validated.
+     * @return validation results of each flow.
+     */
+    @ApiOperation(value = "Validate flows, comparing the DB to each switch", response = FlowValidationDto.class,
+            responseContainer = "List")
+    @PostMapping(path = "/validate")
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<List<FlowValidationDto>> validateFlows(@RequestBody List<String> flowIds) {
+        logger.debug("Received Flows Validation request with {} flows", flowIds.size());
+        return flowService.validateFlows(flowIds);
+    }
+
+    /**
+     * Compares all Flows going through the switch from the DB to what is on each switch.
+     *
+     * @param switchId the switch.
+     * @return validation results of each flow.
+     */
+    @ApiOperation(value = "Validate all flows on the switch, comparing the DB to each switch",
+            response = FlowValidationDto.class, responseContainer = "List")
+    @GetMapping(path = "/validate")
+    @ResponseStatus(HttpStatus.OK)
+    public CompletableFuture<List<FlowValidationDto>> validateFlowsOnSwitch(
+            @RequestParam("switch_id") SwitchId switchId) {
+        logger.debug("Received Flows Validation request for switch {}", switchId);
+        return flowService.validateFlowsOnSwitch(switchId);
+    }
+
     /**
      * Verify flow integrity by sending "ping" package over flow path.
      */
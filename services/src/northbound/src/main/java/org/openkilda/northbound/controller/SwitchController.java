@@ -40,6 +40,7 @@ import org.openkilda.northbound.dto.switches.UnderMaintenanceDto;
 import org.openkilda.northbound.service.SwitchService;
 import org.openkilda.northbound.utils.ExtraAuthRequired;
 import org.openkilda.northbound.utils.RequestCorrelationId;
+import org.openkilda.northbound.utils.async.StreamingResponses;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -52,6 +53,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -62,6 +64,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Optional;
@@ -97,8 +100,8 @@ public class SwitchController {
     @ApiOperation(value = "Get all available switches", response = SwitchDto.class, responseContainer = "List")
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
-    public CompletableFuture<List<SwitchDto>> getSwitches() {
-        return switchService.getSwitches();
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> getSwitches() {
+        return StreamingResponses.jsonArray(switchService.streamSwitches());
     }
 
     /**
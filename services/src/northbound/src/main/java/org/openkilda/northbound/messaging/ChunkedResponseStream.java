@@ -0,0 +1,161 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.northbound.messaging;
+
+import org.openkilda.messaging.info.InfoData;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The {@link ResponseStream} of chunked responses. The chunks are pushed by the messaging channel as they are
+ * received and are kept until consumed, the number of chunks kept at once is limited by the capacity of the stream.
+ * Pushing never waits for the consumer, a chunk which doesn't fit into the stream is rejected instead.
+ */
+public class ChunkedResponseStream implements ResponseStream<InfoData> {
+    private static final Object END = new Object();
+    private static final Object NULL_CHUNK = new Object();
+
+    private final BlockingQueue<Object> chunks = new LinkedBlockingQueue<>();
+    private final int capacity;
+    private final CompletableFuture<Void> started = new CompletableFuture<>();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile Throwable failure;
+    private volatile Runnable cancelHandler = () -> { };
+
+    /**
+     * Creates the stream.
+     *
+     * @param capacity the maximum number of chunks received but not consumed yet.
+     */
+    public ChunkedResponseStream(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Creates the stream of the response which is collected in memory.
+     */
+    public static ChunkedResponseStream fromFuture(CompletableFuture<List<InfoData>> response) {
+        ChunkedResponseStream stream = new ChunkedResponseStream(Integer.MAX_VALUE);
+        stream.onCancel(() -> response.cancel(false));
+        response.whenComplete((result, error) -> {
+            if (error != null) {
+                stream.fail(error);
+            } else {
+                result.forEach(stream::push);
+                stream.complete();
+            }
+        });
+        return stream;
+    }
+
+    /**
+     * Adds the received chunk to the stream.
+     *
+     * @return false if the stream is full or it is already closed.
+     */
+    public synchronized boolean push(InfoData chunk) {
+        if (closed.get() || chunks.size() >= capacity) {
+            return false;
+        }
+        chunks.add(chunk != null ? chunk : NULL_CHUNK);
+        started.complete(null);
+        return true;
+    }
+
+    /**
+     * Marks the stream as completed, all chunks have been pushed.
+     */
+    public synchronized void complete() {
+        if (closed.compareAndSet(false, true)) {
+            chunks.add(END);
+            started.complete(null);
+        }
+    }
+
+    /**
+     * Completes the stream with the error, the consumer gets the error instead of the chunks not consumed yet.
+     */
+    public synchronized void fail(Throwable error) {
+        if (closed.compareAndSet(false, true)) {
+            failure = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            chunks.clear();
+            chunks.add(END);
+            started.completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * Sets the action to be performed when the consumer cancels the stream.
+     */
+    public void onCancel(Runnable handler) {
+        cancelHandler = handler;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<Void> started() {
+        return started;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEach(ChunkHandler<? super InfoData> handler) throws IOException, InterruptedException {
+        try {
+            Object chunk;
+            while ((chunk = chunks.take()) != END) {
+                handler.handle(chunk != NULL_CHUNK ? (InfoData) chunk : null);
+            }
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            cancel();
+            throw e;
+        }
+
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure != null) {
+            throw new CompletionException(failure);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cancel() {
+        boolean cancelled;
+        synchronized (this) {
+            cancelled = closed.compareAndSet(false, true);
+            if (cancelled) {
+                chunks.clear();
+                chunks.add(END);
+                started.cancel(false);
+            }
+        }
+        if (cancelled) {
+            cancelHandler.run();
+        }
+    }
+}
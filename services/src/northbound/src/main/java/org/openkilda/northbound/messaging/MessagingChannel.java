@@ -49,6 +49,20 @@ public interface MessagingChannel {
      */
     CompletableFuture<List<InfoData>> sendAndGetChunked(String topic, Message message);
 
+    /**
+     * Sends the message to the specified topic and provides the chunked responses for this request as a stream, so
+     * the chunks can be processed as soon as they are received.
+     * <p/>
+     * The default implementation collects all chunks before passing them to the stream.
+     *
+     * @param topic topic where the message should be sent.
+     * @param message data to be sent.
+     * @return the stream of the responses for the request.
+     */
+    default ResponseStream<InfoData> sendAndGetChunkedStream(String topic, Message message) {
+        return ChunkedResponseStream.fromFuture(sendAndGetChunked(topic, message));
+    }
+
     /**
      * Sends the message to the specified topic without waiting for a response.
      *
@@ -0,0 +1,80 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.northbound.messaging;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * A response which is consumed chunk by chunk as soon as the chunks are received, so the whole response is never kept
+ * in memory.
+ *
+ * @param <T> the type of chunks.
+ */
+public interface ResponseStream<T> {
+
+    /**
+     * Returns the future which is completed once the first chunk is received or the stream is completed without
+     * chunks. The future is completed exceptionally if the stream fails before any chunk is received.
+     */
+    CompletableFuture<Void> started();
+
+    /**
+     * Passes the chunks to the handler one by one until the last chunk is received. The stream is cancelled if the
+     * handler fails.
+     *
+     * @param handler the handler of chunks.
+     * @throws RuntimeException if the response is completed with an error, e.g. the request has timed out.
+     */
+    void forEach(ChunkHandler<? super T> handler) throws IOException, InterruptedException;
+
+    /**
+     * Cancels the request, the chunks that haven't been consumed yet are dropped.
+     */
+    void cancel();
+
+    /**
+     * Returns the stream with the chunks converted by the mapper.
+     */
+    default <R> ResponseStream<R> map(Function<? super T, ? extends R> mapper) {
+        ResponseStream<T> source = this;
+        return new ResponseStream<R>() {
+            @Override
+            public CompletableFuture<Void> started() {
+                return source.started();
+            }
+
+            @Override
+            public void forEach(ChunkHandler<? super R> handler) throws IOException, InterruptedException {
+                source.forEach(chunk -> handler.handle(mapper.apply(chunk)));
+            }
+
+            @Override
+            public void cancel() {
+                source.cancel();
+            }
+        };
+    }
+
+    /**
+     * The handler of the chunks of a response.
+     */
+    @FunctionalInterface
+    interface ChunkHandler<T> {
+        void handle(T chunk) throws IOException;
+    }
+}
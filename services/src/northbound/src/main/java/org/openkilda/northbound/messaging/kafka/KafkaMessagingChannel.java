@@ -15,16 +15,23 @@
 
 package org.openkilda.northbound.messaging.kafka;
 
+import static java.lang.String.format;
+
 import org.openkilda.messaging.Message;
+import org.openkilda.messaging.command.CommandMessage;
 import org.openkilda.messaging.error.ClientErrorMessage;
 import org.openkilda.messaging.error.ErrorMessage;
+import org.openkilda.messaging.error.ErrorType;
 import org.openkilda.messaging.error.MessageException;
 import org.openkilda.messaging.info.ChunkedInfoMessage;
 import org.openkilda.messaging.info.InfoData;
 import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.northbound.messaging.ChunkedResponseStream;
 import org.openkilda.northbound.messaging.MessageProducer;
 import org.openkilda.northbound.messaging.MessagingChannel;
+import org.openkilda.northbound.messaging.ResponseStream;
 import org.openkilda.northbound.messaging.exception.MessageNotSentException;
+import org.openkilda.northbound.utils.async.HashedWheelTimer;
 
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.commons.collections4.map.PassiveExpiringMap;
@@ -33,6 +40,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 import org.springframework.util.concurrent.ListenableFuture;
@@ -46,13 +55,19 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 /**
  * Implementation of {@link MessagingChannel} for kafka.
+ * <p/>
+ * Each request waits for the response within the timeout, and the number of requests in progress is limited, the
+ * requests over the limit are rejected at once.
  */
 @Component
+@ManagedResource(objectName = "org.openkilda.northbound:type=MessagingChannel")
 public class KafkaMessagingChannel implements MessagingChannel {
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaMessagingChannel.class);
@@ -62,6 +77,12 @@ public class KafkaMessagingChannel implements MessagingChannel {
      */
     private final Map<String, CompletableFuture<InfoData>> pendingRequests = new ConcurrentHashMap<>();
     private final Map<String, CompletableFuture<List<InfoData>>> pendingChunkedRequests = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Void>> pendingStreamRequests = new ConcurrentHashMap<>();
+
+    /**
+     * Streams of chunked responses, the chunks are passed to the streams one by one as soon as they are received.
+     */
+    private final Map<String, StreamedRequest> streams = new ConcurrentHashMap<>();
 
     /**
      * Chains of chunked messages, it is filling by messages one by one as soon as the next linked message is received.
@@ -75,18 +96,45 @@ public class KafkaMessagingChannel implements MessagingChannel {
      */
     private Map<String, Set<String>> chunkedMessageIdsPerRequest = new ConcurrentHashMap<>();
 
+    /**
+     * The number of requests (both chunked and not chunked) that are in progress of processing.
+     */
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+
+    private final RequestMetrics metrics = new RequestMetrics();
+
+    /**
+     * Expires the requests which haven't received a response in time.
+     */
+    private HashedWheelTimer timeoutTimer;
+
     @Value("${northbound.messages.expiration.minutes}")
     private int expiredTime;
 
+    @Value("${northbound.messages.timeout.seconds}")
+    private int requestTimeout;
+
+    @Value("${northbound.messages.max.pending}")
+    private int maxPendingRequests;
+
+    @Value("${northbound.messages.stream.capacity}")
+    private int streamCapacity;
+
     @Autowired
     private MessageProducer messageProducer;
 
     /**
-     * Creates storage for chains of messages.
+     * Creates storage for chains of messages and starts the timer of request timeouts.
      */
     @PostConstruct
     public void setUp() {
         messagesChains = new PassiveExpiringMap<>(expiredTime, TimeUnit.MINUTES, new ConcurrentHashMap<>());
+        timeoutTimer = new HashedWheelTimer("nb-request-timeouts", 100, TimeUnit.MILLISECONDS, 512);
+    }
+
+    @PreDestroy
+    public void tearDown() {
+        timeoutTimer.stop();
     }
 
     /**
@@ -94,40 +142,104 @@ public class KafkaMessagingChannel implements MessagingChannel {
      */
     @Override
     public CompletableFuture<InfoData> sendAndGet(String topic, Message message) {
-        CompletableFuture<InfoData> future = new CompletableFuture<>();
-        pendingRequests.put(message.getCorrelationId(), future);
+        return sendRequest(topic, message, pendingRequests, () -> { });
+    }
 
-        ListenableFuture<SendResult<String, Message>> futureResult = messageProducer.send(topic, message);
-        futureResult.addCallback(
-                success -> { },
-                error -> future.completeExceptionally(new MessageNotSentException(error.getMessage()))
-        );
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<List<InfoData>> sendAndGetChunked(String topic, Message message) {
+        String correlationId = message.getCorrelationId();
+        messagesChains.put(correlationId, new ArrayList<>());
+        chunkedMessageIdsPerRequest.put(correlationId, new HashSet<>());
 
-        return future.whenComplete((response, error) -> pendingRequests.remove(message.getCorrelationId()));
+        return sendRequest(topic, message, pendingChunkedRequests, () -> {
+            messagesChains.remove(correlationId);
+            chunkedMessageIdsPerRequest.remove(correlationId);
+        });
     }
 
     /**
      * {@inheritDoc}
+     * <p/>
+     * The chunks are passed to the stream as soon as they are received, the receiving of responses never waits for
+     * the consumer. If the consumer falls behind and the stream is full, the request is failed.
      */
     @Override
-    public CompletableFuture<List<InfoData>> sendAndGetChunked(String topic, Message message) {
-        CompletableFuture<List<InfoData>> future = new CompletableFuture<>();
-        pendingChunkedRequests.put(message.getCorrelationId(), future);
+    public ResponseStream<InfoData> sendAndGetChunkedStream(String topic, Message message) {
+        String correlationId = message.getCorrelationId();
+        ChunkedResponseStream stream = new ChunkedResponseStream(streamCapacity);
+        streams.put(correlationId, new StreamedRequest(stream));
+
+        CompletableFuture<Void> response = sendRequest(topic, message, pendingStreamRequests,
+                () -> streams.remove(correlationId));
+        response.whenComplete((result, error) -> {
+            if (error != null) {
+                stream.fail(error);
+            } else {
+                stream.complete();
+            }
+        });
+        stream.onCancel(() -> {
+            CompletableFuture<Void> request = pendingStreamRequests.get(correlationId);
+            if (request != null) {
+                request.cancel(false);
+            }
+        });
+        return stream;
+    }
+
+    /**
+     * Sends the request and registers it as pending until the response is received or the timeout is expired.
+     *
+     * @param cleanup releases the request related data once the request is completed.
+     */
+    private <T> CompletableFuture<T> sendRequest(String topic, Message message,
+                                                 Map<String, CompletableFuture<T>> pending, Runnable cleanup) {
+        String correlationId = message.getCorrelationId();
+        CompletableFuture<T> future = new CompletableFuture<>();
+
+        if (inFlightRequests.incrementAndGet() > maxPendingRequests) {
+            inFlightRequests.decrementAndGet();
+            cleanup.run();
+            metrics.recordRejected();
+            logger.warn("Rejecting the request {}: the limit of {} requests in progress is reached",
+                    correlationId, maxPendingRequests);
+            future.completeExceptionally(new MessageException(correlationId, System.currentTimeMillis(),
+                    ErrorType.SERVICE_UNAVAILABLE, "Too many requests in progress",
+                    format("The limit of %d requests in progress is reached", maxPendingRequests)));
+            return future;
+        }
 
-        messagesChains.put(message.getCorrelationId(), new ArrayList<>());
-        chunkedMessageIdsPerRequest.put(message.getCorrelationId(), new HashSet<>());
+        String messageType = getMessageType(message);
+        long startTime = System.nanoTime();
+        HashedWheelTimer.Timeout timeout = timeoutTimer.newTimeout(() -> {
+            if (future.completeExceptionally(new MessageException(correlationId, System.currentTimeMillis(),
+                    ErrorType.OPERATION_TIMED_OUT, "No response received",
+                    format("No response received in %d seconds", requestTimeout)))) {
+                logger.warn("No response received for the request {} in {} seconds", correlationId, requestTimeout);
+                metrics.recordTimedOut();
+            }
+        }, requestTimeout, TimeUnit.SECONDS);
+
+        pending.put(correlationId, future);
 
         ListenableFuture<SendResult<String, Message>> futureResult = messageProducer.send(topic, message);
         futureResult.addCallback(
-                sentResult -> { },
+                success -> { },
                 error -> future.completeExceptionally(new MessageNotSentException(error.getMessage()))
         );
 
         return future.whenComplete((response, error) -> {
-            pendingChunkedRequests.remove(message.getCorrelationId());
+            timeout.cancel();
+            pending.remove(correlationId);
+            cleanup.run();
+            inFlightRequests.decrementAndGet();
 
-            messagesChains.remove(message.getCorrelationId());
-            chunkedMessageIdsPerRequest.remove(message.getCorrelationId());
+            if (!timeout.isExpired()) {
+                metrics.recordResponse(messageType, System.nanoTime() - startTime);
+            }
         });
     }
 
@@ -165,7 +277,9 @@ public class KafkaMessagingChannel implements MessagingChannel {
 
             completeWithError(error);
         } else if (message instanceof InfoMessage) {
-            if (isChunkedPendingResponse(message)) {
+            if (message instanceof ChunkedInfoMessage && streams.containsKey(message.getCorrelationId())) {
+                processStreamedMessage((ChunkedInfoMessage) message);
+            } else if (isChunkedPendingResponse(message)) {
                 processChunkedMessage((ChunkedInfoMessage) message);
             } else if (pendingRequests.containsKey(message.getCorrelationId())) {
                 InfoMessage infoMessage = (InfoMessage) message;
@@ -185,6 +299,10 @@ public class KafkaMessagingChannel implements MessagingChannel {
     private synchronized void processChunkedMessage(ChunkedInfoMessage received) {
         String requestId = received.getCorrelationId();
         Set<String> associatedMessages = chunkedMessageIdsPerRequest.get(requestId);
+        if (associatedMessages == null) {
+            logger.debug("Skipping chunked message, the request is already completed: {}", received);
+            return;
+        }
         if (!associatedMessages.add(received.getMessageId())) {
             logger.debug("Skipping chunked message, it is already received: {}", received);
             return;
@@ -200,6 +318,38 @@ public class KafkaMessagingChannel implements MessagingChannel {
         }
     }
 
+    /**
+     * Passes the chunked message to the stream of the request, and completes the request once all messages are
+     * passed.
+     */
+    private void processStreamedMessage(ChunkedInfoMessage received) {
+        String requestId = received.getCorrelationId();
+        StreamedRequest streamed = streams.get(requestId);
+        CompletableFuture<Void> request = pendingStreamRequests.get(requestId);
+        if (streamed == null || request == null) {
+            logger.debug("Skipping chunked message, the request is already completed: {}", received);
+            return;
+        }
+        if (!streamed.messageIds.add(received.getMessageId())) {
+            logger.debug("Skipping chunked message, it is already received: {}", received);
+            return;
+        }
+
+        if (received.getTotalMessages() != 0 && !streamed.stream.push(received.getData())) {
+            // The stream is either full or already closed, in the latter case the request is already completed.
+            if (request.completeExceptionally(new MessageException(requestId, System.currentTimeMillis(),
+                    ErrorType.SERVICE_UNAVAILABLE, "The response is not consumed",
+                    format("More than %d chunks of the response are not consumed", streamCapacity)))) {
+                logger.warn("Failing the request {}: the client doesn't consume the response", requestId);
+            }
+            return;
+        }
+
+        if (received.getTotalMessages() == 0 || streamed.pushed.incrementAndGet() == received.getTotalMessages()) {
+            request.complete(null);
+        }
+    }
+
     /**
      * Completes pending request with received responses.
      */
@@ -224,6 +374,8 @@ public class KafkaMessagingChannel implements MessagingChannel {
             request = pendingRequests.remove(correlationId);
         } else if (pendingChunkedRequests.containsKey(correlationId)) {
             request = pendingChunkedRequests.remove(correlationId);
+        } else if (pendingStreamRequests.containsKey(correlationId)) {
+            request = pendingStreamRequests.remove(correlationId);
         }
 
         if (request != null) {
@@ -248,10 +400,47 @@ public class KafkaMessagingChannel implements MessagingChannel {
         return true;
     }
 
+    private String getMessageType(Message message) {
+        if (message instanceof CommandMessage && ((CommandMessage) message).getData() != null) {
+            return ((CommandMessage) message).getData().getClass().getSimpleName();
+        }
+        return message.getClass().getSimpleName();
+    }
+
     private boolean isChunkedPendingResponse(Message message) {
         return message instanceof ChunkedInfoMessage && pendingChunkedRequests.containsKey(message.getCorrelationId());
     }
 
+    @ManagedAttribute(description = "The number of requests in progress")
+    public int getInFlightRequests() {
+        return inFlightRequests.get();
+    }
+
+    @ManagedAttribute(description = "The number of requests rejected because of the limit of requests in progress")
+    public long getRejectedRequests() {
+        return metrics.getRejectedRequests();
+    }
+
+    @ManagedAttribute(description = "The number of requests without a response within the timeout")
+    public long getTimedOutRequests() {
+        return metrics.getTimedOutRequests();
+    }
+
+    @ManagedAttribute(description = "The number of responses by request message type")
+    public Map<String, Long> getResponseCounts() {
+        return metrics.getResponseCounts();
+    }
+
+    @ManagedAttribute(description = "The average response latency in milliseconds by request message type")
+    public Map<String, Long> getAverageResponseLatencies() {
+        return metrics.getAverageLatencyMillis();
+    }
+
+    @ManagedAttribute(description = "The maximum response latency in milliseconds by request message type")
+    public Map<String, Long> getMaxResponseLatencies() {
+        return metrics.getMaxLatencyMillis();
+    }
+
     @VisibleForTesting
     Map<String, CompletableFuture<InfoData>> getPendingRequests() {
         return new HashMap<>(pendingRequests);
@@ -261,4 +450,22 @@ public class KafkaMessagingChannel implements MessagingChannel {
     Map<String, CompletableFuture<List<InfoData>>> getPendingChunkedRequests() {
         return new HashMap<>(pendingChunkedRequests);
     }
+
+    @VisibleForTesting
+    Map<String, CompletableFuture<Void>> getPendingStreamRequests() {
+        return new HashMap<>(pendingStreamRequests);
+    }
+
+    /**
+     * The state of the request with the streamed response.
+     */
+    private static class StreamedRequest {
+        private final ChunkedResponseStream stream;
+        private final Set<String> messageIds = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger pushed = new AtomicInteger();
+
+        StreamedRequest(ChunkedResponseStream stream) {
+            this.stream = stream;
+        }
+    }
 }
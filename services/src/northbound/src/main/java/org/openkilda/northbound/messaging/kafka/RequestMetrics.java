@@ -0,0 +1,87 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.northbound.messaging.kafka;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Statistics of the requests sent via the messaging channel: the number of requests rejected and timed out, and the
+ * response latency by message type.
+ */
+class RequestMetrics {
+    private final Map<String, LatencyStats> latencies = new ConcurrentHashMap<>();
+    private final LongAdder rejectedRequests = new LongAdder();
+    private final LongAdder timedOutRequests = new LongAdder();
+
+    void recordResponse(String messageType, long latencyNanos) {
+        latencies.computeIfAbsent(messageType, type -> new LatencyStats()).record(latencyNanos);
+    }
+
+    void recordRejected() {
+        rejectedRequests.increment();
+    }
+
+    void recordTimedOut() {
+        timedOutRequests.increment();
+    }
+
+    long getRejectedRequests() {
+        return rejectedRequests.sum();
+    }
+
+    long getTimedOutRequests() {
+        return timedOutRequests.sum();
+    }
+
+    Map<String, Long> getResponseCounts() {
+        return collect(stats -> stats.count.sum());
+    }
+
+    Map<String, Long> getAverageLatencyMillis() {
+        return collect(stats -> {
+            long count = stats.count.sum();
+            return count > 0 ? TimeUnit.NANOSECONDS.toMillis(stats.totalNanos.sum() / count) : 0L;
+        });
+    }
+
+    Map<String, Long> getMaxLatencyMillis() {
+        return collect(stats -> TimeUnit.NANOSECONDS.toMillis(stats.maxNanos.get()));
+    }
+
+    private Map<String, Long> collect(Function<LatencyStats, Long> value) {
+        Map<String, Long> result = new TreeMap<>();
+        latencies.forEach((type, stats) -> result.put(type, value.apply(stats)));
+        return result;
+    }
+
+    private static class LatencyStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long latencyNanos) {
+            count.increment();
+            totalNanos.add(latencyNanos);
+            maxNanos.accumulate(latencyNanos);
+        }
+    }
+}
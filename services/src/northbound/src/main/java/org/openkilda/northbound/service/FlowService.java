@@ -21,11 +21,14 @@ import org.openkilda.messaging.payload.flow.FlowIdStatusPayload;
 import org.openkilda.messaging.payload.flow.FlowPathPayload;
 import org.openkilda.messaging.payload.flow.FlowPayload;
 import org.openkilda.messaging.payload.flow.FlowReroutePayload;
+import org.openkilda.model.SwitchId;
 import org.openkilda.northbound.dto.BatchResults;
 import org.openkilda.northbound.dto.flows.FlowValidationDto;
 import org.openkilda.northbound.dto.flows.PingInput;
 import org.openkilda.northbound.dto.flows.PingOutput;
+import org.openkilda.northbound.messaging.ResponseStream;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -72,6 +75,13 @@ public interface FlowService {
      */
     CompletableFuture<List<FlowPayload>> getAllFlows();
 
+    /**
+     * Gets all the flows as a stream, each flow is available as soon as it is received.
+     *
+     * @return the stream of all flows.
+     */
+    ResponseStream<FlowPayload> streamAllFlows();
+
     /**
      * Deletes all flows. Primarily this is a combination of getAllFlows and deleteFlow.
      * This should be called with care ..
@@ -145,6 +155,23 @@ public interface FlowService {
      */
     CompletableFuture<List<FlowValidationDto>> validateFlow(final String flowId);
 
+    /**
+     * Performs validation of the flows. Each switch on the flow paths is dumped only once.
+     *
+     * @param flowIds ids of the flows
+     * @return the results of the comparison for each of the flows.
+     * @throws org.openkilda.messaging.error.MessageException if any of the flows isn't found.
+     */
+    CompletableFuture<List<FlowValidationDto>> validateFlows(Collection<String> flowIds);
+
+    /**
+     * Performs validation of all flows going through the switch.
+     *
+     * @param switchId the switch
+     * @return the results of the comparison for each of the flows.
+     */
+    CompletableFuture<List<FlowValidationDto>> validateFlowsOnSwitch(SwitchId switchId);
+
     CompletableFuture<PingOutput> pingFlow(String flowId, PingInput payload);
 
     /**
@@ -31,6 +31,7 @@ import org.openkilda.northbound.dto.switches.RulesSyncResult;
 import org.openkilda.northbound.dto.switches.RulesValidationResult;
 import org.openkilda.northbound.dto.switches.SwitchDto;
 import org.openkilda.northbound.dto.switches.UnderMaintenanceDto;
+import org.openkilda.northbound.messaging.ResponseStream;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -43,6 +44,12 @@ public interface SwitchService {
      */
     CompletableFuture<List<SwitchDto>> getSwitches();
 
+    /**
+     * Get all available switches as a stream, each switch is available as soon as it is received.
+     * @return stream of switches.
+     */
+    ResponseStream<SwitchDto> streamSwitches();
+
     /**
      * Get available switch.
      * @return switch.
@@ -30,6 +30,8 @@ import org.openkilda.messaging.command.flow.FlowRerouteRequest;
 import org.openkilda.messaging.command.flow.FlowUpdateRequest;
 import org.openkilda.messaging.command.flow.FlowsDumpRequest;
 import org.openkilda.messaging.command.flow.MeterModifyRequest;
+import org.openkilda.messaging.error.ErrorType;
+import org.openkilda.messaging.error.MessageException;
 import org.openkilda.messaging.info.InfoMessage;
 import org.openkilda.messaging.info.flow.FlowInfoData;
 import org.openkilda.messaging.info.flow.FlowOperation;
@@ -60,6 +62,7 @@ import org.openkilda.northbound.dto.flows.PathDiscrepancyDto;
 import org.openkilda.northbound.dto.flows.PingInput;
 import org.openkilda.northbound.dto.flows.PingOutput;
 import org.openkilda.northbound.messaging.MessagingChannel;
+import org.openkilda.northbound.messaging.ResponseStream;
 import org.openkilda.northbound.service.FlowService;
 import org.openkilda.northbound.service.SwitchService;
 import org.openkilda.northbound.utils.CorrelationIdFactory;
@@ -79,10 +82,14 @@ import org.springframework.stereotype.Service;
 import java.nio.file.InvalidPathException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -247,6 +254,20 @@ public class FlowServiceImpl implements FlowService {
                         .collect(Collectors.toList()));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseStream<FlowPayload> streamAllFlows() {
+        final String correlationId = RequestCorrelationId.getId();
+        logger.debug("Stream flows request processing");
+        FlowsDumpRequest data = new FlowsDumpRequest();
+        CommandMessage request = new CommandMessage(data, System.currentTimeMillis(), correlationId, Destination.WFM);
+
+        return messagingChannel.sendAndGetChunkedStream(topic, request)
+                .map(response -> flowMapper.toFlowOutput(((FlowReadResponse) response).getPayload().getForward()));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -567,7 +588,7 @@ public class FlowServiceImpl implements FlowService {
          * @param byteCounts If we find the rule, add its pktCounts. Otherwise, add -1.
          */
         static List<PathDiscrepancyDto> findDiscrepancy(
-                SimpleSwitchRule expected, List<SimpleSwitchRule> possibleActual,
+                SimpleSwitchRule expected, SwitchRules possibleActual,
                 List<Long> pktCounts, List<Long> byteCounts) {
             List<PathDiscrepancyDto> result = new ArrayList<>();
             SimpleSwitchRule matched = findMatched(expected, possibleActual);
@@ -622,19 +643,16 @@ public class FlowServiceImpl implements FlowService {
             }
         }
 
-        private static SimpleSwitchRule findMatched(SimpleSwitchRule expected, List<SimpleSwitchRule> possibleActual) {
+        private static SimpleSwitchRule findMatched(SimpleSwitchRule expected, SwitchRules possibleActual) {
             /*
              * Start with trying to match on the cookie.
              */
-            SimpleSwitchRule matched = possibleActual.stream()
-                    .filter(rule -> rule.cookie != 0 && rule.cookie == expected.cookie)
-                    .findFirst()
-                    .orElse(null);
+            SimpleSwitchRule matched = expected.cookie != 0 ? possibleActual.getByCookie(expected.cookie) : null;
             /*
              * If no cookie match, then try inport and invlan
              */
             if (matched == null) {
-                matched = possibleActual.stream()
+                matched = possibleActual.getRules().stream()
                         .filter(rule -> rule.inPort == expected.inPort && rule.inVlan == expected.inVlan)
                         .findFirst()
                         .orElse(null);
@@ -643,7 +661,7 @@ public class FlowServiceImpl implements FlowService {
              * Lastly, if cookie doesn't match, and inport / invlan doesn't, try outport/outvlan
              */
             if (matched == null) {
-                matched = possibleActual.stream()
+                matched = possibleActual.getRules().stream()
                         .filter(rule -> rule.outPort == expected.outPort && rule.outVlan == expected.outVlan)
                         .findFirst()
                         .orElse(null);
@@ -652,40 +670,123 @@ public class FlowServiceImpl implements FlowService {
         }
     }
 
+    /**
+     * The rules of a switch indexed by cookie, so the expected rules are matched without scanning the whole dump.
+     */
+    private static final class SwitchRules {
+        private static final SwitchRules EMPTY = new SwitchRules(Collections.emptyList());
+
+        private final List<SimpleSwitchRule> rules;
+        private final Map<Long, SimpleSwitchRule> rulesByCookie = new HashMap<>();
+
+        SwitchRules(List<SimpleSwitchRule> rules) {
+            this.rules = rules;
+            for (SimpleSwitchRule rule : rules) {
+                if (rule.cookie != 0) {
+                    // keep the first rule with the cookie, as the list lookup did.
+                    rulesByCookie.putIfAbsent(rule.cookie, rule);
+                }
+            }
+        }
+
+        List<SimpleSwitchRule> getRules() {
+            return rules;
+        }
+
+        SimpleSwitchRule getByCookie(long cookie) {
+            return rulesByCookie.get(cookie);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public CompletableFuture<List<FlowValidationDto>> validateFlow(final String flowId) {
-        /*
-         * Algorithm:
-         * 1) Grab the flow from the database
-         * 2) Grab the information off of each switch
-         * 3) Do the comparison
-         */
-
         Collection<Flow> flows = flowRepository.findById(flowId);
         logger.debug("VALIDATE FLOW: Found Flows: count = {}", flows.size());
         if (flows.isEmpty()) {
             return null;
         }
 
+        return validateFlows(Collections.singletonMap(flowId, flows));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<List<FlowValidationDto>> validateFlows(Collection<String> flowIds) {
+        Map<String, Collection<Flow>> flowsById = new LinkedHashMap<>();
+        List<String> notFound = new ArrayList<>();
+        for (String flowId : new LinkedHashSet<>(flowIds)) {
+            Collection<Flow> flows = flowRepository.findById(flowId);
+            if (flows.isEmpty()) {
+                notFound.add(flowId);
+            } else {
+                flowsById.put(flowId, flows);
+            }
+        }
+
+        if (!notFound.isEmpty()) {
+            throw new MessageException(RequestCorrelationId.getId(), System.currentTimeMillis(), ErrorType.NOT_FOUND,
+                    String.format("Flows %s not found", notFound), "Can not validate non-existent flows");
+        }
+        logger.debug("VALIDATE FLOWS: Found Flows: count = {}", flowsById.size());
+
+        return validateFlows(flowsById);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<List<FlowValidationDto>> validateFlowsOnSwitch(SwitchId switchId) {
+        Set<String> flowIds = new HashSet<>(flowRepository.findFlowIdsBySwitch(switchId));
+        // One switch flows have no segments, so they are looked up by the endpoint.
+        flowRepository.findBySrcSwitchId(switchId).forEach(flow -> flowIds.add(flow.getFlowId()));
+        logger.debug("VALIDATE FLOWS: Found {} flows on switch {}", flowIds.size(), switchId);
+
+        return validateFlows(flowIds);
+    }
+
+    /**
+     * Validates the flows against the rules installed on the switches. Every switch is dumped only once, no matter
+     * how many of the flows go through it, and the flows are compared with the rules in parallel.
+     */
+    private CompletableFuture<List<FlowValidationDto>> validateFlows(Map<String, Collection<Flow>> flowsById) {
+        /*
+         * Algorithm:
+         * 1) Grab the flows from the database
+         * 2) Grab the information off of each switch
+         * 3) Do the comparison
+         */
+
         /*
          * Since we are getting switch rules, we can use a set.
          */
-        List<List<SimpleSwitchRule>> simpleFlowRules = new ArrayList<>();
+        Map<String, List<List<SimpleSwitchRule>>> simpleFlowRules = new HashMap<>();
+        Map<String, Set<SwitchId>> flowSwitches = new HashMap<>();
         Set<SwitchId> switches = new HashSet<>();
-        for (Flow flow : flows) {
-            if (flow.getFlowPath() != null) {
-                simpleFlowRules.add(SimpleSwitchRule.convertFlow(flow));
-                switches.add(flow.getSrcSwitch().getSwitchId());
-                switches.add(flow.getDestSwitch().getSwitchId());
-                for (FlowPath.Node node : flow.getFlowPath().getNodes()) {
-                    switches.add(node.getSwitchId());
+        for (Map.Entry<String, Collection<Flow>> entry : flowsById.entrySet()) {
+            String flowId = entry.getKey();
+            List<List<SimpleSwitchRule>> flowRules = new ArrayList<>();
+            Set<SwitchId> pathSwitches = new HashSet<>();
+            for (Flow flow : entry.getValue()) {
+                if (flow.getFlowPath() != null) {
+                    flowRules.add(SimpleSwitchRule.convertFlow(flow));
+                    pathSwitches.add(flow.getSrcSwitch().getSwitchId());
+                    pathSwitches.add(flow.getDestSwitch().getSwitchId());
+                    for (FlowPath.Node node : flow.getFlowPath().getNodes()) {
+                        pathSwitches.add(node.getSwitchId());
+                    }
+                } else {
+                    throw new InvalidPathException(flowId, "Flow Path was not returned.");
                 }
-            } else {
-                throw new InvalidPathException(flowId, "Flow Path was not returned.");
             }
+            simpleFlowRules.put(flowId, flowRules);
+            flowSwitches.put(flowId, pathSwitches);
+            switches.addAll(pathSwitches);
         }
 
         /*
@@ -703,8 +804,6 @@ public class FlowServiceImpl implements FlowService {
         /*)
          * Now Walk the list, getting the switch rules, so we can process the comparisons.
          */
-        final Map<SwitchId, List<SimpleSwitchRule>> switchRules = new HashMap<>();
-
         int index = 1;
         List<CompletableFuture<?>> rulesRequests = new ArrayList<>();
         for (SwitchId switchId : switches) {
@@ -714,22 +813,29 @@ public class FlowServiceImpl implements FlowService {
 
         return collectResponses(rulesRequests, SwitchFlowEntries.class)
                 .thenApply(allEntries -> {
-                    int rulesAmount = 0;
-
+                    Map<SwitchId, SwitchRules> switchRules = new HashMap<>();
                     for (SwitchFlowEntries switchEntries : allEntries) {
                         switchRules.put(switchEntries.getSwitchId(),
-                                SimpleSwitchRule.convertSwitchRules(switchEntries));
-                        rulesAmount += Optional.ofNullable(switchEntries.getFlowEntries())
-                                .map(List::size)
-                                .orElse(0);
+                                new SwitchRules(SimpleSwitchRule.convertSwitchRules(switchEntries)));
                     }
-                    return rulesAmount;
+                    return switchRules;
                 })
-                .thenApply(totalRules -> compareRules(switchRules, simpleFlowRules, flowId, totalRules));
+                .thenApply(switchRules -> flowsById.keySet().parallelStream()
+                        .flatMap(flowId -> compareRules(switchRules, simpleFlowRules.get(flowId), flowId,
+                                countRules(switchRules, flowSwitches.get(flowId))).stream())
+                        .collect(Collectors.toList()));
+    }
+
+    private int countRules(Map<SwitchId, SwitchRules> rulesPerSwitch, Set<SwitchId> switches) {
+        return switches.stream()
+                .map(rulesPerSwitch::get)
+                .filter(Objects::nonNull)
+                .mapToInt(rules -> rules.getRules().size())
+                .sum();
     }
 
     private List<FlowValidationDto> compareRules(
-            Map<SwitchId, List<SimpleSwitchRule>> rulesPerSwitch, List<List<SimpleSwitchRule>> rulesFromDb,
+            Map<SwitchId, SwitchRules> rulesPerSwitch, List<List<SimpleSwitchRule>> rulesFromDb,
             String flowId, int totalSwitchRules) {
 
         List<FlowValidationDto> results = new ArrayList<>();
@@ -741,7 +847,7 @@ public class FlowServiceImpl implements FlowService {
                 // This is where the comparisons happen.
                 discrepancies.addAll(
                         SimpleSwitchRule.findDiscrepancy(simpleRule,
-                                rulesPerSwitch.get(simpleRule.switchId),
+                                rulesPerSwitch.getOrDefault(simpleRule.switchId, SwitchRules.EMPTY),
                                 pktCounts, byteCounts
                         ));
             }
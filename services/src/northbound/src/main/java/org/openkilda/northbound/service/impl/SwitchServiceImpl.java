@@ -59,6 +59,7 @@ import org.openkilda.northbound.dto.switches.RulesValidationResult;
 import org.openkilda.northbound.dto.switches.SwitchDto;
 import org.openkilda.northbound.dto.switches.UnderMaintenanceDto;
 import org.openkilda.northbound.messaging.MessagingChannel;
+import org.openkilda.northbound.messaging.ResponseStream;
 import org.openkilda.northbound.service.SwitchService;
 import org.openkilda.northbound.utils.RequestCorrelationId;
 
@@ -114,6 +115,20 @@ public class SwitchServiceImpl implements SwitchService {
                         .collect(Collectors.toList()));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseStream<SwitchDto> streamSwitches() {
+        final String correlationId = RequestCorrelationId.getId();
+        logger.debug("Stream switches request received");
+        CommandMessage request = new CommandMessage(new GetSwitchesRequest(), System.currentTimeMillis(),
+                correlationId);
+
+        return messagingChannel.sendAndGetChunkedStream(nbworkerTopic, request)
+                .map(response -> switchMapper.toSwitchDto((SwitchInfoData) response));
+    }
+
     /**
      * {@inheritDoc}
      */
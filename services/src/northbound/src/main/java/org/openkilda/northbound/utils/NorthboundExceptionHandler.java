@@ -68,6 +68,9 @@ public class NorthboundExceptionHandler extends ResponseEntityExceptionHandler {
             case ALREADY_EXISTS:
                 status = HttpStatus.CONFLICT;
                 break;
+            case SERVICE_UNAVAILABLE:
+                status = HttpStatus.SERVICE_UNAVAILABLE;
+                break;
             case AUTH_FAILED:
                 status = HttpStatus.UNAUTHORIZED;
                 break;
@@ -0,0 +1,238 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.northbound.utils.async;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Timer for a large number of timeouts which are mostly cancelled before they expire, like request deadlines.
+ * <p/>
+ * The timeouts are placed into the buckets of a wheel, and a single worker thread moves over the wheel one bucket per
+ * tick and expires the timeouts of the current bucket. So scheduling and cancellation of a timeout take constant
+ * time, and the timeouts are expired with the precision of the tick duration. The tasks are executed by the worker
+ * thread, so they must be short.
+ */
+public class HashedWheelTimer {
+    private static final Logger logger = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+    private final long tickNanos;
+    private final Set<Timeout>[] wheel;
+    private final Queue<Timeout> newTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final long startTime;
+    private final Thread worker;
+
+    private volatile boolean stopped;
+
+    /**
+     * Creates and starts the timer.
+     *
+     * @param name the name of the worker thread.
+     * @param tickDuration the duration of a tick.
+     * @param unit the unit of the tick duration.
+     * @param wheelSize the number of buckets in the wheel.
+     */
+    @SuppressWarnings("unchecked")
+    public HashedWheelTimer(String name, long tickDuration, TimeUnit unit, int wheelSize) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("The tick duration must be positive");
+        }
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("The wheel size must be positive");
+        }
+
+        tickNanos = unit.toNanos(tickDuration);
+        wheel = new Set[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new HashSet<>();
+        }
+
+        startTime = System.nanoTime();
+        worker = new Thread(this::run, name);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Schedules the task to be executed once after the specified delay.
+     *
+     * @return the handle to cancel the task.
+     */
+    public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+        if (stopped) {
+            throw new IllegalStateException("The timer is stopped");
+        }
+
+        Timeout timeout = new Timeout(task, System.nanoTime() + unit.toNanos(delay));
+        newTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Stops the timer. The pending timeouts are never expired.
+     */
+    public void stop() {
+        stopped = true;
+        worker.interrupt();
+    }
+
+    /**
+     * Returns the number of timeouts which are neither expired nor cancelled yet.
+     */
+    public int getPendingTimeouts() {
+        int result = newTimeouts.size();
+        for (Set<Timeout> bucket : wheel) {
+            synchronized (bucket) {
+                result += bucket.size();
+            }
+        }
+        return result;
+    }
+
+    private void run() {
+        long tick = 0;
+        while (!stopped) {
+            long deadline = startTime + (tick + 1) * tickNanos;
+            long now = System.nanoTime();
+            while (now < deadline && !stopped) {
+                LockSupport.parkNanos(this, deadline - now);
+                now = System.nanoTime();
+            }
+            if (stopped) {
+                break;
+            }
+
+            removeCancelledTimeouts();
+            transferNewTimeouts(tick);
+            expireTimeouts(wheel[(int) (tick % wheel.length)]);
+            tick++;
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            Set<Timeout> bucket = timeout.bucket;
+            if (bucket != null) {
+                synchronized (bucket) {
+                    bucket.remove(timeout);
+                }
+            }
+        }
+    }
+
+    private void transferNewTimeouts(long currentTick) {
+        Timeout timeout;
+        while ((timeout = newTimeouts.poll()) != null) {
+            if (timeout.state.get() != Timeout.ST_INIT) {
+                continue;
+            }
+
+            long expirationTick = (timeout.deadline - startTime) / tickNanos;
+            timeout.remainingRounds = (expirationTick - currentTick) / wheel.length;
+            // The timeouts which should have expired already go into the current bucket.
+            long tick = Math.max(expirationTick, currentTick);
+            Set<Timeout> bucket = wheel[(int) (tick % wheel.length)];
+            timeout.bucket = bucket;
+            synchronized (bucket) {
+                bucket.add(timeout);
+            }
+        }
+    }
+
+    private void expireTimeouts(Set<Timeout> bucket) {
+        Timeout[] timeouts;
+        synchronized (bucket) {
+            timeouts = bucket.toArray(new Timeout[0]);
+        }
+
+        for (Timeout timeout : timeouts) {
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                continue;
+            }
+
+            synchronized (bucket) {
+                bucket.remove(timeout);
+            }
+            timeout.expire();
+        }
+    }
+
+    /**
+     * The handle of a scheduled task.
+     */
+    public final class Timeout {
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+
+        // Accessed by the worker thread only.
+        private long remainingRounds;
+        private Set<Timeout> bucket;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the task if it is not executed yet.
+         *
+         * @return true if the task has been cancelled.
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            cancelledTimeouts.add(this);
+            return true;
+        }
+
+        public boolean isExpired() {
+            return state.get() == ST_EXPIRED;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == ST_CANCELLED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+
+            try {
+                task.run();
+            } catch (Exception e) {
+                logger.error("The timer task has failed", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.northbound.utils.async;
+
+import static org.openkilda.messaging.Utils.MAPPER;
+
+import org.openkilda.northbound.messaging.ResponseStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Common utility class for writing {@link ResponseStream} to the client incrementally.
+ */
+public final class StreamingResponses {
+    private static final Logger logger = LoggerFactory.getLogger(StreamingResponses.class);
+
+    /**
+     * Creates the response which writes the chunks of the stream as a JSON array, each chunk is written as soon as it
+     * is received. The response is completed once the first chunk is received, so an error received before any chunk
+     * is returned as a regular error response. If the stream fails after that, the array is left unclosed.
+     *
+     * @param stream the stream of the response items.
+     * @return the response entity.
+     */
+    public static CompletableFuture<ResponseEntity<StreamingResponseBody>> jsonArray(ResponseStream<?> stream) {
+        StreamingResponseBody body = output -> {
+            // The output stream is closed by the servlet container.
+            try (JsonGenerator generator = MAPPER.getFactory().createGenerator(output)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)) {
+                generator.writeStartArray();
+                stream.forEach(generator::writeObject);
+                generator.writeEndArray();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the response");
+            } catch (RuntimeException e) {
+                // The status and a part of the array are sent already, so the response can only be truncated.
+                logger.error("Failed to stream the response", e);
+                throw e;
+            }
+        };
+
+        CompletableFuture<ResponseEntity<StreamingResponseBody>> response = new CompletableFuture<>();
+        stream.started().whenComplete((result, error) -> {
+            if (error != null) {
+                response.completeExceptionally(error);
+            } else {
+                response.complete(ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON_UTF8)
+                        .body(body));
+            }
+        });
+        // e.g. the request is timed out before the first chunk is received.
+        response.whenComplete((result, error) -> {
+            if (error != null) {
+                stream.cancel();
+            }
+        });
+        return response;
+    }
+
+    private StreamingResponses() {
+    }
+}
@@ -16,19 +16,26 @@
 package org.openkilda.northbound.controller;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static org.openkilda.messaging.Utils.CORRELATION_ID;
 import static org.openkilda.messaging.Utils.DEFAULT_CORRELATION_ID;
 import static org.openkilda.messaging.Utils.EXTRA_AUTH;
 import static org.openkilda.messaging.Utils.MAPPER;
 import static org.openkilda.northbound.controller.TestMessageMock.ERROR_FLOW_ID;
+import static org.openkilda.northbound.controller.TestMessageMock.FLOW_COOKIE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_UTF8_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import org.openkilda.messaging.error.ErrorType;
@@ -36,7 +43,13 @@ import org.openkilda.messaging.error.MessageError;
 import org.openkilda.messaging.payload.flow.FlowIdStatusPayload;
 import org.openkilda.messaging.payload.flow.FlowPathPayload;
 import org.openkilda.messaging.payload.flow.FlowPayload;
+import org.openkilda.model.Flow;
+import org.openkilda.model.FlowPath;
+import org.openkilda.model.Switch;
+import org.openkilda.northbound.dto.flows.FlowValidationDto;
+import org.openkilda.northbound.service.FlowService;
 import org.openkilda.northbound.utils.RequestCorrelationId;
+import org.openkilda.persistence.repositories.FlowRepository;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import org.junit.Before;
@@ -48,15 +61,21 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @RunWith(SpringRunner.class)
 @WebAppConfiguration
@@ -71,16 +90,31 @@ public class FlowControllerTest extends NorthboundBaseTest {
             ErrorType.AUTH_FAILED.toString(), "Kilda", "InsufficientAuthenticationException");
     private static final MessageError NOT_FOUND_ERROR = new MessageError(DEFAULT_CORRELATION_ID, 0,
             ErrorType.NOT_FOUND.toString(), "Flow was not found", TestMessageMock.ERROR_FLOW_ID);
+    private static final String BROKEN_FLOW_ID = "broken-flow";
 
     private MockMvc mockMvc;
 
     @Autowired
     private WebApplicationContext webApplicationContext;
 
+    @Autowired
+    private FlowService flowService;
+
+    private FlowRepository flowRepository;
+
     @Before
     public void setUp() throws Exception {
         this.mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).apply(springSecurity()).build();
         RequestCorrelationId.create(DEFAULT_CORRELATION_ID);
+
+        // the flow matches the rule dumped by TestMessageMock, the broken one has no rule on the switch.
+        Flow flow = buildOneSwitchFlow(TestMessageMock.FLOW_ID, FLOW_COOKIE, 1, 2, 1);
+        Flow brokenFlow = buildOneSwitchFlow(BROKEN_FLOW_ID, FLOW_COOKIE + 1, 3, 4, 2);
+        flowRepository = mock(FlowRepository.class);
+        when(flowRepository.findById(TestMessageMock.FLOW_ID)).thenReturn(Collections.singletonList(flow));
+        when(flowRepository.findById(BROKEN_FLOW_ID)).thenReturn(Collections.singletonList(brokenFlow));
+        when(flowRepository.findBySrcSwitchId(TestMessageMock.SWITCH_ID)).thenReturn(Arrays.asList(flow, brokenFlow));
+        ReflectionTestUtils.setField(flowService, "flowRepository", flowRepository);
     }
 
     @Test
@@ -185,10 +219,14 @@ public class FlowControllerTest extends NorthboundBaseTest {
                 .contentType(APPLICATION_JSON_VALUE))
                 .andReturn();
 
+        // The status is sent once the first chunk is received, then the response is streamed in the async task.
         MvcResult result = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(request().asyncStarted())
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(APPLICATION_JSON_UTF8_VALUE))
                 .andReturn();
+        result.getAsyncResult();
+
         List<FlowPayload> response = MAPPER.readValue(
                 result.getResponse().getContentAsString(),
                 new TypeReference<List<FlowPayload>>() {});
@@ -255,6 +293,80 @@ public class FlowControllerTest extends NorthboundBaseTest {
         assertEquals(AUTH_ERROR, response);
     }
 
+    @Test
+    @WithMockUser(username = USERNAME, password = PASSWORD, roles = ROLE)
+    public void validateFlows() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(post("/flows/validate")
+                .header(CORRELATION_ID, testCorrelationId())
+                .contentType(APPLICATION_JSON_VALUE)
+                .content(MAPPER.writeValueAsString(Arrays.asList(TestMessageMock.FLOW_ID, BROKEN_FLOW_ID))))
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(APPLICATION_JSON_UTF8_VALUE))
+                .andReturn();
+        FlowValidationDto[] response =
+                MAPPER.readValue(result.getResponse().getContentAsString(), FlowValidationDto[].class);
+        assertEquals(2, response.length);
+        assertEquals(TestMessageMock.FLOW_ID, response[0].getFlowId());
+        assertTrue(response[0].getAsExpected());
+        assertEquals(BROKEN_FLOW_ID, response[1].getFlowId());
+        assertFalse(response[1].getAsExpected());
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME, password = PASSWORD, roles = ROLE)
+    public void validateFlowsOnSwitch() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get("/flows/validate")
+                .param("switch_id", TestMessageMock.SWITCH_ID.toString())
+                .header(CORRELATION_ID, testCorrelationId())
+                .contentType(APPLICATION_JSON_VALUE))
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(APPLICATION_JSON_UTF8_VALUE))
+                .andReturn();
+        Map<String, FlowValidationDto> response = Stream.of(
+                MAPPER.readValue(result.getResponse().getContentAsString(), FlowValidationDto[].class))
+                .collect(Collectors.toMap(FlowValidationDto::getFlowId, Function.identity()));
+        assertEquals(2, response.size());
+        assertTrue(response.get(TestMessageMock.FLOW_ID).getAsExpected());
+        assertFalse(response.get(BROKEN_FLOW_ID).getAsExpected());
+    }
+
+    @Test
+    @WithMockUser(username = USERNAME, password = PASSWORD, roles = ROLE)
+    public void validateNonExistingFlows() throws Exception {
+        MvcResult result = mockMvc.perform(post("/flows/validate")
+                .header(CORRELATION_ID, DEFAULT_CORRELATION_ID)
+                .contentType(APPLICATION_JSON_VALUE)
+                .content(MAPPER.writeValueAsString(Arrays.asList(TestMessageMock.FLOW_ID, ERROR_FLOW_ID))))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(APPLICATION_JSON_UTF8_VALUE))
+                .andReturn();
+
+        MessageError response = MAPPER.readValue(result.getResponse().getContentAsString(), MessageError.class);
+        assertEquals(ErrorType.NOT_FOUND.toString(), response.getErrorType());
+    }
+
+    private static Flow buildOneSwitchFlow(String flowId, long cookie, int srcPort, int destPort, int meterId) {
+        Switch sw = Switch.builder().switchId(TestMessageMock.SWITCH_ID).build();
+        return Flow.builder()
+                .flowId(flowId)
+                .cookie(cookie)
+                .srcSwitch(sw)
+                .srcPort(srcPort)
+                .srcVlan(srcPort)
+                .destSwitch(sw)
+                .destPort(destPort)
+                .destVlan(destPort)
+                .meterId(meterId)
+                .flowPath(new FlowPath(0L, Collections.emptyList(), null))
+                .build();
+    }
+
     private static String testCorrelationId() {
         return UUID.randomUUID().toString();
     }
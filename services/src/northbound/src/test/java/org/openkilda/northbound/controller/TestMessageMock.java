@@ -27,6 +27,7 @@ import org.openkilda.messaging.command.flow.FlowDeleteRequest;
 import org.openkilda.messaging.command.flow.FlowReadRequest;
 import org.openkilda.messaging.command.flow.FlowUpdateRequest;
 import org.openkilda.messaging.command.flow.FlowsDumpRequest;
+import org.openkilda.messaging.command.switches.DumpRulesRequest;
 import org.openkilda.messaging.command.switches.SwitchRulesDeleteRequest;
 import org.openkilda.messaging.error.ErrorData;
 import org.openkilda.messaging.error.ErrorMessage;
@@ -38,6 +39,12 @@ import org.openkilda.messaging.info.event.SwitchChangeType;
 import org.openkilda.messaging.info.event.SwitchInfoData;
 import org.openkilda.messaging.info.flow.FlowReadResponse;
 import org.openkilda.messaging.info.flow.FlowResponse;
+import org.openkilda.messaging.info.rule.FlowApplyActions;
+import org.openkilda.messaging.info.rule.FlowEntry;
+import org.openkilda.messaging.info.rule.FlowInstructions;
+import org.openkilda.messaging.info.rule.FlowMatchField;
+import org.openkilda.messaging.info.rule.FlowSetFieldAction;
+import org.openkilda.messaging.info.rule.SwitchFlowEntries;
 import org.openkilda.messaging.info.switches.SwitchRulesResponse;
 import org.openkilda.messaging.model.BidirectionalFlowDto;
 import org.openkilda.messaging.model.FlowDto;
@@ -86,6 +93,19 @@ public class TestMessageMock implements MessagingChannel {
             new FlowReadResponse(new BidirectionalFlowDto(flowModel, flowModel));
     private static final SwitchRulesResponse switchRulesResponse =
             new SwitchRulesResponse(singletonList(TEST_SWITCH_RULE_COOKIE));
+    static final long FLOW_COOKIE = 1L;
+    private static final SwitchFlowEntries switchFlowEntries = new SwitchFlowEntries(SWITCH_ID, singletonList(
+            FlowEntry.builder()
+                    .cookie(FLOW_COOKIE)
+                    .match(FlowMatchField.builder().inPort("1").vlanVid("1").build())
+                    .instructions(FlowInstructions.builder()
+                            .applyActions(FlowApplyActions.builder()
+                                    .flowOutput("2")
+                                    .fieldAction(new FlowSetFieldAction("vlan_vid", "2"))
+                                    .build())
+                            .goToMeter(1L)
+                            .build())
+                    .build()));
     private static final Map<String, CommandData> messages = new ConcurrentHashMap<>();
     static final SwitchInfoData SWITCH_INFO_DATA =
             new SwitchInfoData(SWITCH_ID, SwitchChangeType.ACTIVATED, "", "", "", "", false);
@@ -108,6 +128,8 @@ public class TestMessageMock implements MessagingChannel {
             result = getReadFlowResponse(((FlowReadRequest) data).getFlowId(), correlationId);
         } else if (data instanceof SwitchRulesDeleteRequest) {
             result = CompletableFuture.completedFuture(switchRulesResponse);
+        } else if (data instanceof DumpRulesRequest) {
+            result = CompletableFuture.completedFuture(switchFlowEntries);
         } else {
             return null;
         }
@@ -16,6 +16,7 @@
 package org.openkilda.northbound.messaging.kafka;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
@@ -23,6 +24,7 @@ import org.openkilda.messaging.Message;
 import org.openkilda.messaging.error.ErrorData;
 import org.openkilda.messaging.error.ErrorMessage;
 import org.openkilda.messaging.error.ErrorType;
+import org.openkilda.messaging.error.MessageException;
 import org.openkilda.messaging.info.ChunkedInfoMessage;
 import org.openkilda.messaging.info.InfoData;
 import org.openkilda.messaging.info.InfoMessage;
@@ -32,6 +34,7 @@ import org.openkilda.model.SwitchId;
 import org.openkilda.northbound.config.KafkaConfig;
 import org.openkilda.northbound.messaging.MessageProducer;
 import org.openkilda.northbound.messaging.MessagingChannel;
+import org.openkilda.northbound.messaging.ResponseStream;
 
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.junit.Before;
@@ -48,6 +51,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.concurrent.ListenableFuture;
 import org.springframework.util.concurrent.SettableListenableFuture;
 
@@ -61,6 +65,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @RunWith(SpringRunner.class)
 public class KafkaMessagingChannelTest {
@@ -134,6 +139,71 @@ public class KafkaMessagingChannelTest {
         assertTrue(messagingChannel.getPendingRequests().isEmpty());
     }
 
+    @Test
+    public void shouldStreamChunkedResponse() throws Exception {
+        String requestId = UUID.randomUUID().toString();
+        long timestamp = System.currentTimeMillis();
+        int messagesAmount = 5000;
+
+        prepareChunkedResponses(requestId, timestamp, messagesAmount);
+        Message request = new Message(timestamp, requestId);
+
+        ResponseStream<InfoData> stream = messagingChannel.sendAndGetChunkedStream(CHUNKED_TOPIC, request);
+        prepareResponses(CHUNKED_TOPIC);
+
+        AtomicInteger received = new AtomicInteger();
+        stream.forEach(chunk -> received.incrementAndGet());
+        assertEquals(messagesAmount, received.get());
+
+        assertTrue(messagingChannel.getPendingStreamRequests().isEmpty());
+    }
+
+    @Test
+    public void shouldFailStreamIfConsumerFallsBehind() throws Exception {
+        int streamCapacity = (int) ReflectionTestUtils.getField(messagingChannel, "streamCapacity");
+        ReflectionTestUtils.setField(messagingChannel, "streamCapacity", 10);
+        try {
+            String requestId = UUID.randomUUID().toString();
+            long timestamp = System.currentTimeMillis();
+
+            prepareChunkedResponses(requestId, timestamp, 20);
+            Message request = new Message(timestamp, requestId);
+
+            ResponseStream<InfoData> stream = messagingChannel.sendAndGetChunkedStream(CHUNKED_TOPIC, request);
+            // The listener thread doesn't wait for the consumer, the request is failed once the stream is full.
+            CHUNKED_RESPONSES.forEach(response -> messagingChannel.onResponse(response));
+            assertTrue(messagingChannel.getPendingStreamRequests().isEmpty());
+            assertTrue(stream.started().isDone());
+
+            thrown.expect(MessageException.class);
+            stream.forEach(chunk -> { });
+        } finally {
+            ReflectionTestUtils.setField(messagingChannel, "streamCapacity", streamCapacity);
+        }
+    }
+
+    @Test
+    public void shouldFailStreamStartIfResponseIsError() throws Exception {
+        thrown.expect(ExecutionException.class);
+
+        String requestId = UUID.randomUUID().toString();
+        long timestamp = System.currentTimeMillis();
+
+        ErrorData error = new ErrorData(ErrorType.NOT_FOUND, "message", "description");
+        CHUNKED_RESPONSES.add(new ErrorMessage(error, timestamp, requestId, null));
+        Message request = new Message(timestamp, requestId);
+
+        ResponseStream<InfoData> stream = messagingChannel.sendAndGetChunkedStream(CHUNKED_TOPIC, request);
+        prepareResponses(CHUNKED_TOPIC);
+        try {
+            stream.started().get(1, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof MessageException);
+            assertEquals(ErrorType.NOT_FOUND, ((MessageException) e.getCause()).getErrorType());
+            throw e;
+        }
+    }
+
     @Test
     public void shouldReturnCompletedChunkedSingleItem() throws Exception {
         String requestId = UUID.randomUUID().toString();
@@ -241,6 +311,47 @@ public class KafkaMessagingChannelTest {
         assertTrue(messagingChannel.getPendingChunkedRequests().isEmpty());
     }
 
+    @Test
+    public void shouldCompleteResponseExceptionallyIfNoResponseReceived() throws Exception {
+        String requestId = UUID.randomUUID().toString();
+        Message request = new Message(System.currentTimeMillis(), requestId);
+
+        CompletableFuture<InfoData> response = messagingChannel.sendAndGet(MAIN_TOPIC, request);
+        try {
+            response.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof MessageException);
+            assertEquals(ErrorType.OPERATION_TIMED_OUT, ((MessageException) e.getCause()).getErrorType());
+        }
+
+        assertTrue(response.isCompletedExceptionally());
+        assertFalse(messagingChannel.getPendingRequests().containsKey(requestId));
+        assertTrue(messagingChannel.getTimedOutRequests() > 0);
+    }
+
+    @Test
+    public void shouldRejectRequestIfTooManyRequestsInProgress() throws Exception {
+        int maxPendingRequests = (int) ReflectionTestUtils.getField(messagingChannel, "maxPendingRequests");
+        ReflectionTestUtils.setField(messagingChannel, "maxPendingRequests", messagingChannel.getInFlightRequests());
+        try {
+            String requestId = UUID.randomUUID().toString();
+            Message request = new Message(System.currentTimeMillis(), requestId);
+
+            CompletableFuture<InfoData> response = messagingChannel.sendAndGet(MAIN_TOPIC, request);
+            assertTrue(response.isCompletedExceptionally());
+            try {
+                response.get();
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof MessageException);
+                assertEquals(ErrorType.SERVICE_UNAVAILABLE, ((MessageException) e.getCause()).getErrorType());
+            }
+            assertFalse(messagingChannel.getPendingRequests().containsKey(requestId));
+            assertTrue(messagingChannel.getRejectedRequests() > 0);
+        } finally {
+            ReflectionTestUtils.setField(messagingChannel, "maxPendingRequests", maxPendingRequests);
+        }
+    }
+
     /**
      * Creates chunk of responses started from requestId, with predefined size.
      */
@@ -0,0 +1,198 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.openkilda.northbound.service;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.openkilda.messaging.error.MessageException;
+import org.openkilda.messaging.info.rule.FlowApplyActions;
+import org.openkilda.messaging.info.rule.FlowEntry;
+import org.openkilda.messaging.info.rule.FlowInstructions;
+import org.openkilda.messaging.info.rule.FlowMatchField;
+import org.openkilda.messaging.info.rule.FlowSetFieldAction;
+import org.openkilda.messaging.info.rule.SwitchFlowEntries;
+import org.openkilda.model.Flow;
+import org.openkilda.model.FlowPath;
+import org.openkilda.model.Switch;
+import org.openkilda.model.SwitchId;
+import org.openkilda.northbound.dto.flows.FlowValidationDto;
+import org.openkilda.northbound.dto.flows.PathDiscrepancyDto;
+import org.openkilda.northbound.service.impl.FlowServiceImpl;
+import org.openkilda.northbound.utils.CorrelationIdFactory;
+import org.openkilda.northbound.utils.TestCorrelationIdFactory;
+import org.openkilda.persistence.repositories.FlowRepository;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@RunWith(MockitoJUnitRunner.class)
+public class FlowServiceTest {
+    private static final SwitchId SWITCH_ID_1 = new SwitchId(1L);
+    private static final SwitchId SWITCH_ID_2 = new SwitchId(2L);
+    private static final SwitchId SWITCH_ID_3 = new SwitchId(3L);
+
+    private static final String FLOW_ID_A = "flow-a";
+    private static final String FLOW_ID_B = "flow-b";
+    private static final String FLOW_ID_C = "flow-c";
+
+    @Mock
+    private FlowRepository flowRepository;
+
+    @Mock
+    private SwitchService switchService;
+
+    @Spy
+    private CorrelationIdFactory idFactory = new TestCorrelationIdFactory();
+
+    @InjectMocks
+    private FlowServiceImpl flowService;
+
+    private Flow oneSwitchFlow;
+
+    @Before
+    public void setUp() {
+        // flow A goes from switch 1 to switch 2 and matches the installed rules.
+        Flow flowA = buildFlow(FLOW_ID_A, 1L, SWITCH_ID_1, 10, 100, SWITCH_ID_2, 20, 200, 50, 5,
+                new FlowPath.Node(SWITCH_ID_1, 1, 0, null, null), new FlowPath.Node(SWITCH_ID_2, 2, 1, null, null));
+        // flow B goes from switch 1 to switch 3, its egress rule pushes a wrong vlan.
+        Flow flowB = buildFlow(FLOW_ID_B, 2L, SWITCH_ID_1, 11, 101, SWITCH_ID_3, 30, 300, 51, 6,
+                new FlowPath.Node(SWITCH_ID_1, 3, 0, null, null), new FlowPath.Node(SWITCH_ID_3, 4, 1, null, null));
+        // flow C is a one switch flow on switch 3.
+        oneSwitchFlow = buildFlow(FLOW_ID_C, 3L, SWITCH_ID_3, 5, 0, SWITCH_ID_3, 6, 0, 0, 7);
+
+        when(flowRepository.findById(FLOW_ID_A)).thenReturn(singletonList(flowA));
+        when(flowRepository.findById(FLOW_ID_B)).thenReturn(singletonList(flowB));
+        when(flowRepository.findById(FLOW_ID_C)).thenReturn(singletonList(oneSwitchFlow));
+
+        // the stale rule has the same match as the ingress of flow A, so only the cookie tells them apart.
+        mockRules(SWITCH_ID_1, buildRule(99L, 10, 100, 7, 0, 0),
+                buildRule(1L, 10, 100, 1, 50, 5), buildRule(2L, 11, 101, 3, 51, 6));
+        mockRules(SWITCH_ID_2, buildRule(1L, 2, 50, 20, 200, 0));
+        mockRules(SWITCH_ID_3, buildRule(2L, 4, 51, 30, 301, 0), buildRule(3L, 5, 0, 6, 0, 7));
+    }
+
+    @Test
+    public void shouldValidateFlowsDumpingEachSwitchOnce() throws Exception {
+        List<FlowValidationDto> result = flowService.validateFlows(asList(FLOW_ID_A, FLOW_ID_B, FLOW_ID_A)).get();
+
+        assertThat(result, hasSize(2));
+        FlowValidationDto validFlow = result.get(0);
+        assertThat(validFlow.getFlowId(), is(FLOW_ID_A));
+        assertThat(validFlow.getAsExpected(), is(true));
+        assertThat(validFlow.getDiscrepancies(), is(empty()));
+        assertThat(validFlow.getPktCounts(), hasSize(2));
+        assertThat(validFlow.getSwitchRulesTotal(), is(4));
+
+        FlowValidationDto invalidFlow = result.get(1);
+        assertThat(invalidFlow.getFlowId(), is(FLOW_ID_B));
+        assertThat(invalidFlow.getAsExpected(), is(false));
+        assertThat(invalidFlow.getDiscrepancies().stream()
+                .map(PathDiscrepancyDto::getField)
+                .collect(Collectors.toList()), contains("outVlan"));
+
+        verify(switchService).getRules(eq(SWITCH_ID_1), anyLong(), anyString());
+        verify(switchService).getRules(eq(SWITCH_ID_2), anyLong(), anyString());
+        verify(switchService).getRules(eq(SWITCH_ID_3), anyLong(), anyString());
+    }
+
+    @Test
+    public void shouldValidateFlowsOnSwitch() throws Exception {
+        when(flowRepository.findFlowIdsBySwitch(SWITCH_ID_3)).thenReturn(ImmutableSet.of(FLOW_ID_B));
+        when(flowRepository.findBySrcSwitchId(SWITCH_ID_3)).thenReturn(singletonList(oneSwitchFlow));
+
+        Map<String, FlowValidationDto> result = flowService.validateFlowsOnSwitch(SWITCH_ID_3).get().stream()
+                .collect(Collectors.toMap(FlowValidationDto::getFlowId, Function.identity()));
+
+        assertThat(result.keySet(), containsInAnyOrder(FLOW_ID_B, FLOW_ID_C));
+        assertThat(result.get(FLOW_ID_B).getAsExpected(), is(false));
+        assertThat(result.get(FLOW_ID_C).getAsExpected(), is(true));
+        assertThat(result.get(FLOW_ID_C).getFlowRulesTotal(), is(1));
+
+        verify(switchService, never()).getRules(eq(SWITCH_ID_2), anyLong(), anyString());
+    }
+
+    @Test(expected = MessageException.class)
+    public void shouldNotValidateNonExistentFlows() {
+        when(flowRepository.findById("unknown")).thenReturn(emptyList());
+
+        flowService.validateFlows(asList(FLOW_ID_A, "unknown"));
+    }
+
+    private void mockRules(SwitchId switchId, FlowEntry... rules) {
+        when(switchService.getRules(eq(switchId), anyLong(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(new SwitchFlowEntries(switchId, asList(rules))));
+    }
+
+    private static Flow buildFlow(String flowId, long cookie, SwitchId srcSwitchId, int srcPort, int srcVlan,
+                                  SwitchId destSwitchId, int destPort, int destVlan, int transitVlan, int meterId,
+                                  FlowPath.Node... path) {
+        return Flow.builder()
+                .flowId(flowId)
+                .cookie(cookie)
+                .srcSwitch(Switch.builder().switchId(srcSwitchId).build())
+                .srcPort(srcPort)
+                .srcVlan(srcVlan)
+                .destSwitch(Switch.builder().switchId(destSwitchId).build())
+                .destPort(destPort)
+                .destVlan(destVlan)
+                .transitVlan(transitVlan)
+                .meterId(meterId)
+                .flowPath(new FlowPath(0L, asList(path), null))
+                .build();
+    }
+
+    private static FlowEntry buildRule(long cookie, int inPort, int inVlan, int outPort, int outVlan, long meterId) {
+        return FlowEntry.builder()
+                .cookie(cookie)
+                .match(FlowMatchField.builder()
+                        .inPort(String.valueOf(inPort))
+                        .vlanVid(String.valueOf(inVlan))
+                        .build())
+                .instructions(FlowInstructions.builder()
+                        .applyActions(FlowApplyActions.builder()
+                                .flowOutput(String.valueOf(outPort))
+                                .fieldAction(new FlowSetFieldAction("vlan_vid", String.valueOf(outVlan)))
+                                .build())
+                        .goToMeter(meterId != 0 ? meterId : null)
+                        .build())
+                .build();
+    }
+}
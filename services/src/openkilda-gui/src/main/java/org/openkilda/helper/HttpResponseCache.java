@@ -0,0 +1,153 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.helper;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.StatusLine;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.util.EntityUtils;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The Class HttpResponseCache. Keeps successful responses of read-only requests for a short time, so the pages
+ * which request the same lists (switches, links, flows) don't call northbound again and again.
+ */
+class HttpResponseCache {
+
+    private final long ttlMillis;
+
+    private final Map<String, CachedResponse> responses = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Instantiates a new http response cache.
+     *
+     * @param ttl the time to keep the responses, zero disables the cache
+     * @param unit the time unit of the ttl
+     */
+    HttpResponseCache(final long ttl, final TimeUnit unit) {
+        this.ttlMillis = unit.toMillis(ttl);
+    }
+
+    /**
+     * Checks if the cache is enabled.
+     *
+     * @return true, if the responses are cached
+     */
+    boolean isEnabled() {
+        return ttlMillis > 0;
+    }
+
+    /**
+     * Gets the copy of the cached response.
+     *
+     * @param key the key
+     * @return the response or null if there is no response or it's expired
+     */
+    HttpResponse get(final String key) {
+        CachedResponse cached = responses.get(key);
+        if (cached != null && cached.expiresAt < System.currentTimeMillis()) {
+            responses.remove(key, cached);
+            cached = null;
+        }
+
+        if (cached == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return cached.toResponse();
+    }
+
+    /**
+     * Puts the response to the cache. The entity of the response must be repeatable as it is read here and then
+     * returned to the caller.
+     *
+     * @param key the key
+     * @param response the response
+     * @throws IOException if the entity can't be read
+     */
+    void put(final String key, final HttpResponse response) throws IOException {
+        long now = System.currentTimeMillis();
+        responses.values().removeIf(cached -> cached.expiresAt < now);
+
+        HttpEntity entity = response.getEntity();
+        byte[] content = entity != null ? EntityUtils.toByteArray(entity) : null;
+        ContentType contentType = entity != null ? ContentType.get(entity) : null;
+        responses.put(key, new CachedResponse(response.getStatusLine(), response.getAllHeaders(), content,
+                contentType, now + ttlMillis));
+    }
+
+    /**
+     * Removes all the responses, e.g. when the data has been changed.
+     */
+    void clear() {
+        responses.clear();
+    }
+
+    int size() {
+        return responses.size();
+    }
+
+    long getHits() {
+        return hits.get();
+    }
+
+    long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * The Class CachedResponse.
+     */
+    private static final class CachedResponse {
+        private final StatusLine statusLine;
+        private final Header[] headers;
+        private final byte[] content;
+        private final ContentType contentType;
+        private final long expiresAt;
+
+        private CachedResponse(final StatusLine statusLine, final Header[] headers, final byte[] content,
+                final ContentType contentType, final long expiresAt) {
+            this.statusLine = statusLine;
+            this.headers = headers;
+            this.content = content;
+            this.contentType = contentType;
+            this.expiresAt = expiresAt;
+        }
+
+        private HttpResponse toResponse() {
+            BasicHttpResponse response = new BasicHttpResponse(statusLine);
+            response.setHeaders(headers);
+            if (content != null) {
+                response.setEntity(new ByteArrayEntity(content, contentType));
+            }
+            return response;
+        }
+    }
+}
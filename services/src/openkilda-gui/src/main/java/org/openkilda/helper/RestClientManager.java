@@ -26,6 +26,7 @@ import org.openkilda.integration.exception.InvalidResponseException;
 import org.openkilda.model.response.ErrorMessage;
 import org.openkilda.service.AuthPropertyService;
 import org.openkilda.store.common.model.ApiRequestDto;
+import org.openkilda.utility.ApplicationProperties;
 import org.openkilda.utility.IoUtil;
 import org.openkilda.utility.StringUtil;
 
@@ -33,7 +34,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
 import org.apache.http.HttpResponse;
-import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
 import org.apache.http.client.methods.HttpGet;
@@ -46,10 +47,11 @@ import org.apache.http.conn.socket.ConnectionSocketFactory;
 import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.entity.BufferedHttpEntity;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
-import org.apache.http.impl.client.HttpClients;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.slf4j.Logger;
@@ -58,20 +60,27 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.security.GeneralSecurityException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.net.ssl.SSLContext;
 
 /**
  * The Class RestClientManager.
  */
 @Component
+@ManagedResource(objectName = "org.openkilda.gui:type=RestClientManager")
 public class RestClientManager {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RestClientManager.class);
@@ -85,6 +94,144 @@ public class RestClientManager {
     @Autowired
     private ServerContext serverContext;
 
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    private PoolingHttpClientConnectionManager trustAllConnectionManager;
+
+    private CloseableHttpClient client;
+
+    private CloseableHttpClient trustAllClient;
+
+    private HttpResponseCache responseCache;
+
+    /**
+     * Creates the shared http clients. The connections are pooled and kept alive between the calls, so the calls
+     * to northbound and opentsdb don't open a new connection (and do a TLS handshake) each time.
+     *
+     * @throws GeneralSecurityException if the ssl context can't be created
+     */
+    @PostConstruct
+    void init() throws GeneralSecurityException {
+        connectionManager = createConnectionManager(new PoolingHttpClientConnectionManager());
+        client = createClient(connectionManager);
+
+        SSLContext sslContext = new SSLContextBuilder().loadTrustMaterial(null, (x509CertChain, authType) -> true)
+                .build();
+        trustAllConnectionManager = createConnectionManager(new PoolingHttpClientConnectionManager(RegistryBuilder
+                .<ConnectionSocketFactory>create().register("http", PlainConnectionSocketFactory.INSTANCE)
+                .register("https", new SSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE))
+                .build()));
+        trustAllClient = createClient(trustAllConnectionManager);
+
+        responseCache = new HttpResponseCache(applicationProperties.getRestClientCacheTtlSeconds(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * Closes the http clients and their connections.
+     */
+    @PreDestroy
+    void destroy() {
+        IoUtil.close(client);
+        IoUtil.close(trustAllClient);
+    }
+
+    private PoolingHttpClientConnectionManager createConnectionManager(
+            final PoolingHttpClientConnectionManager manager) {
+        manager.setMaxTotal(applicationProperties.getRestClientMaxConnections());
+        manager.setDefaultMaxPerRoute(applicationProperties.getRestClientMaxConnectionsPerRoute());
+        return manager;
+    }
+
+    private CloseableHttpClient createClient(final PoolingHttpClientConnectionManager manager) {
+        long keepAliveMillis = TimeUnit.SECONDS.toMillis(applicationProperties.getRestClientKeepAliveSeconds());
+        return HttpClientBuilder.create()
+                .setConnectionManager(manager)
+                .setKeepAliveStrategy((response, context) -> {
+                    long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response,
+                            context);
+                    return keepAlive > 0 ? Math.min(keepAlive, keepAliveMillis) : keepAliveMillis;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAliveMillis, TimeUnit.MILLISECONDS)
+                // The clients are shared by all users, so the cookies must not be kept between the calls.
+                .disableCookieManagement()
+                .build();
+    }
+
+    /**
+     * Executes the request and reads the response entity into memory, so the connection is released to the pool
+     * even if the caller doesn't read the response.
+     */
+    private HttpResponse execute(final CloseableHttpClient httpClient, final HttpUriRequest request)
+            throws IOException {
+        try (CloseableHttpResponse response = httpClient.execute(request)) {
+            if (response.getEntity() != null) {
+                response.setEntity(new BufferedHttpEntity(response.getEntity()));
+            }
+            return response;
+        }
+    }
+
+    /**
+     * Invokes the GET request of the read-only resource. The successful responses are cached for a short time.
+     *
+     * @param apiUrl the api url
+     * @param basicAuth the basic auth
+     * @return the http response
+     */
+    public HttpResponse invokeCached(final String apiUrl, final String basicAuth) {
+        if (!responseCache.isEnabled()) {
+            return invoke(apiUrl, HttpMethod.GET, "", "", basicAuth);
+        }
+
+        String key = apiUrl + "|" + basicAuth;
+        HttpResponse httpResponse = responseCache.get(key);
+        if (httpResponse != null) {
+            LOGGER.debug("[invokeCached] Cached response is returned for " + apiUrl);
+            return httpResponse;
+        }
+
+        httpResponse = invoke(apiUrl, HttpMethod.GET, "", "", basicAuth);
+        if (HttpStatus.valueOf(httpResponse.getStatusLine().getStatusCode()).is2xxSuccessful()) {
+            try {
+                responseCache.put(key, httpResponse);
+            } catch (IOException e) {
+                LOGGER.warn("[invokeCached] Response can't be cached: " + e.getMessage());
+            }
+        }
+        return httpResponse;
+    }
+
+    @ManagedAttribute(description = "Number of the requests served from the response cache")
+    public long getCacheHits() {
+        return responseCache.getHits();
+    }
+
+    @ManagedAttribute(description = "Number of the cacheable requests sent to the server")
+    public long getCacheMisses() {
+        return responseCache.getMisses();
+    }
+
+    @ManagedAttribute(description = "Number of the cached responses")
+    public int getCacheSize() {
+        return responseCache.size();
+    }
+
+    @ManagedAttribute(description = "Number of the connections in use")
+    public int getLeasedConnections() {
+        return connectionManager.getTotalStats().getLeased()
+                + trustAllConnectionManager.getTotalStats().getLeased();
+    }
+
+    @ManagedAttribute(description = "Number of the idle connections kept alive")
+    public int getAvailableConnections() {
+        return connectionManager.getTotalStats().getAvailable()
+                + trustAllConnectionManager.getTotalStats().getAvailable();
+    }
+
     /**
      * Invoke.
      *
@@ -104,7 +251,10 @@ public class RestClientManager {
         try {
             RequestContext requestContext = serverContext.getRequestContext();
 
-            HttpClient client = HttpClients.createDefault();
+            if (!HttpMethod.GET.equals(httpMethod)) {
+                // The data may be changed by the call, so don't return stale lists.
+                responseCache.clear();
+            }
             HttpUriRequest httpUriRequest = null;
             HttpEntityEnclosingRequestBase httpEntityEnclosingRequest = null;
 
@@ -140,11 +290,11 @@ public class RestClientManager {
                         requestContext.getCorrelationId());
                 // Setting request payload
                 httpEntityEnclosingRequest.setEntity(new StringEntity(payload));
-                httpResponse = client.execute(httpEntityEnclosingRequest);
+                httpResponse = execute(client, httpEntityEnclosingRequest);
                 LOGGER.debug("[invoke] Call executed successfully");
             } else {
                 LOGGER.info("[invoke] Executing : httpUriRequest : " + httpUriRequest);
-                httpResponse = client.execute(httpUriRequest);
+                httpResponse = execute(client, httpUriRequest);
                 LOGGER.info("[invoke] Call executed successfully");
             }
 
@@ -172,16 +322,6 @@ public class RestClientManager {
         String payload = apiRequestDto.getPayload();
 
         try {
-
-            SSLContext sslContext = new SSLContextBuilder().loadTrustMaterial(null, (x509CertChain, authType) -> true)
-                    .build();
-            CloseableHttpClient client = HttpClientBuilder.create().setSSLContext(sslContext)
-                    .setConnectionManager(new PoolingHttpClientConnectionManager(RegistryBuilder
-                            .<ConnectionSocketFactory>create().register("http", PlainConnectionSocketFactory.INSTANCE)
-                            .register("https",
-                                    new SSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE))
-                            .build()))
-                    .build();
             HttpUriRequest httpUriRequest = null;
             HttpEntityEnclosingRequestBase httpEntityEnclosingRequest = null;
 
@@ -222,11 +362,11 @@ public class RestClientManager {
                 }
                 // Setting request payload
                 httpEntityEnclosingRequest.setEntity(new StringEntity(payload));
-                httpResponse = client.execute(httpEntityEnclosingRequest);
+                httpResponse = execute(trustAllClient, httpEntityEnclosingRequest);
                 LOGGER.debug("[invoke] Call executed successfully");
             } else {
                 LOGGER.info("[invoke] Executing : httpUriRequest : " + httpUriRequest);
-                httpResponse = client.execute(httpUriRequest);
+                httpResponse = execute(trustAllClient, httpUriRequest);
                 LOGGER.info("[invoke] Call executed successfully");
             }
 
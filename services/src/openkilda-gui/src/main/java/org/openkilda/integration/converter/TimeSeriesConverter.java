@@ -0,0 +1,141 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.integration.converter;
+
+import org.openkilda.integration.model.TimeSeries;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The Class TimeSeriesConverter. Reads OpenTSDB query responses token by token, so the data points go directly to
+ * primitive arrays without building the intermediate maps of strings.
+ */
+@Component
+public class TimeSeriesConverter {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    /**
+     * Converts the OpenTSDB query response to the time series.
+     *
+     * @param content the response content
+     * @return the time series
+     * @throws IOException if the response can't be read or has unexpected format
+     */
+    public List<TimeSeries> toTimeSeries(final InputStream content) throws IOException {
+        List<TimeSeries> result = new ArrayList<>();
+        try (JsonParser parser = jsonFactory.createParser(content)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return result;
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw new IOException("Unexpected OpenTSDB response, an array is expected but found " + token);
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                result.add(readTimeSeries(parser));
+            }
+        }
+        return result;
+    }
+
+    private TimeSeries readTimeSeries(final JsonParser parser) throws IOException {
+        String metric = null;
+        Map<String, String> tags = Collections.emptyMap();
+        DataPoints dataPoints = new DataPoints();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if ("metric".equals(field)) {
+                metric = parser.getValueAsString();
+            } else if ("tags".equals(field) && token == JsonToken.START_OBJECT) {
+                tags = readTags(parser);
+            } else if ("dps".equals(field) && token == JsonToken.START_OBJECT) {
+                // {"<timestamp>": <value>, ...}
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    long timestamp = Long.parseLong(parser.getCurrentName());
+                    parser.nextToken();
+                    dataPoints.add(timestamp, readValue(parser));
+                }
+            } else if ("dps".equals(field) && token == JsonToken.START_ARRAY) {
+                // [[<timestamp>, <value>], ...] if the arrays are requested.
+                while (parser.nextToken() == JsonToken.START_ARRAY) {
+                    parser.nextToken();
+                    long timestamp = parser.getValueAsLong();
+                    parser.nextToken();
+                    dataPoints.add(timestamp, readValue(parser));
+                    parser.nextToken();
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return dataPoints.toTimeSeries(metric, tags);
+    }
+
+    private Map<String, String> readTags(final JsonParser parser) throws IOException {
+        Map<String, String> tags = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            tags.put(name, parser.getValueAsString());
+        }
+        return tags;
+    }
+
+    private double readValue(final JsonParser parser) throws IOException {
+        return parser.getCurrentToken() == JsonToken.VALUE_NULL ? Double.NaN : parser.getValueAsDouble();
+    }
+
+    /**
+     * The Class DataPoints. Growable primitive arrays of the data points.
+     */
+    private static final class DataPoints {
+        private long[] timestamps = new long[INITIAL_CAPACITY];
+        private double[] values = new double[INITIAL_CAPACITY];
+        private int size;
+
+        private void add(final long timestamp, final double value) {
+            if (size == timestamps.length) {
+                timestamps = Arrays.copyOf(timestamps, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            timestamps[size] = timestamp;
+            values[size] = value;
+            size++;
+        }
+
+        private TimeSeries toTimeSeries(final String metric, final Map<String, String> tags) {
+            return new TimeSeries(metric, tags, Arrays.copyOf(timestamps, size), Arrays.copyOf(values, size));
+        }
+    }
+}
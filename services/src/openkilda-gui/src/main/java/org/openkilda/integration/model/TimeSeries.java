@@ -0,0 +1,94 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.integration.model;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The Class TimeSeries. The data points of an OpenTSDB metric kept in primitive arrays.
+ */
+public final class TimeSeries {
+
+    private final String metric;
+
+    private final Map<String, String> tags;
+
+    private final long[] timestamps;
+
+    private final double[] values;
+
+    /**
+     * Instantiates a new time series. The arrays are owned by the series and must not be modified after that.
+     *
+     * @param metric the metric
+     * @param tags the tags
+     * @param timestamps the timestamps
+     * @param values the values
+     */
+    public TimeSeries(final String metric, final Map<String, String> tags, final long[] timestamps,
+            final double[] values) {
+        if (timestamps.length != values.length) {
+            throw new IllegalArgumentException("The number of timestamps and values must be the same");
+        }
+        this.metric = metric;
+        this.tags = Collections.unmodifiableMap(tags);
+        this.timestamps = timestamps;
+        this.values = values;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public Map<String, String> getTags() {
+        return tags;
+    }
+
+    public String getTag(final String name) {
+        return tags.get(name);
+    }
+
+    public int size() {
+        return timestamps.length;
+    }
+
+    public long getTimestamp(final int index) {
+        return timestamps[index];
+    }
+
+    public double getValue(final int index) {
+        return values[index];
+    }
+
+    /**
+     * Gets the value of the latest data point.
+     *
+     * @return the value or null if there are no data points
+     */
+    public Double getLatestValue() {
+        if (timestamps.length == 0) {
+            return null;
+        }
+        int latest = 0;
+        for (int i = 1; i < timestamps.length; i++) {
+            if (timestamps[i] > timestamps[latest]) {
+                latest = i;
+            }
+        }
+        return values[latest];
+    }
+}
@@ -148,8 +148,8 @@ public class FlowsIntegrationService {
      */
     public List<Flow> getAllFlowList() {
         try {
-            HttpResponse response = restClientManager.invoke(
-                    applicationProperties.getNbBaseUrl() + IConstants.NorthBoundUrl.GET_FLOW, HttpMethod.GET, "", "",
+            HttpResponse response = restClientManager.invokeCached(
+                    applicationProperties.getNbBaseUrl() + IConstants.NorthBoundUrl.GET_FLOW,
                     applicationService.getAuthHeader());
             if (RestClientManager.isValidResponse(response)) {
                 return restClientManager.getResponseList(response, Flow.class);
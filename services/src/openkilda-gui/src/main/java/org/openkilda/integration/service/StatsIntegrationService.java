@@ -20,11 +20,13 @@ import org.openkilda.constants.IConstants.Metrics;
 import org.openkilda.constants.OpenTsDb;
 import org.openkilda.constants.OpenTsDb.StatsType;
 import org.openkilda.helper.RestClientManager;
+import org.openkilda.integration.converter.TimeSeriesConverter;
 import org.openkilda.integration.exception.IntegrationException;
 import org.openkilda.integration.exception.InvalidResponseException;
 import org.openkilda.integration.model.Filter;
 import org.openkilda.integration.model.IslStats;
 import org.openkilda.integration.model.Query;
+import org.openkilda.integration.model.TimeSeries;
 import org.openkilda.utility.ApplicationProperties;
 import org.openkilda.utility.IoUtil;
 import org.openkilda.utility.JsonUtil;
@@ -37,17 +39,27 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpMethod;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import javax.annotation.PostConstruct;
+
 /**
  * The Class StatsIntegrationService.
  *
@@ -55,16 +67,42 @@ import java.util.regex.Pattern;
  */
 
 @Service
+@ManagedResource(objectName = "org.openkilda.gui:type=StatsIntegrationService")
 public class StatsIntegrationService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(StatsIntegrationService.class);
 
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd-HH:mm:ss");
+
+    private static final Pattern DOWNSAMPLE_PATTERN = Pattern.compile("([1-9][0-9]{0,8})(ms|s|m|h|d)");
+
+    private static final Map<String, Long> DOWNSAMPLE_UNITS = new HashMap<>();
+
+    static {
+        DOWNSAMPLE_UNITS.put("ms", 1L);
+        DOWNSAMPLE_UNITS.put("s", TimeUnit.SECONDS.toMillis(1));
+        DOWNSAMPLE_UNITS.put("m", TimeUnit.MINUTES.toMillis(1));
+        DOWNSAMPLE_UNITS.put("h", TimeUnit.HOURS.toMillis(1));
+        DOWNSAMPLE_UNITS.put("d", TimeUnit.DAYS.toMillis(1));
+    }
+
     @Autowired
     private RestClientManager restClientManager;
 
     @Autowired
     private ApplicationProperties applicationProperties;
 
+    @Autowired
+    private TimeSeriesConverter timeSeriesConverter;
+
+    private TimeSeriesCache timeSeriesCache;
+
+    @PostConstruct
+    void init() {
+        timeSeriesCache = new TimeSeriesCache(applicationProperties.getOpenTsdbCacheTtlSeconds(), TimeUnit.SECONDS,
+                applicationProperties.getOpenTsdbCacheMaxEntries());
+    }
+
     /**
      * Gets the stats.
      *
@@ -112,6 +150,81 @@ public class StatsIntegrationService {
         return null;
     }
 
+    /**
+     * Gets the stats as time series. The series of the same query (metrics, tags, downsampling and the length of the
+     * time window) which ends within the same downsampling step are cached for a short time, so the dashboards which
+     * poll the same stats don't query OpenTSDB each time.
+     *
+     * @param startDate the start date
+     * @param endDate the end date
+     * @param downsample the downsample
+     * @param switchId the switch id
+     * @param port the port
+     * @param flowId the flow id
+     * @param srcSwitch the src switch
+     * @param srcPort the src port
+     * @param dstSwitch the dst switch
+     * @param dstPort the dst port
+     * @param statsType the stats type
+     * @param metric the metric
+     * @param direction the direction
+     * @return the time series
+     * @throws IntegrationException the integration exception
+     */
+    public List<TimeSeries> getTimeSeries(final String startDate, final String endDate, final String downsample,
+            final List<String> switchId, final String port, final String flowId, final String srcSwitch,
+            final String srcPort, final String dstSwitch, final String dstPort, final StatsType statsType,
+            final String metric, final String direction) throws IntegrationException {
+        try {
+            List<Query> queries = getQueries(startDate, endDate, downsample, switchId, port, flowId, srcSwitch,
+                    srcPort, dstSwitch, dstPort, statsType, metric, direction);
+            String payload = getRequest(startDate, endDate, queries);
+
+            String cacheKey = getTimeSeriesCacheKey(startDate, endDate, downsample, queries, payload);
+            List<TimeSeries> series = timeSeriesCache.get(cacheKey);
+            if (series != null) {
+                LOGGER.debug("Inside getTimeSeries: cached series are returned for payload: " + payload);
+                return series;
+            }
+
+            LOGGER.info("Inside getTimeSeries: startDate: " + startDate + ": endDate: " + endDate + ": payload: "
+                    + payload);
+            HttpResponse response = restClientManager.invoke(
+                    applicationProperties.getOpenTsdbBaseUrl() + IConstants.OpenTsDbUrl.OPEN_TSDB_QUERY,
+                    HttpMethod.POST, payload, "application/json", "");
+            if (RestClientManager.isValidResponse(response)) {
+                series = Collections.unmodifiableList(
+                        timeSeriesConverter.toTimeSeries(response.getEntity().getContent()));
+                if (timeSeriesCache.isEnabled()) {
+                    timeSeriesCache.put(cacheKey, series);
+                }
+                return series;
+            }
+        } catch (InvalidResponseException e) {
+            LOGGER.error("Inside getTimeSeries  Exception :", e);
+            throw new InvalidResponseException(e.getCode(), e.getResponse());
+        } catch (IOException ex) {
+            LOGGER.error("Inside getTimeSeries Exception is: " + ex.getMessage());
+            throw new IntegrationException(ex);
+        }
+        return Collections.emptyList();
+    }
+
+    @ManagedAttribute(description = "Number of the stats queries served from the cache")
+    public long getCacheHits() {
+        return timeSeriesCache.getHits();
+    }
+
+    @ManagedAttribute(description = "Number of the stats queries sent to OpenTSDB")
+    public long getCacheMisses() {
+        return timeSeriesCache.getMisses();
+    }
+
+    @ManagedAttribute(description = "Number of the cached stats queries")
+    public int getCacheSize() {
+        return timeSeriesCache.size();
+    }
+
     private String populateFiltersAndReturnDownsample(final List<Filter> filters, final Map<String, String[]> params,
             final Integer index, final StatsType statsType) {
         String downsample = "";
@@ -191,6 +304,34 @@ public class StatsIntegrationService {
         return isValidDownsample;
     }
 
+    /**
+     * Gets the key of the time series in the cache. The dates are rounded to the downsampling step, so the queries of
+     * the last N minutes sent within the same step share the key.
+     *
+     * @param startDate the start date
+     * @param endDate the end date
+     * @param downsample the downsample
+     * @param queries the queries
+     * @param payload the request body, it is the key if the dates or the downsample can't be parsed
+     * @return the cache key
+     * @throws JsonProcessingException the json processing exception
+     */
+    private String getTimeSeriesCacheKey(final String startDate, final String endDate, final String downsample,
+            final List<Query> queries, final String payload) throws JsonProcessingException {
+        Matcher matcher = DOWNSAMPLE_PATTERN.matcher(StringUtil.isNullOrEmpty(downsample) ? "" : downsample);
+        if (!matcher.matches()) {
+            return payload;
+        }
+        long step = Long.parseLong(matcher.group(1)) * DOWNSAMPLE_UNITS.get(matcher.group(2));
+        try {
+            long start = LocalDateTime.parse(startDate, DATE_FORMATTER).toInstant(ZoneOffset.UTC).toEpochMilli();
+            long end = LocalDateTime.parse(endDate, DATE_FORMATTER).toInstant(ZoneOffset.UTC).toEpochMilli();
+            return TimeSeriesCache.toKey(JsonUtil.toString(queries), start, end, step);
+        } catch (DateTimeParseException e) {
+            return payload;
+        }
+    }
+
     /**
      * Sets the date format.
      *
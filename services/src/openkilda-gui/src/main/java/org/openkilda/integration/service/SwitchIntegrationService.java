@@ -103,8 +103,8 @@ public class SwitchIntegrationService {
      * @return the switches
      */
     public List<SwitchInfo> getSwitches() {
-        HttpResponse response = restClientManager.invoke(
-                applicationProperties.getNbBaseUrl() + IConstants.NorthBoundUrl.GET_SWITCHES, HttpMethod.GET, "", "",
+        HttpResponse response = restClientManager.invokeCached(
+                applicationProperties.getNbBaseUrl() + IConstants.NorthBoundUrl.GET_SWITCHES,
                 applicationService.getAuthHeader());
         if (RestClientManager.isValidResponse(response)) {
             List<SwitchInfo> switchesResponse = restClientManager.getResponseList(response, SwitchInfo.class);
@@ -188,8 +188,8 @@ public class SwitchIntegrationService {
      * @return the isl links port info
      */
     public List<IslLink> getIslLinkPortsInfo() {
-        HttpResponse response = restClientManager.invoke(
-                applicationProperties.getNbBaseUrl() + IConstants.NorthBoundUrl.GET_LINKS, HttpMethod.GET, "", "",
+        HttpResponse response = restClientManager.invokeCached(
+                applicationProperties.getNbBaseUrl() + IConstants.NorthBoundUrl.GET_LINKS,
                 applicationService.getAuthHeader());
         if (RestClientManager.isValidResponse(response)) {
             List<IslLink> links = restClientManager.getResponseList(response, IslLink.class);
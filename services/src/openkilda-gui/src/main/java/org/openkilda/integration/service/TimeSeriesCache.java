@@ -0,0 +1,129 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.integration.service;
+
+import org.openkilda.integration.model.TimeSeries;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The Class TimeSeriesCache. Keeps the downsampled time series of recent OpenTSDB queries. The query (metrics,
+ * tags and downsampling) and the time window rounded to the downsampling step are the key, the least recently used
+ * queries are evicted first.
+ */
+class TimeSeriesCache {
+
+    private final long ttlMillis;
+
+    private final Map<String, Entry> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Instantiates a new time series cache.
+     *
+     * @param ttl the time to keep the series, zero disables the cache
+     * @param unit the time unit of the ttl
+     * @param maxEntries the max number of the cached queries
+     */
+    TimeSeriesCache(final long ttl, final TimeUnit unit, final int maxEntries) {
+        this.ttlMillis = unit.toMillis(ttl);
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Builds the key of the query. The window is kept as its length and its end in downsampling steps, so the queries
+     * of the same relative window (e.g. the last 30 minutes) sent within the same step share the key.
+     *
+     * @param queries the queries without the time window
+     * @param start the start of the window in millis
+     * @param end the end of the window in millis
+     * @param step the downsampling step in millis
+     * @return the key
+     */
+    static String toKey(final String queries, final long start, final long end, final long step) {
+        long endStep = Math.floorDiv(end, step);
+        long windowSteps = endStep - Math.floorDiv(start, step);
+        return queries + "|" + windowSteps + "|" + endStep;
+    }
+
+    boolean isEnabled() {
+        return ttlMillis > 0;
+    }
+
+    /**
+     * Gets the cached series of the query.
+     *
+     * @param query the query
+     * @return the series or null if the query isn't cached or expired
+     */
+    synchronized List<TimeSeries> get(final String query) {
+        Entry entry = entries.get(query);
+        if (entry != null && entry.expiresAt < System.currentTimeMillis()) {
+            entries.remove(query);
+            entry = null;
+        }
+
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.series;
+    }
+
+    synchronized void put(final String query, final List<TimeSeries> series) {
+        entries.put(query, new Entry(series, System.currentTimeMillis() + ttlMillis));
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    long getHits() {
+        return hits.get();
+    }
+
+    long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * The Class Entry.
+     */
+    private static final class Entry {
+        private final List<TimeSeries> series;
+        private final long expiresAt;
+
+        private Entry(final List<TimeSeries> series, final long expiresAt) {
+            this.series = series;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
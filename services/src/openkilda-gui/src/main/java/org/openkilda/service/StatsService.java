@@ -20,6 +20,7 @@ import org.openkilda.constants.IConstants.Status;
 import org.openkilda.constants.OpenTsDb.StatsType;
 import org.openkilda.integration.converter.PortConverter;
 import org.openkilda.integration.exception.IntegrationException;
+import org.openkilda.integration.model.TimeSeries;
 import org.openkilda.integration.model.response.IslLink;
 import org.openkilda.integration.model.response.IslPath;
 import org.openkilda.integration.service.StatsIntegrationService;
@@ -29,14 +30,10 @@ import org.openkilda.integration.source.store.dto.Port;
 import org.openkilda.model.FlowPathStats;
 import org.openkilda.model.PortDiscrepancy;
 import org.openkilda.model.PortInfo;
-import org.openkilda.model.SwitchPortStats;
 import org.openkilda.store.service.StoreService;
 import org.openkilda.utility.CollectionUtil;
 import org.openkilda.utility.IoUtil;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.TypeFactory;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,9 +44,14 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * The Class StatsService.
@@ -235,13 +237,10 @@ public class StatsService {
      */
     public List<PortInfo> getSwitchPortsStats(String startDate, String endDate, String downSample, String switchId) {
         List<String> switchIds = Arrays.asList(switchId);
-        List<SwitchPortStats> switchPortStats = new ArrayList<SwitchPortStats>();
+        List<TimeSeries> switchPortStats = Collections.emptyList();
         try {
-            String result = statsIntegrationService.getStats(startDate, endDate, downSample, switchIds, null, null,
-                    null, null, null, null, StatsType.SWITCH_PORT, null, null);
-            ObjectMapper mapper = new ObjectMapper();
-            switchPortStats = mapper.readValue(result,
-                    TypeFactory.defaultInstance().constructCollectionLikeType(List.class, SwitchPortStats.class));
+            switchPortStats = statsIntegrationService.getTimeSeries(startDate, endDate, downSample, switchIds, null,
+                    null, null, null, null, null, StatsType.SWITCH_PORT, null, null);
         } catch (Exception e) {
             LOGGER.error("Inside getSwitchPortsStats Exception is: " + e.getMessage());
         }
@@ -263,17 +262,17 @@ public class StatsService {
 
     private void processInventoryPorts(final List<PortInfo> portStats, final List<Port> inventoryPorts) {
         if (!CollectionUtil.isEmpty(inventoryPorts)) {
+            Map<Integer, PortInfo> portStatsByPortNo = new HashMap<Integer, PortInfo>();
+            for (PortInfo portInfo : portStats) {
+                portStatsByPortNo.put(Integer.valueOf(portInfo.getPortNumber()), portInfo);
+            }
+
             List<PortInfo> discrepancyPorts = new ArrayList<PortInfo>();
+            Set<Integer> inventoryPortNumbers = new HashSet<Integer>();
             for (Port port : inventoryPorts) {
-                int index = -1;
-                for (PortInfo portInfo : portStats) {
-                    if (port.getPortNumber() == Integer.parseInt(portInfo.getPortNumber())) {
-                        index = portStats.indexOf(portInfo);
-                        break;
-                    }
-                }
-                if (index >= 0) {
-                    PortInfo portInfo = portStats.get(index);
+                inventoryPortNumbers.add(port.getPortNumber());
+                PortInfo portInfo = portStatsByPortNo.get(port.getPortNumber());
+                if (portInfo != null) {
                     portConverter.appendInventoryInfo(portInfo, port);
                     PortDiscrepancy portDiscrepancy = new PortDiscrepancy();
                     portDiscrepancy.setControllerDiscrepancy(false);
@@ -290,15 +289,9 @@ public class StatsService {
                 }
             }
 
-            for (PortInfo portInfo : portStats) {
-                boolean flag = false;
-                for (Port port : inventoryPorts) {
-                    if (port.getPortNumber() == Integer.parseInt(portInfo.getPortNumber())) {
-                        flag = true;
-                        break;
-                    }
-                }
-                if (!flag) {
+            for (Map.Entry<Integer, PortInfo> entry : portStatsByPortNo.entrySet()) {
+                if (!inventoryPortNumbers.contains(entry.getKey())) {
+                    PortInfo portInfo = entry.getValue();
                     PortDiscrepancy discrepancy = new PortDiscrepancy();
                     discrepancy.setInventoryDiscrepancy(true);
                     discrepancy.setControllerDiscrepancy(false);
@@ -320,17 +313,18 @@ public class StatsService {
      *            the list
      * @return the ports stat
      */
-    private List<PortInfo> getSwitchPortStatsReport(List<SwitchPortStats> switchPortStats, String switchId) {
-        Map<String, Map<String, Double>> portStatsByPortNo = new HashMap<String, Map<String, Double>>();
-        for (SwitchPortStats stats : switchPortStats) {
-            String port = stats.getTags().getPort();
+    private List<PortInfo> getSwitchPortStatsReport(List<TimeSeries> switchPortStats, String switchId) {
+        Map<Integer, Map<String, Double>> portStatsByPortNo = new TreeMap<Integer, Map<String, Double>>();
+        for (TimeSeries stats : switchPortStats) {
+            int port = Integer.parseInt(stats.getTag("port"));
 
-            if (Integer.parseInt(port) > 0) {
-                if (!portStatsByPortNo.containsKey(port)) {
-                    portStatsByPortNo.put(port, new HashMap<String, Double>());
+            if (port > 0) {
+                Map<String, Double> portStats = portStatsByPortNo.get(port);
+                if (portStats == null) {
+                    portStats = new HashMap<String, Double>();
+                    portStatsByPortNo.put(port, portStats);
                 }
-                portStatsByPortNo.get(port).put(stats.getMetric().replace("pen.switch.", ""),
-                        calculateHighestValue(stats.getDps()));
+                portStats.put(stats.getMetric().replace("pen.switch.", ""), calculateHighestValue(stats));
             }
         }
 
@@ -340,37 +334,29 @@ public class StatsService {
     /**
      * Calculate highest value.
      *
-     * @param dps
-     *            the dps
-     * @return the double
+     * @param stats
+     *            the time series
+     * @return the value of the latest data point
      */
-    private double calculateHighestValue(Map<String, Double> dps) {
-        double maxVal = 0.0;
-        if (!dps.isEmpty()) {
-            long maxTimestamp = 0;
-            for (String key : dps.keySet()) {
-                long val = Long.parseLong(key);
-                if (maxTimestamp < val) {
-                    maxTimestamp = val;
-                }
-            }
-            maxVal = BigDecimal.valueOf(dps.get(String.valueOf(maxTimestamp))).setScale(2, RoundingMode.HALF_UP)
-                    .doubleValue();
+    private double calculateHighestValue(TimeSeries stats) {
+        Double latestValue = stats.getLatestValue();
+        if (latestValue == null || latestValue.isNaN()) {
+            return 0.0;
         }
-        return maxVal;
+        return BigDecimal.valueOf(latestValue).setScale(2, RoundingMode.HALF_UP).doubleValue();
     }
 
     /**
      * Sets the isl ports.
      *
-     * @param portInfos
-     *            the port infos
+     * @param portStatsByPortNo
+     *            the port stats
      * @param switchid
      *            the switchid
      * @return the list
      */
-    private List<PortInfo> getIslPorts(final Map<String, Map<String, Double>> portStatsByPortNo, String switchid) {
-        List<PortInfo> portInfos = getPortInfo(portStatsByPortNo);
+    private List<PortInfo> getIslPorts(final Map<Integer, Map<String, Double>> portStatsByPortNo, String switchid) {
+        Map<Integer, PortInfo> portInfos = getPortInfo(portStatsByPortNo);
 
         List<IslLink> islLinkPorts = switchIntegrationService.getIslLinkPortsInfo();
         String switchIdInfo = null;
@@ -379,23 +365,22 @@ public class StatsService {
                 for (IslPath islPath : islLink.getPath()) {
                     switchIdInfo = ("SW" + islPath.getSwitchId().replaceAll(":", "")).toUpperCase();
                     if (switchIdInfo.equals(switchid)) {
-                        for (int i = 0; i < portInfos.size(); i++) {
-                            if (portInfos.get(i).getPortNumber().equals(islPath.getPortNo().toString())) {
-                                portInfos.get(i).setInterfacetype("ISL");
-                            }
+                        PortInfo portInfo = portInfos.get(islPath.getPortNo());
+                        if (portInfo != null) {
+                            portInfo.setInterfacetype("ISL");
                         }
                     }
                 }
             }
         }
-        return portInfos;
+        return new ArrayList<PortInfo>(portInfos.values());
     }
 
-    private List<PortInfo> getPortInfo(final Map<String, Map<String, Double>> portStatsByPortNo) {
-        List<PortInfo> portInfos = new ArrayList<PortInfo>();
-        for (Map.Entry<String, Map<String, Double>> portStats : portStatsByPortNo.entrySet()) {
+    private Map<Integer, PortInfo> getPortInfo(final Map<Integer, Map<String, Double>> portStatsByPortNo) {
+        Map<Integer, PortInfo> portInfos = new LinkedHashMap<Integer, PortInfo>();
+        for (Map.Entry<Integer, Map<String, Double>> portStats : portStatsByPortNo.entrySet()) {
             PortInfo portInfo = new PortInfo();
-            portInfo.setPortNumber(portStats.getKey());
+            portInfo.setPortNumber(String.valueOf(portStats.getKey()));
             portInfo.setAssignmenttype("PORT");
             portInfo.setStatus(Status.DOWN);
             if (portStats.getValue().containsKey("state")) {
@@ -403,7 +388,7 @@ public class StatsService {
                 portStats.getValue().remove("state");
             }
             portInfo.setStats(portStats.getValue());
-            portInfos.add(portInfo);
+            portInfos.put(portStats.getKey(), portInfo);
         }
         return portInfos;
     }
@@ -46,5 +46,23 @@ public class ApplicationProperties {
 
     @Value("${switch.data.file.path}")
     private String switchDataFilePath;
-    
+
+    @Value("${rest.client.max.connections:100}")
+    private int restClientMaxConnections;
+
+    @Value("${rest.client.max.connections.per.route:50}")
+    private int restClientMaxConnectionsPerRoute;
+
+    @Value("${rest.client.keep.alive.seconds:30}")
+    private int restClientKeepAliveSeconds;
+
+    @Value("${rest.client.cache.ttl.seconds:5}")
+    private int restClientCacheTtlSeconds;
+
+    @Value("${opentsdb.cache.ttl.seconds:30}")
+    private int openTsdbCacheTtlSeconds;
+
+    @Value("${opentsdb.cache.max.entries:500}")
+    private int openTsdbCacheMaxEntries;
+
 }
@@ -0,0 +1,102 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.util.EntityUtils;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class HttpResponseCacheTest {
+
+    private static final String KEY = "http://localhost/api/v1/switches|Basic a2lsZGE6a2lsZGE=";
+
+    @Test
+    public void shouldReturnResponseWithinTtl() throws Exception {
+        HttpResponseCache cache = new HttpResponseCache(1, TimeUnit.MINUTES);
+        cache.put(KEY, buildResponse("[\"switch\"]"));
+
+        HttpResponse first = cache.get(KEY);
+        HttpResponse second = cache.get(KEY);
+
+        assertNotNull(first);
+        assertEquals(200, first.getStatusLine().getStatusCode());
+        // Each hit gets its own copy of the entity, so it can be read by every caller.
+        assertEquals("[\"switch\"]", EntityUtils.toString(first.getEntity()));
+        assertEquals("[\"switch\"]", EntityUtils.toString(second.getEntity()));
+        assertEquals(2, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    public void shouldExpireResponseAfterTtl() throws Exception {
+        HttpResponseCache cache = new HttpResponseCache(50, TimeUnit.MILLISECONDS);
+        cache.put(KEY, buildResponse("[]"));
+        assertNotNull(cache.get(KEY));
+
+        TimeUnit.MILLISECONDS.sleep(100);
+
+        assertNull(cache.get(KEY));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void shouldRemoveExpiredResponsesOnPut() throws Exception {
+        HttpResponseCache cache = new HttpResponseCache(50, TimeUnit.MILLISECONDS);
+        cache.put(KEY, buildResponse("[]"));
+
+        TimeUnit.MILLISECONDS.sleep(100);
+        cache.put("other", buildResponse("[]"));
+
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void shouldRemoveAllResponsesOnClear() throws Exception {
+        HttpResponseCache cache = new HttpResponseCache(1, TimeUnit.MINUTES);
+        cache.put(KEY, buildResponse("[]"));
+        cache.put("other", buildResponse("[]"));
+
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertNull(cache.get(KEY));
+    }
+
+    @Test
+    public void shouldBeDisabledByZeroTtl() {
+        assertFalse(new HttpResponseCache(0, TimeUnit.SECONDS).isEnabled());
+        assertTrue(new HttpResponseCache(5, TimeUnit.SECONDS).isEnabled());
+    }
+
+    private HttpResponse buildResponse(String content) {
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        response.setEntity(new StringEntity(content, ContentType.APPLICATION_JSON));
+        return response;
+    }
+}
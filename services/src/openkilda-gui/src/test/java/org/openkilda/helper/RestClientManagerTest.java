@@ -0,0 +1,186 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.mockito.Mockito.when;
+
+import org.openkilda.auth.context.ServerContext;
+import org.openkilda.auth.model.RequestContext;
+import org.openkilda.utility.ApplicationProperties;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.HttpResponse;
+import org.apache.http.util.EntityUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RestClientManagerTest {
+
+    private static final String AUTH = "Basic a2lsZGE6a2lsZGE=";
+    private static final String OTHER_AUTH = "Basic YWRtaW46YWRtaW4=";
+
+    @Mock
+    private ApplicationProperties applicationProperties;
+
+    @Mock
+    private ServerContext serverContext;
+
+    @InjectMocks
+    private RestClientManager restClientManager;
+
+    private HttpServer server;
+
+    private final AtomicInteger received = new AtomicInteger();
+
+    private String baseUrl;
+
+    @Before
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            // Every response is unique, so a cached response can be told apart from a new one.
+            byte[] body = String.valueOf(received.incrementAndGet()).getBytes(StandardCharsets.UTF_8);
+            int status = exchange.getRequestURI().getPath().startsWith("/error") ? 500 : 200;
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+
+        when(applicationProperties.getRestClientMaxConnections()).thenReturn(10);
+        when(applicationProperties.getRestClientMaxConnectionsPerRoute()).thenReturn(10);
+        when(applicationProperties.getRestClientKeepAliveSeconds()).thenReturn(30);
+        when(applicationProperties.getRestClientCacheTtlSeconds()).thenReturn(60);
+        when(serverContext.getRequestContext()).thenReturn(new RequestContext());
+        restClientManager.init();
+    }
+
+    @After
+    public void tearDown() {
+        restClientManager.destroy();
+        server.stop(0);
+    }
+
+    @Test
+    public void shouldReturnCachedResponseWithinTtl() throws Exception {
+        String first = invokeCached("/switches", AUTH);
+        String second = invokeCached("/switches", AUTH);
+
+        assertEquals(first, second);
+        assertEquals(1, received.get());
+        assertEquals(1, restClientManager.getCacheHits());
+        assertEquals(1, restClientManager.getCacheMisses());
+    }
+
+    @Test
+    public void shouldCallServerAfterTtl() throws Exception {
+        ReflectionTestUtils.setField(restClientManager, "responseCache",
+                new HttpResponseCache(50, TimeUnit.MILLISECONDS));
+
+        String first = invokeCached("/switches", AUTH);
+        TimeUnit.MILLISECONDS.sleep(100);
+        String second = invokeCached("/switches", AUTH);
+
+        assertNotEquals(first, second);
+        assertEquals(2, received.get());
+    }
+
+    @Test
+    public void shouldCacheResponsesOfDifferentUsersSeparately() throws Exception {
+        String first = invokeCached("/switches", AUTH);
+        String second = invokeCached("/switches", OTHER_AUTH);
+
+        assertNotEquals(first, second);
+        assertEquals(first, invokeCached("/switches", AUTH));
+        assertEquals(second, invokeCached("/switches", OTHER_AUTH));
+        assertEquals(2, received.get());
+        assertEquals(2, restClientManager.getCacheSize());
+    }
+
+    @Test
+    public void shouldInvalidateCacheOnPost() throws Exception {
+        verifyCacheIsInvalidatedBy(HttpMethod.POST);
+    }
+
+    @Test
+    public void shouldInvalidateCacheOnPut() throws Exception {
+        verifyCacheIsInvalidatedBy(HttpMethod.PUT);
+    }
+
+    @Test
+    public void shouldInvalidateCacheOnDelete() throws Exception {
+        verifyCacheIsInvalidatedBy(HttpMethod.DELETE);
+    }
+
+    @Test
+    public void shouldNotCacheErrorResponse() throws Exception {
+        String first = invokeCached("/error", AUTH);
+        String second = invokeCached("/error", AUTH);
+
+        assertNotEquals(first, second);
+        assertEquals(2, received.get());
+        assertEquals(0, restClientManager.getCacheSize());
+    }
+
+    @Test
+    public void shouldNotCacheWhenTtlIsZero() throws Exception {
+        when(applicationProperties.getRestClientCacheTtlSeconds()).thenReturn(0);
+        restClientManager.destroy();
+        restClientManager.init();
+
+        invokeCached("/switches", AUTH);
+        invokeCached("/switches", AUTH);
+
+        assertEquals(2, received.get());
+        assertEquals(0, restClientManager.getCacheSize());
+    }
+
+    private void verifyCacheIsInvalidatedBy(HttpMethod method) throws IOException {
+        String first = invokeCached("/flows", AUTH);
+        invokeCached("/switches", AUTH);
+        assertEquals(2, restClientManager.getCacheSize());
+
+        restClientManager.invoke(baseUrl + "/flows", method, "{}", "application/json", AUTH);
+        assertEquals(0, restClientManager.getCacheSize());
+
+        assertNotEquals(first, invokeCached("/flows", AUTH));
+        assertEquals(4, received.get());
+    }
+
+    private String invokeCached(String path, String basicAuth) throws IOException {
+        HttpResponse response = restClientManager.invokeCached(baseUrl + path, basicAuth);
+        return EntityUtils.toString(response.getEntity());
+    }
+}
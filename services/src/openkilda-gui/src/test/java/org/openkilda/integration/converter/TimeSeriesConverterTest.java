@@ -0,0 +1,105 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.integration.converter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.openkilda.integration.model.TimeSeries;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class TimeSeriesConverterTest {
+
+    private final TimeSeriesConverter converter = new TimeSeriesConverter();
+
+    @Test
+    public void shouldReadDataPointsObject() throws Exception {
+        List<TimeSeries> series = converter.toTimeSeries(toStream("[{\"metric\":\"pen.switch.rx-bytes\","
+                + "\"tags\":{\"switchid\":\"00:00:00:00:00:00:00:01\",\"port\":\"1\"},\"aggregateTags\":[],"
+                + "\"dps\":{\"1546300800\":10.5,\"1546300830\":null,\"1546300860\":12}},"
+                + "{\"metric\":\"pen.switch.tx-bytes\",\"tags\":{\"port\":\"2\"},\"dps\":{}}]"));
+
+        assertEquals(2, series.size());
+        TimeSeries first = series.get(0);
+        assertEquals("pen.switch.rx-bytes", first.getMetric());
+        assertEquals("1", first.getTag("port"));
+        assertEquals("00:00:00:00:00:00:00:01", first.getTag("switchid"));
+        assertEquals(3, first.size());
+        assertEquals(1546300800L, first.getTimestamp(0));
+        assertEquals(10.5, first.getValue(0), 0);
+        assertTrue(Double.isNaN(first.getValue(1)));
+        assertEquals(12, first.getValue(2), 0);
+        assertEquals(Double.valueOf(12), first.getLatestValue());
+
+        TimeSeries second = series.get(1);
+        assertEquals("pen.switch.tx-bytes", second.getMetric());
+        assertEquals(0, second.size());
+    }
+
+    @Test
+    public void shouldReadDataPointsArray() throws Exception {
+        List<TimeSeries> series = converter.toTimeSeries(toStream(
+                "[{\"metric\":\"pen.switch.rx-bytes\",\"dps\":[[1546300800,1],[1546300830,2]]}]"));
+
+        assertEquals(1, series.size());
+        assertEquals(2, series.get(0).size());
+        assertEquals(1546300830L, series.get(0).getTimestamp(1));
+        assertEquals(2, series.get(0).getValue(1), 0);
+        assertTrue(series.get(0).getTags().isEmpty());
+    }
+
+    @Test
+    public void shouldGrowDataPoints() throws Exception {
+        StringBuilder content = new StringBuilder("[{\"metric\":\"pen.switch.rx-bytes\",\"dps\":{");
+        for (int i = 0; i < 1000; i++) {
+            content.append(i > 0 ? "," : "").append('"').append(i).append("\":").append(i);
+        }
+        content.append("}}]");
+
+        TimeSeries series = converter.toTimeSeries(toStream(content.toString())).get(0);
+
+        assertEquals(1000, series.size());
+        assertEquals(999L, series.getTimestamp(999));
+        assertEquals(999, series.getValue(999), 0);
+    }
+
+    @Test
+    public void shouldReturnNoSeriesForEmptyContent() throws Exception {
+        assertTrue(converter.toTimeSeries(toStream("")).isEmpty());
+        assertTrue(converter.toTimeSeries(toStream("[]")).isEmpty());
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldFailIfContentIsNotArray() throws Exception {
+        converter.toTimeSeries(toStream("{\"error\":{\"code\":400}}"));
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldFailIfContentIsTruncated() throws Exception {
+        converter.toTimeSeries(toStream("[{\"metric\":\"pen.switch.rx-bytes\",\"dps\":{\"1546300800\":"));
+    }
+
+    private InputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,105 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.integration.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.openkilda.integration.model.TimeSeries;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class TimeSeriesCacheTest {
+
+    private static final List<TimeSeries> SERIES = Collections.singletonList(
+            new TimeSeries("pen.switch.rx-bytes", Collections.emptyMap(), new long[] {1L}, new double[] {1.0}));
+
+    private static final long STEP = TimeUnit.SECONDS.toMillis(30);
+    private static final long WINDOW = TimeUnit.MINUTES.toMillis(30);
+
+    @Test
+    public void shouldReturnSeriesWithinTtl() {
+        TimeSeriesCache cache = new TimeSeriesCache(1, TimeUnit.MINUTES, 10);
+        cache.put("query", SERIES);
+
+        assertEquals(SERIES, cache.get("query"));
+        assertNull(cache.get("other"));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void shouldExpireSeriesAfterTtl() throws Exception {
+        TimeSeriesCache cache = new TimeSeriesCache(50, TimeUnit.MILLISECONDS, 10);
+        cache.put("query", SERIES);
+
+        TimeUnit.MILLISECONDS.sleep(100);
+
+        assertNull(cache.get("query"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedQuery() {
+        TimeSeriesCache cache = new TimeSeriesCache(1, TimeUnit.MINUTES, 2);
+        cache.put("first", SERIES);
+        cache.put("second", SERIES);
+        // The first query becomes the most recently used one.
+        assertNotNull(cache.get("first"));
+
+        cache.put("third", SERIES);
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("first"));
+        assertNull(cache.get("second"));
+        assertNotNull(cache.get("third"));
+    }
+
+    @Test
+    public void shouldBeDisabledByZeroTtl() {
+        assertTrue(new TimeSeriesCache(1, TimeUnit.SECONDS, 10).isEnabled());
+        assertFalse(new TimeSeriesCache(0, TimeUnit.SECONDS, 10).isEnabled());
+    }
+
+    @Test
+    public void shouldShareKeyOfRelativeWindowWithinStep() {
+        long end = TimeUnit.DAYS.toMillis(17897);
+        String key = TimeSeriesCache.toKey("query", end - WINDOW, end, STEP);
+
+        // e.g. the last 30 minutes requested again 10 seconds later.
+        long later = end + TimeUnit.SECONDS.toMillis(10);
+        assertEquals(key, TimeSeriesCache.toKey("query", later - WINDOW, later, STEP));
+    }
+
+    @Test
+    public void shouldNotShareKeyOfDifferentSteps() {
+        long end = TimeUnit.DAYS.toMillis(17897);
+        String key = TimeSeriesCache.toKey("query", end - WINDOW, end, STEP);
+
+        long nextStep = end + STEP;
+        assertNotEquals(key, TimeSeriesCache.toKey("query", nextStep - WINDOW, nextStep, STEP));
+        assertNotEquals(key, TimeSeriesCache.toKey("query", end - 2 * WINDOW, end, STEP));
+        assertNotEquals(key, TimeSeriesCache.toKey("other", end - WINDOW, end, STEP));
+    }
+}
@@ -15,27 +15,37 @@
 
 package org.openkilda.wfm.share.cache;
 
-import static com.google.common.collect.Sets.union;
-
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableSet;
 
+import java.util.BitSet;
 import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.Queue;
 import java.util.Set;
 
 /**
- * Class represents meter resource allocator/deallocator.
+ * Class represents meter resource allocator/deallocator. The pool is thread safe, every switch has its own pool,
+ * so the pools of different switches can be used concurrently.
+ * <p/>
+ * Free meter ids of the range form a FIFO list linked by the offsets of the ids, so a deallocated meter id is reused
+ * as late as possible, and any id is allocated, deallocated or checked in constant time without boxing.
  */
 public class MeterPool {
+    private static final int NONE = -1;
+
+    /**
+     * The next and the previous free ids (as offsets from the minimum value) of the free list.
+     */
+    private final int[] next;
+    private final int[] prev;
     /**
-     * Meter values pool.
+     * Free ids of the range, bit (id - minValue) is set if the id is free.
      */
-    private Queue<Integer> meterIds = new LinkedList<>();
-    private Set<Integer> outOfRangeMeterIds = new HashSet<>();
-    private int minValue;
-    private int maxValue;
+    private final BitSet free;
+    private final Set<Integer> outOfRangeMeterIds = new HashSet<>();
+    private final int minValue;
+    private final int maxValue;
+    private int head = NONE;
+    private int tail = NONE;
 
     /**
      * Instance constructor.
@@ -47,8 +57,12 @@ public class MeterPool {
         this.minValue = minValue;
         this.maxValue = maxValue;
 
-        for (int value = minValue; value <= maxValue; value++) {
-            meterIds.add(value);
+        int size = Math.max(0, maxValue - minValue + 1);
+        next = new int[size];
+        prev = new int[size];
+        free = new BitSet(size);
+        for (int offset = 0; offset < size; offset++) {
+            append(offset);
         }
     }
 
@@ -57,9 +71,11 @@ public class MeterPool {
      *
      * @return allocated meter id.
      */
-    public Integer allocate() {
-        if (!meterIds.isEmpty()) {
-            return meterIds.poll();
+    public synchronized Integer allocate() {
+        if (head != NONE) {
+            int offset = head;
+            unlink(offset);
+            return minValue + offset;
         }
         throw new MeterPoolIsFullException("Could not allocate resource: pool is full");
     }
@@ -70,16 +86,17 @@ public class MeterPool {
      * @param meterId meter id.
      * @return allocated meter id.
      */
-    public Integer allocate(int meterId) {
+    public synchronized Integer allocate(int meterId) {
         if (meterId < minValue || meterId > maxValue) {
             return outOfRangeMeterIds.add(meterId) ? meterId : null;
         }
 
-        if (!meterIds.contains(meterId)) {
+        int offset = meterId - minValue;
+        if (!free.get(offset)) {
             return null;
         }
 
-        meterIds.remove(meterId);
+        unlink(offset);
         return meterId;
     }
 
@@ -89,16 +106,17 @@ public class MeterPool {
      * @param meterId meter id
      * @return deallocated meter id.
      */
-    public Integer deallocate(int meterId) {
+    public synchronized Integer deallocate(int meterId) {
         if (meterId < minValue || meterId > maxValue) {
             return outOfRangeMeterIds.remove(meterId) ? meterId : null;
         }
 
-        if (meterIds.contains(meterId)) {
+        int offset = meterId - minValue;
+        if (free.get(offset)) {
             return null;
         }
 
-        meterIds.add(meterId);
+        append(offset);
         return meterId;
     }
 
@@ -107,15 +125,40 @@ public class MeterPool {
      *
      * @return {@link ImmutableSet} of allocated meter id.
      */
-    public Set<Integer> dumpPool() {
-        Set<Integer> meterIdsSet = new HashSet<>(meterIds);
-        Set<Integer> dumpPool = new HashSet<>();
-        for (int value = minValue; value <= maxValue; value++) {
-            if (!meterIdsSet.contains(value)) {
-                dumpPool.add(value);
-            }
+    public synchronized Set<Integer> dumpPool() {
+        ImmutableSet.Builder<Integer> dumpPool = ImmutableSet.builder();
+        for (int offset = free.nextClearBit(0); offset < next.length; offset = free.nextClearBit(offset + 1)) {
+            dumpPool.add(minValue + offset);
+        }
+        return dumpPool.addAll(outOfRangeMeterIds).build();
+    }
+
+    private void append(int offset) {
+        prev[offset] = tail;
+        next[offset] = NONE;
+        if (tail == NONE) {
+            head = offset;
+        } else {
+            next[tail] = offset;
+        }
+        tail = offset;
+        free.set(offset);
+    }
+
+    private void unlink(int offset) {
+        int prevOffset = prev[offset];
+        int nextOffset = next[offset];
+        if (prevOffset == NONE) {
+            head = nextOffset;
+        } else {
+            next[prevOffset] = nextOffset;
+        }
+        if (nextOffset == NONE) {
+            tail = prevOffset;
+        } else {
+            prev[nextOffset] = prevOffset;
         }
-        return ImmutableSet.copyOf(union(dumpPool, outOfRangeMeterIds));
+        free.clear(offset);
     }
 
     /**
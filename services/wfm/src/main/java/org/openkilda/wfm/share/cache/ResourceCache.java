@@ -28,6 +28,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -159,8 +161,8 @@ public class ResourceCache {
      * @param switchId switch id
      * @return allocated meter id value
      */
-    public synchronized Integer allocateMeterId(SwitchId switchId) {
-        return meterPool.computeIfAbsent(switchId, k -> new MeterPool(MIN_FLOW_METER_ID, MAX_FLOW_METER_ID)).allocate();
+    public Integer allocateMeterId(SwitchId switchId) {
+        return withMeterPool(switchId, MeterPool::allocate);
     }
 
     /**
@@ -170,10 +172,9 @@ public class ResourceCache {
      * @param meterId  meter id value
      * @return allocated meter id value
      */
-    public synchronized Integer allocateMeterId(SwitchId switchId, Integer meterId) {
+    public Integer allocateMeterId(SwitchId switchId, Integer meterId) {
         if (meterId != null && meterId != 0) {
-            meterPool.computeIfAbsent(switchId, k -> new MeterPool(MIN_FLOW_METER_ID, MAX_FLOW_METER_ID))
-                    .allocate(meterId);
+            withMeterPool(switchId, pool -> pool.allocate(meterId));
             return meterId;
         }
         return null;
@@ -186,9 +187,13 @@ public class ResourceCache {
      * @param meterId  meter id value
      * @return deallocated meter id value or null if value was not allocated earlier
      */
-    public synchronized Integer deallocateMeterId(SwitchId switchId, Integer meterId) {
-        MeterPool switchMeterPool = meterPool.get(switchId);
-        return switchMeterPool != null ? switchMeterPool.deallocate(meterId) : null;
+    public Integer deallocateMeterId(SwitchId switchId, Integer meterId) {
+        AtomicReference<Integer> result = new AtomicReference<>();
+        meterPool.computeIfPresent(switchId, (id, pool) -> {
+            result.set(pool.deallocate(meterId));
+            return pool;
+        });
+        return result.get();
     }
 
     /**
@@ -197,11 +202,26 @@ public class ResourceCache {
      * @param switchId switch id
      * @return deallocated meter id values
      */
-    public synchronized Set<Integer> deallocateMeterId(SwitchId switchId) {
+    public Set<Integer> deallocateMeterId(SwitchId switchId) {
         MeterPool switchMeterPool = meterPool.remove(switchId);
         return switchMeterPool != null ? switchMeterPool.dumpPool() : null;
     }
 
+    /**
+     * Applies the action to the meter pool of the switch (creating the pool if needed) within the atomic map
+     * operation, so the pool can't be removed by {@link #deallocateMeterId(SwitchId)} in the middle of the action.
+     * Allocations on different switches still don't block each other.
+     */
+    private <T> T withMeterPool(SwitchId switchId, Function<MeterPool, T> action) {
+        AtomicReference<T> result = new AtomicReference<>();
+        meterPool.compute(switchId, (id, pool) -> {
+            MeterPool switchMeterPool = pool != null ? pool : new MeterPool(MIN_FLOW_METER_ID, MAX_FLOW_METER_ID);
+            result.set(action.apply(switchMeterPool));
+            return switchMeterPool;
+        });
+        return result.get();
+    }
+
     /**
      * Gets all allocated cookie values.
      *
@@ -227,7 +247,8 @@ public class ResourceCache {
      * @return all allocated meter id values
      */
     public Set<Integer> getAllMeterIds(SwitchId switchId) {
-        return meterPool.containsKey(switchId) ? meterPool.get(switchId).dumpPool() : Collections.emptySet();
+        MeterPool switchMeterPool = meterPool.get(switchId);
+        return switchMeterPool != null ? switchMeterPool.dumpPool() : Collections.emptySet();
     }
 
     /**
@@ -23,12 +23,25 @@ import java.util.Set;
 
 /**
  * Class represents resource allocator/deallocator.
+ * <p/>
+ * Allocated ids of the range are kept in a two-level bitmap: a bit per id, and a bit per 64 ids which is set when all
+ * of them are allocated. So the next free id is found by skipping whole full words and then full blocks of 4096 ids,
+ * without boxing and without probing the ids one by one. Ids outside of the range can be allocated explicitly only.
  */
 public class ResourcePool {
+    private static final int WORD_SHIFT = 6;
+
+    /**
+     * Allocated ids of the range, bit (id - lower) is set if the id is allocated.
+     */
+    private final long[] allocated;
     /**
-     * Resource values pool.
+     * Full words of {@link #allocated}, bit N is set if word N has no free ids. Bits of nonexistent words are set.
      */
-    private Set<Integer> resources = new HashSet<>();
+    private final long[] fullWords;
+    private final Set<Integer> outOfRangeIds = new HashSet<>();
+    private final int size;
+    private int allocatedCount;
     private int nextId;
     private int lower;
     private int upper;
@@ -43,6 +56,14 @@ public class ResourcePool {
         this.nextId = minValue;
         this.lower = minValue;
         this.upper = maxValue;
+
+        size = Math.max(0, maxValue - minValue + 1);
+        allocated = new long[wordCount(size)];
+        fullWords = new long[Math.max(1, wordCount(allocated.length))];
+        int usedBits = allocated.length & ((1 << WORD_SHIFT) - 1);
+        if (usedBits != 0 || allocated.length == 0) {
+            fullWords[fullWords.length - 1] = -1L << usedBits;
+        }
     }
 
     /**
@@ -51,22 +72,16 @@ public class ResourcePool {
      * @return allocated resource id.
      */
     public Integer allocate() {
-        int range = upper - lower;
-        if (resources.size() <= range) {
-            // We are just going to loop through everything until we find a free one. Generally
-            // speaking this could be inefficient .. but we use "nextId" as a start, and that should
-            // have the greatest chance of being available.
-            for (int i = 0; i < range; i++) {
-                if (nextId > upper) {
-                    nextId = lower;
-                }
-                int next;
-
-                next = nextId++;
-
-                if (resources.add(next)) {
-                    return next;
-                }
+        if (allocatedCount < size) {
+            // Start from "nextId" as it has the greatest chance of being available, and wrap around.
+            int offset = findFree(nextId - lower);
+            if (offset < 0) {
+                offset = findFree(0);
+            }
+            if (offset >= 0) {
+                set(offset);
+                nextId = lower + offset + 1;
+                return lower + offset;
             }
         }
         throw new ResourcePoolIsFullException("Could not allocate resource: pool is full");
@@ -85,7 +100,10 @@ public class ResourcePool {
         if (id > nextId) {
             nextId = id + 1;
         }
-        return resources.add(id) ? id : null;
+        if (id < lower || id > upper) {
+            return outOfRangeIds.add(id) ? id : null;
+        }
+        return set(id - lower) ? id : null;
     }
 
     /**
@@ -95,7 +113,10 @@ public class ResourcePool {
      * @return deallocated resource id.
      */
     public Integer deallocate(int resourceId) {
-        return resources.remove(resourceId) ? resourceId : null;
+        if (resourceId < lower || resourceId > upper) {
+            return outOfRangeIds.remove(resourceId) ? resourceId : null;
+        }
+        return clear(resourceId - lower) ? resourceId : null;
     }
 
     /**
@@ -104,7 +125,88 @@ public class ResourcePool {
      * @return {@link ImmutableSet} of allocated resources id.
      */
     public Set<Integer> dumpPool() {
-        return ImmutableSet.copyOf(resources);
+        ImmutableSet.Builder<Integer> result = ImmutableSet.builder();
+        for (int word = 0; word < allocated.length; word++) {
+            long bits = allocated[word];
+            while (bits != 0) {
+                result.add(lower + (word << WORD_SHIFT) + Long.numberOfTrailingZeros(bits));
+                bits &= bits - 1;
+            }
+        }
+        return result.addAll(outOfRangeIds).build();
+    }
+
+    /**
+     * Finds the first free id at or after the offset.
+     *
+     * @return the offset of the free id, or -1 if there are no free ids up to the end of the range.
+     */
+    private int findFree(int fromOffset) {
+        if (fromOffset < 0 || fromOffset >= size) {
+            return -1;
+        }
+
+        int word = fromOffset >>> WORD_SHIFT;
+        long free = ~allocated[word] & (-1L << fromOffset);
+        if (free == 0) {
+            word = findNotFullWord(word + 1);
+            if (word < 0) {
+                return -1;
+            }
+            free = ~allocated[word];
+        }
+
+        // Bits after the end of the range are never set in the last word, so they look free.
+        int offset = (word << WORD_SHIFT) + Long.numberOfTrailingZeros(free);
+        return offset < size ? offset : -1;
+    }
+
+    private int findNotFullWord(int fromWord) {
+        if (fromWord >= allocated.length) {
+            return -1;
+        }
+
+        int index = fromWord >>> WORD_SHIFT;
+        long notFull = ~fullWords[index] & (-1L << fromWord);
+        while (notFull == 0) {
+            if (++index == fullWords.length) {
+                return -1;
+            }
+            notFull = ~fullWords[index];
+        }
+        return (index << WORD_SHIFT) + Long.numberOfTrailingZeros(notFull);
+    }
+
+    private boolean set(int offset) {
+        int word = offset >>> WORD_SHIFT;
+        long bit = 1L << offset;
+        if ((allocated[word] & bit) != 0) {
+            return false;
+        }
+
+        allocated[word] |= bit;
+        if (allocated[word] == -1L) {
+            fullWords[word >>> WORD_SHIFT] |= 1L << word;
+        }
+        allocatedCount++;
+        return true;
+    }
+
+    private boolean clear(int offset) {
+        int word = offset >>> WORD_SHIFT;
+        long bit = 1L << offset;
+        if ((allocated[word] & bit) == 0) {
+            return false;
+        }
+
+        allocated[word] &= ~bit;
+        fullWords[word >>> WORD_SHIFT] &= ~(1L << word);
+        allocatedCount--;
+        return true;
+    }
+
+    private static int wordCount(int bits) {
+        return (bits + (1 << WORD_SHIFT) - 1) >>> WORD_SHIFT;
     }
 
     /**
@@ -113,7 +215,7 @@ public class ResourcePool {
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
-                .add("resources", resources)
+                .add("resources", dumpPool())
                 .add("nextId", nextId)
                 .add("lower", lower)
                 .add("upper", upper)
@@ -20,6 +20,7 @@ import static org.openkilda.wfm.share.hubandspoke.CoordinatedBolt.COMMAND_FIELD;
 import static org.openkilda.wfm.share.hubandspoke.CoordinatedBolt.TIMEOUT_FIELD;
 
 import org.openkilda.wfm.AbstractBolt;
+import org.openkilda.wfm.share.utils.TimingWheel;
 import org.openkilda.wfm.topology.utils.MessageTranslator;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -30,24 +31,40 @@ import org.apache.storm.tuple.Fields;
 import org.apache.storm.tuple.Tuple;
 import org.apache.storm.tuple.Values;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.time.Clock;
 
 /**
  * Storm bolt that keeps track of duration of operation's execution and then sends callback to the requester.
+ * Pending callbacks are kept in a {@link TimingWheel} by their trigger time, so registering and cancelling a callback
+ * takes constant time and each tick visits only the callbacks being triggered.
  */
 @Slf4j
 public final class CoordinatorBolt extends AbstractBolt {
     public static final String ID = "coordinator.bolt";
     public static final String INCOME_STREAM = "coordinator.command";
 
-    private Map<String, Callback> callbacks = new HashMap<>();
-    private SortedMap<Long, Set<String>> timeouts = new TreeMap<>();
+    private final Clock clock;
+
+    private transient TimingWheel<String, Callback> callbacks;
+
+    public CoordinatorBolt() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructs the bolt, which uses the clock to calculate trigger time of callbacks.
+     *
+     * @param clock the clock.
+     */
+    @VisibleForTesting
+    CoordinatorBolt(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    protected void init() {
+        callbacks = new TimingWheel<>(clock.millis());
+    }
 
     @Override
     protected void handleInput(Tuple input) {
@@ -81,17 +98,15 @@ public final class CoordinatorBolt extends AbstractBolt {
     @VisibleForTesting
     void registerCallback(String key, Object context, int timeout, int taskId) {
         log.debug("Adding callback for {} with timeout {}", key, timeout);
-        long triggerTime = System.currentTimeMillis() + timeout;
-        timeouts.computeIfAbsent(triggerTime, mappingFunction -> new HashSet<>())
-                .add(key);
+        long triggerTime = clock.millis() + timeout;
 
         Values value = new Values(key, context);
-        callbacks.put(key, Callback.of(taskId, value));
+        callbacks.schedule(key, Callback.of(taskId, value), triggerTime);
     }
 
     @VisibleForTesting
     void cancelCallback(String key) {
-        if (callbacks.remove(key) == null) {
+        if (callbacks.cancel(key) == null) {
             throw new IllegalStateException(format("%s is already cancelled", key));
         } else {
             log.debug("Request processing of {} is finished", key);
@@ -103,15 +118,10 @@ public final class CoordinatorBolt extends AbstractBolt {
      */
     @VisibleForTesting
     void tick(Long currentTime) {
-        SortedMap<Long, Set<String>> outdatedCallbacks = timeouts.headMap(currentTime);
-        for (Set<String> callbacks : outdatedCallbacks.values()) {
-            callbacks.stream()
-                    .map(this.callbacks::remove)
-                    .filter(Objects::nonNull)
-                    .forEach(callback -> getOutput().emitDirect(callback.taskId, callback.context));
+        // Callbacks are triggered once the trigger time is passed.
+        for (Callback callback : callbacks.advance(currentTime - 1)) {
+            getOutput().emitDirect(callback.taskId, callback.context);
         }
-
-        outdatedCallbacks.clear();
     }
 
     @Override
@@ -121,15 +131,10 @@ public final class CoordinatorBolt extends AbstractBolt {
     }
 
     @VisibleForTesting
-    Map<String, Callback> getCallbacks() {
+    TimingWheel<String, Callback> getCallbacks() {
         return callbacks;
     }
 
-    @VisibleForTesting
-    SortedMap<Long, Set<String>> getTimeouts() {
-        return timeouts;
-    }
-
     public enum CoordinatorCommand {
         REQUEST_CALLBACK,
         CANCEL_CALLBACK
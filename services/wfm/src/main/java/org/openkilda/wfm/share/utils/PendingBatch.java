@@ -0,0 +1,96 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Requests waiting to be processed by a bolt as a batch, by key in the order of arrival. The batch is due once it's
+ * full or once the window has passed since the first pending request. A bolt checks the window on each request and
+ * on tick tuples, which frequency is given by {@link #getTickFrequencySeconds(long)}.
+ * <p/>
+ * The batch is not thread safe.
+ */
+public class PendingBatch<K, V> {
+    private final int maxSize;
+    private final long windowMillis;
+
+    private final Map<K, V> pending = new LinkedHashMap<>();
+    private long pendingSince;
+
+    public PendingBatch(int maxSize, long windowMillis) {
+        this.maxSize = maxSize;
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * Returns the tick tuple frequency for a bolt to check the batch window. Storm doesn't tick more often than once a
+     * second, so a shorter window is checked each second and the requests which come later than the window flush
+     * the batch themselves.
+     */
+    public static int getTickFrequencySeconds(long windowMillis) {
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, windowMillis / 1000));
+    }
+
+    public boolean isEmpty() {
+        return pending.isEmpty();
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    public boolean contains(K key) {
+        return pending.containsKey(key);
+    }
+
+    public V get(K key) {
+        return pending.get(key);
+    }
+
+    /**
+     * Adds the request to the batch, a request with the same key is replaced keeping its position.
+     *
+     * @param now the current time in milliseconds.
+     */
+    public void put(K key, V value, long now) {
+        if (pending.isEmpty()) {
+            pendingSince = now;
+        }
+        pending.put(key, value);
+    }
+
+    /**
+     * Checks whether the batch is full or the window has passed since the first pending request.
+     *
+     * @param now the current time in milliseconds.
+     */
+    public boolean isDue(long now) {
+        return !pending.isEmpty() && (pending.size() >= maxSize || now - pendingSince >= windowMillis);
+    }
+
+    /**
+     * Takes all the pending requests out of the batch.
+     */
+    public List<V> takeAll() {
+        List<V> result = new ArrayList<>(pending.values());
+        pending.clear();
+        return result;
+    }
+}
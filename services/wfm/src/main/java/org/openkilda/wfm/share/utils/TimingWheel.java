@@ -0,0 +1,292 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Map of values which are due at the deadline given on scheduling, the values are taken out of the map by
+ * {@link #advance(long)} once their deadline is reached.
+ * <p/>
+ * Values are kept in a hierarchical timing wheel: {@value #LEVELS} wheels of {@value #WHEEL_SIZE} slots, a slot of
+ * each next wheel covers the whole previous wheel. Scheduling and cancelling take constant time, a cancelled value
+ * leaves the wheel at once. {@link #advance(long)} visits only the slots passed since the previous call, skips whole
+ * turns of empty lower wheels and moves the values of a higher wheel to the lower ones when its slot is reached.
+ * Values beyond the top wheel wait in a separate list until they come in reach of the wheels.
+ * <p/>
+ * One time unit of the deadline is one slot of the lowest wheel, so values are taken out exactly at their deadline.
+ * The wheel starts at the time given on construction, which should be the current time: values due before the wheel
+ * position are kept in a list which is searched on each advance.
+ * <p/>
+ * The map is not thread safe.
+ */
+public class TimingWheel<K, V> {
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final long WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 5;
+    private static final long SPAN = 1L << (WHEEL_BITS * LEVELS);
+
+    private static final int OVERDUE_LEVEL = -1;
+    private static final int FAR_LEVEL = -2;
+
+    private final Map<K, Node<K, V>> nodes = new HashMap<>();
+
+    @SuppressWarnings("unchecked")
+    private final Node<K, V>[][] wheels = new Node[LEVELS][WHEEL_SIZE];
+    private final int[] levelSizes = new int[LEVELS];
+
+    /**
+     * Values which deadline is not ahead of the current wheel position.
+     */
+    private Node<K, V> overdue;
+
+    /**
+     * Values which deadline is beyond the top wheel.
+     */
+    private Node<K, V> far;
+    private long farMinDeadline = Long.MAX_VALUE;
+
+    private long currentTime;
+
+    public TimingWheel(long startTime) {
+        currentTime = startTime;
+    }
+
+    /**
+     * Schedules the value, the value scheduled for the same key before is replaced.
+     *
+     * @return the replaced value or null.
+     */
+    public V schedule(K key, V value, long deadline) {
+        Node<K, V> node = new Node<>(key, value, deadline);
+        Node<K, V> current = nodes.put(key, node);
+        if (current != null) {
+            unlink(current);
+        }
+        link(node);
+
+        return current != null ? current.value : null;
+    }
+
+    /**
+     * Removes the value scheduled for the key.
+     *
+     * @return the removed value or null if nothing is scheduled for the key.
+     */
+    public V cancel(K key) {
+        Node<K, V> node = nodes.remove(key);
+        if (node == null) {
+            return null;
+        }
+
+        unlink(node);
+        return node.value;
+    }
+
+    public V get(K key) {
+        Node<K, V> node = nodes.get(key);
+        return node != null ? node.value : null;
+    }
+
+    /**
+     * Advances the wheel up to the time, removes and returns all the values which deadline is not after the time.
+     */
+    public List<V> advance(long time) {
+        List<V> expired = new ArrayList<>();
+        while (currentTime < time) {
+            int level = findLowestLevel();
+            if (level < 0) {
+                currentTime = time;
+                break;
+            }
+            if (level > 0) {
+                // The lower wheels are empty, so nothing happens until the slot of this wheel changes.
+                long lastTime = currentTime | ((1L << (WHEEL_BITS * level)) - 1);
+                if (lastTime >= time) {
+                    currentTime = time;
+                    break;
+                }
+                currentTime = lastTime;
+            }
+
+            currentTime++;
+            if ((currentTime & WHEEL_MASK) == 0) {
+                cascade(1);
+            }
+            int slot = (int) (currentTime & WHEEL_MASK);
+            Node<K, V> head = wheels[0][slot];
+            wheels[0][slot] = null;
+            for (Node<K, V> node = head; node != null; node = node.next) {
+                levelSizes[0] -= 1;
+                nodes.remove(node.key);
+                expired.add(node.value);
+            }
+        }
+
+        Node<K, V> node = overdue;
+        while (node != null) {
+            Node<K, V> next = node.next;
+            if (node.deadline <= time) {
+                unlink(node);
+                nodes.remove(node.key);
+                expired.add(node.value);
+            }
+            node = next;
+        }
+
+        if (farMinDeadline - currentTime < SPAN) {
+            advanceFar(time, expired);
+        }
+
+        return expired;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public boolean isEmpty() {
+        return nodes.isEmpty();
+    }
+
+    /**
+     * Moves the far values which are in reach of the wheels now into the wheels.
+     */
+    private void advanceFar(long time, List<V> expired) {
+        farMinDeadline = Long.MAX_VALUE;
+        Node<K, V> node = far;
+        while (node != null) {
+            Node<K, V> next = node.next;
+            if (node.deadline <= time) {
+                unlink(node);
+                nodes.remove(node.key);
+                expired.add(node.value);
+            } else if (node.deadline - currentTime < SPAN) {
+                unlink(node);
+                link(node);
+            } else {
+                farMinDeadline = Math.min(farMinDeadline, node.deadline);
+            }
+            node = next;
+        }
+    }
+
+    private void link(Node<K, V> node) {
+        long delta = node.deadline - currentTime;
+        if (delta <= 0) {
+            link(node, OVERDUE_LEVEL, 0);
+        } else if (delta >= SPAN) {
+            farMinDeadline = Math.min(farMinDeadline, node.deadline);
+            link(node, FAR_LEVEL, 0);
+        } else {
+            int level = 0;
+            while (delta >= 1L << (WHEEL_BITS * (level + 1))) {
+                level++;
+            }
+            link(node, level, (int) ((node.deadline >>> (WHEEL_BITS * level)) & WHEEL_MASK));
+        }
+    }
+
+    /**
+     * Moves the values of the current slot of the wheel to the lower wheels. Must be called when all the lower
+     * wheels have passed the full turn.
+     */
+    private void cascade(int level) {
+        int slot = (int) ((currentTime >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+        if (slot == 0 && level + 1 < LEVELS) {
+            cascade(level + 1);
+        }
+
+        Node<K, V> node = wheels[level][slot];
+        wheels[level][slot] = null;
+        while (node != null) {
+            Node<K, V> next = node.next;
+            levelSizes[level] -= 1;
+            link(node);
+            node = next;
+        }
+    }
+
+    private int findLowestLevel() {
+        for (int level = 0; level < LEVELS; level++) {
+            if (levelSizes[level] > 0) {
+                return level;
+            }
+        }
+        return -1;
+    }
+
+    private void link(Node<K, V> node, int level, int slot) {
+        node.level = level;
+        node.slot = slot;
+        node.prev = null;
+        if (level == OVERDUE_LEVEL) {
+            node.next = overdue;
+            overdue = node;
+        } else if (level == FAR_LEVEL) {
+            node.next = far;
+            far = node;
+        } else {
+            node.next = wheels[level][slot];
+            wheels[level][slot] = node;
+            levelSizes[level] += 1;
+        }
+        if (node.next != null) {
+            node.next.prev = node;
+        }
+    }
+
+    private void unlink(Node<K, V> node) {
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else if (node.level == OVERDUE_LEVEL) {
+            overdue = node.next;
+        } else if (node.level == FAR_LEVEL) {
+            far = node.next;
+        } else {
+            wheels[node.level][node.slot] = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        if (node.level >= 0) {
+            levelSizes[node.level] -= 1;
+        }
+        node.prev = null;
+        node.next = null;
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final long deadline;
+
+        private int level;
+        private int slot;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+
+        Node(K key, V value, long deadline) {
+            this.key = key;
+            this.value = value;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -19,9 +19,11 @@ import static org.openkilda.messaging.Utils.PAYLOAD;
 
 import org.openkilda.messaging.info.InfoData;
 import org.openkilda.messaging.info.InfoMessage;
+import org.openkilda.messaging.info.event.IslChangeType;
 import org.openkilda.messaging.info.event.IslInfoData;
 import org.openkilda.messaging.info.event.PortInfoData;
 import org.openkilda.messaging.info.event.SwitchInfoData;
+import org.openkilda.model.Isl;
 import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.persistence.TransactionManager;
 import org.openkilda.persistence.repositories.RepositoryFactory;
@@ -29,6 +31,7 @@ import org.openkilda.wfm.AbstractBolt;
 import org.openkilda.wfm.share.mappers.IslMapper;
 import org.openkilda.wfm.share.mappers.PortMapper;
 import org.openkilda.wfm.share.mappers.SwitchMapper;
+import org.openkilda.wfm.share.utils.PendingBatch;
 import org.openkilda.wfm.topology.event.service.IslService;
 import org.openkilda.wfm.topology.event.service.PortService;
 import org.openkilda.wfm.topology.event.service.Sender;
@@ -40,7 +43,10 @@ import org.apache.storm.task.TopologyContext;
 import org.apache.storm.topology.OutputFieldsDeclarer;
 import org.apache.storm.tuple.Fields;
 import org.apache.storm.tuple.Tuple;
+import org.apache.storm.utils.TupleUtils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 public class NetworkTopologyBolt extends AbstractBolt {
@@ -56,11 +62,41 @@ public class NetworkTopologyBolt extends AbstractBolt {
     private int islCostWhenPortDown;
     private int islCostWhenUnderMaintenance;
 
+    private final int islBatchSize;
+    private final long islBatchWindowMillis;
+
+    /**
+     * ISL discovery events waiting to be processed as a batch, by source endpoint in the order of arrival.
+     */
+    private transient PendingBatch<String, Isl> pendingIsls;
+
+    /**
+     * The tuples of the pending ISL discovery events, they are acked or failed once the batch is processed.
+     */
+    private transient List<Tuple> pendingIslTuples;
+
+    private transient String pendingIslsCorrelationId;
+
     public NetworkTopologyBolt(PersistenceManager persistenceManager, int islCostWhenPortDown,
                                int islCostWhenUnderMaintenance) {
+        this(persistenceManager, islCostWhenPortDown, islCostWhenUnderMaintenance, 1, 0);
+    }
+
+    /**
+     * Constructs the bolt which collects ISL discovery events coming within the window into batches, and processes
+     * each batch in a single transaction with a single reroute request. Repeated discovery of the same ISL within
+     * the window is coalesced. Any other event processes the pending batch first, so events are never reordered.
+     *
+     * @param islBatchSize the maximum number of ISL discovery events in a batch, 1 disables batching.
+     * @param islBatchWindowMillis how long to wait for the batch to be filled up.
+     */
+    public NetworkTopologyBolt(PersistenceManager persistenceManager, int islCostWhenPortDown,
+                               int islCostWhenUnderMaintenance, int islBatchSize, long islBatchWindowMillis) {
         this.persistenceManager = persistenceManager;
         this.islCostWhenPortDown = islCostWhenPortDown;
         this.islCostWhenUnderMaintenance = islCostWhenUnderMaintenance;
+        this.islBatchSize = islBatchSize;
+        this.islBatchWindowMillis = islBatchWindowMillis;
     }
 
     /**
@@ -73,17 +109,62 @@ public class NetworkTopologyBolt extends AbstractBolt {
         this.switchService = new SwitchService(transactionManager, repositoryFactory);
         this.islService = new IslService(transactionManager, repositoryFactory, islCostWhenUnderMaintenance);
         this.portService = new PortService(transactionManager, repositoryFactory, islCostWhenPortDown);
+        this.pendingIsls = new PendingBatch<>(islBatchSize, islBatchWindowMillis);
+        this.pendingIslTuples = new ArrayList<>();
         super.prepare(stormConf, context, collector);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Object> getComponentConfiguration() {
+        if (islBatchSize > 1) {
+            // Tick tuples flush the pending batch when no more events come.
+            return TupleUtils.putTickFrequencyIntoComponentConfig(null,
+                    PendingBatch.getTickFrequencySeconds(islBatchWindowMillis));
+        }
+        return null;
+    }
+
+    /**
+     * The tuples of the batched ISL discovery events are not acked on processing, but are kept until the batch is
+     * processed. So the events of a batch lost on a worker restart are replayed.
+     */
+    @Override
+    public void execute(Tuple tuple) {
+        if (!isBatchedIslEvent(tuple)) {
+            super.execute(tuple);
+            return;
+        }
+
+        try {
+            InfoMessage message = (InfoMessage) tuple.getValueByField(PAYLOAD);
+            addPendingIsl((IslInfoData) message.getData(), message.getCorrelationId(), tuple);
+        } catch (Exception e) {
+            log.error("Unable to handle ISL discovery event", e);
+            getOutput().fail(tuple);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected void handleInput(Tuple tuple) {
-        InfoMessage message = (InfoMessage) tuple.getValueByField(PAYLOAD);
+        if (TupleUtils.isTick(tuple)) {
+            if (pendingIsls.isDue(System.currentTimeMillis())) {
+                processPendingIsls();
+            }
+            return;
+        }
 
+        // Process the pending events first to keep the order of events.
+        processPendingIsls();
+
+        InfoMessage message = (InfoMessage) tuple.getValueByField(PAYLOAD);
         InfoData data = message.getData();
+
         Sender sender = new Sender(getOutput(), tuple, message.getCorrelationId());
 
         if (data instanceof SwitchInfoData) {
@@ -100,6 +181,66 @@ public class NetworkTopologyBolt extends AbstractBolt {
         }
     }
 
+    private boolean isBatchedIslEvent(Tuple tuple) {
+        if (islBatchSize <= 1 || TupleUtils.isTick(tuple)) {
+            return false;
+        }
+        Object message = tuple.getValueByField(PAYLOAD);
+        if (!(message instanceof InfoMessage)) {
+            return false;
+        }
+        InfoData data = ((InfoMessage) message).getData();
+        return data instanceof IslInfoData && ((IslInfoData) data).getState() == IslChangeType.DISCOVERED;
+    }
+
+    private void addPendingIsl(IslInfoData data, String correlationId, Tuple tuple) {
+        log.debug("State update isl {}. Isl state: {}", data.getId(), data.getState());
+
+        Isl isl = IslMapper.INSTANCE.map(data);
+        Isl pendingIsl = pendingIsls.get(data.getId());
+        if (pendingIsl != null && (!pendingIsl.getDestSwitch().getSwitchId().equals(isl.getDestSwitch().getSwitchId())
+                || pendingIsl.getDestPort() != isl.getDestPort())) {
+            // The endpoint is connected to another switch port now, both changes must be processed.
+            processPendingIsls();
+        }
+
+        if (pendingIsls.isEmpty()) {
+            pendingIslsCorrelationId = correlationId;
+        }
+        // Repeated discovery of the same ISL replaces the pending one.
+        long now = System.currentTimeMillis();
+        pendingIsls.put(data.getId(), isl, now);
+        pendingIslTuples.add(tuple);
+
+        if (pendingIsls.isDue(now)) {
+            processPendingIsls();
+        }
+    }
+
+    /**
+     * Processes the pending ISL discovery events. The reroute requests are anchored to all the tuples of the batch,
+     * the tuples are acked once the batch is processed, or failed to be replayed if the processing has failed.
+     */
+    private void processPendingIsls() {
+        if (pendingIsls.isEmpty()) {
+            return;
+        }
+
+        List<Isl> isls = pendingIsls.takeAll();
+        List<Tuple> tuples = new ArrayList<>(pendingIslTuples);
+        pendingIslTuples.clear();
+
+        log.debug("Processing the batch of {} ISL discovery events", isls.size());
+        try {
+            islService.createOrUpdateIsls(isls, new Sender(getOutput(), tuples, pendingIslsCorrelationId));
+        } catch (Exception e) {
+            log.error("Unable to process the batch of ISL discovery events", e);
+            tuples.forEach(getOutput()::fail);
+            return;
+        }
+        tuples.forEach(getOutput()::ack);
+    }
+
     private void handleSwitchEvents(SwitchInfoData data) {
         log.debug("State update switch {} message {}", data.getSwitchId(), data.getState());
 
@@ -18,9 +18,13 @@ package org.openkilda.wfm.topology.event;
 import org.openkilda.wfm.topology.AbstractTopologyConfig;
 
 import com.sabre.oss.conf4j.annotation.Configuration;
+import com.sabre.oss.conf4j.annotation.Converter;
 import com.sabre.oss.conf4j.annotation.Default;
 import com.sabre.oss.conf4j.annotation.IgnoreKey;
 import com.sabre.oss.conf4j.annotation.Key;
+import com.sabre.oss.conf4j.converter.DurationConverter;
+
+import java.time.Duration;
 
 @Configuration
 public interface OFEventWfmTopologyConfig extends AbstractTopologyConfig {
@@ -50,6 +54,22 @@ public interface OFEventWfmTopologyConfig extends AbstractTopologyConfig {
     @Key("isl.cost.when.under.maintenance")
     int getIslCostWhenUnderMaintenance();
 
+    /**
+     * The maximum number of ISL discovery events processed by the network topology bolt as a single batch. The value
+     * of 1 disables batching, so each event is processed as it comes.
+     */
+    @Key("isl.batch.size")
+    @Default("1")
+    int getIslBatchSize();
+
+    /**
+     * How long the network topology bolt waits for the batch of ISL discovery events to be filled up.
+     */
+    @Key("isl.batch.window")
+    @Default("PT0.1S")
+    @Converter(DurationConverter.class)
+    Duration getIslBatchWindow();
+
     @Key("port.up.down.throttling.delay.seconds.min")
     int getPortUpDownThrottlingDelaySecondsMin();
 
@@ -19,6 +19,8 @@ import org.openkilda.model.FeatureToggles;
 import org.openkilda.model.Isl;
 import org.openkilda.model.IslStatus;
 import org.openkilda.model.LinkProps;
+import org.openkilda.model.Switch;
+import org.openkilda.model.SwitchId;
 import org.openkilda.persistence.TransactionManager;
 import org.openkilda.persistence.repositories.FeatureTogglesRepository;
 import org.openkilda.persistence.repositories.FlowSegmentRepository;
@@ -27,13 +29,21 @@ import org.openkilda.persistence.repositories.LinkPropsRepository;
 import org.openkilda.persistence.repositories.RepositoryFactory;
 import org.openkilda.persistence.repositories.SwitchRepository;
 
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -67,20 +77,47 @@ public class IslService {
     public void createOrUpdateIsl(Isl isl, Sender sender) {
         createOrUpdateIsl(isl);
 
-        Optional<FeatureToggles> featureToggles = featureTogglesRepository.find();
-        if (featureToggles.isPresent()
-                && featureToggles.get().getFlowsRerouteOnIslDiscoveryEnabled() != null
-                && featureToggles.get().getFlowsRerouteOnIslDiscoveryEnabled()) {
-
+        if (isRerouteOnIslDiscoveryEnabled()) {
             String reason = String.format("Create or update ISL: %s_%d-%s_%d. ISL status: %s",
                     isl.getSrcSwitch().getSwitchId(), isl.getSrcPort(),
                     isl.getDestSwitch().getSwitchId(), isl.getDestPort(), isl.getStatus());
             sender.sendRerouteInactiveFlowsMessage(reason);
-        } else {
-            log.warn("Feature toggle 'flows_reroute_on_isl_discovery' is disabled");
         }
     }
 
+    /**
+     * Create or update a batch of isls and send a single reroute message for the whole batch.
+     *
+     * @param isls   isls.
+     * @param sender sender.
+     */
+    public void createOrUpdateIsls(Collection<Isl> isls, Sender sender) {
+        if (isls.isEmpty()) {
+            return;
+        }
+        createOrUpdateIsls(isls);
+
+        if (isRerouteOnIslDiscoveryEnabled()) {
+            String reason = String.format("Create or update ISLs: %s", isls.stream()
+                    .map(isl -> String.format("%s_%d-%s_%d",
+                            isl.getSrcSwitch().getSwitchId(), isl.getSrcPort(),
+                            isl.getDestSwitch().getSwitchId(), isl.getDestPort()))
+                    .collect(Collectors.joining(", ")));
+            sender.sendRerouteInactiveFlowsMessage(reason);
+        }
+    }
+
+    private boolean isRerouteOnIslDiscoveryEnabled() {
+        Optional<FeatureToggles> featureToggles = featureTogglesRepository.find();
+        if (featureToggles.isPresent()
+                && featureToggles.get().getFlowsRerouteOnIslDiscoveryEnabled() != null
+                && featureToggles.get().getFlowsRerouteOnIslDiscoveryEnabled()) {
+            return true;
+        }
+        log.warn("Feature toggle 'flows_reroute_on_isl_discovery' is disabled");
+        return false;
+    }
+
     /**
      * Create or update isl.
      *
@@ -138,6 +175,111 @@ public class IslService {
 
     }
 
+    /**
+     * Create or update a batch of isls in a single transaction. The existing isls, link props and used bandwidth are
+     * loaded with a constant number of queries regardless of the batch size. If the batch has several isls with the
+     * same endpoints, the last one wins.
+     * <p/>
+     * If the batch transaction fails, the isls are processed one by one, so a single bad isl doesn't prevent
+     * the rest of the batch from being stored.
+     *
+     * @param isls isls.
+     */
+    public void createOrUpdateIsls(Collection<Isl> isls) {
+        Map<Link, Isl> uniqueIsls = new LinkedHashMap<>();
+        isls.forEach(isl -> uniqueIsls.put(Link.of(isl), isl));
+        log.debug("Create or update {} ISLs", uniqueIsls.size());
+
+        try {
+            transactionManager.doInTransaction(() -> processCreateOrUpdateIsls(uniqueIsls.values()));
+        } catch (RuntimeException e) {
+            if (uniqueIsls.size() == 1) {
+                throw e;
+            }
+            log.warn("Failed to create or update the batch of {} ISLs, processing them one by one: {}",
+                    uniqueIsls.size(), e.getMessage());
+
+            for (Isl isl : uniqueIsls.values()) {
+                try {
+                    createOrUpdateIsl(isl);
+                } catch (RuntimeException ex) {
+                    log.error("Failed to create or update ISL {}_{}-{}_{}: {}",
+                            isl.getSrcSwitch().getSwitchId(), isl.getSrcPort(),
+                            isl.getDestSwitch().getSwitchId(), isl.getDestPort(), ex.getMessage(), ex);
+                }
+            }
+        }
+    }
+
+    private void processCreateOrUpdateIsls(Collection<Isl> isls) {
+        Set<SwitchId> switchIds = new HashSet<>();
+        isls.forEach(isl -> {
+            switchIds.add(isl.getSrcSwitch().getSwitchId());
+            switchIds.add(isl.getDestSwitch().getSwitchId());
+        });
+
+        IslIndex index = new IslIndex();
+        islRepository.findBySwitchIds(switchIds).forEach(index::add);
+        Map<Link, LinkProps> linkProps = new HashMap<>();
+        linkPropsRepository.findBySrcSwitchIds(switchIds)
+                .forEach(props -> linkProps.putIfAbsent(Link.of(props), props));
+        Map<SwitchId, Switch> switches = new HashMap<>();
+        switchRepository.findByIds(switchIds).forEach(sw -> switches.put(sw.getSwitchId(), sw));
+
+        Instant timestamp = Instant.now();
+        // ISL entities have mutable hash codes, so track them by identity.
+        Set<Isl> modifiedIsls = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Isl> daoIsls = new ArrayList<>(isls.size());
+        for (Isl isl : isls) {
+            reportEndpointConflicts(isl, index.findConflicts(isl));
+
+            Isl daoIsl = index.find(Link.of(isl));
+            if (daoIsl == null) {
+                daoIsl = isl.toBuilder()
+                        .srcSwitch(switches.computeIfAbsent(isl.getSrcSwitch().getSwitchId(),
+                                ignore -> switchRepository.reload(isl.getSrcSwitch())))
+                        .destSwitch(switches.computeIfAbsent(isl.getDestSwitch().getSwitchId(),
+                                ignore -> switchRepository.reload(isl.getDestSwitch())))
+                        .status(IslStatus.INACTIVE)
+                        .timeCreate(timestamp)
+                        .build();
+                // The reverse ISL of the same batch must see this one.
+                index.add(daoIsl);
+            }
+
+            updateWith(daoIsl, isl);
+            daoIsl.setTimeModify(timestamp);
+            daoIsl.setActualStatus(IslStatus.ACTIVE);
+
+            setLinkPropsData(daoIsl, linkProps.get(Link.of(daoIsl)));
+
+            Isl reverseIsl = index.find(Link.of(daoIsl).reverse());
+            if (reverseIsl != null) {
+                IslStatus status = getStatus(daoIsl, reverseIsl);
+                daoIsl.setStatus(status);
+                reverseIsl.setStatus(status);
+                modifiedIsls.add(reverseIsl);
+            }
+
+            if ((daoIsl.getSrcSwitch().isUnderMaintenance() || daoIsl.getDestSwitch().isUnderMaintenance())
+                    && !daoIsl.isUnderMaintenance()) {
+                daoIsl.setUnderMaintenance(true);
+                daoIsl.setCost(daoIsl.getCost() + islCostWhenUnderMaintenance);
+            }
+
+            daoIsls.add(daoIsl);
+            modifiedIsls.add(daoIsl);
+        }
+
+        long[] usedBandwidth = flowSegmentRepository.getUsedBandwidthBetweenEndpoints(daoIsls);
+        for (int i = 0; i < daoIsls.size(); i++) {
+            Isl daoIsl = daoIsls.get(i);
+            daoIsl.setAvailableBandwidth(daoIsl.getMaxBandwidth() - usedBandwidth[i]);
+        }
+
+        islRepository.createOrUpdateAll(modifiedIsls);
+    }
+
     private void detectEndpointConflicts(Isl isl) {
         List<Isl> conflictIsls = new ArrayList<>();
 
@@ -170,6 +312,10 @@ public class IslService {
                     }
                 });
 
+        reportEndpointConflicts(isl, conflictIsls);
+    }
+
+    private void reportEndpointConflicts(Isl isl, Collection<Isl> conflictIsls) {
         for (Isl link : conflictIsls) {
             if (IslStatus.ACTIVE.equals(link.getActualStatus())) {
                 log.error("Detected ISL {}_{}-{}_{} conflict with {}_{}-{}_{}. Please contact dev team",
@@ -198,16 +344,23 @@ public class IslService {
                 isl.getSrcSwitch().getSwitchId(), isl.getSrcPort(),
                 isl.getDestSwitch().getSwitchId(), isl.getDestPort());
         if (!linkPropsDao.isEmpty()) {
-            LinkProps linkProps = linkPropsDao.iterator().next();
-            Integer cost = linkProps.getCost();
-            if (cost != null) {
-                isl.setCost(cost);
-            }
+            setLinkPropsData(isl, linkPropsDao.iterator().next());
+        }
+    }
 
-            Long maxBandwidth = linkProps.getMaxBandwidth();
-            if (maxBandwidth != null) {
-                isl.setMaxBandwidth(maxBandwidth);
-            }
+    private void setLinkPropsData(Isl isl, LinkProps linkProps) {
+        if (linkProps == null) {
+            return;
+        }
+
+        Integer cost = linkProps.getCost();
+        if (cost != null) {
+            isl.setCost(cost);
+        }
+
+        Long maxBandwidth = linkProps.getMaxBandwidth();
+        if (maxBandwidth != null) {
+            isl.setMaxBandwidth(maxBandwidth);
         }
     }
 
@@ -275,4 +428,70 @@ public class IslService {
         }
         return !isls.isEmpty();
     }
+
+    @Value(staticConstructor = "of")
+    private static class Endpoint {
+        SwitchId switchId;
+        int port;
+    }
+
+    @Value(staticConstructor = "of")
+    private static class Link {
+        Endpoint src;
+        Endpoint dest;
+
+        static Link of(Isl isl) {
+            return of(Endpoint.of(isl.getSrcSwitch().getSwitchId(), isl.getSrcPort()),
+                    Endpoint.of(isl.getDestSwitch().getSwitchId(), isl.getDestPort()));
+        }
+
+        static Link of(LinkProps linkProps) {
+            return of(Endpoint.of(linkProps.getSrcSwitchId(), linkProps.getSrcPort()),
+                    Endpoint.of(linkProps.getDstSwitchId(), linkProps.getDstPort()));
+        }
+
+        Link reverse() {
+            return of(dest, src);
+        }
+    }
+
+    /**
+     * In-memory index of the ISLs loaded for a batch, replaces per-ISL endpoint lookups.
+     */
+    private static class IslIndex {
+        private final Map<Link, Isl> byLink = new HashMap<>();
+        private final Map<Endpoint, List<Isl>> byEndpoint = new HashMap<>();
+
+        void add(Isl isl) {
+            Link link = Link.of(isl);
+            byLink.put(link, isl);
+            byEndpoint.computeIfAbsent(link.getSrc(), key -> new ArrayList<>()).add(isl);
+            if (!link.getDest().equals(link.getSrc())) {
+                byEndpoint.computeIfAbsent(link.getDest(), key -> new ArrayList<>()).add(isl);
+            }
+        }
+
+        Isl find(Link link) {
+            return byLink.get(link);
+        }
+
+        /**
+         * Finds the ISLs which share an endpoint with the ISL, but are neither the ISL nor its reverse.
+         */
+        List<Isl> findConflicts(Isl isl) {
+            Link link = Link.of(isl);
+            Link reverse = link.reverse();
+            List<Isl> result = new ArrayList<>();
+            Set<Isl> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Endpoint endpoint : new Endpoint[]{link.getSrc(), link.getDest()}) {
+                for (Isl candidate : byEndpoint.getOrDefault(endpoint, Collections.emptyList())) {
+                    Link candidateLink = Link.of(candidate);
+                    if (!candidateLink.equals(link) && !candidateLink.equals(reverse) && seen.add(candidate)) {
+                        result.add(candidate);
+                    }
+                }
+            }
+            return result;
+        }
+    }
 }
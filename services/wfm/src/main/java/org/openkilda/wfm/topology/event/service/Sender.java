@@ -32,17 +32,27 @@ import org.apache.storm.tuple.Values;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
+import java.util.Collections;
+
 public class Sender {
 
     private static final Logger logger = LoggerFactory.getLogger(Sender.class);
 
     private final OutputCollector outputCollector;
-    private final Tuple tuple;
+    private final Collection<Tuple> anchors;
     private final String correlationId;
 
     public Sender(OutputCollector outputCollector, Tuple tuple, String correlationId) {
+        this(outputCollector, Collections.singletonList(tuple), correlationId);
+    }
+
+    /**
+     * Creates the sender which anchors the messages to all the given tuples, e.g. to the tuples of a batch.
+     */
+    public Sender(OutputCollector outputCollector, Collection<Tuple> anchors, String correlationId) {
         this.outputCollector = outputCollector;
-        this.tuple = tuple;
+        this.anchors = anchors;
         this.correlationId = correlationId;
     }
 
@@ -61,7 +71,7 @@ public class Sender {
             String json = Utils.MAPPER.writeValueAsString(new CommandMessage(
                     request, System.currentTimeMillis(), correlationId, Destination.WFM_REROUTE));
             Values values = new Values(Utils.PAYLOAD, json);
-            outputCollector.emit(NetworkTopologyBolt.REROUTE_STREAM, tuple, values);
+            outputCollector.emit(NetworkTopologyBolt.REROUTE_STREAM, anchors, values);
         } catch (JsonProcessingException exception) {
             logger.error("Could not format flow reroute request", exception);
         }
@@ -92,7 +92,8 @@ public class FlowTopology extends AbstractTopology<FlowTopologyConfig> {
         PersistenceManager persistenceManager =
                 PersistenceProvider.getInstance().createPersistenceManager(configurationProvider);
         PathComputerConfig pathComputerConfig = configurationProvider.getConfiguration(PathComputerConfig.class);
-        CrudBolt crudBolt = new CrudBolt(persistenceManager, pathComputerConfig);
+        CrudBolt crudBolt = new CrudBolt(persistenceManager, pathComputerConfig, topologyConfig.getCrudBatchSize(),
+                topologyConfig.getCrudBatchWindow().toMillis());
         BoltDeclarer boltSetup = builder.setBolt(ComponentType.CRUD_BOLT.toString(), crudBolt, parallelism)
                 .fieldsGrouping(ComponentType.SPLITTER_BOLT.toString(), StreamType.CREATE.toString(), fieldFlowId)
                 // TODO: this READ is used for single and for all flows. But all flows shouldn't be fieldsGrouping.
@@ -32,6 +32,22 @@ public interface FlowTopologyConfig extends AbstractTopologyConfig {
     @Converter(DurationConverter.class)
     Duration getCommandTransactionExpirationTime();
 
+    /**
+     * The maximum number of flow create requests processed by the CRUD bolt as a single batch. The value of 1
+     * disables batching, so each request is processed as it comes.
+     */
+    @Key("crud.batch.size")
+    @Default("1")
+    int getCrudBatchSize();
+
+    /**
+     * How long the CRUD bolt waits for the batch to be filled up before processing it.
+     */
+    @Key("crud.batch.window")
+    @Default("PT0.05S")
+    @Converter(DurationConverter.class)
+    Duration getCrudBatchWindow();
+
     default String getKafkaFlowTopic() {
         return getKafkaTopics().getFlowTopic();
     }
@@ -71,6 +71,7 @@ import org.openkilda.wfm.error.ClientException;
 import org.openkilda.wfm.share.cache.ResourceCache;
 import org.openkilda.wfm.share.mappers.FlowMapper;
 import org.openkilda.wfm.share.mappers.FlowPathMapper;
+import org.openkilda.wfm.share.utils.PendingBatch;
 import org.openkilda.wfm.topology.AbstractTopology;
 import org.openkilda.wfm.topology.flow.ComponentType;
 import org.openkilda.wfm.topology.flow.FlowTopology;
@@ -85,6 +86,7 @@ import org.openkilda.wfm.topology.flow.service.FlowCommandSender;
 import org.openkilda.wfm.topology.flow.service.FlowNotFoundException;
 import org.openkilda.wfm.topology.flow.service.FlowResourcesManager;
 import org.openkilda.wfm.topology.flow.service.FlowService;
+import org.openkilda.wfm.topology.flow.service.FlowService.BatchCreateResult;
 import org.openkilda.wfm.topology.flow.service.FlowService.ReroutedFlow;
 import org.openkilda.wfm.topology.flow.validation.FlowValidationException;
 import org.openkilda.wfm.topology.flow.validation.FlowValidator;
@@ -99,11 +101,13 @@ import org.apache.storm.topology.OutputFieldsDeclarer;
 import org.apache.storm.topology.base.BaseStatefulBolt;
 import org.apache.storm.tuple.Tuple;
 import org.apache.storm.tuple.Values;
+import org.apache.storm.utils.TupleUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -126,6 +130,10 @@ public class CrudBolt
 
     private final PathComputerConfig pathComputerConfig;
 
+    private final int createBatchSize;
+
+    private final long createBatchWindowMillis;
+
     private transient RepositoryFactory repositoryFactory;
 
     private transient FlowService flowService;
@@ -143,9 +151,30 @@ public class CrudBolt
     private transient TopologyContext context;
     private transient OutputCollector outputCollector;
 
+    /**
+     * Flow create requests waiting to be processed as a batch, by flow id in the order of arrival.
+     */
+    private transient PendingBatch<String, Tuple> pendingCreates;
+
     public CrudBolt(PersistenceManager persistenceManager, PathComputerConfig pathComputerConfig) {
+        this(persistenceManager, pathComputerConfig, 1, 0);
+    }
+
+    /**
+     * Constructs the bolt which collects flow create requests coming within the window into batches, and processes
+     * each batch at once: the paths are computed for the whole batch and the flows are stored in a single
+     * transaction. Any other request processes the pending batch first, so requests for the same flow are never
+     * reordered.
+     *
+     * @param createBatchSize the maximum number of create requests in a batch, 1 disables batching.
+     * @param createBatchWindowMillis how long to wait for the batch to be filled up.
+     */
+    public CrudBolt(PersistenceManager persistenceManager, PathComputerConfig pathComputerConfig,
+                    int createBatchSize, long createBatchWindowMillis) {
         this.persistenceManager = persistenceManager;
         this.pathComputerConfig = pathComputerConfig;
+        this.createBatchSize = createBatchSize;
+        this.createBatchWindowMillis = createBatchWindowMillis;
     }
 
     /**
@@ -195,6 +224,37 @@ public class CrudBolt
                 new AvailableNetworkFactory(pathComputerConfig, repositoryFactory);
         pathComputerFactory = new PathComputerFactory(pathComputerConfig, availableNetworkFactory);
         commandFactory = new FlowCommandFactory();
+        pendingCreates = new PendingBatch<>(createBatchSize, createBatchWindowMillis);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cleanup() {
+        pathComputerFactory.close();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Object> getComponentConfiguration() {
+        if (createBatchSize > 1) {
+            // Tick tuples flush the pending batch when no more requests come.
+            return TupleUtils.putTickFrequencyIntoComponentConfig(null,
+                    PendingBatch.getTickFrequencySeconds(createBatchWindowMillis));
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void prePrepare(long txid) {
+        // The pending batch must be reflected in the state being checkpointed.
+        processPendingCreates();
     }
 
     /**
@@ -202,6 +262,21 @@ public class CrudBolt
      */
     @Override
     public void execute(Tuple tuple) {
+        if (TupleUtils.isTick(tuple)) {
+            if (pendingCreates.isDue(System.currentTimeMillis())) {
+                processPendingCreates();
+            }
+            outputCollector.ack(tuple);
+            return;
+        }
+
+        if (isBatchedCreate(tuple)) {
+            addPendingCreate(tuple);
+            return;
+        }
+        // Process the pending requests first to keep the order of requests.
+        processPendingCreates();
+
         if (CtrlAction.boltHandlerEntrance(this, tuple)) {
             return;
         }
@@ -291,6 +366,43 @@ public class CrudBolt
         }
     }
 
+    private boolean isBatchedCreate(Tuple tuple) {
+        return createBatchSize > 1
+                && ComponentType.SPLITTER_BOLT.toString().equals(tuple.getSourceComponent())
+                && StreamType.CREATE.toString().equals(tuple.getSourceStreamId());
+    }
+
+    private void addPendingCreate(Tuple tuple) {
+        String flowId = tuple.getStringByField(Utils.FLOW_ID);
+        if (pendingCreates.contains(flowId)) {
+            // Requests for the same flow must not be processed in a single batch.
+            processPendingCreates();
+        }
+
+        long now = System.currentTimeMillis();
+        pendingCreates.put(flowId, tuple, now);
+        if (pendingCreates.isDue(now)) {
+            processPendingCreates();
+        }
+    }
+
+    private void processPendingCreates() {
+        if (pendingCreates.isEmpty()) {
+            return;
+        }
+
+        List<Tuple> tuples = pendingCreates.takeAll();
+
+        logger.info("Processing the batch of {} flow create requests", tuples.size());
+        try {
+            handleCreateRequests(tuples);
+        } catch (Exception e) {
+            logger.error("Unhandled exception", e);
+        } finally {
+            tuples.forEach(outputCollector::ack);
+        }
+    }
+
     private void emitError(Tuple tuple, String correlationId, CacheException exception, boolean isWarning) {
         String logMessage = format("%s: %s", exception.getErrorMessage(), exception.getErrorDescription());
         ErrorData errorData = new ErrorData(exception.getErrorType(), logMessage, exception.getErrorDescription());
@@ -416,8 +528,6 @@ public class CrudBolt
     }
 
     private void handleCreateRequest(CommandMessage message, Tuple tuple) {
-        final String errorType = "Could not create flow";
-
         try {
             featureTogglesService.checkFeatureToggleEnabled(FeatureToggle.CREATE_FLOW);
 
@@ -431,22 +541,71 @@ public class CrudBolt
             Values values = new Values(new InfoMessage(buildFlowResponse(createdFlow.getForward()),
                     message.getTimestamp(), message.getCorrelationId(), Destination.NORTHBOUND));
             outputCollector.emit(StreamType.RESPONSE.toString(), tuple, values);
-        } catch (FlowValidationException e) {
-            throw new MessageException(message.getCorrelationId(), System.currentTimeMillis(),
-                    e.getType(), errorType, e.getMessage());
-        } catch (SwitchValidationException e) {
-            throw new MessageException(message.getCorrelationId(), System.currentTimeMillis(),
-                    ErrorType.DATA_INVALID, errorType, e.getMessage());
-        } catch (FlowAlreadyExistException e) {
-            throw new MessageException(message.getCorrelationId(), System.currentTimeMillis(),
-                    ErrorType.ALREADY_EXISTS, errorType, e.getMessage());
-        } catch (UnroutableFlowException e) {
-            throw new MessageException(message.getCorrelationId(), System.currentTimeMillis(),
-                    ErrorType.NOT_FOUND, errorType, "Not enough bandwidth found or path not found : " + e.getMessage());
         } catch (Exception e) {
-            throw new MessageException(message.getCorrelationId(), System.currentTimeMillis(),
-                    ErrorType.CREATION_FAILURE, errorType, e.getMessage());
+            throw buildCreateError(message, e);
+        }
+    }
+
+    private void handleCreateRequests(List<Tuple> tuples) {
+        List<Flow> flows = new ArrayList<>(tuples.size());
+        Map<String, FlowCommandSender> senders = new HashMap<>();
+        for (Tuple tuple : tuples) {
+            CommandMessage message = (CommandMessage) tuple.getValueByField(AbstractTopology.MESSAGE_FIELD);
+            Flow flow = FlowMapper.INSTANCE.map(((FlowCreateRequest) message.getData()).getPayload());
+            flows.add(flow);
+            senders.put(flow.getFlowId(),
+                    new CrudFlowCommandSender(message.getCorrelationId(), tuple, StreamType.CREATE));
+        }
+
+        BatchCreateResult result;
+        try {
+            featureTogglesService.checkFeatureToggleEnabled(FeatureToggle.CREATE_FLOW);
+
+            result = flowService.createFlows(flows, senders);
+        } catch (Exception e) {
+            for (Tuple tuple : tuples) {
+                CommandMessage message = (CommandMessage) tuple.getValueByField(AbstractTopology.MESSAGE_FIELD);
+                emitError(tuple, message.getCorrelationId(), buildCreateError(message, e), false);
+            }
+            return;
+        }
+
+        for (int i = 0; i < tuples.size(); i++) {
+            Tuple tuple = tuples.get(i);
+            CommandMessage message = (CommandMessage) tuple.getValueByField(AbstractTopology.MESSAGE_FIELD);
+            String flowId = flows.get(i).getFlowId();
+
+            FlowPair createdFlow = result.getCreatedFlows().get(flowId);
+            if (createdFlow != null) {
+                logger.info("Created the flow: {}", createdFlow);
+
+                Values values = new Values(new InfoMessage(buildFlowResponse(createdFlow.getForward()),
+                        message.getTimestamp(), message.getCorrelationId(), Destination.NORTHBOUND));
+                outputCollector.emit(StreamType.RESPONSE.toString(), tuple, values);
+            } else {
+                Exception error = result.getFailedFlows().get(flowId);
+                emitError(tuple, message.getCorrelationId(), buildCreateError(message, error), false);
+            }
+        }
+    }
+
+    private MessageException buildCreateError(CommandMessage message, Exception e) {
+        final String errorType = "Could not create flow";
+
+        ErrorType type = ErrorType.CREATION_FAILURE;
+        String description = e.getMessage();
+        if (e instanceof FlowValidationException) {
+            type = ((FlowValidationException) e).getType();
+        } else if (e instanceof SwitchValidationException) {
+            type = ErrorType.DATA_INVALID;
+        } else if (e instanceof FlowAlreadyExistException) {
+            type = ErrorType.ALREADY_EXISTS;
+        } else if (e instanceof UnroutableFlowException) {
+            type = ErrorType.NOT_FOUND;
+            description = "Not enough bandwidth found or path not found : " + e.getMessage();
         }
+        return new MessageException(message.getCorrelationId(), System.currentTimeMillis(),
+                type, errorType, description);
     }
 
     private void handleRerouteRequest(CommandMessage message, Tuple tuple) {
@@ -25,11 +25,13 @@ import org.openkilda.model.FlowSegment;
 import org.openkilda.model.FlowStatus;
 import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchId;
+import org.openkilda.pce.BatchPathResult;
 import org.openkilda.pce.PathComputer;
 import org.openkilda.pce.PathComputerFactory;
 import org.openkilda.pce.PathPair;
 import org.openkilda.pce.exception.RecoverableException;
 import org.openkilda.pce.exception.UnroutableFlowException;
+import org.openkilda.persistence.PersistenceException;
 import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.persistence.repositories.FlowSegmentRepository;
 import org.openkilda.persistence.repositories.IslRepository;
@@ -49,8 +51,15 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 
@@ -104,8 +113,9 @@ public class FlowService extends BaseFlowService {
         FlowPairWithSegments result = transactionManager.doInTransaction(() -> {
             FlowPair flowPair = flowResourcesManager.allocateFlow(buildFlowPair(flow, pathPair));
 
-            List<FlowSegment> forwardSegments = buildFlowSegments(flowPair.getForward());
-            List<FlowSegment> reverseSegments = buildFlowSegments(flowPair.getReverse());
+            Map<SwitchId, Switch> switches = loadPathSwitches(flowPair);
+            List<FlowSegment> forwardSegments = buildFlowSegments(flowPair.getForward(), switches);
+            List<FlowSegment> reverseSegments = buildFlowSegments(flowPair.getReverse(), switches);
             List<FlowSegment> flowSegments = union(forwardSegments, reverseSegments);
 
             lockSwitches(flowSegments);
@@ -122,6 +132,124 @@ public class FlowService extends BaseFlowService {
         return result.getFlowPair();
     }
 
+    /**
+     * Creates a batch of flows. The paths are computed for the whole batch over a single snapshot of the network, and
+     * the routed flows are stored in a single transaction. If the transaction fails (e.g. the network has changed
+     * since the paths were computed), the flows of the batch are created one by one.
+     * <p/>
+     * The flows are created with IN_PROGRESS status.
+     *
+     * @param flows   the flows to be created, flow ids must be unique within the batch.
+     * @param senders the command senders for flow rules installation, by flow id.
+     * @return the created flows and the reasons of failures, by flow id.
+     */
+    public BatchCreateResult createFlows(List<Flow> flows, Map<String, FlowCommandSender> senders) {
+        Map<String, FlowPair> createdFlows = new LinkedHashMap<>();
+        Map<String, Exception> failedFlows = new LinkedHashMap<>();
+
+        Map<String, Flow> validFlows = new LinkedHashMap<>();
+        for (Flow flow : flows) {
+            if (validFlows.containsKey(flow.getFlowId())) {
+                throw new IllegalArgumentException(format("Duplicate flow %s in the batch", flow.getFlowId()));
+            }
+            try {
+                flowValidator.validate(flow);
+
+                if (doesFlowExist(flow.getFlowId())) {
+                    throw new FlowAlreadyExistException(flow.getFlowId());
+                }
+
+                flow.setStatus(FlowStatus.IN_PROGRESS);
+                validFlows.put(flow.getFlowId(), flow);
+            } catch (FlowValidationException | SwitchValidationException | FlowAlreadyExistException e) {
+                failedFlows.put(flow.getFlowId(), e);
+            }
+        }
+        if (validFlows.isEmpty()) {
+            return new BatchCreateResult(createdFlows, failedFlows);
+        }
+
+        BatchPathResult batchPaths;
+        try {
+            batchPaths = pathComputerFactory.getPathComputer().getPaths(validFlows.values(), false);
+        } catch (RecoverableException e) {
+            validFlows.keySet().forEach(flowId -> failedFlows.put(flowId, e));
+            return new BatchCreateResult(createdFlows, failedFlows);
+        }
+        failedFlows.putAll(batchPaths.getUnroutableFlows());
+
+        Map<String, PathPair> paths = batchPaths.getPaths();
+        if (!paths.isEmpty()) {
+            List<FlowPair> allocatedFlows = new ArrayList<>();
+            List<FlowPairWithSegments> result = null;
+            try {
+                result = createFlows(validFlows, paths, allocatedFlows);
+            } catch (RuntimeException e) {
+                log.warn("Failed to create the batch of {} flows, creating them one by one: {}",
+                        paths.size(), e.getMessage());
+                // The transaction has been rolled back, so release the resources allocated for the flows.
+                allocatedFlows.forEach(flowResourcesManager::deallocateFlow);
+
+                for (String flowId : paths.keySet()) {
+                    try {
+                        createdFlows.put(flowId, createFlow(validFlows.get(flowId), senders.get(flowId)));
+                    } catch (Exception ex) {
+                        failedFlows.put(flowId, ex);
+                    }
+                }
+            }
+
+            if (result != null) {
+                // To avoid race condition in DB updates, we should send commands only after DB transaction commit.
+                for (FlowPairWithSegments flowWithSegments : result) {
+                    String flowId = flowWithSegments.getFlowPair().getForward().getFlowId();
+                    try {
+                        senders.get(flowId).sendInstallRulesCommand(flowWithSegments);
+                        createdFlows.put(flowId, flowWithSegments.getFlowPair());
+                    } catch (RuntimeException e) {
+                        // The flow is already stored, so it must not be created again.
+                        log.error("Failed to send install rules command for flow {}: {}", flowId, e.getMessage(), e);
+                        failedFlows.put(flowId, e);
+                    }
+                }
+            }
+        }
+
+        return new BatchCreateResult(createdFlows, failedFlows);
+    }
+
+    private List<FlowPairWithSegments> createFlows(Map<String, Flow> flows, Map<String, PathPair> paths,
+                                                   List<FlowPair> allocatedFlows) {
+        return transactionManager.doInTransaction(() -> {
+            for (Entry<String, PathPair> entry : paths.entrySet()) {
+                Flow flow = flows.get(entry.getKey());
+                log.info("Creating the flow {} with path: {}", flow, entry.getValue());
+
+                allocatedFlows.add(flowResourcesManager.allocateFlow(buildFlowPair(flow, entry.getValue())));
+            }
+
+            Map<SwitchId, Switch> switches = loadPathSwitches(allocatedFlows);
+            List<FlowPairWithSegments> result = new ArrayList<>(allocatedFlows.size());
+            List<FlowSegment> flowSegments = new ArrayList<>();
+            for (FlowPair flowPair : allocatedFlows) {
+                List<FlowSegment> forwardSegments = buildFlowSegments(flowPair.getForward(), switches);
+                List<FlowSegment> reverseSegments = buildFlowSegments(flowPair.getReverse(), switches);
+                flowSegments.addAll(forwardSegments);
+                flowSegments.addAll(reverseSegments);
+                result.add(new FlowPairWithSegments(flowPair, forwardSegments, reverseSegments));
+            }
+
+            lockSwitches(flowSegments);
+
+            for (FlowPair flowPair : allocatedFlows) {
+                flowRepository.createOrUpdate(flowPair);
+            }
+            createFlowSegments(flowSegments);
+
+            return result;
+        });
+    }
+
     /**
      * Stores a flow and related entities into DB, and invokes flow rules installation via the command sender.
      *
@@ -139,8 +267,9 @@ public class FlowService extends BaseFlowService {
         log.info("Saving (pushing) the flow: {}", flowPair);
 
         FlowPairWithSegments result = transactionManager.doInTransaction(() -> {
-            List<FlowSegment> forwardSegments = buildFlowSegments(forward);
-            List<FlowSegment> reverseSegments = buildFlowSegments(reverse);
+            Map<SwitchId, Switch> switches = loadPathSwitches(flowPair);
+            List<FlowSegment> forwardSegments = buildFlowSegments(forward, switches);
+            List<FlowSegment> reverseSegments = buildFlowSegments(reverse, switches);
             List<FlowSegment> flowSegments = union(forwardSegments, reverseSegments);
 
             lockSwitches(flowSegments);
@@ -239,8 +368,9 @@ public class FlowService extends BaseFlowService {
 
             FlowPair newFlowWithResources = flowResourcesManager.allocateFlow(buildFlowPair(newFlow, pathPair));
 
-            List<FlowSegment> newForwardSegments = buildFlowSegments(newFlowWithResources.getForward());
-            List<FlowSegment> newReverseSegments = buildFlowSegments(newFlowWithResources.getReverse());
+            Map<SwitchId, Switch> switches = loadPathSwitches(newFlowWithResources);
+            List<FlowSegment> newForwardSegments = buildFlowSegments(newFlowWithResources.getForward(), switches);
+            List<FlowSegment> newReverseSegments = buildFlowSegments(newFlowWithResources.getReverse(), switches);
             List<FlowSegment> newFlowSegments = union(newForwardSegments, newReverseSegments);
 
             lockSwitches(union(flowSegments, newFlowSegments));
@@ -306,8 +436,9 @@ public class FlowService extends BaseFlowService {
             List<FlowSegment> reverseSegments = getFlowSegments(currentFlow.getReverse());
             List<FlowSegment> flowSegments = union(forwardSegments, reverseSegments);
 
-            List<FlowSegment> newForwardSegments = buildFlowSegments(newFlow.getForward());
-            List<FlowSegment> newReverseSegments = buildFlowSegments(newFlow.getReverse());
+            Map<SwitchId, Switch> switches = loadPathSwitches(newFlow);
+            List<FlowSegment> newForwardSegments = buildFlowSegments(newFlow.getForward(), switches);
+            List<FlowSegment> newReverseSegments = buildFlowSegments(newFlow.getReverse(), switches);
             List<FlowSegment> newFlowSegments = union(newForwardSegments, newReverseSegments);
 
             lockSwitches(union(flowSegments, newFlowSegments));
@@ -357,7 +488,30 @@ public class FlowService extends BaseFlowService {
         return FlowPair.builder().forward(forward).reverse(reverse).build();
     }
 
-    private List<FlowSegment> buildFlowSegments(Flow flow) {
+    /**
+     * Loads all switches of the flow paths in a single query.
+     */
+    private Map<SwitchId, Switch> loadPathSwitches(FlowPair flowPair) {
+        return loadPathSwitches(Collections.singletonList(flowPair));
+    }
+
+    /**
+     * Loads all switches of the paths of the flows in a single query.
+     */
+    private Map<SwitchId, Switch> loadPathSwitches(Collection<FlowPair> flowPairs) {
+        Set<SwitchId> switchIds = new HashSet<>();
+        for (FlowPair flowPair : flowPairs) {
+            for (Flow flow : Arrays.asList(flowPair.getForward(), flowPair.getReverse())) {
+                flow.getFlowPath().getNodes().forEach(node -> switchIds.add(node.getSwitchId()));
+            }
+        }
+
+        Map<SwitchId, Switch> switches = new HashMap<>();
+        switchRepository.findByIds(switchIds).forEach(sw -> switches.put(sw.getSwitchId(), sw));
+        return switches;
+    }
+
+    private List<FlowSegment> buildFlowSegments(Flow flow, Map<SwitchId, Switch> switches) {
         List<FlowSegment> segments = new ArrayList<>();
 
         List<FlowPath.Node> nodes = flow.getFlowPath().getNodes();
@@ -367,11 +521,11 @@ public class FlowService extends BaseFlowService {
 
             FlowSegment segment = FlowSegment.builder()
                     .flowId(flow.getFlowId())
-                    .srcSwitch(switchRepository.reload(Switch.builder().switchId(src.getSwitchId()).build()))
+                    .srcSwitch(getPathSwitch(switches, src.getSwitchId()))
                     .srcPort(src.getPortNo())
                     .seqId(src.getSeqId())
                     .latency(src.getSegmentLatency())
-                    .destSwitch(switchRepository.reload(Switch.builder().switchId(dst.getSwitchId()).build()))
+                    .destSwitch(getPathSwitch(switches, dst.getSwitchId()))
                     .destPort(dst.getPortNo())
                     .bandwidth(flow.getBandwidth())
                     .cookie(flow.getCookie())
@@ -384,27 +538,27 @@ public class FlowService extends BaseFlowService {
         return segments;
     }
 
+    private Switch getPathSwitch(Map<SwitchId, Switch> switches, SwitchId switchId) {
+        Switch sw = switches.get(switchId);
+        if (sw == null) {
+            throw new PersistenceException(format("Switch not found: %s", switchId));
+        }
+        return sw;
+    }
+
+    /**
+     * Stores the flow segments and recalculates available bandwidth of the ISLs they go over.
+     */
     private void createFlowSegments(List<FlowSegment> flowSegments) {
-        flowSegments.forEach(flowSegment -> {
-            log.debug("Creating the flow segment: {}", flowSegment);
+        log.debug("Creating the flow segments: {}", flowSegments);
 
-            flowSegmentRepository.createOrUpdate(flowSegment);
+        flowSegmentRepository.createOrUpdateAll(flowSegments);
 
-            updateIslAvailableBandwidth(flowSegment.getSrcSwitch().getSwitchId(), flowSegment.getSrcPort(),
-                    flowSegment.getDestSwitch().getSwitchId(), flowSegment.getDestPort());
-        });
+        updateIslAvailableBandwidth(flowSegments);
     }
 
-    private void updateIslAvailableBandwidth(SwitchId srcSwitchId, int srcPort, SwitchId dstSwitchId, int dstPort) {
-        long usedBandwidth = flowSegmentRepository.getUsedBandwidthBetweenEndpoints(
-                srcSwitchId, srcPort, dstSwitchId, dstPort);
-
-        islRepository.findByEndpoints(srcSwitchId, srcPort, dstSwitchId, dstPort)
-                .ifPresent(isl -> {
-                    isl.setAvailableBandwidth(isl.getMaxBandwidth() - usedBandwidth);
-
-                    islRepository.createOrUpdate(isl);
-                });
+    private void updateIslAvailableBandwidth(List<FlowSegment> flowSegments) {
+        islRepository.updateAvailableBandwidth(flowSegments);
     }
 
     private List<FlowSegment> getFlowSegments(Flow flow) {
@@ -412,14 +566,11 @@ public class FlowService extends BaseFlowService {
     }
 
     private void deleteFlowSegments(List<FlowSegment> flowSegments) {
-        flowSegments.forEach(segment -> {
-            log.debug("Deleting the flow segment: {}", segment);
+        log.debug("Deleting the flow segments: {}", flowSegments);
 
-            flowSegmentRepository.delete(segment);
+        flowSegmentRepository.deleteAll(flowSegments);
 
-            updateIslAvailableBandwidth(segment.getSrcSwitch().getSwitchId(), segment.getSrcPort(),
-                    segment.getDestSwitch().getSwitchId(), segment.getDestPort());
-        });
+        updateIslAvailableBandwidth(flowSegments);
     }
 
     private void lockSwitches(List<FlowSegment> flowSegments) {
@@ -434,4 +585,11 @@ public class FlowService extends BaseFlowService {
         FlowPair oldFlow;
         FlowPair newFlow;
     }
+
+    @Value
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class BatchCreateResult {
+        Map<String, FlowPair> createdFlows;
+        Map<String, Exception> failedFlows;
+    }
 }
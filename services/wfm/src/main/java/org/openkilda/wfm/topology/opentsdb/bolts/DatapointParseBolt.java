@@ -18,7 +18,9 @@ package org.openkilda.wfm.topology.opentsdb.bolts;
 import static org.openkilda.messaging.Utils.MAPPER;
 
 import org.openkilda.messaging.info.Datapoint;
+import org.openkilda.messaging.info.DatapointEntries;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.apache.storm.task.OutputCollector;
 import org.apache.storm.task.TopologyContext;
 import org.apache.storm.topology.OutputFieldsDeclarer;
@@ -47,10 +49,13 @@ public class DatapointParseBolt extends BaseRichBolt {
         final String data = tuple.getString(0);
         LOGGER.debug("Processing datapoint: " + data);
         try {
-            Datapoint datapoint = MAPPER.readValue(data, Datapoint.class);
-            List<Object> stream = Stream.of(datapoint.simpleHashCode(), datapoint)
-                    .collect(Collectors.toList());
-            collector.emit(stream);
+            JsonNode node = MAPPER.readTree(data);
+            if (node.has(DatapointEntries.DATAPOINTS_FIELD)) {
+                DatapointEntries entries = MAPPER.treeToValue(node, DatapointEntries.class);
+                entries.getDatapoints().forEach(this::emit);
+            } else {
+                emit(MAPPER.treeToValue(node, Datapoint.class));
+            }
         } catch (Exception e) {
             LOGGER.error("Failed reading data: " + data, e);
         } finally {
@@ -58,6 +63,12 @@ public class DatapointParseBolt extends BaseRichBolt {
         }
     }
 
+    private void emit(Datapoint datapoint) {
+        List<Object> stream = Stream.of(datapoint.simpleHashCode(), datapoint)
+                .collect(Collectors.toList());
+        collector.emit(stream);
+    }
+
     @Override
     public void declareOutputFields(OutputFieldsDeclarer declarer) {
         declarer.declare(new Fields("hash", "datapoint"));
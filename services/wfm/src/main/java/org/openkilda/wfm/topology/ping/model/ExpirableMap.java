@@ -13,23 +13,38 @@
  *   limitations under the License.
  */
 
+
 package org.openkilda.wfm.topology.ping.model;
 
-import java.util.HashMap;
-import java.util.LinkedList;
+import org.openkilda.wfm.share.utils.TimingWheel;
+
 import java.util.List;
+import java.util.stream.Collectors;
 
+/**
+ * Map of records which expire at {@link Expirable#getExpireAt()}. Records are kept in a {@link TimingWheel}, so
+ * adding and removing a record takes constant time and a removed record doesn't linger until its expiration.
+ */
 public class ExpirableMap<K, V extends Expirable<K>> {
-    private final LinkedList<V> queue = new LinkedList<>();
-    private final HashMap<K, V> map = new HashMap<>();
+    private final TimingWheel<K, V> wheel;
+
+    public ExpirableMap() {
+        this(System.currentTimeMillis());
+    }
+
+    /**
+     * Creates the map for records which expire after the given time.
+     */
+    public ExpirableMap(long now) {
+        wheel = new TimingWheel<>(now);
+    }
 
     public V put(K key, V value) {
-        queue.addLast(value);
-        return map.put(key, value);
+        return wheel.schedule(key, value, value.getExpireAt());
     }
 
     public V get(K key) {
-        return map.get(key);
+        return wheel.get(key);
     }
 
     public void add(V value) {
@@ -40,21 +55,20 @@ public class ExpirableMap<K, V extends Expirable<K>> {
      * Add record if there is no record with same key.
      */
     public V addIfAbsent(V value) {
-        K key = value.getExpirableKey();
-        V current = map.putIfAbsent(key, value);
-        if (current == null) {
-            current = value;
-            queue.addLast(value);
+        V current = wheel.get(value.getExpirableKey());
+        if (current != null) {
+            return current;
         }
 
-        return current;
+        put(value.getExpirableKey(), value);
+        return value;
     }
 
     /**
      * Remove record be key.
      */
     public V remove(K key) {
-        V value = map.remove(key);
+        V value = wheel.cancel(key);
         if (value != null) {
             value.setActive(false);
         }
@@ -62,31 +76,15 @@ public class ExpirableMap<K, V extends Expirable<K>> {
     }
 
     /**
-     * Iterate over list until meet not expired record. Remove passed records.
+     * Remove all records expired by the edge. Inactive records are removed, but not returned.
      */
     public List<V> expire(long edge) {
-        LinkedList<V> removed = new LinkedList<>();
-
-        while (! queue.isEmpty()) {
-            V value = queue.getFirst();
-
-            if (edge < value.getExpireAt()) {
-                break;
-            }
-
-            queue.removeFirst();
-            map.remove(value.getExpirableKey());
-            if (!value.isActive()) {
-                continue;
-            }
-
-            removed.addLast(value);
-        }
-
-        return removed;
+        return wheel.advance(edge).stream()
+                .filter(Expirable::isActive)
+                .collect(Collectors.toList());
     }
 
     public int size() {
-        return map.size();
+        return wheel.size();
     }
 }
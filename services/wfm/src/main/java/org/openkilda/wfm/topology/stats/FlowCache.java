@@ -0,0 +1,104 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.stats;
+
+import org.openkilda.model.SwitchId;
+import org.openkilda.persistence.repositories.FlowRepository;
+import org.openkilda.wfm.share.utils.LongObjectHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cookie to flow and meter to flow maps. Every task resolving flow stats keeps its own copy, which is loaded from the
+ * database on start and then updated by the flow commands sent to the speaker.
+ */
+@Slf4j
+public class FlowCache {
+    private final LongObjectHashMap<CacheFlowEntry> cookieToFlow = new LongObjectHashMap<>();
+    private final Map<MeterCacheKey, CacheFlowEntry> switchAndMeterToFlow = new HashMap<>();
+
+    /**
+     * Loads all flows from the repository.
+     */
+    public void load(FlowRepository flowRepository) {
+        try {
+            flowRepository.findAll().forEach(
+                    flow -> {
+                        CacheFlowEntry entry = new CacheFlowEntry(
+                                flow.getFlowId(),
+                                flow.getSrcSwitch().getSwitchId().toOtsdFormat(),
+                                flow.getDestSwitch().getSwitchId().toOtsdFormat(),
+                                flow.getCookie());
+
+                        cookieToFlow.put(flow.getCookie(), entry);
+                        if (flow.getMeterId() != null) {
+                            switchAndMeterToFlow.put(
+                                    new MeterCacheKey(
+                                            flow.getSrcSwitch().getSwitchId(), new Long(flow.getMeterId())), entry);
+                        } else {
+                            log.warn("Flow {} has no meter ID", flow.getFlowId());
+                        }
+                    }
+            );
+            log.debug("cookieToFlow cache: {}, switchAndMeterToFlow cache: {}", cookieToFlow, switchAndMeterToFlow);
+            log.info("Stats Cache: Initialized with {} cookies", cookieToFlow.size());
+        } catch (Exception ex) {
+            log.error("Error on initFlowCache", ex);
+        }
+    }
+
+    public CacheFlowEntry getByCookie(long cookie) {
+        return cookieToFlow.get(cookie);
+    }
+
+    public CacheFlowEntry getByMeter(SwitchId switchId, long meterId) {
+        return switchAndMeterToFlow.get(new MeterCacheKey(switchId, meterId));
+    }
+
+    /**
+     * Updates the entries of the flow rule installed on the switch.
+     */
+    public void update(Long cookie, Long meterId, String flowId, SwitchId switchId, MeasurePoint measurePoint) {
+        CacheFlowEntry current = cookieToFlow.get(cookie);
+        if (current == null) {
+            current = new CacheFlowEntry(flowId, cookie);
+        }
+        cookieToFlow.put(cookie, current.replaceSwitch(switchId.toOtsdFormat(), measurePoint));
+
+        MeterCacheKey key = new MeterCacheKey(switchId, meterId);
+        CacheFlowEntry currentMeter = switchAndMeterToFlow.get(key);
+        if (currentMeter == null) {
+            switchAndMeterToFlow.put(key, new CacheFlowEntry(flowId, cookie));
+        } else {
+            switchAndMeterToFlow.put(key, currentMeter.replaceCookie(cookie));
+        }
+    }
+
+    /**
+     * Removes the entries of the flow rule removed from the switch.
+     */
+    public void remove(Long cookie, Long meterId, SwitchId switchId) {
+        cookieToFlow.remove(cookie);
+        switchAndMeterToFlow.remove(new MeterCacheKey(switchId, meterId));
+    }
+
+    public int size() {
+        return cookieToFlow.size();
+    }
+}
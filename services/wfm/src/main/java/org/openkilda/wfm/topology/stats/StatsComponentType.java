@@ -27,7 +27,6 @@ public enum StatsComponentType {
     SYSTEM_RULE_STATS_METRIC_GEN,
     FLOW_STATS_METRIC_GEN,
     ERROR_BOLT,
-    STATS_CACHE_BOLT,
     STATS_KILDA_SPEAKER_SPOUT,
     STATS_CACHE_FILTER_BOLT
 }
@@ -20,18 +20,15 @@ import static org.openkilda.wfm.topology.stats.StatsComponentType.FLOW_STATS_MET
 import static org.openkilda.wfm.topology.stats.StatsComponentType.METER_CFG_STATS_METRIC_GEN;
 import static org.openkilda.wfm.topology.stats.StatsComponentType.METER_STATS_METRIC_GEN;
 import static org.openkilda.wfm.topology.stats.StatsComponentType.PORT_STATS_METRIC_GEN;
-import static org.openkilda.wfm.topology.stats.StatsComponentType.STATS_CACHE_BOLT;
 import static org.openkilda.wfm.topology.stats.StatsComponentType.STATS_CACHE_FILTER_BOLT;
 import static org.openkilda.wfm.topology.stats.StatsComponentType.STATS_KILDA_SPEAKER_SPOUT;
 import static org.openkilda.wfm.topology.stats.StatsComponentType.SYSTEM_RULE_STATS_METRIC_GEN;
 import static org.openkilda.wfm.topology.stats.StatsStreamType.CACHE_UPDATE;
-import static org.openkilda.wfm.topology.stats.bolts.CacheBolt.statsWithCacheFields;
 
 import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.persistence.spi.PersistenceProvider;
 import org.openkilda.wfm.LaunchEnvironment;
 import org.openkilda.wfm.topology.AbstractTopology;
-import org.openkilda.wfm.topology.stats.bolts.CacheBolt;
 import org.openkilda.wfm.topology.stats.bolts.CacheFilterBolt;
 import org.openkilda.wfm.topology.stats.bolts.SpeakerBolt;
 import org.openkilda.wfm.topology.stats.metrics.FlowMetricGenBolt;
@@ -89,17 +86,14 @@ public class StatsTopology extends AbstractTopology<StatsTopologyConfig> {
         builder.setSpout(STATS_KILDA_SPEAKER_SPOUT.name(), kafkaSpeakerSpout, parallelism);
 
         // CacheFilterBolt catch data from kilda.speaker spout and tried to find InstallEgressFlow
-        // or InstallOneSwitchFlow and throw tuple to CacheBolt
+        // or InstallOneSwitchFlow and throw tuple to the flow caches of metric gen bolts
         builder.setBolt(STATS_CACHE_FILTER_BOLT.name(), new CacheFilterBolt(),
                 parallelism)
                 .shuffleGrouping(STATS_KILDA_SPEAKER_SPOUT.name());
 
-        // Cache bolt get data from NEO4J on start
+        // Flow and meter metric gen bolts load their flow caches from NEO4J on start
         PersistenceManager persistenceManager =
                 PersistenceProvider.getInstance().createPersistenceManager(configurationProvider);
-        builder.setBolt(STATS_CACHE_BOLT.name(), new CacheBolt(persistenceManager), parallelism)
-                .allGrouping(STATS_CACHE_FILTER_BOLT.name(), CACHE_UPDATE.name())
-                .fieldsGrouping(statsOfsBolt, StatsStreamType.CACHE_DATA.toString(), statsFields);
 
         builder.setBolt(PORT_STATS_METRIC_GEN.name(), new PortMetricGenBolt(), parallelism)
                 .fieldsGrouping(statsOfsBolt, StatsStreamType.PORT_STATS.toString(), fieldMessage);
@@ -109,10 +103,12 @@ public class StatsTopology extends AbstractTopology<StatsTopologyConfig> {
                 .fieldsGrouping(statsOfsBolt, StatsStreamType.SYSTEM_RULE_STATS.toString(), statsFields);
 
         logger.debug("starting flow_stats_metric_gen");
-        builder.setBolt(FLOW_STATS_METRIC_GEN.name(), new FlowMetricGenBolt(), parallelism)
-                .fieldsGrouping(STATS_CACHE_BOLT.name(), StatsStreamType.FLOW_STATS.toString(), statsWithCacheFields);
-        builder.setBolt(METER_STATS_METRIC_GEN.name(), new MeterStatsMetricGenBolt(), parallelism)
-                .fieldsGrouping(STATS_CACHE_BOLT.name(), StatsStreamType.METER_STATS.toString(), statsWithCacheFields);
+        builder.setBolt(FLOW_STATS_METRIC_GEN.name(), new FlowMetricGenBolt(persistenceManager), parallelism)
+                .allGrouping(STATS_CACHE_FILTER_BOLT.name(), CACHE_UPDATE.name())
+                .fieldsGrouping(statsOfsBolt, StatsStreamType.FLOW_STATS.toString(), statsFields);
+        builder.setBolt(METER_STATS_METRIC_GEN.name(), new MeterStatsMetricGenBolt(persistenceManager), parallelism)
+                .allGrouping(STATS_CACHE_FILTER_BOLT.name(), CACHE_UPDATE.name())
+                .fieldsGrouping(statsOfsBolt, StatsStreamType.METER_STATS.toString(), statsFields);
 
         String openTsdbTopic = topologyConfig.getKafkaOtsdbTopic();
         builder.setBolt("stats-opentsdb", createKafkaBolt(openTsdbTopic))
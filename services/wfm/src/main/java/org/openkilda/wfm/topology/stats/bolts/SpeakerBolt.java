@@ -50,7 +50,8 @@ public class SpeakerBolt extends BaseRichBolt {
     private static final Logger logger = LoggerFactory.getLogger(SpeakerBolt.class);
     private static final String PORT_STATS_STREAM = StatsStreamType.PORT_STATS.toString();
     private static final String METER_CFG_STATS_STREAM = StatsStreamType.METER_CONFIG_STATS.toString();
-    private static final String CACHE_STREAM = StatsStreamType.CACHE_DATA.toString();
+    private static final String METER_STATS_STREAM = StatsStreamType.METER_STATS.toString();
+    private static final String FLOW_STATS_STREAM = StatsStreamType.FLOW_STATS.toString();
     private static final String SYSTEM_RULES_STATS_STREAM = StatsStreamType.SYSTEM_RULE_STATS.toString();
 
     private OutputCollector outputCollector;
@@ -77,7 +78,7 @@ public class SpeakerBolt extends BaseRichBolt {
                 outputCollector.emit(METER_CFG_STATS_STREAM, tuple, new Values(message));
             } else if (data instanceof MeterStatsData) {
                 logger.debug("Meter stats message: {}", new Values(request));
-                outputCollector.emit(CACHE_STREAM, tuple, new Values(data, message.getTimestamp()));
+                outputCollector.emit(METER_STATS_STREAM, tuple, new Values(data, message.getTimestamp()));
             } else if (data instanceof FlowStatsData) {
                 logger.debug("Flow stats message: {}", new Values(request));
                 ImmutablePair<FlowStatsData, FlowStatsData> splitData =
@@ -85,7 +86,7 @@ public class SpeakerBolt extends BaseRichBolt {
 
                 outputCollector.emit(SYSTEM_RULES_STATS_STREAM, tuple,
                         new Values(splitData.getKey(), message.getTimestamp()));
-                outputCollector.emit(CACHE_STREAM, tuple,
+                outputCollector.emit(FLOW_STATS_STREAM, tuple,
                         new Values(splitData.getValue(), message.getTimestamp()));
             }
         } catch (IOException exception) {
@@ -120,7 +121,8 @@ public class SpeakerBolt extends BaseRichBolt {
     public void declareOutputFields(OutputFieldsDeclarer outputFieldsDeclarer) {
         outputFieldsDeclarer.declareStream(PORT_STATS_STREAM, fieldMessage);
         outputFieldsDeclarer.declareStream(METER_CFG_STATS_STREAM, fieldMessage);
-        outputFieldsDeclarer.declareStream(CACHE_STREAM, StatsTopology.statsFields);
+        outputFieldsDeclarer.declareStream(METER_STATS_STREAM, StatsTopology.statsFields);
+        outputFieldsDeclarer.declareStream(FLOW_STATS_STREAM, StatsTopology.statsFields);
         outputFieldsDeclarer.declareStream(SYSTEM_RULES_STATS_STREAM, StatsTopology.statsFields);
     }
 
@@ -0,0 +1,89 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.stats.metrics;
+
+import static org.openkilda.wfm.topology.stats.StatsComponentType.STATS_CACHE_FILTER_BOLT;
+
+import org.openkilda.model.SwitchId;
+import org.openkilda.persistence.PersistenceManager;
+import org.openkilda.wfm.error.AbstractException;
+import org.openkilda.wfm.topology.stats.FlowCache;
+import org.openkilda.wfm.topology.stats.MeasurePoint;
+import org.openkilda.wfm.topology.stats.bolts.CacheFilterBolt.Commands;
+import org.openkilda.wfm.topology.stats.bolts.CacheFilterBolt.FieldsNames;
+
+import org.apache.storm.tuple.Tuple;
+
+/**
+ * Base metric bolt for stats that have to be resolved to flows. Every task keeps its own {@link FlowCache} and
+ * receives all cache updates, so stats tuples don't need to carry the cache entries.
+ */
+public abstract class FlowCacheMetricGenBolt extends MetricGenBolt {
+    private final PersistenceManager persistenceManager;
+
+    protected transient FlowCache flowCache;
+
+    protected FlowCacheMetricGenBolt(PersistenceManager persistenceManager) {
+        this.persistenceManager = persistenceManager;
+    }
+
+    @Override
+    protected void init() {
+        flowCache = new FlowCache();
+        flowCache.load(persistenceManager.getRepositoryFactory().createFlowRepository());
+    }
+
+    @Override
+    protected void handleInput(Tuple input) throws AbstractException {
+        if (STATS_CACHE_FILTER_BOLT.name().equals(input.getSourceComponent())) {
+            handleUpdateCache(input);
+        } else {
+            handleStats(input);
+        }
+    }
+
+    protected abstract void handleStats(Tuple input) throws AbstractException;
+
+    /**
+     * Called once the flow rule has been removed from the switch, so the data kept for the rule can be dropped.
+     */
+    protected void handleFlowRuleRemoved(SwitchId switchId, long cookie) { }
+
+    private void handleUpdateCache(Tuple tuple) {
+        Long cookie = tuple.getLongByField(FieldsNames.COOKIE.name());
+        Long meterId = tuple.getLongByField(FieldsNames.METER.name());
+        String flow = tuple.getStringByField(FieldsNames.FLOW.name());
+        SwitchId switchId = new SwitchId(tuple.getValueByField(FieldsNames.SWITCH.name()).toString());
+
+        Commands command = (Commands) tuple.getValueByField(FieldsNames.COMMAND.name());
+        MeasurePoint measurePoint = (MeasurePoint) tuple.getValueByField(FieldsNames.MEASURE_POINT.name());
+
+        switch (command) {
+            case UPDATE:
+                flowCache.update(cookie, meterId, flow, switchId, measurePoint);
+                break;
+            case REMOVE:
+                flowCache.remove(cookie, meterId, switchId);
+                handleFlowRuleRemoved(switchId, cookie);
+                break;
+            default:
+                log.error("invalid command");
+                break;
+        }
+
+        log.debug("updated flow cache, {} cookies", flowCache.size());
+    }
+}
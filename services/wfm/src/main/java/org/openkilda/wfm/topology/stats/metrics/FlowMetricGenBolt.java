@@ -17,16 +17,17 @@ package org.openkilda.wfm.topology.stats.metrics;
 
 import static org.openkilda.messaging.Utils.TIMESTAMP;
 import static org.openkilda.wfm.topology.stats.StatsTopology.STATS_FIELD;
-import static org.openkilda.wfm.topology.stats.bolts.CacheBolt.COOKIE_CACHE_FIELD;
 
 import org.openkilda.messaging.info.stats.FlowStatsData;
 import org.openkilda.messaging.info.stats.FlowStatsEntry;
 import org.openkilda.model.SwitchId;
+import org.openkilda.persistence.PersistenceManager;
 import org.openkilda.wfm.error.AbstractException;
+import org.openkilda.wfm.share.utils.LongObjectHashMap;
 import org.openkilda.wfm.topology.stats.CacheFlowEntry;
 import org.openkilda.wfm.topology.stats.FlowCookieException;
-import org.openkilda.wfm.topology.stats.FlowDirectionHelper;
 
+import com.google.common.annotations.VisibleForTesting;
 import org.apache.storm.tuple.Tuple;
 
 import java.util.HashMap;
@@ -37,44 +38,89 @@ import javax.annotation.Nullable;
 /**
  * The type Flow metric gen bolt.
  */
-public class FlowMetricGenBolt extends MetricGenBolt {
+public class FlowMetricGenBolt extends FlowCacheMetricGenBolt {
+    private static final String UNKNOWN_FLOW_ID = "unknown";
+
+    /**
+     * Tag sets of the flow rules by switch and cookie, reused between stats replies. The tags are dropped once the
+     * rule is removed from the switch, the tags of the rules with unknown flow are not kept.
+     */
+    private transient Map<SwitchId, LongObjectHashMap<FlowStatsTags>> tagsCache;
+
+    public FlowMetricGenBolt(PersistenceManager persistenceManager) {
+        super(persistenceManager);
+    }
 
     @Override
-    protected void handleInput(Tuple input) throws AbstractException {
-        Map<Long, CacheFlowEntry> dataCache = (Map<Long, CacheFlowEntry>) input.getValueByField(COOKIE_CACHE_FIELD);
-        log.debug("dataCache in FlowMetricGenBolt {}", dataCache);
+    protected void init() {
+        super.init();
+        tagsCache = new HashMap<>();
+    }
 
+    @Override
+    protected void handleStats(Tuple input) throws AbstractException {
         FlowStatsData data = (FlowStatsData) input.getValueByField(STATS_FIELD);
         long timestamp = input.getLongByField(TIMESTAMP);
         SwitchId switchId = data.getSwitchId();
+        String otsdbSwitchId = switchId.toOtsdFormat();
+        LongObjectHashMap<FlowStatsTags> switchTags = tagsCache.computeIfAbsent(
+                switchId, ignore -> new LongObjectHashMap<>(data.getStats().size()));
 
         for (FlowStatsEntry entry : data.getStats()) {
-            @Nullable CacheFlowEntry flowEntry = dataCache.get(entry.getCookie());
-            emit(entry, timestamp, switchId, flowEntry);
+            @Nullable CacheFlowEntry flowEntry = flowCache.getByCookie(entry.getCookie());
+            emit(entry, timestamp, switchId, otsdbSwitchId, switchTags, flowEntry);
         }
     }
 
-    private void emit(FlowStatsEntry entry, long timestamp, @Nonnull SwitchId switchId,
-                      @Nullable CacheFlowEntry flowEntry) throws FlowCookieException {
-        String flowId = "unknown";
+    @Override
+    protected void handleFlowRuleRemoved(SwitchId switchId, long cookie) {
+        LongObjectHashMap<FlowStatsTags> switchTags = tagsCache.get(switchId);
+        if (switchTags != null) {
+            switchTags.remove(cookie);
+            if (switchTags.isEmpty()) {
+                tagsCache.remove(switchId);
+            }
+        }
+    }
+
+    @VisibleForTesting
+    int getCachedTagsCount() {
+        return tagsCache.values().stream()
+                .mapToInt(LongObjectHashMap::size)
+                .sum();
+    }
+
+    private void emit(FlowStatsEntry entry, long timestamp, @Nonnull SwitchId switchId, String otsdbSwitchId,
+                      LongObjectHashMap<FlowStatsTags> switchTags, @Nullable CacheFlowEntry flowEntry)
+            throws FlowCookieException {
+        String flowId = UNKNOWN_FLOW_ID;
         if (flowEntry != null) {
             flowId = flowEntry.getFlowId();
         } else {
             log.warn("missed cache for sw {} cookie {}", switchId, entry.getCookie());
         }
 
-        emitAnySwitchMetrics(entry, timestamp, switchId, flowId);
+        FlowStatsTags tags = switchTags.get(entry.getCookie());
+        if (tags == null || !tags.matches(entry.getTableId(), flowId)) {
+            tags = FlowStatsTags.create(otsdbSwitchId, entry.getCookie(), entry.getTableId(), flowId);
+            if (flowEntry != null) {
+                switchTags.put(entry.getCookie(), tags);
+            } else {
+                // No rule removal is expected for an unknown flow, so the tags would never be dropped.
+                switchTags.remove(entry.getCookie());
+            }
+        }
+
+        emitAnySwitchMetrics(entry, timestamp, tags.getRuleTags());
 
         if (flowEntry != null) {
-            Map<String, String> flowTags = makeFlowTags(entry, flowEntry.getFlowId());
-
             boolean isMatch = false;
-            if (switchId.toOtsdFormat().equals(flowEntry.getIngressSwitch())) {
-                emitIngressMetrics(entry, timestamp, flowTags);
+            if (otsdbSwitchId.equals(flowEntry.getIngressSwitch())) {
+                emitIngressMetrics(entry, timestamp, tags.getFlowTags());
                 isMatch = true;
             }
-            if (switchId.toOtsdFormat().equals(flowEntry.getEgressSwitch())) {
-                emitEgressMetrics(entry, timestamp, flowTags);
+            if (otsdbSwitchId.equals(flowEntry.getEgressSwitch())) {
+                emitEgressMetrics(entry, timestamp, tags.getFlowTags());
                 isMatch = true;
             }
 
@@ -86,15 +132,7 @@ public class FlowMetricGenBolt extends MetricGenBolt {
         }
     }
 
-    private void emitAnySwitchMetrics(FlowStatsEntry entry, long timestamp, SwitchId switchId, String flowId)
-            throws FlowCookieException {
-        Map<String, String> tags = new HashMap<>();
-        tags.put("switchid", switchId.toOtsdFormat());
-        tags.put("cookie", String.valueOf(entry.getCookie()));
-        tags.put("tableid", String.valueOf(entry.getTableId()));
-        tags.put("flowid", flowId);
-        tags.put("direction", FlowDirectionHelper.findDirection(entry.getCookie()).name().toLowerCase());
-
+    private void emitAnySwitchMetrics(FlowStatsEntry entry, long timestamp, Map<String, String> tags) {
         emitMetric("pen.flow.raw.packets", timestamp, entry.getPacketCount(), tags);
         emitMetric("pen.flow.raw.bytes", timestamp, entry.getByteCount(), tags);
         emitMetric("pen.flow.raw.bits", timestamp, entry.getByteCount() * 8, tags);
@@ -111,12 +149,4 @@ public class FlowMetricGenBolt extends MetricGenBolt {
         emitMetric("pen.flow.bytes", timestamp, entry.getByteCount(), tags);
         emitMetric("pen.flow.bits", timestamp, entry.getByteCount() * 8, tags);
     }
-
-    private Map<String, String> makeFlowTags(FlowStatsEntry entry, String flowId) throws FlowCookieException {
-        Map<String, String> tags = new HashMap<>();
-        tags.put("flowid", flowId);
-        tags.put("direction", FlowDirectionHelper.findDirection(entry.getCookie()).name().toLowerCase());
-
-        return tags;
-    }
 }
@@ -0,0 +1,63 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.stats.metrics;
+
+import org.openkilda.wfm.topology.stats.FlowCookieException;
+import org.openkilda.wfm.topology.stats.FlowDirectionHelper;
+
+import com.google.common.collect.ImmutableMap;
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * Immutable tag sets of a flow rule on a switch. The tags depend only on the switch, the cookie, the table and the
+ * flow, so they are built once and shared by all datapoints produced for the rule.
+ */
+@Value
+class FlowStatsTags {
+    private final String flowId;
+    private final int tableId;
+
+    /**
+     * Tags of the metrics collected on any switch of the flow path.
+     */
+    private final Map<String, String> ruleTags;
+
+    /**
+     * Tags of the metrics collected on the ingress and egress switches.
+     */
+    private final Map<String, String> flowTags;
+
+    static FlowStatsTags create(String switchId, long cookie, int tableId, String flowId)
+            throws FlowCookieException {
+        String direction = FlowDirectionHelper.findDirection(cookie).name().toLowerCase();
+        Map<String, String> ruleTags = ImmutableMap.of(
+                "switchid", switchId,
+                "cookie", String.valueOf(cookie),
+                "tableid", String.valueOf(tableId),
+                "flowid", flowId,
+                "direction", direction);
+        Map<String, String> flowTags = ImmutableMap.of(
+                "flowid", flowId,
+                "direction", direction);
+        return new FlowStatsTags(flowId, tableId, ruleTags, flowTags);
+    }
+
+    boolean matches(int tableId, String flowId) {
+        return this.tableId == tableId && this.flowId.equals(flowId);
+    }
+}
@@ -17,36 +17,70 @@ package org.openkilda.wfm.topology.stats.metrics;
 
 import org.openkilda.messaging.Utils;
 import org.openkilda.messaging.info.Datapoint;
+import org.openkilda.messaging.info.DatapointEntries;
 import org.openkilda.wfm.AbstractBolt;
 import org.openkilda.wfm.error.JsonEncodeException;
 import org.openkilda.wfm.topology.AbstractTopology;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import org.apache.storm.topology.OutputFieldsDeclarer;
+import org.apache.storm.tuple.Tuple;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Base bolt for metrics producers. Datapoints produced while handling a single input tuple are collected and emitted
+ * as {@link DatapointEntries} batches (at most {@link #MAX_BATCH_SIZE} datapoints each) instead of one tuple (and one
+ * kafka message) per datapoint.
+ */
 public abstract class MetricGenBolt extends AbstractBolt {
+    static final int MAX_BATCH_SIZE = 256;
+
+    private transient List<Datapoint> batch;
 
-    protected static List<Object> tuple(String metric, long timestamp, Number value, Map<String, String> tag)
-            throws JsonEncodeException {
-        Datapoint datapoint = new Datapoint(metric, timestamp, tag, value);
+    protected static List<Object> tuple(List<Datapoint> datapoints) throws JsonEncodeException {
+        DatapointEntries entries = new DatapointEntries(datapoints);
         String json;
         try {
-            json = Utils.MAPPER.writeValueAsString(datapoint);
+            json = Utils.MAPPER.writeValueAsString(entries);
         } catch (JsonProcessingException e) {
-            throw new JsonEncodeException(datapoint, e);
+            throw new JsonEncodeException(entries, e);
         }
         return Collections.singletonList(json);
     }
 
+    @Override
+    public void execute(Tuple input) {
+        try {
+            super.execute(input);
+        } finally {
+            flushMetrics();
+        }
+    }
+
     void emitMetric(String metric, long timestamp, Number value, Map<String, String> tag) {
+        if (batch == null) {
+            batch = new ArrayList<>(MAX_BATCH_SIZE);
+        }
+        batch.add(new Datapoint(metric, timestamp, tag, value));
+        if (batch.size() >= MAX_BATCH_SIZE) {
+            flushMetrics();
+        }
+    }
+
+    private void flushMetrics() {
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
         try {
-            getOutput().emit(tuple(metric, timestamp, value, tag));
+            getOutput().emit(tuple(batch));
         } catch (JsonEncodeException e) {
-            log.error("Error during serialization of datapoint", e);
+            log.error("Error during serialization of datapoints", e);
+        } finally {
+            batch.clear();
         }
     }
 
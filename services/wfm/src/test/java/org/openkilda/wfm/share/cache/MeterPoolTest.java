@@ -16,6 +16,7 @@
 package org.openkilda.wfm.share.cache;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -51,6 +52,22 @@ public class MeterPoolTest {
         assertEquals(4, pool.dumpPool().size());
     }
 
+    @Test
+    public void meterPoolExplicitAllocationTest() {
+        MeterPool pool = new MeterPool(1, 4);
+        assertEquals(Integer.valueOf(3), pool.allocate(3));
+        assertNull(pool.allocate(3));
+
+        assertEquals(1, (int) pool.allocate());
+        assertEquals(2, (int) pool.allocate());
+        assertEquals(4, (int) pool.allocate());
+
+        assertEquals(Integer.valueOf(3), pool.deallocate(3));
+        assertNull(pool.deallocate(3));
+        assertEquals(3, (int) pool.allocate());
+        assertEquals(4, pool.dumpPool().size());
+    }
+
     @Test(expected = MeterPoolIsFullException.class)
     public void meterPoolFullTest() {
         MeterPool pool = new MeterPool(1, 1);
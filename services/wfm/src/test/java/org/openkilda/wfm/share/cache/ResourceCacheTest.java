@@ -32,9 +32,18 @@ import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class ResourceCacheTest {
     private static final SwitchId SWITCH_ID = new SwitchId("ff:00");
@@ -231,4 +240,45 @@ public class ResourceCacheTest {
         first = resourceCache.allocateMeterId(SWITCH_ID);
         assertEquals(m1 + 1, first);
     }
+
+    @Test
+    public void shouldNotAllocateDuplicateMeterIdsConcurrently() throws Exception {
+        List<SwitchId> switches = Arrays.asList(SWITCH_ID, SWITCH_ID_2);
+        Map<SwitchId, Set<Integer>> allocated = new HashMap<>();
+        switches.forEach(switchId -> allocated.put(switchId, ConcurrentHashMap.newKeySet()));
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            Random random = new Random(thread);
+            results.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 500; i++) {
+                    SwitchId switchId = switches.get(random.nextInt(switches.size()));
+                    int meterId = resourceCache.allocateMeterId(switchId);
+                    assertTrue(format("Meter %d is allocated twice on %s", meterId, switchId),
+                            allocated.get(switchId).add(meterId));
+
+                    if (random.nextBoolean()) {
+                        // Forget the meter before it can be allocated again by another thread.
+                        allocated.get(switchId).remove(meterId);
+                        assertEquals(meterId, (int) resourceCache.deallocateMeterId(switchId, meterId));
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get();
+        }
+        executor.shutdown();
+
+        for (SwitchId switchId : switches) {
+            assertEquals(allocated.get(switchId), resourceCache.getAllMeterIds(switchId));
+        }
+    }
 }
@@ -0,0 +1,106 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.cache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures allocation and deallocation in the cookie pool filled to the specified percent with randomly scattered
+ * ids. Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.openkilda.wfm.share.cache.ResourcePoolBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourcePoolBenchmark {
+    @Param({"10", "90", "99"})
+    public int fillPercent;
+
+    private ResourcePool pool;
+    private int[] allocatedIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void fillPool() {
+        List<Integer> ids = new ArrayList<>();
+        for (int id = ResourceCache.MIN_COOKIE; id <= ResourceCache.MAX_COOKIE; id++) {
+            ids.add(id);
+        }
+        Collections.shuffle(ids, new Random(42L));
+
+        pool = new ResourcePool(ResourceCache.MIN_COOKIE, ResourceCache.MAX_COOKIE);
+        int count = (int) ((long) ids.size() * fillPercent / 100);
+        allocatedIds = new int[count];
+        for (int i = 0; i < count; i++) {
+            allocatedIds[i] = pool.allocate(ids.get(i));
+        }
+    }
+
+    /**
+     * Allocates the next free id and releases it, so the fill stays the same.
+     */
+    @Benchmark
+    public int allocateAndDeallocate() {
+        int id = pool.allocate();
+        pool.deallocate(id);
+        return id;
+    }
+
+    /**
+     * Releases an allocated id and allocates the next free one, which is not necessarily the same id.
+     */
+    @Benchmark
+    public int deallocateAndAllocate() {
+        int index = next;
+        next = (next + 1) % allocatedIds.length;
+        pool.deallocate(allocatedIds[index]);
+        allocatedIds[index] = pool.allocate();
+        return allocatedIds[index];
+    }
+
+    @Benchmark
+    public Set<Integer> dumpPool() {
+        return pool.dumpPool();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ResourcePoolBenchmark.class.getSimpleName()).build()).run();
+    }
+}
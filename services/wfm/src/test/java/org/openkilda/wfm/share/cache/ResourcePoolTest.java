@@ -16,6 +16,7 @@
 package org.openkilda.wfm.share.cache;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import org.junit.Test;
 
@@ -62,6 +63,30 @@ public class ResourcePoolTest {
     }
 
 
+    @Test
+    public void shouldReuseFreedIdWhenPoolIsNearlyFull() {
+        ResourcePool mypool = new ResourcePool(1, 10000);
+        for (int i = 1; i <= 10000; i++) {
+            assertEquals(i, (int) mypool.allocate());
+        }
+
+        mypool.deallocate(4097);
+        assertEquals(4097, (int) mypool.allocate());
+        assertEquals(10000, mypool.dumpPool().size());
+    }
+
+    @Test
+    public void shouldKeepOutOfRangeIds() {
+        ResourcePool mypool = new ResourcePool(1, 5);
+
+        assertEquals(100, (int) mypool.allocate(100));
+        assertNull(mypool.allocate(100));
+        assertEquals(1, (int) mypool.allocate());
+        assertEquals(100, (int) mypool.deallocate(100));
+        assertNull(mypool.deallocate(100));
+        assertEquals(1, mypool.dumpPool().size());
+    }
+
     @Test(expected = ResourcePoolIsFullException.class)
     public void resourcePoolFullTest() {
         ResourcePool pool = new ResourcePool(1, 1);
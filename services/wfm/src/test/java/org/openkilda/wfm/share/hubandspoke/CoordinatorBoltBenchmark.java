@@ -0,0 +1,163 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.hubandspoke;
+
+import org.apache.storm.task.OutputCollector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput and latency of the coordinator with the specified number of pending callbacks: requests come
+ * at a constant rate, the responses cancel the callbacks in the order of requests, every
+ * {@value #UNANSWERED_EVERY}th request is left to time out, and the coordinator spout ticks every millisecond. Run
+ * with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.openkilda.wfm.share.hubandspoke.CoordinatorBoltBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoordinatorBoltBenchmark {
+    private static final int TIMEOUT = (int) TimeUnit.SECONDS.toMillis(20);
+    private static final int RESPONSE_TIME = (int) TimeUnit.SECONDS.toMillis(10);
+    private static final int UNANSWERED_EVERY = 100;
+    private static final int TASK_ID = 1;
+    private static final String CONTEXT = "context";
+
+    @Param({"100000"})
+    public int pendingCallbacks;
+
+    private ManualClock clock;
+    private CoordinatorBolt coordinator;
+    private Deque<String> pendingKeys;
+    private Set<String> triggeredKeys;
+    private int requestsPerMilli;
+    private long sequence;
+
+    @Setup(Level.Iteration)
+    public void registerCallbacks() {
+        clock = new ManualClock(System.currentTimeMillis());
+        coordinator = new CoordinatorBolt(clock);
+        triggeredKeys = new HashSet<>();
+        coordinator.prepare(null, null, new OutputCollector(null) {
+            @Override
+            public void emitDirect(int taskId, List<Object> tuple) {
+                String key = (String) tuple.get(0);
+                if (!isUnanswered(key)) {
+                    triggeredKeys.add(key);
+                }
+            }
+        });
+
+        pendingKeys = new ArrayDeque<>(pendingCallbacks);
+        requestsPerMilli = Math.max(1, pendingCallbacks / RESPONSE_TIME);
+        sequence = 0;
+        while (pendingKeys.size() < pendingCallbacks) {
+            request();
+        }
+    }
+
+    /**
+     * One request registers its callback, one response cancels the callback of the oldest pending request.
+     */
+    @Benchmark
+    public int requestAndResponse() {
+        request();
+
+        String key = pendingKeys.pollFirst();
+        if (!triggeredKeys.remove(key) && !isUnanswered(key)) {
+            coordinator.cancelCallback(key);
+        }
+        return pendingKeys.size();
+    }
+
+    private void request() {
+        String key = Long.toString(sequence++);
+        coordinator.registerCallback(key, CONTEXT, TIMEOUT, TASK_ID);
+        pendingKeys.addLast(key);
+
+        if (sequence % requestsPerMilli == 0) {
+            clock.advance(1);
+            coordinator.tick(clock.millis());
+        }
+    }
+
+    private static boolean isUnanswered(String key) {
+        return Long.parseLong(key) % UNANSWERED_EVERY == 0;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CoordinatorBoltBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    private static class ManualClock extends Clock {
+        private long millis;
+
+        ManualClock(long millis) {
+            this.millis = millis;
+        }
+
+        void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
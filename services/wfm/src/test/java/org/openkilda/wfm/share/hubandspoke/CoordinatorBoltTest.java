@@ -22,6 +22,7 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 import org.apache.storm.task.OutputCollector;
 import org.junit.Before;
@@ -54,10 +55,12 @@ public class CoordinatorBoltTest {
         target.registerCallback(key, context, timeout, taskId);
 
         assertThat(target.getCallbacks().size(), is(1));
-        assertThat(target.getTimeouts().size(), is(1));
 
         target.cancelCallback(key);
         assertTrue(target.getCallbacks().isEmpty());
+
+        target.tick(System.currentTimeMillis() + timeout + 1L);
+        verifyZeroInteractions(collector);
     }
 
     @Test
@@ -70,12 +73,29 @@ public class CoordinatorBoltTest {
         target.registerCallback("request2", "some context", timeout, secondTask);
 
         assertThat(target.getCallbacks().size(), is(2));
-        assertThat(target.getTimeouts().size(), is(2));
 
         long afterTimeout = System.currentTimeMillis() + timeout + 1L;
         target.tick(afterTimeout);
         verify(collector).emitDirect(eq(firstTask), anyList());
         verify(collector).emitDirect(eq(secondTask), anyList());
+        assertTrue(target.getCallbacks().isEmpty());
+    }
+
+    @Test
+    public void shouldReplaceCallbackWithSameKey() {
+        final String key = "request";
+        final int firstTask = 101;
+        final int secondTask = 102;
+        target.registerCallback(key, "some context", 1, firstTask);
+        target.registerCallback(key, "some context", 3600, secondTask);
+
+        assertThat(target.getCallbacks().size(), is(1));
+
+        target.tick(System.currentTimeMillis() + 2L);
+        verifyZeroInteractions(collector);
+
+        target.cancelCallback(key);
+        assertTrue(target.getCallbacks().isEmpty());
     }
 
     @Test(expected = IllegalStateException.class)
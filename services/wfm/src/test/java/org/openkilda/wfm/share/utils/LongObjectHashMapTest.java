@@ -0,0 +1,85 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class LongObjectHashMapTest {
+    @Test
+    public void shouldPutGetAndRemove() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+        assertNull(map.put(0L, "zero"));
+        assertNull(map.put(-1L, "minus one"));
+        assertEquals("zero", map.put(0L, "new zero"));
+
+        assertEquals(2, map.size());
+        assertEquals("new zero", map.get(0L));
+        assertEquals("minus one", map.get(-1L));
+        assertNull(map.get(1L));
+
+        assertEquals("minus one", map.remove(-1L));
+        assertNull(map.remove(-1L));
+        assertFalse(map.containsKey(-1L));
+        assertTrue(map.containsKey(0L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void shouldKeepCollidingKeysReachableAfterRemoval() {
+        LongObjectHashMap<Long> map = new LongObjectHashMap<>();
+        for (long key = 0; key < 1000; key++) {
+            map.put(key << 32, key);
+        }
+        for (long key = 0; key < 1000; key += 2) {
+            assertEquals(Long.valueOf(key), map.remove(key << 32));
+        }
+
+        assertEquals(500, map.size());
+        for (long key = 0; key < 1000; key++) {
+            assertEquals(key % 2 == 0 ? null : Long.valueOf(key), map.get(key << 32));
+        }
+    }
+
+    @Test
+    public void shouldBehaveAsHashMap() {
+        Random random = new Random(42);
+        LongObjectHashMap<Integer> map = new LongObjectHashMap<>();
+        Map<Long, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(5000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        expected.forEach((key, value) -> assertEquals(value, map.get(key)));
+        map.forEach((key, value) -> assertEquals(expected.get(key), value));
+    }
+}
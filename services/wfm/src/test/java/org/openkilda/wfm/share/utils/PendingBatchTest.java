@@ -0,0 +1,68 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class PendingBatchTest {
+    @Test
+    public void shouldBeDueWhenFull() {
+        PendingBatch<String, String> batch = new PendingBatch<>(2, 1000);
+        batch.put("a", "first", 0);
+        assertFalse(batch.isDue(0));
+
+        batch.put("b", "second", 0);
+        assertTrue(batch.isDue(0));
+        assertEquals(Arrays.asList("first", "second"), batch.takeAll());
+        assertTrue(batch.isEmpty());
+        assertFalse(batch.isDue(0));
+    }
+
+    @Test
+    public void shouldBeDueWhenWindowHasPassedSinceFirstRequest() {
+        PendingBatch<String, String> batch = new PendingBatch<>(10, 100);
+        batch.put("a", "first", 1000);
+        batch.put("b", "second", 1050);
+
+        assertFalse(batch.isDue(1099));
+        assertTrue(batch.isDue(1100));
+    }
+
+    @Test
+    public void shouldReplaceRequestWithSameKey() {
+        PendingBatch<String, String> batch = new PendingBatch<>(10, 100);
+        batch.put("a", "first", 0);
+        batch.put("b", "second", 0);
+        batch.put("a", "replaced", 0);
+
+        assertEquals(2, batch.size());
+        assertEquals("replaced", batch.get("a"));
+        assertEquals(Arrays.asList("replaced", "second"), batch.takeAll());
+    }
+
+    @Test
+    public void shouldDeriveTickFrequencyFromWindow() {
+        assertEquals(1, PendingBatch.getTickFrequencySeconds(50));
+        assertEquals(1, PendingBatch.getTickFrequencySeconds(1999));
+        assertEquals(5, PendingBatch.getTickFrequencySeconds(5000));
+    }
+}
@@ -0,0 +1,118 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.share.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+
+public class TimingWheelTest {
+    @Test
+    public void shouldTakeOutValuesAtDeadline() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(0);
+        wheel.schedule("a", "first", 63);
+        wheel.schedule("b", "second", 64);
+        wheel.schedule("c", "third", 4096 + 5);
+
+        assertTrue(wheel.advance(62).isEmpty());
+        assertEquals(Arrays.asList("first"), wheel.advance(63));
+        assertEquals(Arrays.asList("second"), wheel.advance(64));
+        assertTrue(wheel.advance(4096 + 4).isEmpty());
+        assertEquals(Arrays.asList("third"), wheel.advance(100_000));
+        assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    public void shouldCancelAndReplaceValues() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(0);
+        wheel.schedule("a", "first", 1000);
+        wheel.schedule("b", "second", 1000);
+
+        assertEquals("first", wheel.cancel("a"));
+        assertNull(wheel.cancel("a"));
+        assertEquals("second", wheel.schedule("b", "replaced", 2000));
+        assertEquals(1, wheel.size());
+
+        assertTrue(wheel.advance(1999).isEmpty());
+        assertEquals(Arrays.asList("replaced"), wheel.advance(2000));
+    }
+
+    @Test
+    public void shouldTakeOutOverdueValues() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(1000);
+        wheel.schedule("past", "past", 10);
+        wheel.schedule("far", "far", Long.MAX_VALUE / 2);
+
+        assertEquals(Arrays.asList("past"), wheel.advance(1000));
+        assertTrue(wheel.advance(Long.MAX_VALUE / 2 - 1).isEmpty());
+        assertEquals(Arrays.asList("far"), wheel.advance(Long.MAX_VALUE / 2));
+    }
+
+    @Test
+    public void shouldTakeOutShorterDeadlineScheduledLater() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(1000);
+        wheel.schedule("late", "late", 5000);
+        wheel.schedule("soon", "soon", 1010);
+
+        assertTrue(wheel.advance(1009).isEmpty());
+        assertEquals(Arrays.asList("soon"), wheel.advance(1010));
+        assertTrue(wheel.advance(4999).isEmpty());
+        assertEquals(Arrays.asList("late"), wheel.advance(5000));
+    }
+
+    @Test
+    public void shouldMatchNaiveImplementation() {
+        Random random = new Random(42L);
+        long now = 1_500_000_000_000L;
+        TimingWheel<Integer, Integer> wheel = new TimingWheel<>(now);
+        Map<Integer, Long> expected = new HashMap<>();
+        long[] spans = {10, 1000, 300_000, 2_000_000_000L};
+
+        for (int step = 0; step < 100_000; step++) {
+            int key = random.nextInt(1000);
+            int operation = random.nextInt(10);
+            if (operation < 5) {
+                long deadline = now + (long) (random.nextDouble() * spans[random.nextInt(spans.length)]);
+                wheel.schedule(key, key, deadline);
+                expected.put(key, deadline);
+            } else if (operation < 7) {
+                assertEquals(expected.remove(key) != null, wheel.cancel(key) != null);
+            } else {
+                now += random.nextInt(10) == 0 ? random.nextInt(Integer.MAX_VALUE) : random.nextInt(2000);
+                HashSet<Integer> expired = new HashSet<>();
+                for (Iterator<Entry<Integer, Long>> it = expected.entrySet().iterator(); it.hasNext(); ) {
+                    Entry<Integer, Long> entry = it.next();
+                    if (entry.getValue() <= now) {
+                        expired.add(entry.getKey());
+                        it.remove();
+                    }
+                }
+                assertEquals(expired, new HashSet<>(wheel.advance(now)));
+            }
+            assertEquals(expected.size(), wheel.size());
+        }
+    }
+}
@@ -37,6 +37,9 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 public class IslServiceTest extends Neo4jBasedTest {
     private static LinkPropsRepository linkPropsRepository;
     private static IslRepository islRepository;
@@ -92,6 +95,63 @@ public class IslServiceTest extends Neo4jBasedTest {
         assertEquals(IslStatus.ACTIVE, foundReverseIsl.getActualStatus());
     }
 
+    @Test
+    public void shouldCreateIslsInBatch() {
+        int cost = 10;
+        createLinkProps(cost);
+
+        Isl isl = createIsl();
+        Isl reverseIsl = createReverseIsl(isl);
+        // Repeated discovery of the same ISL within the batch.
+        islService.createOrUpdateIsls(Arrays.asList(isl, reverseIsl, createIsl()));
+
+        assertEquals(2, islRepository.findAll().size());
+
+        Isl foundIsl = islRepository.findByEndpoints(TEST_SWITCH_A_ID, TEST_SWITCH_A_PORT,
+                TEST_SWITCH_B_ID, TEST_SWITCH_B_PORT).get();
+        assertEquals(IslStatus.ACTIVE, foundIsl.getStatus());
+        assertEquals(IslStatus.ACTIVE, foundIsl.getActualStatus());
+        assertEquals(cost, foundIsl.getCost());
+
+        Isl foundReverseIsl = islRepository.findByEndpoints(TEST_SWITCH_B_ID, TEST_SWITCH_B_PORT,
+                TEST_SWITCH_A_ID, TEST_SWITCH_A_PORT).get();
+        assertEquals(IslStatus.ACTIVE, foundReverseIsl.getStatus());
+        assertEquals(IslStatus.ACTIVE, foundReverseIsl.getActualStatus());
+    }
+
+    @Test
+    public void shouldCreateIslsOneByOneIfBatchFails() {
+        Isl isl = createIsl();
+        // The switch is not stored, so the batch transaction fails on it.
+        Switch unknownSwitch = new Switch();
+        unknownSwitch.setSwitchId(new SwitchId(3));
+        Isl unknownIsl = isl.toBuilder()
+                .destSwitch(unknownSwitch)
+                .destPort(2)
+                .build();
+
+        islService.createOrUpdateIsls(Arrays.asList(isl, unknownIsl, createReverseIsl(isl)));
+
+        assertEquals(2, islRepository.findAll().size());
+        Isl foundIsl = islRepository.findByEndpoints(TEST_SWITCH_A_ID, TEST_SWITCH_A_PORT,
+                TEST_SWITCH_B_ID, TEST_SWITCH_B_PORT).get();
+        assertEquals(IslStatus.ACTIVE, foundIsl.getStatus());
+        assertFalse(switchRepository.exists(unknownSwitch.getSwitchId()));
+    }
+
+    @Test
+    public void shouldUpdateExistingIslInBatch() {
+        Isl isl = createIsl();
+        islService.createOrUpdateIsl(isl);
+
+        islService.createOrUpdateIsls(Collections.singletonList(createReverseIsl(isl)));
+
+        Isl foundIsl = islRepository.findByEndpoints(TEST_SWITCH_A_ID, TEST_SWITCH_A_PORT,
+                TEST_SWITCH_B_ID, TEST_SWITCH_B_PORT).get();
+        assertEquals(IslStatus.ACTIVE, foundIsl.getStatus());
+        assertEquals(2, islRepository.findAll().size());
+    }
+
     @Test
     public void shouldPutIslInInactiveStatus() {
         Isl isl = createIsl();
@@ -17,10 +17,16 @@ package org.openkilda.wfm.topology.flow.service;
 
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.openkilda.model.Flow;
@@ -30,6 +36,7 @@ import org.openkilda.model.Isl;
 import org.openkilda.model.Switch;
 import org.openkilda.model.SwitchId;
 import org.openkilda.model.SwitchStatus;
+import org.openkilda.pce.BatchPathResult;
 import org.openkilda.pce.PathComputer;
 import org.openkilda.pce.PathComputerFactory;
 import org.openkilda.pce.PathPair;
@@ -39,14 +46,19 @@ import org.openkilda.persistence.repositories.IslRepository;
 import org.openkilda.persistence.repositories.SwitchRepository;
 import org.openkilda.wfm.Neo4jBasedTest;
 import org.openkilda.wfm.share.cache.ResourceCache;
+import org.openkilda.wfm.topology.flow.model.FlowPairWithSegments;
+import org.openkilda.wfm.topology.flow.service.FlowService.BatchCreateResult;
 import org.openkilda.wfm.topology.flow.service.FlowService.ReroutedFlow;
 import org.openkilda.wfm.topology.flow.validation.FlowValidationException;
 import org.openkilda.wfm.topology.flow.validation.FlowValidator;
 import org.openkilda.wfm.topology.flow.validation.SwitchValidationException;
 
+import com.google.common.collect.ImmutableMap;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Collections;
+
 public class FlowServiceTest extends Neo4jBasedTest {
     private static final SwitchId SWITCH_ID_1 = new SwitchId("00:00:00:00:00:00:00:01");
     private static final SwitchId SWITCH_ID_2 = new SwitchId("00:00:00:00:00:00:00:02");
@@ -171,6 +183,88 @@ public class FlowServiceTest extends Neo4jBasedTest {
         assertEquals(flow.getFlowId(), foundFlow.getFlowId());
     }
 
+    @Test
+    public void shouldCreateFlowsInBatch() throws RecoverableException {
+        PathComputer pathComputer = mock(PathComputer.class);
+        PathComputerFactory pathComputerFactory = mock(PathComputerFactory.class);
+        FlowValidator flowValidator = new FlowValidator(persistenceManager.getRepositoryFactory());
+        when(pathComputerFactory.getPathComputer()).thenReturn(pathComputer);
+
+        FlowService flowService = new FlowService(persistenceManager,
+                pathComputerFactory, new FlowResourcesManager(new ResourceCache()), flowValidator);
+
+        Flow routedFlow = buildFlow("routed-flow", 101, 102);
+        Flow unroutableFlow = buildFlow("unroutable-flow", 201, 202);
+        when(pathComputer.getPaths(any(), anyBoolean())).thenReturn(new BatchPathResult(
+                ImmutableMap.of(routedFlow.getFlowId(), PATH_DIRECT_1_TO_3),
+                ImmutableMap.of(unroutableFlow.getFlowId(), new UnroutableFlowException("No path found"))));
+
+        FlowCommandSender routedSender = mock(FlowCommandSender.class);
+        FlowCommandSender unroutableSender = mock(FlowCommandSender.class);
+        BatchCreateResult result = flowService.createFlows(asList(routedFlow, unroutableFlow),
+                ImmutableMap.of(routedFlow.getFlowId(), routedSender, unroutableFlow.getFlowId(), unroutableSender));
+
+        assertEquals(Collections.singleton(routedFlow.getFlowId()), result.getCreatedFlows().keySet());
+        assertEquals(PATH_DIRECT_1_TO_3.getForward(),
+                result.getCreatedFlows().get(routedFlow.getFlowId()).getForward().getFlowPath());
+        assertTrue(result.getFailedFlows().get(unroutableFlow.getFlowId()) instanceof UnroutableFlowException);
+
+        verify(routedSender).sendInstallRulesCommand(any(FlowPairWithSegments.class));
+        verify(unroutableSender, never()).sendInstallRulesCommand(any(FlowPairWithSegments.class));
+
+        assertTrue(persistenceManager.getRepositoryFactory().createFlowRepository()
+                .exists(routedFlow.getFlowId()));
+        assertFalse(persistenceManager.getRepositoryFactory().createFlowRepository()
+                .exists(unroutableFlow.getFlowId()));
+    }
+
+    @Test
+    public void shouldKeepStoredFlowsIfInstallCommandFails() throws RecoverableException {
+        PathComputer pathComputer = mock(PathComputer.class);
+        PathComputerFactory pathComputerFactory = mock(PathComputerFactory.class);
+        FlowValidator flowValidator = new FlowValidator(persistenceManager.getRepositoryFactory());
+        when(pathComputerFactory.getPathComputer()).thenReturn(pathComputer);
+
+        FlowService flowService = new FlowService(persistenceManager,
+                pathComputerFactory, new FlowResourcesManager(new ResourceCache()), flowValidator);
+
+        Flow failedFlow = buildFlow("failed-flow", 101, 102);
+        Flow createdFlow = buildFlow("created-flow", 201, 202);
+        when(pathComputer.getPaths(any(), anyBoolean())).thenReturn(new BatchPathResult(
+                ImmutableMap.of(failedFlow.getFlowId(), PATH_DIRECT_1_TO_3,
+                        createdFlow.getFlowId(), PATH_DIRECT_1_TO_3),
+                Collections.emptyMap()));
+
+        FlowCommandSender failedSender = mock(FlowCommandSender.class);
+        IllegalStateException sendError = new IllegalStateException("Failed to send");
+        doThrow(sendError).when(failedSender).sendInstallRulesCommand(any(FlowPairWithSegments.class));
+        FlowCommandSender createdSender = mock(FlowCommandSender.class);
+        BatchCreateResult result = flowService.createFlows(asList(failedFlow, createdFlow),
+                ImmutableMap.of(failedFlow.getFlowId(), failedSender, createdFlow.getFlowId(), createdSender));
+
+        assertEquals(Collections.singleton(createdFlow.getFlowId()), result.getCreatedFlows().keySet());
+        assertEquals(sendError, result.getFailedFlows().get(failedFlow.getFlowId()));
+        verify(createdSender).sendInstallRulesCommand(any(FlowPairWithSegments.class));
+
+        assertTrue(persistenceManager.getRepositoryFactory().createFlowRepository()
+                .exists(failedFlow.getFlowId()));
+        assertTrue(persistenceManager.getRepositoryFactory().createFlowRepository()
+                .exists(createdFlow.getFlowId()));
+    }
+
+    private Flow buildFlow(String flowId, int srcVlan, int destVlan) {
+        return Flow.builder()
+                .flowId(flowId)
+                .srcSwitch(getOrCreateSwitch(SWITCH_ID_1))
+                .srcPort(1)
+                .srcVlan(srcVlan)
+                .destSwitch(getOrCreateSwitch(SWITCH_ID_3))
+                .destPort(2)
+                .destVlan(destVlan)
+                .bandwidth(0)
+                .build();
+    }
+
     private Switch getOrCreateSwitch(SwitchId switchId) {
         SwitchRepository switchRepository = persistenceManager.getRepositoryFactory().createSwitchRepository();
         return switchRepository.findById(switchId).orElseGet(() -> {
@@ -19,6 +19,7 @@ import static org.mockserver.integration.ClientAndServer.startClientAndServer;
 import static org.openkilda.messaging.Utils.MAPPER;
 
 import org.openkilda.messaging.info.Datapoint;
+import org.openkilda.messaging.info.DatapointEntries;
 import org.openkilda.wfm.StableAbstractStormTest;
 import org.openkilda.wfm.topology.TestingKafkaBolt;
 
@@ -35,6 +36,7 @@ import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
 import org.mockserver.verify.VerificationTimes;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
 
@@ -127,6 +129,29 @@ public class OpenTsdbTopologyTest extends StableAbstractStormTest {
         mockServer.verify(HttpRequest.request(), VerificationTimes.exactly(2));
     }
 
+    @Test
+    public void shouldSendEveryDatapointOfEntries() throws Exception {
+        DatapointEntries entries = new DatapointEntries(Arrays.asList(
+                new Datapoint("metric", timestamp, Collections.emptyMap(), 123),
+                new Datapoint("metric", timestamp, Collections.emptyMap(), 456)));
+        String jsonEntries = MAPPER.writeValueAsString(entries);
+
+        MockedSources sources = new MockedSources();
+
+        Testing.withTrackedCluster(clusterParam, (cluster) ->  {
+            OpenTsdbTopology topology = new TestingTargetTopology(new TestingKafkaBolt());
+
+            sources.addMockData(OpenTsdbTopology.OTSDB_SPOUT_ID, new Values(jsonEntries));
+            completeTopologyParam.setMockedSources(sources);
+
+            StormTopology stormTopology = topology.createTopology();
+
+            Testing.completeTopology(cluster, stormTopology, completeTopologyParam);
+        });
+        //verify that request is sent to OpenTSDB server for each datapoint
+        mockServer.verify(HttpRequest.request(), VerificationTimes.exactly(2));
+    }
+
     private class TestingTargetTopology extends OpenTsdbTopology {
 
         private KafkaBolt kafkaBolt;
@@ -0,0 +1,134 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.ping.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the ping timeout tracking with the specified number of outstanding pings: pings are sent at a constant
+ * rate, most of them are answered in the order they are sent, the rest time out. Run with {@code mvn test-compile
+ * exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openkilda.wfm.topology.ping.model.ExpirableMapBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpirableMapBenchmark {
+    private static final long TIMEOUT = TimeUnit.SECONDS.toMillis(10);
+    private static final long TICK_INTERVAL = TimeUnit.SECONDS.toMillis(1);
+    private static final int UNANSWERED_EVERY = 100;
+
+    @Param({"10000", "100000"})
+    public int outstandingPings;
+
+    private ExpirableMap<UUID, PingRecord> pendingPings;
+    private Deque<UUID> sentPings;
+    private int pingsPerMilli;
+    private long sequence;
+    private long now;
+
+    @Setup(Level.Iteration)
+    public void fillPendingPings() {
+        sentPings = new ArrayDeque<>(outstandingPings);
+        pingsPerMilli = Math.max(1, (int) (outstandingPings / TIMEOUT));
+        sequence = 0;
+        now = 0;
+
+        pendingPings = new ExpirableMap<>(now);
+        for (long sentAt = -TIMEOUT; sentAt < 0; sentAt++) {
+            for (int i = 0; i < pingsPerMilli; i++) {
+                sendPing(sentAt);
+            }
+        }
+    }
+
+    /**
+     * Adds a ping and removes the oldest one, as the ping response does.
+     */
+    @Benchmark
+    public PingRecord scheduleAndCancel() {
+        sendPing(now);
+        return pendingPings.remove(sentPings.pollFirst());
+    }
+
+    /**
+     * Simulates one millisecond of the ping topology: the pings of the millisecond are sent, the pings sent a round
+     * trip ago are answered except every {@value #UNANSWERED_EVERY}th one, and the timed out pings are expired
+     * once in {@value #TICK_INTERVAL} ms.
+     */
+    @Benchmark
+    public int millisecond() {
+        now++;
+        for (int i = 0; i < pingsPerMilli; i++) {
+            sendPing(now);
+
+            UUID answered = sentPings.pollFirst();
+            if (answered.getLeastSignificantBits() % UNANSWERED_EVERY != 0) {
+                pendingPings.remove(answered);
+            }
+        }
+
+        if (now % TICK_INTERVAL == 0) {
+            return pendingPings.expire(now).size();
+        }
+        return pendingPings.size();
+    }
+
+    private void sendPing(long sentAt) {
+        UUID pingId = new UUID(sentAt, sequence++);
+        pendingPings.put(pingId, new PingRecord(pingId, sentAt + TIMEOUT));
+        sentPings.addLast(pingId);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ExpirableMapBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    private static class PingRecord extends Expirable<UUID> {
+        private final UUID pingId;
+
+        PingRecord(UUID pingId, long expireAt) {
+            super(expireAt);
+            this.pingId = pingId;
+        }
+
+        @Override
+        public UUID getExpirableKey() {
+            return pingId;
+        }
+    }
+}
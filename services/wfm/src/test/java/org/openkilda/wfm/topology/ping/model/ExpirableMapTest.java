@@ -0,0 +1,118 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.ping.model;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+public class ExpirableMapTest {
+    private final ExpirableMap<String, Record> map = new ExpirableMap<>(0);
+
+    @Test
+    public void shouldExpireRecordsAtExpireAt() {
+        Record first = new Record("first", 1000);
+        Record second = new Record("second", 1010);
+        map.add(second);
+        map.add(first);
+
+        assertThat(map.expire(999), empty());
+        assertThat(map.expire(1000), contains(first));
+        assertThat(map.expire(1009), empty());
+        assertThat(map.expire(1010), contains(second));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void shouldNotExpireRemovedRecords() {
+        Record record = new Record("ping", 100);
+        map.add(record);
+
+        assertSame(record, map.remove("ping"));
+        assertFalse(record.isActive());
+        assertEquals(0, map.size());
+        assertThat(map.expire(200), empty());
+    }
+
+    @Test
+    public void shouldReplaceRecordWithSameKey() {
+        Record first = new Record("ping", 100);
+        Record second = new Record("ping", 300);
+        map.put("ping", first);
+
+        assertSame(first, map.put("ping", second));
+        assertSame(second, map.get("ping"));
+        assertThat(map.expire(200), empty());
+        assertThat(map.expire(300), contains(second));
+    }
+
+    @Test
+    public void shouldKeepExistingRecordOnAddIfAbsent() {
+        Record first = new Record("group", 100);
+        map.addIfAbsent(first);
+
+        assertSame(first, map.addIfAbsent(new Record("group", 50)));
+        assertThat(map.expire(99), empty());
+        assertThat(map.expire(100), contains(first));
+    }
+
+    @Test
+    public void shouldExpireRecordsOutOfOrderAndFarAhead() {
+        Record late = new Record("late", 5_000_000_000L);
+        Record soon = new Record("soon", 2_000);
+        Record overdue = new Record("overdue", 10);
+        map.expire(1_000);
+        map.add(late);
+        map.add(soon);
+        map.add(overdue);
+
+        assertThat(map.expire(1_000), contains(overdue));
+        assertThat(map.expire(4_999_999_999L), contains(soon));
+        assertThat(map.expire(5_000_000_000L), contains(late));
+    }
+
+    @Test
+    public void shouldSkipInactiveRecords() {
+        Record active = new Record("active", 100);
+        Record inactive = new Record("inactive", 100);
+        inactive.setActive(false);
+        map.add(active);
+        map.add(inactive);
+
+        assertThat(map.expire(100), contains(active));
+        assertNull(map.get("inactive"));
+    }
+
+    private static class Record extends Expirable<String> {
+        private final String key;
+
+        Record(String key, long expireAt) {
+            super(expireAt);
+            this.key = key;
+        }
+
+        @Override
+        public String getExpirableKey() {
+            return key;
+        }
+    }
+}
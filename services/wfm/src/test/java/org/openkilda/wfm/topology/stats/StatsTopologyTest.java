@@ -29,6 +29,7 @@ import org.openkilda.messaging.command.flow.BaseFlow;
 import org.openkilda.messaging.command.flow.InstallOneSwitchFlow;
 import org.openkilda.messaging.command.flow.RemoveFlow;
 import org.openkilda.messaging.info.Datapoint;
+import org.openkilda.messaging.info.DatapointEntries;
 import org.openkilda.messaging.info.InfoData;
 import org.openkilda.messaging.info.InfoMessage;
 import org.openkilda.messaging.info.stats.FlowStatsData;
@@ -149,7 +150,7 @@ public class StatsTopologyTest extends AbstractStormTest {
     public void setup() throws IOException {
         otsdbConsumer.clear();
 
-        // need clear data in CacheBolt
+        // need clear data in flow caches of metric gen bolts
         for (Flow flow : flowRepository.findAll()) {
             sendRemoveFlowCommand(flow);
             flowRepository.delete(flow);
@@ -433,7 +434,7 @@ public class StatsTopologyTest extends AbstractStormTest {
     private List<Datapoint> pollDatapoints(int expectedDatapointCount) {
         List<Datapoint> datapoints = new ArrayList<>();
 
-        for (int i = 0; i < expectedDatapointCount; i++) {
+        while (datapoints.size() < expectedDatapointCount) {
             ConsumerRecord<String, String> record = null;
             try {
                 record = otsdbConsumer.pollMessage(POLL_TIMEOUT);
@@ -441,8 +442,8 @@ public class StatsTopologyTest extends AbstractStormTest {
                     throw new AssertionError(String.format(POLL_DATAPOINT_ASSERT_MESSAGE,
                             expectedDatapointCount, datapoints.size()));
                 }
-                Datapoint datapoint = objectMapper.readValue(record.value(), Datapoint.class);
-                datapoints.add(datapoint);
+                DatapointEntries entries = objectMapper.readValue(record.value(), DatapointEntries.class);
+                datapoints.addAll(entries.getDatapoints());
             } catch (InterruptedException e) {
                 throw new AssertionError(String.format(POLL_DATAPOINT_ASSERT_MESSAGE,
                         expectedDatapointCount, datapoints.size()));
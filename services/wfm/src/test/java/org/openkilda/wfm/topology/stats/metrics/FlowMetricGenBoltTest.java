@@ -0,0 +1,98 @@
+/* Copyright 2019 Telstra Open Source
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package org.openkilda.wfm.topology.stats.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.openkilda.messaging.Utils.TIMESTAMP;
+import static org.openkilda.wfm.topology.stats.StatsComponentType.STATS_CACHE_FILTER_BOLT;
+import static org.openkilda.wfm.topology.stats.StatsTopology.STATS_FIELD;
+
+import org.openkilda.messaging.info.stats.FlowStatsData;
+import org.openkilda.messaging.info.stats.FlowStatsEntry;
+import org.openkilda.model.SwitchId;
+import org.openkilda.persistence.PersistenceManager;
+import org.openkilda.persistence.repositories.FlowRepository;
+import org.openkilda.persistence.repositories.RepositoryFactory;
+import org.openkilda.wfm.topology.stats.MeasurePoint;
+import org.openkilda.wfm.topology.stats.bolts.CacheFilterBolt.Commands;
+import org.openkilda.wfm.topology.stats.bolts.CacheFilterBolt.FieldsNames;
+
+import org.apache.storm.task.OutputCollector;
+import org.apache.storm.task.TopologyContext;
+import org.apache.storm.tuple.Tuple;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+public class FlowMetricGenBoltTest {
+    private static final SwitchId SWITCH_ID = new SwitchId(1);
+    private static final long COOKIE = 0x4000000000000001L;
+    private static final String FLOW_ID = "test_flow";
+
+    private FlowMetricGenBolt bolt;
+
+    @Before
+    public void setUp() {
+        FlowRepository flowRepository = mock(FlowRepository.class);
+        when(flowRepository.findAll()).thenReturn(Collections.emptyList());
+        RepositoryFactory repositoryFactory = mock(RepositoryFactory.class);
+        when(repositoryFactory.createFlowRepository()).thenReturn(flowRepository);
+        PersistenceManager persistenceManager = mock(PersistenceManager.class);
+        when(persistenceManager.getRepositoryFactory()).thenReturn(repositoryFactory);
+
+        bolt = new FlowMetricGenBolt(persistenceManager);
+        bolt.prepare(Collections.emptyMap(), mock(TopologyContext.class), mock(OutputCollector.class));
+    }
+
+    @Test
+    public void shouldDropTagsOfRemovedFlowRule() {
+        bolt.execute(buildCacheUpdateTuple(Commands.UPDATE));
+        bolt.execute(buildStatsTuple());
+        assertEquals(1, bolt.getCachedTagsCount());
+
+        bolt.execute(buildCacheUpdateTuple(Commands.REMOVE));
+        assertEquals(0, bolt.getCachedTagsCount());
+    }
+
+    @Test
+    public void shouldNotKeepTagsOfUnknownFlow() {
+        bolt.execute(buildStatsTuple());
+        assertEquals(0, bolt.getCachedTagsCount());
+    }
+
+    private Tuple buildCacheUpdateTuple(Commands command) {
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.getSourceComponent()).thenReturn(STATS_CACHE_FILTER_BOLT.name());
+        when(tuple.getValueByField(FieldsNames.COMMAND.name())).thenReturn(command);
+        when(tuple.getStringByField(FieldsNames.FLOW.name())).thenReturn(FLOW_ID);
+        when(tuple.getValueByField(FieldsNames.SWITCH.name())).thenReturn(SWITCH_ID);
+        when(tuple.getLongByField(FieldsNames.COOKIE.name())).thenReturn(COOKIE);
+        when(tuple.getValueByField(FieldsNames.MEASURE_POINT.name()))
+                .thenReturn(command == Commands.UPDATE ? MeasurePoint.INGRESS : null);
+        return tuple;
+    }
+
+    private Tuple buildStatsTuple() {
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.getValueByField(STATS_FIELD)).thenReturn(new FlowStatsData(SWITCH_ID,
+                Collections.singletonList(new FlowStatsEntry(0, COOKIE, 10L, 1000L))));
+        when(tuple.getLongByField(TIMESTAMP)).thenReturn(System.currentTimeMillis());
+        return tuple;
+    }
+}